@@ -50,6 +50,29 @@ CREATE TABLE IF NOT EXISTS book_category (
         FOREIGN KEY (category_id) REFERENCES category (id) ON DELETE CASCADE
 );
 
+-- 검색 문서 테이블 (book + 저자명 + 카테고리 id를 도서당 한 행으로 비정규화, 04_book_search_doc.sql의 트리거로 유지)
+CREATE TABLE IF NOT EXISTS book_search_doc (
+    isbn VARCHAR(255) NOT NULL PRIMARY KEY,
+    title VARCHAR(1000) NOT NULL,
+    subtitle VARCHAR(1000),
+    authors TEXT,
+    category_ids VARCHAR(1000),
+    amount INT,
+    currency VARCHAR(10),
+    published_date DATE,
+    CONSTRAINT fk_book_search_doc_isbn
+        FOREIGN KEY (isbn) REFERENCES book (isbn) ON DELETE CASCADE
+);
+
+-- 카테고리별 도서 수 집계 테이블 (05_category_stats.sql의 트리거로 증분 유지, 애플리케이션이 주기적으로 재계산해 보정)
+CREATE TABLE IF NOT EXISTS category_stats (
+    category_id BIGINT NOT NULL PRIMARY KEY,
+    name VARCHAR(255) NOT NULL,
+    book_count BIGINT NOT NULL DEFAULT 0,
+    CONSTRAINT fk_category_stats_category_id
+        FOREIGN KEY (category_id) REFERENCES category (id) ON DELETE CASCADE
+);
+
 CREATE TABLE IF NOT EXISTS search_keywords (
     id BIGINT AUTO_INCREMENT PRIMARY KEY,
     keyword VARCHAR(255) NOT NULL UNIQUE,
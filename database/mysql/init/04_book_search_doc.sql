@@ -0,0 +1,129 @@
+-- 검색 문서 테이블(book_search_doc) 적재 및 증분 유지 트리거
+-- book, book_author, author, book_category가 바뀌면 해당 도서의 검색 문서 한 행만 다시 만듦
+
+-- 1. 도서 한 권의 검색 문서 재생성 (도서가 없으면 삭제만 됨)
+DROP PROCEDURE IF EXISTS refresh_book_search_doc;
+DELIMITER //
+CREATE PROCEDURE refresh_book_search_doc(IN p_isbn VARCHAR(255))
+BEGIN
+    DELETE FROM book_search_doc WHERE isbn = p_isbn;
+    INSERT INTO book_search_doc (isbn, title, subtitle, authors, category_ids, amount, currency, published_date)
+    SELECT b.isbn, b.title, b.subtitle,
+           (SELECT GROUP_CONCAT(a.name ORDER BY ba.id SEPARATOR ' ')
+              FROM book_author ba JOIN author a ON a.id = ba.author_id
+             WHERE ba.book_isbn = b.isbn),
+           (SELECT GROUP_CONCAT(bc.category_id ORDER BY bc.category_id)
+              FROM book_category bc
+             WHERE bc.book_isbn = b.isbn),
+           b.amount, b.currency, b.published_date
+      FROM book b
+     WHERE b.isbn = p_isbn;
+END //
+DELIMITER ;
+
+-- 2. 기존 데이터 일괄 적재
+INSERT INTO book_search_doc (isbn, title, subtitle, authors, category_ids, amount, currency, published_date)
+SELECT b.isbn, b.title, b.subtitle, ba.authors, bc.category_ids, b.amount, b.currency, b.published_date
+  FROM book b
+  LEFT JOIN (SELECT ba.book_isbn, GROUP_CONCAT(a.name ORDER BY ba.id SEPARATOR ' ') AS authors
+               FROM book_author ba JOIN author a ON a.id = ba.author_id
+              GROUP BY ba.book_isbn) ba ON ba.book_isbn = b.isbn
+  LEFT JOIN (SELECT book_isbn, GROUP_CONCAT(category_id ORDER BY category_id) AS category_ids
+               FROM book_category
+              GROUP BY book_isbn) bc ON bc.book_isbn = b.isbn;
+
+-- 3. 증분 유지 트리거
+-- 도서 삭제는 FK ON DELETE CASCADE로 검색 문서도 함께 삭제됨
+-- FK CASCADE 삭제는 트리거를 실행하지 않으므로, 저자·카테고리 삭제 시에는 연결 행을 먼저 직접 지워 연결 테이블 트리거를 태움
+DROP TRIGGER IF EXISTS trg_book_search_doc_book_insert;
+DROP TRIGGER IF EXISTS trg_book_search_doc_book_update;
+DROP TRIGGER IF EXISTS trg_book_search_doc_book_author_insert;
+DROP TRIGGER IF EXISTS trg_book_search_doc_book_author_update;
+DROP TRIGGER IF EXISTS trg_book_search_doc_book_author_delete;
+DROP TRIGGER IF EXISTS trg_book_search_doc_book_category_insert;
+DROP TRIGGER IF EXISTS trg_book_search_doc_book_category_update;
+DROP TRIGGER IF EXISTS trg_book_search_doc_book_category_delete;
+DROP TRIGGER IF EXISTS trg_book_search_doc_author_update;
+DROP TRIGGER IF EXISTS trg_book_search_doc_author_delete;
+DROP TRIGGER IF EXISTS trg_book_search_doc_category_delete;
+
+DELIMITER //
+CREATE TRIGGER trg_book_search_doc_book_insert AFTER INSERT ON book
+FOR EACH ROW
+BEGIN
+    CALL refresh_book_search_doc(NEW.isbn);
+END //
+
+CREATE TRIGGER trg_book_search_doc_book_update AFTER UPDATE ON book
+FOR EACH ROW
+BEGIN
+    CALL refresh_book_search_doc(NEW.isbn);
+END //
+
+CREATE TRIGGER trg_book_search_doc_book_author_insert AFTER INSERT ON book_author
+FOR EACH ROW
+BEGIN
+    CALL refresh_book_search_doc(NEW.book_isbn);
+END //
+
+CREATE TRIGGER trg_book_search_doc_book_author_update AFTER UPDATE ON book_author
+FOR EACH ROW
+BEGIN
+    CALL refresh_book_search_doc(NEW.book_isbn);
+    IF OLD.book_isbn <> NEW.book_isbn THEN
+        CALL refresh_book_search_doc(OLD.book_isbn);
+    END IF;
+END //
+
+CREATE TRIGGER trg_book_search_doc_book_author_delete AFTER DELETE ON book_author
+FOR EACH ROW
+BEGIN
+    CALL refresh_book_search_doc(OLD.book_isbn);
+END //
+
+CREATE TRIGGER trg_book_search_doc_book_category_insert AFTER INSERT ON book_category
+FOR EACH ROW
+BEGIN
+    CALL refresh_book_search_doc(NEW.book_isbn);
+END //
+
+CREATE TRIGGER trg_book_search_doc_book_category_update AFTER UPDATE ON book_category
+FOR EACH ROW
+BEGIN
+    CALL refresh_book_search_doc(NEW.book_isbn);
+    IF OLD.book_isbn <> NEW.book_isbn THEN
+        CALL refresh_book_search_doc(OLD.book_isbn);
+    END IF;
+END //
+
+CREATE TRIGGER trg_book_search_doc_book_category_delete AFTER DELETE ON book_category
+FOR EACH ROW
+BEGIN
+    CALL refresh_book_search_doc(OLD.book_isbn);
+END //
+
+-- 저자명 변경은 그 저자의 도서들의 저자 텍스트만 다시 만듦
+CREATE TRIGGER trg_book_search_doc_author_update AFTER UPDATE ON author
+FOR EACH ROW
+BEGIN
+    IF NOT (OLD.name <=> NEW.name) THEN
+        UPDATE book_search_doc d
+           SET d.authors = (SELECT GROUP_CONCAT(IF(a.id = NEW.id, NEW.name, a.name) ORDER BY ba.id SEPARATOR ' ')
+                              FROM book_author ba JOIN author a ON a.id = ba.author_id
+                             WHERE ba.book_isbn = d.isbn)
+         WHERE d.isbn IN (SELECT ba.book_isbn FROM book_author ba WHERE ba.author_id = NEW.id);
+    END IF;
+END //
+
+CREATE TRIGGER trg_book_search_doc_author_delete BEFORE DELETE ON author
+FOR EACH ROW
+BEGIN
+    DELETE FROM book_author WHERE author_id = OLD.id;
+END //
+
+CREATE TRIGGER trg_book_search_doc_category_delete BEFORE DELETE ON category
+FOR EACH ROW
+BEGIN
+    DELETE FROM book_category WHERE category_id = OLD.id;
+END //
+DELIMITER ;
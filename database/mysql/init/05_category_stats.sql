@@ -0,0 +1,66 @@
+-- 카테고리별 도서 수 집계 테이블(category_stats) 적재 및 증분 유지 트리거
+-- book_category 행이 추가·삭제될 때 해당 카테고리의 도서 수만 ±1 하고,
+-- 놓친 변경(트리거 밖에서 바뀐 데이터 등)은 애플리케이션의 주기적 재계산으로 보정
+
+-- 1. 기존 데이터 일괄 적재
+INSERT INTO category_stats (category_id, name, book_count)
+SELECT c.id, c.name, COUNT(bc.book_isbn)
+  FROM category c
+  LEFT JOIN book_category bc ON bc.category_id = c.id
+ GROUP BY c.id, c.name;
+
+-- 2. 증분 유지 트리거
+-- 카테고리 삭제는 FK ON DELETE CASCADE로 집계 행도 함께 삭제됨
+-- 도서 삭제로 CASCADE 삭제되는 book_category 행은 트리거를 실행하지 않으므로 도서 삭제 전에 미리 차감
+DROP TRIGGER IF EXISTS trg_category_stats_category_insert;
+DROP TRIGGER IF EXISTS trg_category_stats_category_update;
+DROP TRIGGER IF EXISTS trg_category_stats_book_category_insert;
+DROP TRIGGER IF EXISTS trg_category_stats_book_category_update;
+DROP TRIGGER IF EXISTS trg_category_stats_book_category_delete;
+DROP TRIGGER IF EXISTS trg_category_stats_book_delete;
+
+DELIMITER //
+CREATE TRIGGER trg_category_stats_category_insert AFTER INSERT ON category
+FOR EACH ROW
+BEGIN
+    INSERT INTO category_stats (category_id, name, book_count) VALUES (NEW.id, NEW.name, 0);
+END //
+
+CREATE TRIGGER trg_category_stats_category_update AFTER UPDATE ON category
+FOR EACH ROW
+BEGIN
+    IF NOT (OLD.name <=> NEW.name) THEN
+        UPDATE category_stats SET name = NEW.name WHERE category_id = NEW.id;
+    END IF;
+END //
+
+CREATE TRIGGER trg_category_stats_book_category_insert AFTER INSERT ON book_category
+FOR EACH ROW
+BEGIN
+    UPDATE category_stats SET book_count = book_count + 1 WHERE category_id = NEW.category_id;
+END //
+
+CREATE TRIGGER trg_category_stats_book_category_update AFTER UPDATE ON book_category
+FOR EACH ROW
+BEGIN
+    IF OLD.category_id <> NEW.category_id THEN
+        UPDATE category_stats SET book_count = book_count - 1 WHERE category_id = OLD.category_id;
+        UPDATE category_stats SET book_count = book_count + 1 WHERE category_id = NEW.category_id;
+    END IF;
+END //
+
+CREATE TRIGGER trg_category_stats_book_category_delete AFTER DELETE ON book_category
+FOR EACH ROW
+BEGIN
+    UPDATE category_stats SET book_count = book_count - 1 WHERE category_id = OLD.category_id;
+END //
+
+CREATE TRIGGER trg_category_stats_book_delete BEFORE DELETE ON book
+FOR EACH ROW
+BEGIN
+    UPDATE category_stats s
+      JOIN book_category bc ON bc.category_id = s.category_id
+       SET s.book_count = s.book_count - 1
+     WHERE bc.book_isbn = OLD.isbn;
+END //
+DELIMITER ;
@@ -0,0 +1,103 @@
+package com.trevari.book.application;
+
+import com.trevari.book.domain.AuthorCursor;
+import com.trevari.book.domain.AuthorPage;
+import com.trevari.book.domain.AuthorRepository;
+import com.trevari.book.domain.BookRepository;
+import com.trevari.book.domain.BookView;
+import com.trevari.book.domain.CursorPage;
+import com.trevari.book.domain.PageCursor;
+import com.trevari.book.dto.response.AuthorListResponse;
+import com.trevari.book.dto.response.BookSearchResponse;
+import com.trevari.book.dto.response.SearchMetadata;
+import com.trevari.book.exception.BookException;
+import com.trevari.book.exception.BookExceptionCode;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 저자 목록과 저자별 도서 목록을 처리하는 서비스
+ * <p>
+ * 둘 다 키셋 페이지네이션이며, 색인이 준비되어 있으면 미리 계산한 저자 인접 리스트에서 바로 잘라 씀
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class AuthorService {
+
+    private final AuthorRepository authorRepository;
+    private final BookRepository bookRepository;
+
+    /**
+     * 이름 접두어로 저자 목록 조회 (대소문자 무시, 이름 순)
+     *
+     * @param prefix 이름 접두어 (빈 문자열이면 전체 저자)
+     * @param after  직전 응답의 nextCursor (빈 문자열이면 첫 페이지)
+     * @param size   페이지 크기
+     * @return 저자 목록 (저자별 도서 수, cursorInfo 포함)
+     */
+    public AuthorListResponse getAuthors(String prefix, String after, int size) {
+        log.info("Getting authors - prefix: {}, after: {}, size: {}", prefix, after, size);
+        validateSize(size);
+
+        long startTime = System.currentTimeMillis();
+
+        try {
+            AuthorPage page = authorRepository.findByNamePrefixAfter(prefix, AuthorCursor.decode(after), size);
+
+            long executionTime = System.currentTimeMillis() - startTime;
+            log.info("Author prefix lookup completed in {}ms, found {} authors",
+                    executionTime, page.content().size());
+
+            return AuthorListResponse.of(prefix, page, size);
+
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalid author cursor: {}", after, e);
+            throw new BookException(BookExceptionCode.INVALID_SEARCH_KEYWORD);
+        }
+    }
+
+    /**
+     * 저자별 도서 목록 조회 (키셋 페이지네이션, (제목, ISBN) 순)
+     *
+     * @param authorId 저자 id
+     * @param after    직전 응답의 nextCursor (빈 문자열이면 첫 페이지)
+     * @param size     페이지 크기
+     * @return 저자의 도서 목록 (cursorInfo 포함)
+     * @throws BookException 존재하지 않는 저자인 경우
+     */
+    public BookSearchResponse getBooksByAuthor(Long authorId, String after, int size) {
+        log.info("Getting books by author: {}, after: {}, size: {}", authorId, after, size);
+        validateSize(size);
+
+        if (!authorRepository.existsById(authorId)) {
+            throw new BookException(BookExceptionCode.AUTHOR_NOT_FOUND);
+        }
+
+        long startTime = System.currentTimeMillis();
+
+        try {
+            CursorPage<BookView> page = bookRepository.findByAuthorAfter(authorId, PageCursor.decode(after), size);
+
+            long executionTime = System.currentTimeMillis() - startTime;
+            log.info("Author books keyset retrieval completed in {}ms, found {} books for author {}",
+                    executionTime, page.content().size(), authorId);
+
+            return BookSearchResponse.fromCursorPage(String.valueOf(authorId), page, size,
+                    SearchMetadata.of(executionTime, "AUTHOR"));
+
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalid page cursor: {}", after, e);
+            throw new BookException(BookExceptionCode.INVALID_SEARCH_KEYWORD);
+        }
+    }
+
+    private static void validateSize(int size) {
+        if (size <= 0) {
+            throw new BookException(BookExceptionCode.INVALID_PAGE_PARAMETER);
+        }
+    }
+}
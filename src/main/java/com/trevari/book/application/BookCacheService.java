@@ -2,24 +2,39 @@ package com.trevari.book.application;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.trevari.book.domain.Book;
 import com.trevari.book.domain.BookRepository;
+import com.trevari.book.domain.BookView;
+import com.trevari.book.domain.FacetedPage;
+import com.trevari.book.domain.SearchSlice;
+import com.trevari.book.domain.search.BookHighlight;
+import com.trevari.book.domain.search.RangeFilter;
 import com.trevari.book.domain.search.SearchQuery;
 import com.trevari.book.domain.search.SearchQueryParser;
+import com.trevari.book.dto.request.BookSearchOptions;
 import com.trevari.book.dto.response.CacheableBookSearchResult;
 import com.trevari.global.dto.PageInfo;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import java.time.Duration;
+import java.util.List;
+import java.util.Map;
 
 /**
  * 도서 캐시 전용 서비스 클래스
  * String 기반 Redis 캐싱으로 직렬화 문제 해결
+ * 검색 결과는 파싱된 쿼리의 정규화 표현을 키로 써서, 표기만 다른 같은 검색이 캐시를 공유
+ * 검색 페이지는 COUNT 없이 조회하고, 전체 건수는 SearchCountService가 검색어별로 한 번만 세어 캐시한 값을 사용
+ * 패싯을 요청하면 패싯 건수와 결과 페이지를 한 번의 색인 평가로 함께 받아 같은 캐시 항목에 저장
+ * 가격·출판일 범위 필터는 검색 쿼리의 정규화 표현에 포함되므로 검색 결과·건수 캐시 키에 자동으로 반영
+ * 정렬 기준(Pageable의 Sort)은 결과 순서만 바꾸므로 결과 캐시 키에만 넣고, 건수 캐시는 정렬과 관계없이 공유
+ * 하이라이트를 요청하면 결과 페이지 도서의 스니펫을 색인 텀 벡터로 만들어 전체 설명 대신 같은 캐시 항목에 저장
  */
 @Slf4j
 @Service
@@ -31,43 +46,40 @@ public class BookCacheService {
     private final SearchQueryParser searchQueryParser;
     private final StringRedisTemplate stringRedisTemplate;
     private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final SearchCountService searchCountService;
+    
+    static final String SEARCH_CACHE_METRIC = "book.search.cache";
+    static final String SEARCH_CACHE_QUERY_METRIC = "book.search.cache.query";
     
     /**
      * 도서 검색 결과 캐시 처리 (String 기반 Redis 캐싱)
      * 
-     * @param keyword  검색 키워드
-     * @param pageable 페이징 정보
+     * @param options 검색 옵션 (캐시 키도 이 옵션에서 생성)
      * @return 캐시된 검색 결과
      */
-    public CacheableBookSearchResult getCachedSearchResult(String keyword, Pageable pageable) {
-        String cacheKey = "bookSearch:search:" + keyword + ":page:" + pageable.getPageNumber() + ":size:" + pageable.getPageSize();
+    public CacheableBookSearchResult getCachedSearchResult(BookSearchOptions options) {
+        String keyword = options.keyword();
+        // 검색 쿼리 파싱 후 정규화 표현으로 캐시 키 생성
+        SearchQuery searchQuery = options.toSearchQuery(searchQueryParser);
+        String canonicalQuery = searchQuery.canonicalForm();
+        String cacheKey = SearchCacheKeys.search(options, canonicalQuery);
         
         try {
             // 캐시에서 조회
             String cachedValue = stringRedisTemplate.opsForValue().get(cacheKey);
             if (cachedValue != null) {
-                log.debug("Cache HIT for keyword: {}", keyword);
-                return objectMapper.readValue(cachedValue, CacheableBookSearchResult.class);
+                log.debug("Cache HIT for keyword: {} (canonical: {})", keyword, canonicalQuery);
+                recordSearchCache(canonicalQuery, true);
+                // 다른 표기로 캐시된 결과일 수 있으므로 응답의 검색어는 이번 요청 그대로 표시
+                return objectMapper.readValue(cachedValue, CacheableBookSearchResult.class).withSearchQuery(keyword);
             }
             
-            log.debug("Cache MISS for keyword: {}", keyword);
-            
-            // 검색 쿼리 파싱
-            SearchQuery searchQuery = searchQueryParser.parse(keyword);
-            log.debug("Parsed search query: {}", searchQuery);
-            
-            // 도서 검색 실행
-            Page<Book> bookPage = bookRepository.searchBooks(searchQuery, pageable);
+            log.debug("Cache MISS for keyword: {} (canonical: {})", keyword, canonicalQuery);
+            recordSearchCache(canonicalQuery, false);
             
-            // 응답 객체 생성 (execution time 제외)
-            PageInfo pageInfo = PageInfo.of(bookPage);
-            
-            CacheableBookSearchResult result = CacheableBookSearchResult.from(
-                keyword,
-                pageInfo,
-                bookPage.getContent(),
-                searchQuery.strategy().name()
-            );
+            // 도서 검색 실행 후 응답 객체 생성 (execution time 제외)
+            CacheableBookSearchResult result = executeSearchWithoutCache(options, searchQuery);
             
             // 캐시에 저장 (TTL 5분)
             String jsonValue = objectMapper.writeValueAsString(result);
@@ -79,26 +91,80 @@ public class BookCacheService {
         } catch (JsonProcessingException e) {
             log.error("JSON processing error for keyword: {}", keyword, e);
             // 캐시 오류 시 DB에서 직접 조회
-            return executeSearchWithoutCache(keyword, pageable);
+            return executeSearchWithoutCache(options, searchQuery);
         }
     }
     
+    /**
+     * 검색 캐시 적중/실패 기록
+     * 전체 비율은 result 태그만, 쿼리별 분포는 정규화 표현 태그로 기록 (태그 종류 수는 MetricsConfig에서 제한)
+     */
+    private void recordSearchCache(String canonicalQuery, boolean hit) {
+        String result = hit ? "hit" : "miss";
+        meterRegistry.counter(SEARCH_CACHE_METRIC, "result", result).increment();
+        meterRegistry.counter(SEARCH_CACHE_QUERY_METRIC, "result", result, "query", canonicalQuery).increment();
+    }
+    
     /**
      * 캐시 없이 검색 실행 (fallback)
+     * 패싯을 요청하면 건수가 함께 계산되는 Page 검색을, 아니면 COUNT 없는 슬라이스 검색을 사용
      */
-    private CacheableBookSearchResult executeSearchWithoutCache(String keyword, Pageable pageable) {
-        SearchQuery searchQuery = searchQueryParser.parse(keyword);
-        Page<Book> bookPage = bookRepository.searchBooks(searchQuery, pageable);
-        PageInfo pageInfo = PageInfo.of(bookPage);
+    private CacheableBookSearchResult executeSearchWithoutCache(BookSearchOptions options, SearchQuery searchQuery) {
+        String keyword = options.keyword();
+        Pageable pageable = options.pageable();
+        if (!options.facets().isEmpty()) {
+            FacetedPage<BookView> facetedPage = bookRepository.searchBooksWithFacets(searchQuery, pageable, options.facets());
+            return CacheableBookSearchResult.from(
+                keyword,
+                searchPageInfo(searchQuery, facetedPage.page(), options.withCount()),
+                facetedPage.page().getContent(),
+                searchQuery.strategy().name(),
+                facetedPage.facets(),
+                highlights(searchQuery, facetedPage.fuzzyFallback(), facetedPage.page().getContent(), options.highlight())
+            );
+        }
+        
+        SearchSlice<BookView> searchSlice = bookRepository.searchBooksSlice(searchQuery, pageable);
+        Slice<BookView> bookSlice = searchSlice.slice();
         
         return CacheableBookSearchResult.from(
             keyword,
-            pageInfo,
-            bookPage.getContent(),
-            searchQuery.strategy().name()
+            searchPageInfo(searchQuery, bookSlice, options.withCount()),
+            bookSlice.getContent(),
+            searchQuery.strategy().name(),
+            Map.of(),
+            highlights(searchQuery, searchSlice.fuzzyFallback(), bookSlice.getContent(), options.highlight())
         );
     }
     
+    /**
+     * 결과 페이지 도서의 하이라이트 (요청하지 않았으면 빈 맵)
+     * 오타 허용 재시도로 찾은 결과면 교정된 텀도 강조하도록 오타 허용 쿼리로 만듦
+     */
+    private Map<String, BookHighlight> highlights(SearchQuery searchQuery, boolean fuzzyFallback, List<BookView> books,
+                                                  boolean highlight) {
+        if (!highlight || books.isEmpty()) {
+            return Map.of();
+        }
+        SearchQuery appliedQuery = fuzzyFallback ? searchQuery.withFuzzy(true) : searchQuery;
+        return bookRepository.highlight(appliedQuery, books.stream().map(BookView::isbn).toList());
+    }
+    
+    /**
+     * 검색 페이지 정보 생성
+     * 색인 검색처럼 건수가 이미 계산된 Page면 그대로 쓰고, 아니면 검색어별 캐시된 건수를 사용
+     */
+    private PageInfo searchPageInfo(SearchQuery searchQuery, Slice<BookView> bookSlice, boolean withCount) {
+        if (!withCount) {
+            return PageInfo.withoutCount(bookSlice);
+        }
+        if (bookSlice instanceof Page<BookView> bookPage) {
+            return PageInfo.of(bookPage);
+        }
+        SearchCountService.SearchCount count = searchCountService.count(searchQuery);
+        return PageInfo.of(bookSlice, count.total(), count.approximate());
+    }
+    
     /**
      * 전체 도서 목록 캐시 처리 (String 기반 Redis 캐싱)
      * 
@@ -119,7 +185,7 @@ public class BookCacheService {
             log.debug("Cache MISS for all books");
             
             // 전체 도서 조회
-            Page<Book> bookPage = bookRepository.findAll(pageable);
+            Page<BookView> bookPage = bookRepository.findAllViews(pageable);
             
             // 응답 객체 생성 (execution time 제외)
             PageInfo pageInfo = PageInfo.of(bookPage);
@@ -149,7 +215,7 @@ public class BookCacheService {
      * 캐시 없이 전체 도서 조회 (fallback)
      */
     private CacheableBookSearchResult executeAllBooksSearchWithoutCache(Pageable pageable) {
-        Page<Book> bookPage = bookRepository.findAll(pageable);
+        Page<BookView> bookPage = bookRepository.findAllViews(pageable);
         PageInfo pageInfo = PageInfo.of(bookPage);
         
         return CacheableBookSearchResult.from(
@@ -162,25 +228,26 @@ public class BookCacheService {
 
     /**
      * 도서 상세 정보 캐시 처리 (String 기반 Redis 캐싱)
+     * 캐시는 정규화한 ISBN 키로 먼저 찾고, 캐시 미스일 때만 저장된 ISBN으로 해석해 DB에서 조회
      * 
-     * @param isbn 도서 ISBN
+     * @param isbn 도서 ISBN (하이픈·ISBN-10 허용)
      * @return 캐시된 도서 정보
      */
-    public Book getCachedBookByIsbn(String isbn) {
-        String cacheKey = "bookDetail:" + isbn;
+    public BookView getCachedBookByIsbn(String isbn) {
+        String cacheKey = SearchCacheKeys.bookDetail(isbn);
         
         try {
             // 캐시에서 조회
             String cachedValue = stringRedisTemplate.opsForValue().get(cacheKey);
             if (cachedValue != null) {
                 log.debug("Cache HIT for ISBN: {}", isbn);
-                return objectMapper.readValue(cachedValue, Book.class);
+                return objectMapper.readValue(cachedValue, BookView.class);
             }
             
             log.debug("Cache MISS for ISBN: {}", isbn);
             
             // DB에서 조회
-            Book book = bookRepository.findByIsbn(isbn).orElse(null);
+            BookView book = findByResolvedIsbn(isbn);
             
             if (book != null) {
                 // 캐시에 저장 (TTL 1시간)
@@ -194,19 +261,27 @@ public class BookCacheService {
         } catch (JsonProcessingException e) {
             log.error("JSON processing error for ISBN: {}", isbn, e);
             // 캐시 오류 시 DB에서 직접 조회
-            return bookRepository.findByIsbn(isbn).orElse(null);
+            return findByResolvedIsbn(isbn);
         }
     }
 
     /**
-     * 카테고리별 도서 검색 결과 캐시 처리 (String 기반 Redis 캐싱)
+     * 입력 ISBN을 저장된 ISBN으로 해석해 조회 (해석되지 않으면 요청 값 그대로)
+     */
+    private BookView findByResolvedIsbn(String isbn) {
+        return bookRepository.findViewByIsbn(bookRepository.resolveIsbn(isbn).orElse(isbn)).orElse(null);
+    }
+
+    /**
+     * 카테고리별 도서 검색 결과 캐시 처리 (String 기반 Redis 캐싱, 가격·출판일 범위 필터 포함)
      * 
      * @param categoryName 카테고리명
+     * @param filter 가격·출판일 범위 필터
      * @param pageable 페이징 정보
      * @return 캐시된 검색 결과
      */
-    public CacheableBookSearchResult getBooksByCategoryCached(String categoryName, Pageable pageable) {
-        String cacheKey = "bookSearch:category:" + categoryName + ":page:" + pageable.getPageNumber() + ":size:" + pageable.getPageSize();
+    public CacheableBookSearchResult getBooksByCategoryCached(String categoryName, RangeFilter filter, Pageable pageable) {
+        String cacheKey = SearchCacheKeys.category(categoryName, filter, pageable);
         
         try {
             // 캐시에서 조회
@@ -219,7 +294,7 @@ public class BookCacheService {
             log.debug("Cache MISS for category: {}", categoryName);
             
             // 카테고리별 도서 검색
-            Page<Book> bookPage = bookRepository.findByCategory(categoryName, pageable);
+            Page<BookView> bookPage = bookRepository.findByCategory(categoryName, filter, pageable);
             
             // 응답 객체 생성 (execution time 제외)
             PageInfo pageInfo = PageInfo.of(bookPage);
@@ -241,15 +316,16 @@ public class BookCacheService {
         } catch (JsonProcessingException e) {
             log.error("JSON processing error for category: {}", categoryName, e);
             // 캐시 오류 시 DB에서 직접 조회
-            return executeCategorySearchWithoutCache(categoryName, pageable);
+            return executeCategorySearchWithoutCache(categoryName, filter, pageable);
         }
     }
     
     /**
      * 캐시 없이 카테고리별 도서 조회 (fallback)
      */
-    private CacheableBookSearchResult executeCategorySearchWithoutCache(String categoryName, Pageable pageable) {
-        Page<Book> bookPage = bookRepository.findByCategory(categoryName, pageable);
+    private CacheableBookSearchResult executeCategorySearchWithoutCache(String categoryName, RangeFilter filter,
+                                                                        Pageable pageable) {
+        Page<BookView> bookPage = bookRepository.findByCategory(categoryName, filter, pageable);
         PageInfo pageInfo = PageInfo.of(bookPage);
         
         return CacheableBookSearchResult.from(
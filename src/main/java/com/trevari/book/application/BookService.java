@@ -1,18 +1,32 @@
 package com.trevari.book.application;
 
-import com.trevari.book.domain.Book;
 import com.trevari.book.domain.BookRepository;
+import com.trevari.book.domain.BookView;
+import com.trevari.book.domain.CursorPage;
+import com.trevari.book.domain.Isbn;
+import com.trevari.book.domain.PageCursor;
+import com.trevari.book.domain.search.BookHighlight;
+import com.trevari.book.domain.search.RangeFilter;
+import com.trevari.book.domain.search.SearchQuery;
+import com.trevari.book.domain.search.SearchQueryParser;
+import com.trevari.book.dto.request.BookSearchOptions;
 import com.trevari.book.dto.response.BookSearchResponse;
 import com.trevari.book.dto.response.CacheableBookSearchResult;
 import com.trevari.book.dto.response.DetailedBookResponse;
+import com.trevari.book.dto.response.SearchMetadata;
 import com.trevari.book.exception.BookException;
 import com.trevari.book.exception.BookExceptionCode;
+import com.trevari.book.persistence.BookPopularityRepository;
+import com.trevari.global.dto.PageInfo;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Map;
+
 /**
  * 도서 비즈니스 로직을 담당하는 서비스 클래스
  */
@@ -25,21 +39,23 @@ public class BookService {
     private final BookCacheService bookCacheService;
     //private final com.trevari.book.persistence.BookJpaRepository bookJpaRepository;
     private final BookRepository bookRepository;
+    private final SearchQueryParser searchQueryParser;
+    private final BookPopularityRepository bookPopularityRepository;
 
     /**
-     * ISBN으로 도서 단건 조회 (엔티티 반환)
+     * ISBN으로 도서 단건 조회 (읽기 모델 반환)
      *
      * @param isbn 도서 ISBN
-     * @return 조회된 도서 엔티티
+     * @return 조회된 도서
      * @throws BookException 도서를 찾을 수 없는 경우
      */
     @Transactional(readOnly = true)
-    public Book getBookByIsbn(String isbn) {
+    public BookView getBookByIsbn(String isbn) {
         log.debug("Finding book by ISBN: {}", isbn);
 
-        // First try cache
+        // First try cache (캐시 키는 ISBN 정규화로 만들고, 저장된 ISBN 해석은 캐시 미스일 때만 수행)
         try {
-            Book book = bookCacheService.getCachedBookByIsbn(isbn);
+            BookView book = bookCacheService.getCachedBookByIsbn(isbn);
             if (book != null) {
                 return book;
             }
@@ -48,7 +64,8 @@ public class BookService {
         }
 
         // Fallback to direct repository call
-        return bookRepository.findByIsbn(isbn)
+        String storedIsbn = bookRepository.resolveIsbn(isbn).orElse(isbn);
+        return bookRepository.findViewByIsbn(storedIsbn)
                 .orElseThrow(() -> {
                     log.warn("Book not found with ISBN: {}", isbn);
                     return new BookException(BookExceptionCode.BOOK_NOT_FOUND);
@@ -66,7 +83,8 @@ public class BookService {
     public DetailedBookResponse getDetailedBookByIsbn(String isbn) {
         log.info("Getting detailed book information for ISBN: {}", isbn);
 
-        Book book = getBookByIsbn(isbn);
+        BookView book = getBookByIsbn(isbn);
+        recordView(book.isbn());
         DetailedBookResponse response = DetailedBookResponse.from(book);
 
         log.debug("Successfully converted book to detailed response for ISBN: {}", isbn);
@@ -77,19 +95,21 @@ public class BookService {
      * 키워드로 도서 검색 (캐싱 최적화 버전)
      * 트랜잭션 없이 실행하여 키워드 기록과의 충돌 방지
      *
-     * @param keyword  검색 키워드
-     * @param pageable 페이징 정보
+     * @param options 검색 옵션 (키워드, 페이징·정렬, 오타 허용, 건수, 패싯, 범위 필터, 하이라이트)
      * @return 검색 결과
      */
-    public BookSearchResponse searchBooks(String keyword, Pageable pageable) {
-        log.info("Searching books with keyword: {}, page: {}, size: {}",
-                keyword, pageable.getPageNumber(), pageable.getPageSize());
+    public BookSearchResponse searchBooks(BookSearchOptions options) {
+        String keyword = options.keyword();
+        Pageable pageable = options.pageable();
+        log.info("Searching books with keyword: {}, page: {}, size: {}, fuzzy: {}, count: {}, facets: {}, filter: {}, highlight: {}",
+                keyword, pageable.getPageNumber(), pageable.getPageSize(), options.fuzzy(), options.withCount(),
+                options.facets(), options.filter().canonicalForm(), options.highlight());
 
         long startTime = System.currentTimeMillis();
 
         try {
             // 캐시된 결과 조회 (execution time 제외)
-            CacheableBookSearchResult cachedResult = bookCacheService.getCachedSearchResult(keyword, pageable);
+            CacheableBookSearchResult cachedResult = bookCacheService.getCachedSearchResult(options);
 
             // 검색 키워드 기록을 별도 트랜잭션으로 분리하여 비동기 처리
             recordSearchKeywordAsync(keyword);
@@ -107,6 +127,50 @@ public class BookService {
         }
     }
 
+    /**
+     * 키워드로 도서 검색 (키셋 페이지네이션)
+     * 커서는 직전 페이지의 마지막 도서 위치이므로 OFFSET 없이 페이지 크기만큼만 조회하며,
+     * 커서마다 결과가 달라 캐시하지 않고 검색 키워드는 첫 페이지에서만 기록
+     * 관련도 순으로만 이어지므로 옵션의 페이지 번호·정렬과 건수·패싯 옵션은 사용하지 않음
+     *
+     * @param options 검색 옵션 (페이지 크기, 오타 허용, 범위 필터, 하이라이트 사용)
+     * @param after   직전 응답의 nextCursor (빈 문자열이면 첫 페이지)
+     * @return 검색 결과 (cursorInfo 포함)
+     */
+    @Transactional(readOnly = true)
+    public BookSearchResponse searchBooksAfter(BookSearchOptions options, String after) {
+        String keyword = options.keyword();
+        int size = options.pageable().getPageSize();
+        log.info("Searching books with keyword: {}, after: {}, size: {}, fuzzy: {}, filter: {}, highlight: {}",
+                keyword, after, size, options.fuzzy(), options.filter().canonicalForm(), options.highlight());
+
+        long startTime = System.currentTimeMillis();
+
+        try {
+            SearchQuery searchQuery = options.toSearchQuery(searchQueryParser);
+            PageCursor cursor = PageCursor.decode(after);
+            CursorPage<BookView> page = bookRepository.searchBooksAfter(searchQuery, cursor, size);
+            SearchQuery appliedQuery = page.fuzzyFallback() ? searchQuery.withFuzzy(true) : searchQuery;
+            Map<String, BookHighlight> highlights = options.highlight() && !page.content().isEmpty()
+                    ? bookRepository.highlight(appliedQuery, page.content().stream().map(BookView::isbn).toList())
+                    : Map.of();
+
+            if (cursor.isStart()) {
+                recordSearchKeywordAsync(keyword);
+            }
+
+            long executionTime = System.currentTimeMillis() - startTime;
+            log.info("Book keyset search completed in {}ms, found {} books", executionTime, page.content().size());
+
+            return BookSearchResponse.fromCursorPage(keyword, page, size,
+                    SearchMetadata.of(executionTime, searchQuery.strategy().name()), highlights);
+
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalid search query or cursor: {}, after: {}", keyword, after, e);
+            throw new BookException(BookExceptionCode.INVALID_SEARCH_KEYWORD);
+        }
+    }
+
     /**
      * 검색 키워드 기록을 완전히 분리된 비동기 트랜잭션으로 처리
      * 메인 검색 트랜잭션과 분리하여 롤백 이슈 방지
@@ -121,6 +185,18 @@ public class BookService {
         }
     }
 
+    /**
+     * 도서 상세 조회 수 기록 (인기도 정렬용)
+     */
+    private void recordView(String isbn) {
+        try {
+            bookPopularityRepository.incrementViews(isbn);
+        } catch (Exception e) {
+            // 조회 수 기록 실패는 로그만 남기고 상세 조회 자체는 계속 진행
+            log.warn("Failed to record view for ISBN '{}': {}", isbn, e.getMessage());
+        }
+    }
+
     /**
      * 전체 도서 목록 조회 (페이징)
      *
@@ -145,22 +221,51 @@ public class BookService {
     }
 
     /**
-     * 카테고리별 도서 검색
+     * 전체 도서 목록 조회 (키셋 페이지네이션, (제목, ISBN) 순)
+     *
+     * @param after 직전 응답의 nextCursor (빈 문자열이면 첫 페이지)
+     * @param size  페이지 크기
+     * @return 전체 도서 목록 (cursorInfo 포함)
+     */
+    @Transactional(readOnly = true)
+    public BookSearchResponse getAllBooksAfter(String after, int size) {
+        log.info("Getting all books - after: {}, size: {}", after, size);
+
+        long startTime = System.currentTimeMillis();
+
+        try {
+            CursorPage<BookView> page = bookRepository.findAllAfter(PageCursor.decode(after), size);
+
+            long executionTime = System.currentTimeMillis() - startTime;
+            log.info("All books keyset retrieval completed in {}ms, found {} books",
+                    executionTime, page.content().size());
+
+            return BookSearchResponse.fromCursorPage("", page, size, SearchMetadata.of(executionTime, "ALL"));
+
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalid page cursor: {}", after, e);
+            throw new BookException(BookExceptionCode.INVALID_SEARCH_KEYWORD);
+        }
+    }
+
+    /**
+     * 카테고리별 도서 검색 (가격·출판일 범위 필터 포함)
      *
      * @param categoryName 카테고리명
+     * @param filter       가격·출판일 범위 필터 (필터가 없으면 RangeFilter.none())
      * @param pageable     페이징 정보
      * @return 검색 결과
      */
     @Transactional(readOnly = true)
-    public BookSearchResponse getBooksByCategory(String categoryName, Pageable pageable) {
-        log.info("Searching books by category: {}, page: {}, size: {}",
-                categoryName, pageable.getPageNumber(), pageable.getPageSize());
+    public BookSearchResponse getBooksByCategory(String categoryName, RangeFilter filter, Pageable pageable) {
+        log.info("Searching books by category: {}, filter: {}, page: {}, size: {}",
+                categoryName, filter.canonicalForm(), pageable.getPageNumber(), pageable.getPageSize());
 
         long startTime = System.currentTimeMillis();
 
         try {
             // 카테고리별 검색 결과 조회 (캐시 활용)
-            CacheableBookSearchResult cachedResult = bookCacheService.getBooksByCategoryCached(categoryName, pageable);
+            CacheableBookSearchResult cachedResult = bookCacheService.getBooksByCategoryCached(categoryName, filter, pageable);
 
             long executionTime = System.currentTimeMillis() - startTime;
             log.info("Category search completed in {}ms, found {} books for category '{}'",
@@ -173,4 +278,65 @@ public class BookService {
             throw new BookException(BookExceptionCode.INVALID_SEARCH_KEYWORD);
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * 카테고리별 도서 검색 (키셋 페이지네이션, (제목, ISBN) 순, 가격·출판일 범위 필터 포함)
+     *
+     * @param categoryName 카테고리명
+     * @param filter       가격·출판일 범위 필터
+     * @param after        직전 응답의 nextCursor (빈 문자열이면 첫 페이지)
+     * @param size         페이지 크기
+     * @return 검색 결과 (cursorInfo 포함)
+     */
+    @Transactional(readOnly = true)
+    public BookSearchResponse getBooksByCategoryAfter(String categoryName, RangeFilter filter, String after, int size) {
+        log.info("Searching books by category: {}, filter: {}, after: {}, size: {}",
+                categoryName, filter.canonicalForm(), after, size);
+
+        long startTime = System.currentTimeMillis();
+
+        try {
+            CursorPage<BookView> page = bookRepository.findByCategoryAfter(categoryName, filter, PageCursor.decode(after), size);
+
+            long executionTime = System.currentTimeMillis() - startTime;
+            log.info("Category keyset search completed in {}ms, found {} books for category '{}'",
+                    executionTime, page.content().size(), categoryName);
+
+            return BookSearchResponse.fromCursorPage(categoryName, page, size, SearchMetadata.of(executionTime, "CATEGORY"));
+
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalid category name or cursor: {}, after: {}", categoryName, after, e);
+            throw new BookException(BookExceptionCode.INVALID_SEARCH_KEYWORD);
+        }
+    }
+
+    /**
+     * ISBN 접두어로 도서 조회 (출판사 접두어별 목록 등, ISBN 순)
+     *
+     * @param prefix   ISBN-13 또는 ISBN-10 숫자 접두어 (하이픈 허용)
+     * @param pageable 페이징 정보
+     * @return 접두어에 해당하는 도서 목록
+     * @throws BookException 숫자 접두어가 아닌 경우
+     */
+    @Transactional(readOnly = true)
+    public BookSearchResponse getBooksByIsbnPrefix(String prefix, Pageable pageable) {
+        log.info("Getting books by ISBN prefix: {}, page: {}, size: {}",
+                prefix, pageable.getPageNumber(), pageable.getPageSize());
+
+        if (Isbn.prefixRange(prefix) == null) {
+            log.warn("Invalid ISBN prefix: {}", prefix);
+            throw new BookException(BookExceptionCode.INVALID_SEARCH_KEYWORD);
+        }
+
+        long startTime = System.currentTimeMillis();
+
+        Page<BookView> page = bookRepository.findByIsbnPrefix(prefix, pageable);
+
+        long executionTime = System.currentTimeMillis() - startTime;
+        log.info("ISBN prefix lookup completed in {}ms, found {} books for prefix '{}'",
+                executionTime, page.getTotalElements(), prefix);
+
+        return BookSearchResponse.from(prefix, PageInfo.of(page), page.getContent(),
+                SearchMetadata.of(executionTime, "ISBN_PREFIX"));
+    }
+}
@@ -1,18 +1,26 @@
 package com.trevari.book.application;
 
 import com.trevari.book.domain.Category;
+import com.trevari.book.domain.CategoryStats;
 import com.trevari.book.dto.response.CategoryResponse;
 import com.trevari.book.dto.response.PopularCategoryResponse;
 import com.trevari.book.persistence.CategoryJpaRepository;
+import com.trevari.book.persistence.CategoryStatsJpaRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
 /**
  * 카테고리 관련 비즈니스 로직을 처리하는 서비스
+ * <p>
+ * - 인기 카테고리는 미리 집계한 category_stats에서 상위 limit건만 조회 (매 요청 GROUP BY 없음)
+ * - 집계는 DB 트리거가 book_category 변경마다 증분 갱신하고, 주기적으로 전체 재계산해 어긋난 값을 보정
  */
 @Slf4j
 @Service
@@ -21,6 +29,7 @@ import java.util.List;
 public class CategoryService {
 
     private final CategoryJpaRepository categoryRepository;
+    private final CategoryStatsJpaRepository categoryStatsRepository;
 
     /**
      * 모든 카테고리 조회
@@ -46,16 +55,31 @@ public class CategoryService {
     public List<PopularCategoryResponse> getPopularCategories(int limit) {
         log.debug("Fetching popular categories with limit: {}", limit);
         
-        List<Object[]> categoriesWithCount = categoryRepository.findCategoriesWithBookCount();
+        if (limit <= 0) {
+            return List.of();
+        }
         
-        return categoriesWithCount.stream()
-                .limit(limit)
-                .map(row -> {
-                    Long id = ((Number) row[0]).longValue();
-                    String name = (String) row[1];
-                    Long bookCount = ((Number) row[2]).longValue();
-                    return PopularCategoryResponse.of(id, name, bookCount);
-                })
+        List<CategoryStats> stats = categoryStatsRepository.findAllByOrderByBookCountDescNameAsc(PageRequest.ofSize(limit));
+        
+        return stats.stream()
+                .map(stat -> PopularCategoryResponse.of(stat.getCategoryId(), stat.getName(), stat.getBookCount()))
                 .toList();
     }
+    
+    /**
+     * 카테고리별 도서 수 집계 재계산 (트리거가 놓친 변경 보정, 실패하면 기존 집계 유지)
+     * 재계산은 Repository의 쓰기 트랜잭션에서 실행하고, 실패해도 서비스의 읽기 전용 트랜잭션이 rollback-only로 남지 않도록 트랜잭션 밖에서 호출
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @Scheduled(fixedDelayString = "${category.stats.reconcile-interval-ms:3600000}",
+            initialDelayString = "${category.stats.reconcile-interval-ms:3600000}")
+    public void reconcileCategoryStats() {
+        long startTime = System.currentTimeMillis();
+        try {
+            categoryStatsRepository.reconcile();
+            log.info("Category stats reconciled in {}ms", System.currentTimeMillis() - startTime);
+        } catch (Exception e) {
+            log.warn("Failed to reconcile category stats, keeping current counts: {}", e.getMessage());
+        }
+    }
 }
\ No newline at end of file
@@ -0,0 +1,49 @@
+package com.trevari.book.application;
+
+import com.trevari.book.dto.response.RelatedBooksResponse;
+import com.trevari.book.exception.BookException;
+import com.trevari.book.exception.BookExceptionCode;
+import com.trevari.book.index.BookIndex;
+import com.trevari.book.index.BookIndexManager;
+import com.trevari.book.index.RelatedBookLookup;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * 관련 도서 추천 서비스
+ * <p>
+ * 저자 공유, 카테고리 집합 겹침, 제목·부제목·설명 TF-IDF 유사도로 색인 재생성 시 미리 계산한 목록을
+ * 현재 검색 인덱스 스냅샷에서 바로 읽으므로 상세 페이지마다 호출해도 MySQL 조인이 없음
+ * (색인이 아직 없으면 추천 없이 빈 목록)
+ */
+@Service
+@RequiredArgsConstructor
+public class RelatedBookService {
+
+    public static final int DEFAULT_LIMIT = 10;
+    private static final int MAX_LIMIT = 20;
+
+    private final BookIndexManager indexManager;
+
+    /**
+     * 관련 도서 조회
+     *
+     * @param isbn  기준 도서 ISBN
+     * @param limit 최대 도서 수 (1~20)
+     * @return 관련도 내림차순 관련 도서 목록
+     * @throws BookException 색인에 없는 ISBN인 경우
+     */
+    public RelatedBooksResponse getRelatedBooks(String isbn, int limit) {
+        BookIndex index = indexManager.current();
+        if (!index.isReady()) {
+            return RelatedBooksResponse.of(isbn, List.of());
+        }
+        if (index.ordinalOf(isbn) < 0) {
+            throw new BookException(BookExceptionCode.BOOK_NOT_FOUND);
+        }
+        int boundedLimit = Math.max(1, Math.min(limit, MAX_LIMIT));
+        return RelatedBooksResponse.of(isbn, new RelatedBookLookup(index).related(isbn, boundedLimit));
+    }
+}
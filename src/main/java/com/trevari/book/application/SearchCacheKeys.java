@@ -0,0 +1,80 @@
+package com.trevari.book.application;
+
+import com.trevari.book.domain.Isbn;
+import com.trevari.book.domain.search.Facet;
+import com.trevari.book.domain.search.RangeFilter;
+import com.trevari.book.domain.search.SortOrder;
+import com.trevari.book.dto.request.BookSearchOptions;
+import org.springframework.data.domain.Pageable;
+
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 검색·카테고리 결과와 도서 상세 캐시 키
+ * <p>
+ * - 두 키의 정렬·페이지 접미사를 pageKey 하나로 만들어, 옵션이 바뀌어도 한곳에서만 고치면 되도록 함
+ * - 기본값인 옵션은 키에서 빠지므로 옵션 없는 요청은 항상 같은 짧은 키를 사용
+ */
+final class SearchCacheKeys {
+
+    private SearchCacheKeys() {
+    }
+
+    /**
+     * 검색 결과 캐시 키
+     * 키워드 대신 파싱된 쿼리의 정규화 표현(범위 필터 포함)을 써서 표기만 다른 같은 검색이 캐시를 공유
+     *
+     * @param options        검색 옵션
+     * @param canonicalQuery options.toSearchQuery로 만든 쿼리의 정규화 표현
+     */
+    static String search(BookSearchOptions options, String canonicalQuery) {
+        return "bookSearch:search:" + canonicalQuery
+                + (options.fuzzy() ? ":fuzzy" : "")
+                + (options.withCount() ? "" : ":nocount")
+                + facetsKey(options.facets())
+                + (options.highlight() ? ":highlight" : "")
+                + pageKey(options.pageable());
+    }
+
+    /**
+     * 카테고리별 도서 목록 캐시 키
+     */
+    static String category(String categoryName, RangeFilter filter, Pageable pageable) {
+        return "bookSearch:category:" + categoryName
+                + (filter.isEmpty() ? "" : ":{" + filter.canonicalForm() + "}")
+                + pageKey(pageable);
+    }
+
+    /**
+     * 도서 상세 캐시 키
+     * ISBN이면 정규화한 ISBN-13으로 만들어 하이픈이 섞인 스캔 값이나 ISBN-10도 DB 조회 없이 같은 키를 사용
+     * (ISBN 형식이 아닌 식별자는 입력 그대로)
+     * 값은 BookView JSON이므로, Book 엔티티 JSON을 담던 이전 bookDetail: 키와 섞이지 않게 접두어를 구분
+     */
+    static String bookDetail(String isbn) {
+        long normalized = Isbn.toLong(isbn);
+        return "bookView:" + (normalized != Isbn.INVALID ? Isbn.toIsbn13(normalized) : isbn);
+    }
+
+    /**
+     * 패싯 접미사 (요청 순서와 관계없이 같은 키가 되도록 enum 순서로 나열)
+     */
+    private static String facetsKey(Set<Facet> facets) {
+        if (facets.isEmpty()) {
+            return "";
+        }
+        return ":facets:" + facets.stream()
+                .sorted()
+                .map(Facet::paramName)
+                .collect(Collectors.joining(","));
+    }
+
+    /**
+     * 정렬·페이지 접미사 (정렬이 기본 순서면 정렬은 생략)
+     */
+    private static String pageKey(Pageable pageable) {
+        return SortOrder.of(pageable.getSort()).cacheKey()
+                + ":page:" + pageable.getPageNumber() + ":size:" + pageable.getPageSize();
+    }
+}
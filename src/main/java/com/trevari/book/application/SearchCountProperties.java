@@ -0,0 +1,26 @@
+package com.trevari.book.application;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 검색 결과 전체 건수 설정 (search.count.*)
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "search.count")
+public class SearchCountProperties {
+
+    /**
+     * 정확히 셀 최대 건수 (넘으면 이 값을 최소 건수로 한 근사치로 표시)
+     */
+    private long exactLimit = 1_000L;
+
+    /**
+     * 검색어별 건수 캐시 TTL (밀리초)
+     */
+    private long cacheTtlMs = 600_000L;
+}
@@ -0,0 +1,76 @@
+package com.trevari.book.application;
+
+import com.trevari.book.domain.BookRepository;
+import com.trevari.book.domain.search.SearchQuery;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+
+/**
+ * 검색 결과 전체 건수 서비스
+ * <p>
+ * - 건수는 페이지와 무관하므로 정규화 검색어(+ 오타 허용 여부)별로 한 번만 세어 Redis에 캐시
+ *   → 같은 검색의 다음 페이지나 표기만 다른 검색은 COUNT 쿼리 없이 응답
+ * - 최대 exactLimit건까지만 세고, 넘으면 exactLimit을 최소 건수로 한 근사치로 표시
+ *   (결과가 매우 많은 검색어일수록 COUNT가 비싸지만, 정확한 건수가 필요한 경우는 드묾)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SearchCountService {
+
+    private static final String CACHE_KEY_PREFIX = "bookSearch:count:";
+    private static final String APPROXIMATE_MARK = "~";
+
+    private final BookRepository bookRepository;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final SearchCountProperties properties;
+
+    /**
+     * 검색 쿼리의 전체 건수 (캐시 우선)
+     *
+     * @param searchQuery 파싱된 검색 쿼리
+     * @return 전체 건수와 근사치 여부
+     */
+    public SearchCount count(SearchQuery searchQuery) {
+        String cacheKey = CACHE_KEY_PREFIX + searchQuery.canonicalForm() + (searchQuery.fuzzy() ? ":fuzzy" : "");
+
+        String cachedValue = stringRedisTemplate.opsForValue().get(cacheKey);
+        if (cachedValue != null) {
+            try {
+                return SearchCount.parse(cachedValue);
+            } catch (NumberFormatException e) {
+                log.warn("Ignoring malformed cached count '{}' for key {}", cachedValue, cacheKey);
+            }
+        }
+
+        long limit = properties.getExactLimit();
+        long counted = bookRepository.countBooks(searchQuery, limit + 1);
+        SearchCount count = counted > limit ? new SearchCount(limit, true) : new SearchCount(counted, false);
+        log.debug("Counted {} books for '{}' (approximate: {})", count.total(), searchQuery.canonicalForm(), count.approximate());
+
+        stringRedisTemplate.opsForValue().set(cacheKey, count.format(), Duration.ofMillis(properties.getCacheTtlMs()));
+        return count;
+    }
+
+    /**
+     * 검색 결과 전체 건수
+     *
+     * @param total       전체 건수 (approximate면 최소 건수)
+     * @param approximate 세기 상한에서 멈춘 근사치인지 여부
+     */
+    public record SearchCount(long total, boolean approximate) {
+
+        static SearchCount parse(String value) {
+            boolean approximate = value.startsWith(APPROXIMATE_MARK);
+            return new SearchCount(Long.parseLong(approximate ? value.substring(1) : value), approximate);
+        }
+
+        String format() {
+            return (approximate ? APPROXIMATE_MARK : "") + total;
+        }
+    }
+}
@@ -1,10 +1,13 @@
 package com.trevari.book.application;
 
-import com.trevari.book.domain.Book;
+import com.trevari.book.domain.BookView;
+import com.trevari.book.domain.search.SearchQueryParser;
+import com.trevari.book.persistence.BookPageLoader;
 import com.trevari.book.persistence.OptimizedBookRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Service;
@@ -25,19 +28,24 @@ import java.util.concurrent.TimeUnit;
 public class SearchPerformanceService {
     
     private final OptimizedBookRepository optimizedBookRepository;
+    private final BookPageLoader bookPageLoader;
     private final StringRedisTemplate redisTemplate;
     private final Executor taskExecutor;
+    private final SearchCountService searchCountService;
+    private final SearchQueryParser searchQueryParser;
     
     /**
      * 병렬 검색 (제목, 저자 동시 검색)
      */
-    public CompletableFuture<Page<Book>> parallelSearch(String keyword, Pageable pageable) {
+    public CompletableFuture<Page<BookView>> parallelSearch(String keyword, Pageable pageable) {
         return CompletableFuture.supplyAsync(() -> {
             long startTime = System.currentTimeMillis();
             
             try {
                 // MySQL 풀텍스트 검색 사용
-                Page<Book> result = optimizedBookRepository.findByFullTextSearch(keyword, pageable);
+                Page<String> isbns = optimizedBookRepository.findByFullTextSearch(keyword, pageable);
+                Page<BookView> result = new PageImpl<>(
+                        bookPageLoader.loadInOrder(isbns.getContent()), pageable, isbns.getTotalElements());
                 
                 long duration = System.currentTimeMillis() - startTime;
                 log.info("Parallel search completed in {}ms for keyword: {}", duration, keyword);
@@ -60,7 +68,7 @@ public class SearchPerformanceService {
     public void preCache(String keyword, Pageable pageable) {
         CompletableFuture.runAsync(() -> {
             try {
-                Page<Book> result = optimizedBookRepository.findByFullTextSearch(keyword, pageable);
+                optimizedBookRepository.findByFullTextSearch(keyword, pageable);
                 String cacheKey = "search:precache:" + keyword + ":" + pageable.getPageNumber();
                 
                 // 30분간 캐시
@@ -85,18 +93,12 @@ public class SearchPerformanceService {
     }
     
     /**
-     * 검색 결과 개수 예측 (캐시 활용)
+     * 검색 결과 개수 예측 (검색어별 건수 캐시 활용)
+     * 결과가 매우 많으면 상한까지만 센 근사치(최소 건수)를 반환
+     *
+     * @throws IllegalArgumentException 잘못된 검색 쿼리인 경우
      */
     public long estimateResultCount(String keyword) {
-        String countKey = "count:estimate:" + keyword;
-        String cached = redisTemplate.opsForValue().get(countKey);
-        
-        if (cached != null) {
-            return Long.parseLong(cached);
-        }
-        
-        // 실제 카운트 조회는 비용이 크므로 샘플링
-        // 첫 페이지 결과로 전체 추정
-        return 0L; // 구현 생략
+        return searchCountService.count(searchQueryParser.parse(keyword)).total();
     }
 }
\ No newline at end of file
@@ -0,0 +1,94 @@
+package com.trevari.book.application;
+
+import com.trevari.book.dto.response.SimilarBooksResponse;
+import com.trevari.book.index.BookDocument;
+import com.trevari.book.index.BookIndexRebuiltEvent;
+import com.trevari.book.index.SearchIndexProperties;
+import com.trevari.book.index.vector.BookVectorIndex;
+import com.trevari.book.index.vector.VectorSearchProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * 유사 도서 검색 서비스
+ * <p>
+ * 도서를 TF-IDF 랜덤 프로젝션 벡터로 만든 HNSW 그래프(BookVectorIndex)에서 자유 텍스트와 가까운 도서를 찾으므로
+ * 키워드가 정확히 일치하지 않아도 비슷한 주제의 도서를 MySQL 조회 없이 반환
+ * <p>
+ * 갱신 (검색 인덱스 스냅샷이 교체될 때 BookIndexRebuiltEvent의 도서 문서로 반영하므로 도서를 따로 읽지 않음)
+ * - 최초: 전체 도서로 idf 학습 후 전체 삽입
+ * - 이후: 추가·변경·삭제된 도서만 증분 반영 (탐색은 읽기 잠금이라 반영 중에도 응답)
+ * - 학습 이후 도서가 크게 늘거나 삭제 표시가 쌓이면 새 색인을 만들어 통째로 교체
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SimilarBookService {
+
+    public static final int DEFAULT_LIMIT = 10;
+    private static final int MAX_LIMIT = 50;
+
+    private final SearchIndexProperties indexProperties;
+    private final VectorSearchProperties properties;
+
+    private volatile BookVectorIndex vectorIndex;
+
+    @EventListener
+    public void onIndexRebuilt(BookIndexRebuiltEvent event) {
+        if (isEnabled()) {
+            refresh(event.documents());
+        }
+    }
+
+    /**
+     * 도서 문서를 증분 반영하거나 필요하면 전체 재구성 (실패하면 기존 색인 유지)
+     *
+     * @param documents 검색 인덱스 스냅샷을 만든 도서 문서
+     */
+    public synchronized void refresh(List<BookDocument> documents) {
+        long startTime = System.currentTimeMillis();
+        try {
+            BookVectorIndex current = this.vectorIndex;
+            if (current != null && !current.needsRebuild(documents.size())) {
+                int changes = current.sync(documents);
+                log.info("Vector index synced in {}ms - books: {}, changes: {}",
+                        System.currentTimeMillis() - startTime, current.size(), changes);
+                return;
+            }
+
+            BookVectorIndex rebuilt = BookVectorIndex.build(documents, indexProperties.toAnalyzer(),
+                    properties.getDimension(), properties.getMaxConnections(), properties.getBeamWidth());
+            this.vectorIndex = rebuilt;
+            log.info("Vector index rebuilt in {}ms - books: {}", System.currentTimeMillis() - startTime, rebuilt.size());
+        } catch (Exception e) {
+            log.error("Failed to refresh vector index, keeping previous index", e);
+        }
+    }
+
+    /**
+     * 인메모리 검색 인덱스와 벡터 색인이 모두 켜져 있을 때만 색인 생성
+     */
+    private boolean isEnabled() {
+        return indexProperties.isEnabled() && properties.isEnabled();
+    }
+
+    /**
+     * 자유 텍스트와 유사한 도서 검색
+     *
+     * @param query 질의 텍스트
+     * @param limit 최대 도서 수 (1~50)
+     * @return 유사도 내림차순 도서 목록 (색인 전이면 빈 목록)
+     */
+    public SimilarBooksResponse findSimilar(String query, int limit) {
+        BookVectorIndex current = this.vectorIndex;
+        if (current == null) {
+            return SimilarBooksResponse.of(query, List.of());
+        }
+        int boundedLimit = Math.max(1, Math.min(limit, MAX_LIMIT));
+        return SimilarBooksResponse.of(query, current.search(query, boundedLimit, properties.getEfSearch()));
+    }
+}
@@ -0,0 +1,93 @@
+package com.trevari.book.application;
+
+import com.trevari.book.domain.SearchKeyword;
+import com.trevari.book.domain.SearchKeywordRepository;
+import com.trevari.book.dto.response.SuggestResponse;
+import com.trevari.book.index.BookDocument;
+import com.trevari.book.index.BookIndexRebuiltEvent;
+import com.trevari.book.index.suggest.PrefixSuggester;
+import com.trevari.book.index.suggest.Suggestion;
+import com.trevari.book.index.suggest.SuggestionType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 검색어 자동완성 서비스
+ * <p>
+ * 도서 제목, 저자명, 인기 검색어로 만든 불변 PrefixSuggester 스냅샷에서만 응답하므로
+ * 키 입력마다 호출해도 MySQL/Redis를 거치지 않음
+ * 검색 인덱스 스냅샷이 교체될 때(BookIndexRebuiltEvent) 그 스냅샷과 같은 도서 문서로 재생성하므로 도서를 따로 읽지 않음
+ * <p>
+ * 가중치
+ * - 인기 검색어: 누적 검색 횟수
+ * - 저자: 저술한 도서 수
+ * - 제목: 1 (같은 가중치면 사전순)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SuggestionService {
+
+    public static final int DEFAULT_LIMIT = 10;
+    private static final int MAX_LIMIT = 20;
+
+    private final SearchKeywordRepository searchKeywordRepository;
+
+    private volatile PrefixSuggester suggester = PrefixSuggester.empty();
+
+    @EventListener
+    public void onIndexRebuilt(BookIndexRebuiltEvent event) {
+        rebuild(event.documents());
+    }
+
+    /**
+     * 도서 문서와 인기 검색어로 자동완성 후보를 만들어 스냅샷 교체 (실패하면 기존 스냅샷 유지)
+     *
+     * @param documents 검색 인덱스 스냅샷을 만든 도서 문서
+     */
+    public synchronized void rebuild(List<BookDocument> documents) {
+        long startTime = System.currentTimeMillis();
+        try {
+            List<Suggestion> suggestions = new ArrayList<>();
+            Map<String, Long> booksPerAuthor = new HashMap<>();
+            for (BookDocument document : documents) {
+                suggestions.add(new Suggestion(document.title(), SuggestionType.TITLE, 1L));
+                for (String authorName : document.authorNames()) {
+                    booksPerAuthor.merge(authorName, 1L, Long::sum);
+                }
+            }
+            booksPerAuthor.forEach((name, count) ->
+                    suggestions.add(new Suggestion(name, SuggestionType.AUTHOR, count)));
+            for (SearchKeyword keyword : searchKeywordRepository.findTop1000ByOrderBySearchCountDesc()) {
+                suggestions.add(new Suggestion(keyword.getKeyword(), SuggestionType.KEYWORD, keyword.getSearchCount()));
+            }
+
+            PrefixSuggester rebuilt = PrefixSuggester.build(suggestions);
+            this.suggester = rebuilt;
+
+            log.info("Suggestion index rebuilt in {}ms - suggestions: {}, keys: {}",
+                    System.currentTimeMillis() - startTime, rebuilt.size(), rebuilt.keyCount());
+        } catch (Exception e) {
+            log.error("Failed to rebuild suggestion index, keeping previous snapshot", e);
+        }
+    }
+
+    /**
+     * 접두어 자동완성
+     *
+     * @param prefix 입력 중인 검색어
+     * @param limit  최대 후보 수 (1~20)
+     * @return 가중치 내림차순 후보 목록
+     */
+    public SuggestResponse suggest(String prefix, int limit) {
+        int boundedLimit = Math.max(1, Math.min(limit, MAX_LIMIT));
+        return SuggestResponse.of(prefix, suggester.suggest(prefix, boundedLimit));
+    }
+}
@@ -0,0 +1,73 @@
+package com.trevari.book.domain;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 저자 목록 키셋 페이지네이션 커서
+ * <p>
+ * 마지막으로 받은 저자의 (이름, id)를 담아 다음 페이지를 OFFSET 없이 그 뒤부터 조회
+ * API에는 Base64 URL 인코딩한 불투명 문자열로 노출하고, 빈 문자열은 첫 페이지를 뜻함
+ *
+ * @param name 마지막 저자 이름 (첫 페이지 커서면 null)
+ * @param id   마지막 저자 id (첫 페이지 커서면 null)
+ */
+public record AuthorCursor(
+        String name,
+        Long id
+) {
+
+    private static final String VERSION = "a1";
+    private static final AuthorCursor START = new AuthorCursor(null, null);
+
+    /**
+     * 첫 페이지 커서
+     */
+    public static AuthorCursor start() {
+        return START;
+    }
+
+    /**
+     * 해당 저자 다음부터 조회하는 커서
+     */
+    public static AuthorCursor after(String name, long id) {
+        return new AuthorCursor(name != null ? name : "", id);
+    }
+
+    public boolean isStart() {
+        return id == null;
+    }
+
+    /**
+     * API 응답용 불투명 문자열로 인코딩
+     */
+    public String encode() {
+        if (isStart()) {
+            return "";
+        }
+        // 이름에는 구분자가 들어갈 수 있으므로 마지막 필드로 둠
+        String raw = VERSION + "\n" + id + "\n" + name;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * API 요청의 커서 문자열을 해석 (빈 문자열이면 첫 페이지)
+     *
+     * @throws IllegalArgumentException 형식이 잘못된 커서인 경우
+     */
+    public static AuthorCursor decode(String value) {
+        if (value == null || value.isBlank()) {
+            return START;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(value.trim()), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\n", 3);
+            if (parts.length != 3 || !VERSION.equals(parts[0])) {
+                throw new IllegalArgumentException("Invalid author cursor");
+            }
+            return new AuthorCursor(parts[2], Long.parseLong(parts[1]));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid author cursor", e);
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.trevari.book.domain;
+
+import java.util.List;
+
+/**
+ * 저자 목록 키셋 페이지네이션 결과
+ *
+ * @param content       이번 페이지 저자 (이름, id 순)
+ * @param nextCursor    다음 페이지 커서 (마지막 페이지면 null)
+ * @param totalElements 전체 건수 (별도 count 쿼리가 필요한 경로에서는 CursorPage.UNKNOWN_TOTAL)
+ */
+public record AuthorPage(
+        List<AuthorSummary> content,
+        AuthorCursor nextCursor,
+        long totalElements
+) {
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+}
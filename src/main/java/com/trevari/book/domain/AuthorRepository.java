@@ -0,0 +1,22 @@
+package com.trevari.book.domain;
+
+public interface AuthorRepository {
+
+    /**
+     * 저자 존재 여부를 확인합니다.
+     *
+     * @param id 저자 id
+     * @return 존재하면 true
+     */
+    boolean existsById(Long id);
+
+    /**
+     * 이름이 접두어로 시작하는 저자를 (이름, id) 순 키셋 페이지네이션으로 조회합니다. (대소문자 무시)
+     *
+     * @param prefix 이름 접두어 (빈 문자열이면 전체 저자)
+     * @param after  마지막으로 받은 저자 커서 (첫 페이지면 AuthorCursor.start())
+     * @param size   페이지 크기
+     * @return 커서 다음 저자 페이지 (저자별 도서 수 포함)
+     */
+    AuthorPage findByNamePrefixAfter(String prefix, AuthorCursor after, int size);
+}
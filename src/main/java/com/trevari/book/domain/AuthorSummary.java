@@ -0,0 +1,15 @@
+package com.trevari.book.domain;
+
+/**
+ * 저자 목록 항목
+ *
+ * @param id        저자 id
+ * @param name      저자 이름
+ * @param bookCount 저술한 도서 수
+ */
+public record AuthorSummary(
+        long id,
+        String name,
+        int bookCount
+) {
+}
@@ -1,14 +1,43 @@
 package com.trevari.book.domain;
 
+import com.trevari.book.domain.search.BookHighlight;
+import com.trevari.book.domain.search.Facet;
+import com.trevari.book.domain.search.RangeFilter;
 import com.trevari.book.domain.search.SearchQuery;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 public interface BookRepository {
 
-    Optional<Book> findByIsbn(String isbn);
+    /**
+     * 저장된 ISBN으로 도서를 조회합니다.
+     *
+     * @param isbn 저장된 ISBN (resolveIsbn으로 해석한 값)
+     * @return 도서 읽기 모델 (해당 도서가 없으면 빈 값)
+     */
+    Optional<BookView> findViewByIsbn(String isbn);
+
+    /**
+     * ISBN 조회 요청 값을 저장된 ISBN으로 해석합니다. (하이픈·공백 제거, ISBN-10과 ISBN-13 동치)
+     *
+     * @param isbn 조회 요청 ISBN (스캐너 입력처럼 하이픈이 섞여 있어도 됨)
+     * @return 저장된 ISBN (해당 도서가 없으면 빈 값)
+     */
+    Optional<String> resolveIsbn(String isbn);
+
+    /**
+     * ISBN 접두어(출판사 코드 등)로 도서를 ISBN 순으로 조회합니다.
+     *
+     * @param prefix ISBN-13 또는 ISBN-10 숫자 접두어 (하이픈 허용)
+     * @param pageable 페이징 정보
+     * @return 접두어에 해당하는 도서 페이지
+     */
+    Page<BookView> findByIsbnPrefix(String prefix, Pageable pageable);
 
     /**
      * 전체 도서를 페이징하여 조회합니다.
@@ -16,7 +45,7 @@ public interface BookRepository {
      * @param pageable 페이징 정보
      * @return 전체 도서 페이지
      */
-    Page<Book> findAll(Pageable pageable);
+    Page<BookView> findAllViews(Pageable pageable);
 
     /**
      * 검색 쿼리에 따라 도서를 검색합니다.
@@ -25,14 +54,93 @@ public interface BookRepository {
      * @param pageable 페이징 정보
      * @return 검색된 도서 페이지
      */
-    Page<Book> searchBooks(SearchQuery searchQuery, Pageable pageable);
+    Page<BookView> searchBooks(SearchQuery searchQuery, Pageable pageable);
+
+    /**
+     * 검색 쿼리에 따라 도서를 검색합니다. (전체 건수 COUNT 없이 다음 페이지 여부만 판단)
+     *
+     * @param searchQuery 검색 쿼리 객체
+     * @param pageable 페이징 정보
+     * @return 검색된 도서 슬라이스 (오타 허용 재시도 여부 포함)
+     */
+    SearchSlice<BookView> searchBooksSlice(SearchQuery searchQuery, Pageable pageable);
+
+    /**
+     * 검색 쿼리에 따라 도서를 검색하고, 요청한 패싯의 값별 건수를 함께 반환합니다.
+     *
+     * @param searchQuery 검색 쿼리 객체
+     * @param pageable 페이징 정보
+     * @param facets 건수를 집계할 패싯
+     * @return 검색된 도서 페이지와 패싯별 값 건수
+     */
+    FacetedPage<BookView> searchBooksWithFacets(SearchQuery searchQuery, Pageable pageable, Set<Facet> facets);
+
+    /**
+     * 검색 결과 도서의 제목·부제목·설명에서 검색어와 일치한 부분을 강조한 스니펫을 만듭니다.
+     * 검색 결과가 오타 허용 재시도로 찾은 것이면(fuzzyFallback) 오타 허용 쿼리를 넘겨야 교정된 텀도 강조됩니다.
+     *
+     * @param searchQuery 검색에 실제 적용된 쿼리 객체
+     * @param isbns 하이라이트할 도서 ISBN 목록
+     * @return ISBN별 하이라이트 (만들 수 없는 도서나 경로면 비어 있음)
+     */
+    Map<String, BookHighlight> highlight(SearchQuery searchQuery, List<String> isbns);
+
+    /**
+     * 검색 쿼리와 일치하는 도서 수를 셉니다. 결과가 매우 많으면 limit에서 세기를 멈춥니다.
+     *
+     * @param searchQuery 검색 쿼리 객체
+     * @param limit 셀 최대 건수
+     * @return min(일치 도서 수, limit)
+     */
+    long countBooks(SearchQuery searchQuery, long limit);
 
     /**
      * 카테고리별 도서를 조회합니다.
      * 
      * @param categoryName 카테고리명
+     * @param filter 가격·출판일 범위 필터 (없으면 RangeFilter.none())
      * @param pageable 페이징 정보
      * @return 카테고리별 도서 페이지
      */
-    Page<Book> findByCategory(String categoryName, Pageable pageable);
-}
\ No newline at end of file
+    Page<BookView> findByCategory(String categoryName, RangeFilter filter, Pageable pageable);
+
+    /**
+     * 전체 도서를 (제목, ISBN) 순 키셋 페이지네이션으로 조회합니다.
+     *
+     * @param after 마지막으로 받은 도서 커서 (첫 페이지면 PageCursor.start())
+     * @param size  페이지 크기
+     * @return 커서 다음 도서 페이지
+     */
+    CursorPage<BookView> findAllAfter(PageCursor after, int size);
+
+    /**
+     * 검색 쿼리에 따라 도서를 키셋 페이지네이션으로 검색합니다.
+     *
+     * @param searchQuery 검색 쿼리 객체
+     * @param after       마지막으로 받은 도서 커서 (첫 페이지면 PageCursor.start())
+     * @param size        페이지 크기
+     * @return 커서 다음 검색 결과 페이지
+     */
+    CursorPage<BookView> searchBooksAfter(SearchQuery searchQuery, PageCursor after, int size);
+
+    /**
+     * 카테고리별 도서를 (제목, ISBN) 순 키셋 페이지네이션으로 조회합니다.
+     *
+     * @param categoryName 카테고리명
+     * @param filter       가격·출판일 범위 필터 (없으면 RangeFilter.none())
+     * @param after        마지막으로 받은 도서 커서 (첫 페이지면 PageCursor.start())
+     * @param size         페이지 크기
+     * @return 커서 다음 카테고리별 도서 페이지
+     */
+    CursorPage<BookView> findByCategoryAfter(String categoryName, RangeFilter filter, PageCursor after, int size);
+
+    /**
+     * 저자의 도서를 (제목, ISBN) 순 키셋 페이지네이션으로 조회합니다.
+     *
+     * @param authorId 저자 id
+     * @param after    마지막으로 받은 도서 커서 (첫 페이지면 PageCursor.start())
+     * @param size     페이지 크기
+     * @return 커서 다음 저자 도서 페이지
+     */
+    CursorPage<BookView> findByAuthorAfter(Long authorId, PageCursor after, int size);
+}
@@ -0,0 +1,119 @@
+package com.trevari.book.domain;
+
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 검색 결과·상세 조회용 도서 읽기 모델
+ * <p>
+ * - 응답에 필요한 컬럼만 담은 평면 값 객체로, 영속성 컨텍스트·지연 로딩과 무관하게 서비스·캐시에서 그대로 사용
+ * - 저장·수정은 Book 엔티티로 수행
+ *
+ * @param isbn          도서 ISBN
+ * @param title         도서 제목
+ * @param subtitle      도서 부제목
+ * @param description   도서 설명
+ * @param pageCount     페이지 수
+ * @param format        도서 형태
+ * @param priceAmount   가격 (없으면 null)
+ * @param priceCurrency 통화 (없으면 null)
+ * @param publisher     출판사 (없으면 null)
+ * @param publishedDate 출간일 (없으면 null)
+ * @param imageUrl      도서 이미지 URL
+ * @param authors       저자 목록 (도서-저자 관계 id 순)
+ * @param categories    카테고리 목록 (카테고리 id 순)
+ */
+public record BookView(
+        String isbn,
+        String title,
+        String subtitle,
+        String description,
+        Integer pageCount,
+        BookFormat format,
+        Integer priceAmount,
+        String priceCurrency,
+        String publisher,
+        LocalDate publishedDate,
+        String imageUrl,
+        List<AuthorEntry> authors,
+        List<CategoryEntry> categories
+) {
+
+    public BookView {
+        authors = authors == null ? List.of() : List.copyOf(authors);
+        categories = categories == null ? List.of() : List.copyOf(categories);
+    }
+
+    /**
+     * 도서의 저자 (역할 포함)
+     *
+     * @param id   저자 id
+     * @param name 저자 이름
+     * @param role 저자 역할
+     */
+    public record AuthorEntry(Long id, String name, String role) {
+    }
+
+    /**
+     * 도서의 카테고리
+     *
+     * @param id   카테고리 id
+     * @param name 카테고리 이름
+     */
+    public record CategoryEntry(Long id, String name) {
+    }
+
+    /**
+     * 가격 정보가 있는지 여부
+     */
+    public boolean hasPrice() {
+        return priceAmount != null || priceCurrency != null;
+    }
+
+    /**
+     * 출판 정보(출판사·출간일)가 있는지 여부
+     */
+    public boolean hasPublicationInfo() {
+        return publisher != null || publishedDate != null;
+    }
+
+    /**
+     * 저자 이름 목록 (저자 순서 그대로)
+     */
+    public List<String> authorNames() {
+        return authors.stream().map(AuthorEntry::name).toList();
+    }
+
+    /**
+     * 영속 엔티티에서 읽기 모델 생성 (엔티티를 직접 조회하는 경로용)
+     */
+    public static BookView from(Book book) {
+        Price price = book.getPrice();
+        PublicationInfo publicationInfo = book.getPublicationInfo();
+        List<AuthorEntry> authors = book.getBookAuthors() == null ? List.of() : book.getBookAuthors().stream()
+                .sorted(Comparator.comparing(BookAuthor::getId, Comparator.nullsLast(Comparator.naturalOrder())))
+                .map(bookAuthor -> new AuthorEntry(bookAuthor.getAuthor().getId(), bookAuthor.getAuthor().getName(),
+                        bookAuthor.getRole()))
+                .toList();
+        List<CategoryEntry> categories = book.getCategories() == null ? List.of() : book.getCategories().stream()
+                .sorted(Comparator.comparing(Category::getId, Comparator.nullsLast(Comparator.naturalOrder())))
+                .map(category -> new CategoryEntry(category.getId(), category.getName()))
+                .toList();
+        return new BookView(
+                book.getIsbn(),
+                book.getTitle(),
+                book.getSubtitle(),
+                book.getDescription(),
+                book.getPageCount(),
+                book.getFormat(),
+                price != null ? price.getAmount() : null,
+                price != null ? price.getCurrency() : null,
+                publicationInfo != null ? publicationInfo.getPublisher() : null,
+                publicationInfo != null ? publicationInfo.getPublishedDate() : null,
+                book.getImageUrl(),
+                authors,
+                categories
+        );
+    }
+}
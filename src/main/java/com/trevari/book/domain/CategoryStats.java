@@ -0,0 +1,36 @@
+package com.trevari.book.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+/**
+ * 카테고리별 도서 수 집계 (읽기 전용)
+ * book_category 변경 시 DB 트리거가 증분 갱신하고, 주기적인 재계산으로 보정하므로 애플리케이션에서는 조회만 함
+ */
+@Entity
+@Immutable
+@Table(name = "category_stats")
+@Getter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class CategoryStats {
+
+    @Id
+    @Column(name = "category_id")
+    private Long categoryId;
+
+    @Column(nullable = false)
+    private String name;
+
+    @Column(nullable = false)
+    private long bookCount;
+}
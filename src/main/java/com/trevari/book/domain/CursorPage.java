@@ -0,0 +1,25 @@
+package com.trevari.book.domain;
+
+import java.util.List;
+
+/**
+ * 키셋 페이지네이션 결과
+ *
+ * @param content       이번 페이지 항목 (정렬 순)
+ * @param nextCursor    다음 페이지 커서 (마지막 페이지면 null)
+ * @param totalElements 전체 건수 (별도 count 쿼리가 필요한 경로에서는 UNKNOWN_TOTAL)
+ * @param fuzzyFallback 정확히 일치하는 도서가 없어 오타 허용 재시도로 찾은 결과인지 (검색이 아닌 조회는 항상 false)
+ */
+public record CursorPage<T>(
+        List<T> content,
+        PageCursor nextCursor,
+        long totalElements,
+        boolean fuzzyFallback
+) {
+
+    public static final long UNKNOWN_TOTAL = -1L;
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+}
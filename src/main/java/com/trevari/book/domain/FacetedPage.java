@@ -0,0 +1,22 @@
+package com.trevari.book.domain;
+
+import com.trevari.book.domain.search.Facet;
+import com.trevari.book.domain.search.FacetCount;
+import org.springframework.data.domain.Page;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 패싯 건수를 함께 담은 검색 결과 페이지
+ *
+ * @param page          검색 결과 페이지
+ * @param facets        요청한 패싯별 값 건수 (건수 내림차순, 계산할 수 없는 경로면 비어 있음)
+ * @param fuzzyFallback 정확히 일치하는 도서가 없어 오타 허용 재시도로 찾은 결과인지
+ */
+public record FacetedPage<T>(
+        Page<T> page,
+        Map<Facet, List<FacetCount>> facets,
+        boolean fuzzyFallback
+) {
+}
@@ -0,0 +1,190 @@
+package com.trevari.book.domain;
+
+import java.util.List;
+
+/**
+ * ISBN 정규화 유틸리티
+ * <p>
+ * - 하이픈·공백을 제거하고, 체크 숫자가 맞는 ISBN-10은 978 접두어를 붙인 ISBN-13으로 변환
+ * - 정규화한 ISBN-13은 13자리 숫자이므로 long 하나에 담아 문자열 비교 없이 정렬·범위 조회에 사용
+ * - 접두어(출판사 코드 등)는 ISBN-13 long 공간의 [접두어 × 10^(13 - 자릿수), (접두어 + 1) × 10^(13 - 자릿수)) 구간에 대응
+ */
+public final class Isbn {
+
+    /**
+     * ISBN이 아닌 값을 나타내는 정규화 결과
+     */
+    public static final long INVALID = -1L;
+
+    private static final int ISBN13_LENGTH = 13;
+    private static final int ISBN10_LENGTH = 10;
+    private static final long BOOKLAND_978 = 978L;
+
+    private Isbn() {
+    }
+
+    /**
+     * 하이픈·공백 제거 (대소문자는 ISBN-10 체크 문자 X만 의미가 있으므로 대문자로 통일)
+     */
+    public static String strip(String raw) {
+        if (raw == null) {
+            return "";
+        }
+        StringBuilder builder = new StringBuilder(raw.length());
+        for (int i = 0; i < raw.length(); i++) {
+            char c = raw.charAt(i);
+            if (c != '-' && !Character.isWhitespace(c)) {
+                builder.append(Character.toUpperCase(c));
+            }
+        }
+        return builder.toString();
+    }
+
+    /**
+     * ISBN-10 또는 ISBN-13 문자열을 ISBN-13 long으로 정규화
+     *
+     * @param raw 하이픈·공백이 섞여 있어도 되는 ISBN 문자열
+     * @return ISBN-13 값 (체크 숫자가 틀리거나 ISBN 형식이 아니면 INVALID)
+     */
+    public static long toLong(String raw) {
+        String isbn = strip(raw);
+        if (isbn.length() == ISBN13_LENGTH) {
+            return parseIsbn13(isbn);
+        }
+        if (isbn.length() == ISBN10_LENGTH) {
+            return parseIsbn10(isbn);
+        }
+        return INVALID;
+    }
+
+    /**
+     * 정규화한 ISBN-13 long을 13자리 문자열로 변환
+     */
+    public static String toIsbn13(long isbn) {
+        return String.format("%013d", isbn);
+    }
+
+    /**
+     * 978로 시작하는 ISBN-13을 ISBN-10 문자열로 변환 (979 접두어는 대응하는 ISBN-10이 없어 null)
+     */
+    public static String toIsbn10(long isbn) {
+        if (isbn / 10_000_000_000L != BOOKLAND_978) {
+            return null;
+        }
+        long body = (isbn / 10) % 1_000_000_000L;
+        int sum = 0;
+        long rest = body;
+        for (int weight = 2; weight <= ISBN10_LENGTH; weight++) {
+            sum += (int) (rest % 10) * weight;
+            rest /= 10;
+        }
+        int check = (11 - sum % 11) % 11;
+        return String.format("%09d", body) + (check == 10 ? "X" : String.valueOf(check));
+    }
+
+    /**
+     * ISBN 접두어에 해당하는 ISBN-13 long 구간
+     * 978·979로 시작하면 ISBN-13 접두어로, 아니면 ISBN-10 접두어로 보고 978을 붙임
+     *
+     * @param rawPrefix 하이픈·공백이 섞여 있어도 되는 숫자 접두어
+     * @return [시작, 끝) 구간 (숫자가 아니거나 비었거나 13자리를 넘으면 null)
+     */
+    public static long[] prefixRange(String rawPrefix) {
+        String prefix = strip(rawPrefix);
+        if (prefix.isEmpty() || !prefix.chars().allMatch(Character::isDigit)) {
+            return null;
+        }
+        boolean isbn13Prefix = prefix.length() >= 3
+                ? prefix.startsWith("978") || prefix.startsWith("979")
+                : "978".startsWith(prefix) || "979".startsWith(prefix);
+        if (!isbn13Prefix) {
+            if (prefix.length() > ISBN10_LENGTH - 1) {
+                return null;
+            }
+            prefix = BOOKLAND_978 + prefix;
+        }
+        if (prefix.length() > ISBN13_LENGTH) {
+            return null;
+        }
+        long scale = 1;
+        for (int i = prefix.length(); i < ISBN13_LENGTH; i++) {
+            scale *= 10;
+        }
+        long value = Long.parseLong(prefix);
+        return new long[]{value * scale, (value + 1) * scale};
+    }
+
+    /**
+     * ISBN 접두어를 DB에 저장된 문자열 ISBN과 비교할 접두어로 변환 (ISBN-13 형식, 978이면 ISBN-10 형식도 포함)
+     * ISBN-10은 체크 숫자가 달라지므로 본문 9자리까지만 비교
+     *
+     * @return 문자열 접두어 목록 (숫자 접두어가 아니면 빈 목록)
+     */
+    public static List<String> storedPrefixes(String rawPrefix) {
+        long[] range = prefixRange(rawPrefix);
+        if (range == null) {
+            return List.of();
+        }
+        String isbn13 = toIsbn13(range[0]);
+        int length = ISBN13_LENGTH;
+        for (long width = range[1] - range[0]; width > 1; width /= 10) {
+            length--;
+        }
+        String prefix13 = isbn13.substring(0, length);
+        if (length <= 3 || !prefix13.startsWith(String.valueOf(BOOKLAND_978))) {
+            return List.of(prefix13);
+        }
+        return List.of(prefix13, prefix13.substring(3, Math.min(length, ISBN13_LENGTH - 1)));
+    }
+
+    private static long parseIsbn13(String isbn) {
+        long value = 0;
+        int sum = 0;
+        for (int i = 0; i < ISBN13_LENGTH; i++) {
+            char c = isbn.charAt(i);
+            if (c < '0' || c > '9') {
+                return INVALID;
+            }
+            int digit = c - '0';
+            sum += i % 2 == 0 ? digit : digit * 3;
+            value = value * 10 + digit;
+        }
+        long bookland = value / 10_000_000_000L;
+        if (sum % 10 != 0 || (bookland != BOOKLAND_978 && bookland != BOOKLAND_978 + 1)) {
+            return INVALID;
+        }
+        return value;
+    }
+
+    private static long parseIsbn10(String isbn) {
+        int sum = 0;
+        long body = 0;
+        for (int i = 0; i < ISBN10_LENGTH; i++) {
+            char c = isbn.charAt(i);
+            int digit;
+            if (c >= '0' && c <= '9') {
+                digit = c - '0';
+            } else if (c == 'X' && i == ISBN10_LENGTH - 1) {
+                digit = 10;
+            } else {
+                return INVALID;
+            }
+            sum += digit * (ISBN10_LENGTH - i);
+            if (i < ISBN10_LENGTH - 1) {
+                body = body * 10 + digit;
+            }
+        }
+        if (sum % 11 != 0) {
+            return INVALID;
+        }
+        long value = BOOKLAND_978 * 1_000_000_000L + body;
+        int check = 0;
+        long rest = value;
+        for (int i = ISBN13_LENGTH - 2; i >= 0; i--) {
+            int digit = (int) (rest % 10);
+            check += i % 2 == 0 ? digit : digit * 3;
+            rest /= 10;
+        }
+        return value * 10 + (10 - check % 10) % 10;
+    }
+}
@@ -0,0 +1,89 @@
+package com.trevari.book.domain;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 키셋(search-after) 페이지네이션 커서
+ * <p>
+ * 마지막으로 받은 도서의 정렬 키를 담아, 다음 페이지를 OFFSET 없이 그 뒤부터 조회
+ * - 목록: (제목, ISBN) 오름차순
+ * - 검색: 점수 내림차순, 같으면 (제목, ISBN) 오름차순
+ * API에는 Base64 URL 인코딩한 불투명 문자열로 노출하고, 빈 문자열은 첫 페이지를 뜻함
+ *
+ * @param score 검색 점수 (목록 커서면 null)
+ * @param title 마지막 도서 제목
+ * @param isbn  마지막 도서 ISBN (첫 페이지 커서면 null)
+ */
+public record PageCursor(
+        Float score,
+        String title,
+        String isbn
+) {
+
+    private static final String VERSION = "v1";
+    private static final PageCursor START = new PageCursor(null, null, null);
+
+    /**
+     * 첫 페이지 커서
+     */
+    public static PageCursor start() {
+        return START;
+    }
+
+    /**
+     * (제목, ISBN) 순 목록에서 해당 도서 다음부터 조회하는 커서
+     */
+    public static PageCursor afterTitle(String title, String isbn) {
+        return new PageCursor(null, title != null ? title : "", isbn);
+    }
+
+    /**
+     * 검색 결과에서 해당 점수·도서 다음부터 조회하는 커서
+     */
+    public static PageCursor afterScore(float score, String title, String isbn) {
+        return new PageCursor(score, title != null ? title : "", isbn);
+    }
+
+    public boolean isStart() {
+        return isbn == null;
+    }
+
+    public boolean hasScore() {
+        return score != null;
+    }
+
+    /**
+     * API 응답용 불투명 문자열로 인코딩
+     */
+    public String encode() {
+        if (isStart()) {
+            return "";
+        }
+        // 제목에는 구분자가 들어갈 수 있으므로 마지막 필드로 둠
+        String raw = VERSION + "\n" + (score != null ? Float.toString(score) : "") + "\n" + isbn + "\n" + title;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * API 요청의 커서 문자열을 해석 (빈 문자열이면 첫 페이지)
+     *
+     * @throws IllegalArgumentException 형식이 잘못된 커서인 경우
+     */
+    public static PageCursor decode(String value) {
+        if (value == null || value.isBlank()) {
+            return START;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(value.trim()), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\n", 4);
+            if (parts.length != 4 || !VERSION.equals(parts[0]) || parts[2].isEmpty()) {
+                throw new IllegalArgumentException("Invalid page cursor");
+            }
+            Float score = parts[1].isEmpty() ? null : Float.parseFloat(parts[1]);
+            return new PageCursor(score, parts[3], parts[2]);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid page cursor", e);
+        }
+    }
+}
@@ -8,6 +8,8 @@ public interface SearchKeywordRepository {
     Optional<SearchKeyword> findByKeyword(String keyword);
     
     List<SearchKeyword> findTop10ByOrderBySearchCountDesc();
+
+    List<SearchKeyword> findTop1000ByOrderBySearchCountDesc();
     
     SearchKeyword saveSearchKeyword(SearchKeyword searchKeyword);
     
@@ -0,0 +1,15 @@
+package com.trevari.book.domain;
+
+import org.springframework.data.domain.Slice;
+
+/**
+ * 전체 건수 없이 조회한 검색 결과 슬라이스
+ *
+ * @param slice         검색 결과 슬라이스
+ * @param fuzzyFallback 정확히 일치하는 도서가 없어 오타 허용 재시도로 찾은 결과인지 (하이라이트에 교정된 텀까지 포함해야 함)
+ */
+public record SearchSlice<T>(
+        Slice<T> slice,
+        boolean fuzzyFallback
+) {
+}
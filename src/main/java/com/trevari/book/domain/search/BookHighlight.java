@@ -0,0 +1,23 @@
+package com.trevari.book.domain.search;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * 검색 결과 도서 하나의 하이라이트 스니펫
+ * 검색어와 일치한 부분을 &lt;em&gt;으로 감싸고 나머지 원문은 HTML 이스케이프한 조각
+ *
+ * @param title       제목 (일치한 텀이 없으면 null)
+ * @param subtitle    부제목 (일치한 텀이 없으면 null)
+ * @param description 설명 중 일치한 텀이 가장 많은 구간 (일치한 텀이 없으면 앞부분, 설명이 없으면 null)
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record BookHighlight(
+        String title,
+        String subtitle,
+        String description
+) {
+
+    public boolean isEmpty() {
+        return title == null && subtitle == null && description == null;
+    }
+}
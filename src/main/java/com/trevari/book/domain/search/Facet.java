@@ -0,0 +1,57 @@
+package com.trevari.book.domain.search;
+
+import java.util.EnumSet;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 검색 결과와 함께 값별 건수를 제공하는 패싯 (필터 사이드바용)
+ */
+public enum Facet {
+    CATEGORY("category"),
+    PUBLISHER("publisher"),
+    YEAR("year"),
+    FORMAT("format");
+
+    private final String paramName;
+
+    Facet(String paramName) {
+        this.paramName = paramName;
+    }
+
+    /**
+     * API 파라미터·응답에서 쓰는 이름
+     */
+    public String paramName() {
+        return paramName;
+    }
+
+    /**
+     * 쉼표로 구분한 패싯 이름 목록 해석 (예: "category,year", 비어 있으면 빈 집합)
+     *
+     * @throws IllegalArgumentException 알 수 없는 패싯 이름인 경우
+     */
+    public static Set<Facet> parseAll(String value) {
+        Set<Facet> facets = EnumSet.noneOf(Facet.class);
+        if (value == null || value.isBlank()) {
+            return facets;
+        }
+        for (String name : value.split(",")) {
+            String normalized = name.trim().toLowerCase(Locale.ROOT);
+            if (normalized.isEmpty()) {
+                continue;
+            }
+            facets.add(fromParamName(normalized));
+        }
+        return facets;
+    }
+
+    private static Facet fromParamName(String name) {
+        for (Facet facet : values()) {
+            if (facet.paramName.equals(name)) {
+                return facet;
+            }
+        }
+        throw new IllegalArgumentException("Unknown facet: " + name);
+    }
+}
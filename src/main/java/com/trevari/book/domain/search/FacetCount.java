@@ -0,0 +1,13 @@
+package com.trevari.book.domain.search;
+
+/**
+ * 패싯 값별 매칭 도서 수
+ *
+ * @param value 패싯 값 (카테고리명, 출판사명, 출간년도, 도서 형태)
+ * @param count 해당 값을 가진 매칭 도서 수
+ */
+public record FacetCount(
+        String value,
+        int count
+) {
+}
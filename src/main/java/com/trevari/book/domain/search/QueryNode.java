@@ -0,0 +1,124 @@
+package com.trevari.book.domain.search;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.TreeSet;
+
+/**
+ * 불리언 검색어의 구문 트리 노드
+ * <p>
+ * - Term: 연산자 없이 이어진 단어들 (단순 검색과 같은 의미로 평가)
+ * - Phrase: 큰따옴표로 묶은 구문 (단어가 같은 순서로 붙어 있어야 일치)
+ * - And / Or / Not: 논리 연산 (괄호로 묶으면 하위 트리)
+ */
+public sealed interface QueryNode {
+
+    /**
+     * 이 노드와 일치하는 도서가 항상 자신의 (제외되지 않은) 검색어 중 하나를 포함하는지 여부
+     * 제외 검색어만으로는 "나머지 전체"가 되므로 최상위 노드는 반드시 positive여야 함
+     */
+    default boolean isPositive() {
+        if (this instanceof Term || this instanceof Phrase) {
+            return true;
+        }
+        if (this instanceof And and) {
+            return and.clauses().stream().anyMatch(QueryNode::isPositive);
+        }
+        if (this instanceof Or or) {
+            return or.clauses().stream().allMatch(QueryNode::isPositive);
+        }
+        return false;
+    }
+
+    /**
+     * 제외(Not) 아래에 있지 않은 단어/구문 노드 목록 (점수 계산 대상)
+     */
+    default List<QueryNode> positiveLeaves() {
+        List<QueryNode> leaves = new ArrayList<>();
+        collectPositiveLeaves(this, leaves);
+        return leaves;
+    }
+
+    private static void collectPositiveLeaves(QueryNode node, List<QueryNode> leaves) {
+        if (node instanceof Term || node instanceof Phrase) {
+            leaves.add(node);
+        } else if (node instanceof And and) {
+            and.clauses().forEach(clause -> collectPositiveLeaves(clause, leaves));
+        } else if (node instanceof Or or) {
+            or.clauses().forEach(clause -> collectPositiveLeaves(clause, leaves));
+        }
+    }
+
+    /**
+     * 의미가 같은 검색어가 같은 문자열이 되도록 정규화한 표현 (캐시 키용)
+     * 소문자화·공백 정리, 중첩된 같은 연산 평탄화, And/Or 피연산자 정렬·중복 제거
+     * 예) "JAVA | spring ", "spring|java" → "java | spring"
+     */
+    default String canonicalForm() {
+        if (this instanceof Not not) {
+            return "-" + canonicalOperand(not.clause());
+        }
+        if (this instanceof And || this instanceof Or) {
+            return String.join(this instanceof And ? " AND " : " | ", canonicalOperands(this));
+        }
+        String normalized = text().trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+        return this instanceof Phrase ? "\"" + normalized + "\"" : normalized;
+    }
+
+    private static TreeSet<String> canonicalOperands(QueryNode node) {
+        TreeSet<String> operands = new TreeSet<>();
+        collectCanonicalOperands(node, node.getClass(), operands);
+        return operands;
+    }
+
+    private static void collectCanonicalOperands(QueryNode node, Class<?> type, TreeSet<String> operands) {
+        if (type.isInstance(node)) {
+            List<QueryNode> clauses = node instanceof And and ? and.clauses() : ((Or) node).clauses();
+            clauses.forEach(clause -> collectCanonicalOperands(clause, type, operands));
+        } else {
+            operands.add(canonicalOperand(node));
+        }
+    }
+
+    private static String canonicalOperand(QueryNode node) {
+        if ((node instanceof And || node instanceof Or) && canonicalOperands(node).size() > 1) {
+            return "(" + node.canonicalForm() + ")";
+        }
+        return node.canonicalForm();
+    }
+
+    /**
+     * 단어/구문 노드의 검색어 (연산 노드면 빈 문자열)
+     */
+    default String text() {
+        if (this instanceof Term term) {
+            return term.value();
+        }
+        if (this instanceof Phrase phrase) {
+            return phrase.value();
+        }
+        return "";
+    }
+
+    record Term(String value) implements QueryNode {
+    }
+
+    record Phrase(String value) implements QueryNode {
+    }
+
+    record And(List<QueryNode> clauses) implements QueryNode {
+        public And {
+            clauses = List.copyOf(clauses);
+        }
+    }
+
+    record Or(List<QueryNode> clauses) implements QueryNode {
+        public Or {
+            clauses = List.copyOf(clauses);
+        }
+    }
+
+    record Not(QueryNode clause) implements QueryNode {
+    }
+}
@@ -0,0 +1,87 @@
+package com.trevari.book.domain.search;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * 불리언 구문 트리를 실행 순서가 정해진 트리로 바꾸는 플래너
+ * <p>
+ * - 중첩된 같은 종류의 And/Or는 한 단계로 평탄화
+ * - And: 선택도가 낮은(일치 도서가 적은) 절부터, 제외 절은 포함 절 뒤에 배치
+ *   → 교집합이 처음부터 작게 유지되고, 비면 나머지 절은 평가하지 않음
+ * - Or: 선택도가 높은 절부터 배치 → 조건식 평가에서 먼저 참이 되어 나머지 절을 건너뜀
+ * <p>
+ * 단어/구문의 선택도(0~1, 전체 중 일치 비율 추정치)는 실행 백엔드가 제공
+ * (검색 인덱스는 문서 빈도, DB는 통계가 없어 문자열 길이 기반 추정)
+ */
+public final class QueryPlanner {
+
+    private QueryPlanner() {
+    }
+
+    /**
+     * 실행 순서를 정한 구문 트리 반환
+     *
+     * @param node            파싱된 구문 트리
+     * @param leafSelectivity 단어/구문 노드의 선택도 추정 함수
+     * @return 평탄화·정렬된 구문 트리
+     */
+    public static QueryNode plan(QueryNode node, ToDoubleFunction<QueryNode> leafSelectivity) {
+        if (node instanceof QueryNode.Not not) {
+            return new QueryNode.Not(plan(not.clause(), leafSelectivity));
+        }
+        if (node instanceof QueryNode.And and) {
+            List<QueryNode> clauses = flatten(and.clauses(), QueryNode.And.class, leafSelectivity);
+            clauses.sort(Comparator
+                    .comparing((QueryNode clause) -> clause instanceof QueryNode.Not)
+                    .thenComparingDouble(clause -> selectivity(clause, leafSelectivity)));
+            return clauses.size() == 1 ? clauses.get(0) : new QueryNode.And(clauses);
+        }
+        if (node instanceof QueryNode.Or or) {
+            List<QueryNode> clauses = flatten(or.clauses(), QueryNode.Or.class, leafSelectivity);
+            clauses.sort(Comparator.comparingDouble((QueryNode clause) -> selectivity(clause, leafSelectivity)).reversed());
+            return clauses.size() == 1 ? clauses.get(0) : new QueryNode.Or(clauses);
+        }
+        return node;
+    }
+
+    /**
+     * 구문 트리의 선택도 추정 (절끼리 독립이라고 가정)
+     */
+    public static double selectivity(QueryNode node, ToDoubleFunction<QueryNode> leafSelectivity) {
+        if (node instanceof QueryNode.Not not) {
+            return 1.0 - selectivity(not.clause(), leafSelectivity);
+        }
+        if (node instanceof QueryNode.And and) {
+            double result = 1.0;
+            for (QueryNode clause : and.clauses()) {
+                result *= selectivity(clause, leafSelectivity);
+            }
+            return result;
+        }
+        if (node instanceof QueryNode.Or or) {
+            double none = 1.0;
+            for (QueryNode clause : or.clauses()) {
+                none *= 1.0 - selectivity(clause, leafSelectivity);
+            }
+            return 1.0 - none;
+        }
+        return Math.max(0.0, Math.min(1.0, leafSelectivity.applyAsDouble(node)));
+    }
+
+    private static List<QueryNode> flatten(List<QueryNode> clauses, Class<? extends QueryNode> type,
+                                           ToDoubleFunction<QueryNode> leafSelectivity) {
+        List<QueryNode> result = new ArrayList<>(clauses.size());
+        for (QueryNode clause : clauses) {
+            QueryNode planned = plan(clause, leafSelectivity);
+            if (type.isInstance(planned)) {
+                result.addAll(planned instanceof QueryNode.And and ? and.clauses() : ((QueryNode.Or) planned).clauses());
+            } else {
+                result.add(planned);
+            }
+        }
+        return result;
+    }
+}
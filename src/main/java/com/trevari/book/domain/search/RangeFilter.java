@@ -0,0 +1,84 @@
+package com.trevari.book.domain.search;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 가격·출판일 범위 필터 (검색과 카테고리 목록에 공통 적용)
+ * <p>
+ * - 범위 양 끝은 모두 포함하며, 지정하지 않은 쪽은 열린 구간
+ * - 가격 범위는 통화를 환산하지 않고 금액을 그대로 비교하므로 통화와 함께 지정하는 것을 권장
+ * - 범위를 지정한 속성의 값이 없는 도서는 결과에서 제외
+ *
+ * @param minPrice      최소 가격 (포함)
+ * @param maxPrice      최대 가격 (포함)
+ * @param currency      통화 코드 (대문자로 정규화, 예: KRW)
+ * @param publishedFrom 출판일 시작 (포함)
+ * @param publishedTo   출판일 끝 (포함)
+ */
+public record RangeFilter(
+        Integer minPrice,
+        Integer maxPrice,
+        String currency,
+        LocalDate publishedFrom,
+        LocalDate publishedTo
+) {
+
+    private static final RangeFilter NONE = new RangeFilter(null, null, null, null, null);
+
+    public RangeFilter {
+        if ((minPrice != null && minPrice < 0) || (maxPrice != null && maxPrice < 0)) {
+            throw new IllegalArgumentException("Price cannot be negative");
+        }
+        if (minPrice != null && maxPrice != null && minPrice > maxPrice) {
+            throw new IllegalArgumentException("minPrice cannot be greater than maxPrice");
+        }
+        if (publishedFrom != null && publishedTo != null && publishedFrom.isAfter(publishedTo)) {
+            throw new IllegalArgumentException("publishedFrom cannot be after publishedTo");
+        }
+        currency = currency == null || currency.isBlank() ? null : currency.trim().toUpperCase(Locale.ROOT);
+    }
+
+    /**
+     * 필터 없음
+     */
+    public static RangeFilter none() {
+        return NONE;
+    }
+
+    public boolean isEmpty() {
+        return !hasPriceRange() && currency == null && !hasPublishedRange();
+    }
+
+    public boolean hasPriceRange() {
+        return minPrice != null || maxPrice != null;
+    }
+
+    public boolean hasPublishedRange() {
+        return publishedFrom != null || publishedTo != null;
+    }
+
+    /**
+     * 캐시 키용 정규화 표현 (필터가 없으면 빈 문자열)
+     * 예) "price:10000..30000 currency:KRW published:2020-01-01.."
+     */
+    public String canonicalForm() {
+        List<String> parts = new ArrayList<>(3);
+        if (hasPriceRange()) {
+            parts.add("price:" + bound(minPrice) + ".." + bound(maxPrice));
+        }
+        if (currency != null) {
+            parts.add("currency:" + currency);
+        }
+        if (hasPublishedRange()) {
+            parts.add("published:" + bound(publishedFrom) + ".." + bound(publishedTo));
+        }
+        return String.join(" ", parts);
+    }
+
+    private static String bound(Object value) {
+        return value != null ? value.toString() : "";
+    }
+}
@@ -4,17 +4,37 @@ import java.util.List;
 
 /**
  * 검색 쿼리를 나타내는 도메인 객체
+ * root는 모든 전략에 공통인 구문 트리 (SIMPLE/OR/NOT도 같은 모양의 트리로 표현)
+ * fuzzy가 true면 오타 허용 검색 (검색 인덱스에서만 지원, 편집 거리 1~2 이내 텀으로 확장)
+ * filter는 검색어 매칭 결과에 교집합으로 적용할 가격·출판일 범위 (없으면 RangeFilter.none())
  */
 public record SearchQuery(
         String originalQuery,
         SearchStrategy strategy,
-        List<String> keywords
+        List<String> keywords,
+        QueryNode root,
+        boolean fuzzy,
+        RangeFilter filter
 ) {
 
+    public SearchQuery {
+        filter = filter != null ? filter : RangeFilter.none();
+    }
+
+    public SearchQuery(String originalQuery, SearchStrategy strategy, List<String> keywords, QueryNode root,
+                       boolean fuzzy) {
+        this(originalQuery, strategy, keywords, root, fuzzy, RangeFilter.none());
+    }
+
+    public SearchQuery(String originalQuery, SearchStrategy strategy, List<String> keywords) {
+        this(originalQuery, strategy, keywords, rootOf(strategy, keywords), false);
+    }
+
     public enum SearchStrategy {
         SIMPLE,         // 단순 키워드 검색
         OR_OPERATION,   // OR 연산 (keyword1 | keyword2)
-        NOT_OPERATION   // NOT 연산 (keyword1 -keyword2)
+        NOT_OPERATION,  // NOT 연산 (keyword1 -keyword2)
+        BOOLEAN         // 일반 불리언 검색 (AND/OR/NOT, 괄호, "구문" 조합)
     }
 
     /**
@@ -40,6 +60,47 @@ public record SearchQuery(
                 List.of(includeKeyword.trim(), excludeKeyword.trim()));
     }
 
+    /**
+     * 불리언 검색 쿼리 생성 (keywords는 제외되지 않은 단어/구문 목록)
+     */
+    public static SearchQuery bool(String originalQuery, QueryNode root) {
+        List<String> keywords = root.positiveLeaves().stream().map(QueryNode::text).toList();
+        return new SearchQuery(originalQuery, SearchStrategy.BOOLEAN, keywords, root, false);
+    }
+
+    /**
+     * 캐시 키용 정규화 표현 (대소문자·공백·OR 피연산자 순서가 달라도 같은 검색이면 같은 값)
+     * 범위 필터가 있으면 중괄호로 묶어 뒤에 붙임 (예: "java {price:..30000}")
+     */
+    public String canonicalForm() {
+        return filter.isEmpty() ? root.canonicalForm() : root.canonicalForm() + " {" + filter.canonicalForm() + "}";
+    }
+
+    /**
+     * 오타 허용 여부만 바꾼 쿼리 반환
+     */
+    public SearchQuery withFuzzy(boolean fuzzy) {
+        return fuzzy == this.fuzzy ? this : new SearchQuery(originalQuery, strategy, keywords, root, fuzzy, filter);
+    }
+
+    /**
+     * 범위 필터만 바꾼 쿼리 반환
+     */
+    public SearchQuery withFilter(RangeFilter filter) {
+        return new SearchQuery(originalQuery, strategy, keywords, root, fuzzy, filter);
+    }
+
+    private static QueryNode rootOf(SearchStrategy strategy, List<String> keywords) {
+        return switch (strategy) {
+            case SIMPLE -> new QueryNode.Term(keywords.get(0));
+            case OR_OPERATION -> new QueryNode.Or(List.of(
+                    new QueryNode.Term(keywords.get(0)), new QueryNode.Term(keywords.get(1))));
+            case NOT_OPERATION -> new QueryNode.And(List.of(
+                    new QueryNode.Term(keywords.get(0)), new QueryNode.Not(new QueryNode.Term(keywords.get(1)))));
+            case BOOLEAN -> throw new IllegalArgumentException("Boolean query requires a parsed query tree");
+        };
+    }
+
     /**
      * 첫 번째 키워드 반환
      */
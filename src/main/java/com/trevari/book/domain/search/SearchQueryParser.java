@@ -4,27 +4,36 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * 검색 쿼리 문자열을 파싱하여 SearchQuery 객체로 변환하는 클래스
  * <p>
  * 지원하는 연산자:
- * - | (OR 연산): keyword1 | keyword2
- * - - (NOT 연산): keyword1 -keyword2
+ * - | 또는 OR (OR 연산): keyword1 | keyword2
+ * - - 또는 NOT (NOT 연산): keyword1 -keyword2
+ * - AND (AND 연산, 괄호·구문·제외 절 사이에서는 생략 가능): (java | kotlin) AND spring
+ * - ( ) 괄호로 우선순위 지정, "..." 큰따옴표로 구문 검색
+ * <p>
+ * 연산자 없이 이어진 단어들은 하나의 단어 묶음(단순 검색과 같은 의미)이 되며,
+ * 우선순위는 NOT > AND > OR (NOT은 바로 뒤 피연산자 - 단어 묶음 전체, 구문, 괄호 - 에 적용)
+ * <p>
+ * 결과 전략:
+ * - 연산자가 없으면 SIMPLE, "a | b"는 OR_OPERATION, "a -b"는 NOT_OPERATION (기존 전략 유지)
+ * - 그 외 조합은 구문 트리를 담은 BOOLEAN
  * <p>
  * 제약사항:
- * - 최대 2개의 키워드만 지원
- * - 연산자가 없으면 단순 검색
+ * - 최대 10개의 단어, 괄호 중첩 최대 8단계
+ * - 제외 검색어만으로는 검색할 수 없음
  */
 @Slf4j
 @Component
 public class SearchQueryParser {
 
-    private static final Pattern OR_PATTERN = Pattern.compile("^(.+?)\\s*\\|\\s*(.+)$");
-    private static final Pattern NOT_PATTERN = Pattern.compile("^(.+?)\\s+-(.+)$");
-    private static final int MAX_KEYWORDS = 2;
+    private static final int MAX_KEYWORDS = 10;
+    private static final int MAX_DEPTH = 8;
+    private static final int MAX_KEYWORD_LENGTH = 100;
 
     /**
      * 검색 쿼리 문자열을 파싱하여 SearchQuery 객체 반환
@@ -41,69 +50,259 @@ public class SearchQueryParser {
         String trimmedQuery = queryString.trim();
         log.debug("Parsing search query: {}", trimmedQuery);
 
-        // OR 연산자 검사
-        Matcher orMatcher = OR_PATTERN.matcher(trimmedQuery);
-        if (orMatcher.matches()) {
-            String keyword1 = orMatcher.group(1);
-            String keyword2 = orMatcher.group(2);
+        List<Token> tokens = tokenize(trimmedQuery);
+        validateKeywordCount(tokens);
 
-            validateKeywords(keyword1, keyword2);
-            log.debug("Parsed as OR operation: {} | {}", keyword1, keyword2);
-            return SearchQuery.or(trimmedQuery, keyword1, keyword2);
+        Parser parser = new Parser(tokens);
+        QueryNode root = parser.parseQuery();
+        if (!root.isPositive()) {
+            throw new IllegalArgumentException("Query must contain at least one keyword that is not excluded");
         }
 
-        // NOT 연산자 검사
-        Matcher notMatcher = NOT_PATTERN.matcher(trimmedQuery);
-        if (notMatcher.matches()) {
-            String includeKeyword = notMatcher.group(1);
-            String excludeKeyword = notMatcher.group(2);
+        SearchQuery searchQuery = toSearchQuery(trimmedQuery, root);
+        log.debug("Parsed as {}: {}", searchQuery.strategy(), root);
+        return searchQuery;
+    }
 
-            validateKeywords(includeKeyword, excludeKeyword);
-            log.debug("Parsed as NOT operation: {} -{}", includeKeyword, excludeKeyword);
-            return SearchQuery.not(trimmedQuery, includeKeyword, excludeKeyword);
+    /**
+     * 기존 세 가지 모양은 기존 전략으로, 나머지는 BOOLEAN으로 변환
+     */
+    private SearchQuery toSearchQuery(String trimmedQuery, QueryNode root) {
+        if (root instanceof QueryNode.Term) {
+            return SearchQuery.simple(trimmedQuery);
         }
 
-        // 단순 검색
-        validateSimpleKeyword(trimmedQuery);
-        log.debug("Parsed as simple search: {}", trimmedQuery);
-        return SearchQuery.simple(trimmedQuery);
-    }
-
-    private void validateKeywords(String keyword1, String keyword2) {
-        if (!StringUtils.hasText(keyword1) || !StringUtils.hasText(keyword2)) {
-            throw new IllegalArgumentException("Both keywords must be non-empty");
+        if (root instanceof QueryNode.Or or && or.clauses().size() == 2
+                && or.clauses().get(0) instanceof QueryNode.Term first
+                && or.clauses().get(1) instanceof QueryNode.Term second) {
+            validateDistinct(first.value(), second.value());
+            return SearchQuery.or(trimmedQuery, first.value(), second.value());
         }
 
-        if (keyword1.trim().equals(keyword2.trim())) {
-            throw new IllegalArgumentException("Keywords cannot be identical");
+        // 제외 절이 앞에 와도 ("-b a") 같은 NOT 검색으로 취급
+        if (root instanceof QueryNode.And and && and.clauses().size() == 2) {
+            int notIndex = and.clauses().get(0) instanceof QueryNode.Not ? 0 : 1;
+            if (and.clauses().get(1 - notIndex) instanceof QueryNode.Term include
+                    && and.clauses().get(notIndex) instanceof QueryNode.Not not
+                    && not.clause() instanceof QueryNode.Term exclude) {
+                validateDistinct(include.value(), exclude.value());
+                return SearchQuery.not(trimmedQuery, include.value(), exclude.value());
+            }
         }
 
-        validateKeywordLength(keyword1.trim());
-        validateKeywordLength(keyword2.trim());
+        return SearchQuery.bool(trimmedQuery, root);
     }
 
-    private void validateSimpleKeyword(String keyword) {
-        if (!StringUtils.hasText(keyword)) {
-            throw new IllegalArgumentException("Keyword cannot be empty");
+    private void validateDistinct(String keyword1, String keyword2) {
+        if (keyword1.equals(keyword2)) {
+            throw new IllegalArgumentException("Keywords cannot be identical");
         }
+    }
 
-        validateKeywordLength(keyword.trim());
-
-        // 단순 검색에서도 최대 키워드 수 확인 (공백으로 분리)
-        String[] words = keyword.trim().split("\\s+");
-        if (words.length > MAX_KEYWORDS) {
+    private void validateKeywordCount(List<Token> tokens) {
+        int words = 0;
+        for (Token token : tokens) {
+            if (token.type() == TokenType.WORD || token.type() == TokenType.PHRASE) {
+                words += token.text().split("\\s+").length;
+            }
+        }
+        if (words > MAX_KEYWORDS) {
             throw new IllegalArgumentException("Maximum " + MAX_KEYWORDS + " keywords allowed");
         }
     }
 
     private void validateKeywordLength(String keyword) {
-        if (keyword.length() > 100) { // 키워드 최대 길이 제한
+        if (keyword.length() > MAX_KEYWORD_LENGTH) { // 키워드 최대 길이 제한
             throw new IllegalArgumentException("Keyword too long (max 100 characters)");
         }
+    }
+
+    /**
+     * 쿼리 문자열을 토큰으로 분리
+     * 단어는 알파벳, 숫자, 한글만 허용하고, '-'는 단어 앞에서만 제외 연산자로 인정
+     */
+    private List<Token> tokenize(String query) {
+        List<Token> tokens = new ArrayList<>();
+        int i = 0;
+        while (i < query.length()) {
+            char c = query.charAt(i);
+            if (Character.isWhitespace(c)) {
+                i++;
+            } else if (c == '|') {
+                tokens.add(new Token(TokenType.OR, "|"));
+                i++;
+            } else if (c == '(') {
+                tokens.add(new Token(TokenType.LPAREN, "("));
+                i++;
+            } else if (c == ')') {
+                tokens.add(new Token(TokenType.RPAREN, ")"));
+                i++;
+            } else if (c == '-') {
+                if (i > 0 && isWordChar(query.charAt(i - 1))) {
+                    throw new IllegalArgumentException("Invalid characters in keyword");
+                }
+                tokens.add(new Token(TokenType.NOT, "-"));
+                i++;
+            } else if (c == '"') {
+                int end = query.indexOf('"', i + 1);
+                if (end < 0) {
+                    throw new IllegalArgumentException("Unterminated quoted phrase");
+                }
+                String phrase = query.substring(i + 1, end).trim();
+                if (phrase.isEmpty()) {
+                    throw new IllegalArgumentException("Quoted phrase cannot be empty");
+                }
+                for (int j = 0; j < phrase.length(); j++) {
+                    if (!isWordChar(phrase.charAt(j)) && !Character.isWhitespace(phrase.charAt(j))) {
+                        throw new IllegalArgumentException("Invalid characters in keyword");
+                    }
+                }
+                validateKeywordLength(phrase);
+                tokens.add(new Token(TokenType.PHRASE, phrase.replaceAll("\\s+", " ")));
+                i = end + 1;
+            } else if (isWordChar(c)) {
+                int start = i;
+                while (i < query.length() && isWordChar(query.charAt(i))) {
+                    i++;
+                }
+                String word = query.substring(start, i);
+                tokens.add(switch (word) {
+                    case "AND" -> new Token(TokenType.AND, word);
+                    case "OR" -> new Token(TokenType.OR, word);
+                    case "NOT" -> new Token(TokenType.NOT, word);
+                    default -> new Token(TokenType.WORD, word);
+                });
+            } else {
+                // 특수 문자 검사 (알파벳, 숫자, 한글, 공백, 연산자만 허용)
+                throw new IllegalArgumentException("Invalid characters in keyword");
+            }
+        }
+        return tokens;
+    }
+
+    private static boolean isWordChar(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9') || (c >= '가' && c <= '힣');
+    }
+
+    private enum TokenType {
+        WORD, PHRASE, AND, OR, NOT, LPAREN, RPAREN
+    }
+
+    private record Token(TokenType type, String text) {
+    }
+
+    /**
+     * 재귀 하강 파서
+     * <pre>
+     * query   := or
+     * or      := and (OR and)*
+     * and     := unary (AND? unary)*
+     * unary   := NOT unary | primary
+     * primary := WORD+ | PHRASE | '(' or ')'
+     * </pre>
+     */
+    private final class Parser {
+
+        private final List<Token> tokens;
+        private int position;
+        private int depth;
+
+        private Parser(List<Token> tokens) {
+            this.tokens = tokens;
+        }
+
+        QueryNode parseQuery() {
+            if (tokens.isEmpty()) {
+                throw new IllegalArgumentException("Keyword cannot be empty");
+            }
+            QueryNode root = parseOr();
+            if (position < tokens.size()) {
+                throw new IllegalArgumentException("Unexpected '" + tokens.get(position).text() + "' in search query");
+            }
+            return root;
+        }
+
+        private QueryNode parseOr() {
+            List<QueryNode> clauses = new ArrayList<>();
+            clauses.add(parseAnd());
+            while (accept(TokenType.OR)) {
+                clauses.add(parseAnd());
+            }
+            return clauses.size() == 1 ? clauses.get(0) : new QueryNode.Or(clauses);
+        }
+
+        private QueryNode parseAnd() {
+            List<QueryNode> clauses = new ArrayList<>();
+            clauses.add(parseUnary());
+            while (true) {
+                if (accept(TokenType.AND)) {
+                    clauses.add(parseUnary());
+                } else if (startsOperand()) {
+                    clauses.add(parseUnary());
+                } else {
+                    break;
+                }
+            }
+            return clauses.size() == 1 ? clauses.get(0) : new QueryNode.And(clauses);
+        }
+
+        private QueryNode parseUnary() {
+            if (accept(TokenType.NOT)) {
+                return new QueryNode.Not(parseUnary());
+            }
+            return parsePrimary();
+        }
+
+        private QueryNode parsePrimary() {
+            if (position >= tokens.size()) {
+                throw new IllegalArgumentException("Missing keyword in search query");
+            }
+
+            Token token = tokens.get(position);
+            switch (token.type()) {
+                case WORD -> {
+                    StringBuilder words = new StringBuilder(token.text());
+                    position++;
+                    while (position < tokens.size() && tokens.get(position).type() == TokenType.WORD) {
+                        words.append(' ').append(tokens.get(position++).text());
+                    }
+                    validateKeywordLength(words.toString());
+                    return new QueryNode.Term(words.toString());
+                }
+                case PHRASE -> {
+                    position++;
+                    return new QueryNode.Phrase(token.text());
+                }
+                case LPAREN -> {
+                    position++;
+                    if (++depth > MAX_DEPTH) {
+                        throw new IllegalArgumentException("Search query nesting too deep (max " + MAX_DEPTH + ")");
+                    }
+                    QueryNode inner = parseOr();
+                    if (!accept(TokenType.RPAREN)) {
+                        throw new IllegalArgumentException("Missing closing parenthesis in search query");
+                    }
+                    depth--;
+                    return inner;
+                }
+                default -> throw new IllegalArgumentException("Unexpected '" + token.text() + "' in search query");
+            }
+        }
+
+        private boolean startsOperand() {
+            if (position >= tokens.size()) {
+                return false;
+            }
+            TokenType type = tokens.get(position).type();
+            return type == TokenType.WORD || type == TokenType.PHRASE || type == TokenType.NOT || type == TokenType.LPAREN;
+        }
 
-        // 특수 문자 검사 (알파벳, 숫자, 한글, 공백만 허용)
-        if (!keyword.matches("^[a-zA-Z0-9가-힣\\s]+$")) {
-            throw new IllegalArgumentException("Invalid characters in keyword");
+        private boolean accept(TokenType type) {
+            if (position < tokens.size() && tokens.get(position).type() == type) {
+                position++;
+                return true;
+            }
+            return false;
         }
     }
-}
\ No newline at end of file
+}
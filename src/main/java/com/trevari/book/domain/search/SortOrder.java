@@ -0,0 +1,96 @@
+package com.trevari.book.domain.search;
+
+import org.springframework.data.domain.Sort;
+
+import java.util.Locale;
+
+/**
+ * 검색·카테고리 목록 정렬 기준
+ * <p>
+ * - RELEVANCE: 검색은 BM25F 점수 순, 카테고리 목록은 (제목, ISBN) 순 (기본값)
+ * - 그 외: 속성 값 순, 같으면 (제목, ISBN) 순이며 값이 없는 도서는 방향과 관계없이 맨 뒤
+ * 페이징 정보(Pageable)의 Sort로 전달되며, 속성 이름은 Book 엔티티 경로를 따름 (인기도는 색인에만 있는 값)
+ */
+public enum SortOrder {
+    RELEVANCE("relevance", null, null),
+    TITLE("title", "title", Sort.Direction.ASC),
+    PRICE_ASC("price_asc", "price.amount", Sort.Direction.ASC),
+    PRICE_DESC("price_desc", "price.amount", Sort.Direction.DESC),
+    NEWEST("newest", "publicationInfo.publishedDate", Sort.Direction.DESC),
+    OLDEST("oldest", "publicationInfo.publishedDate", Sort.Direction.ASC),
+    PAGES_ASC("pages_asc", "pageCount", Sort.Direction.ASC),
+    PAGES_DESC("pages_desc", "pageCount", Sort.Direction.DESC),
+    POPULAR("popular", "popularity", Sort.Direction.DESC);
+
+    private final String paramName;
+    private final String property;
+    private final Sort.Direction direction;
+
+    SortOrder(String paramName, String property, Sort.Direction direction) {
+        this.paramName = paramName;
+        this.property = property;
+        this.direction = direction;
+    }
+
+    /**
+     * API 파라미터·캐시 키에서 쓰는 이름
+     */
+    public String paramName() {
+        return paramName;
+    }
+
+    /**
+     * 내림차순 정렬인지 여부
+     */
+    public boolean descending() {
+        return direction == Sort.Direction.DESC;
+    }
+
+    /**
+     * Pageable에 담을 Sort (RELEVANCE면 정렬 없음)
+     */
+    public Sort toSort() {
+        return property != null ? Sort.by(direction, property) : Sort.unsorted();
+    }
+
+    /**
+     * 결과 캐시 키 접미사 (RELEVANCE면 빈 문자열이라 정렬 없는 기존 키를 그대로 사용)
+     */
+    public String cacheKey() {
+        return this == RELEVANCE ? "" : ":sort:" + paramName;
+    }
+
+    /**
+     * API 파라미터 해석 (비어 있으면 RELEVANCE)
+     *
+     * @throws IllegalArgumentException 알 수 없는 정렬 이름인 경우
+     */
+    public static SortOrder fromParam(String value) {
+        if (value == null || value.isBlank()) {
+            return RELEVANCE;
+        }
+        String normalized = value.trim().toLowerCase(Locale.ROOT);
+        for (SortOrder sortOrder : values()) {
+            if (sortOrder.paramName.equals(normalized)) {
+                return sortOrder;
+            }
+        }
+        throw new IllegalArgumentException("Unknown sort: " + value.trim());
+    }
+
+    /**
+     * Pageable의 Sort를 정렬 기준으로 해석 (정렬이 없거나 지원하지 않는 속성이면 RELEVANCE)
+     */
+    public static SortOrder of(Sort sort) {
+        Sort.Order order = sort.stream().findFirst().orElse(null);
+        if (order == null) {
+            return RELEVANCE;
+        }
+        for (SortOrder sortOrder : values()) {
+            if (order.getProperty().equals(sortOrder.property) && order.getDirection() == sortOrder.direction) {
+                return sortOrder;
+            }
+        }
+        return RELEVANCE;
+    }
+}
@@ -0,0 +1,73 @@
+package com.trevari.book.dto.request;
+
+import com.trevari.book.domain.search.Facet;
+import com.trevari.book.domain.search.RangeFilter;
+import com.trevari.book.domain.search.SearchQuery;
+import com.trevari.book.domain.search.SearchQueryParser;
+import org.springframework.data.domain.Pageable;
+
+import java.util.Set;
+
+/**
+ * 도서 검색 옵션 (서비스·캐시 검색 진입점의 단일 인자)
+ * <p>
+ * - 지정하지 않은 옵션은 of(keyword, pageable)의 기본값을 쓰고, with* 메서드로 필요한 옵션만 바꿔 사용
+ * - 검색 결과 캐시 키는 이 옵션에서만 만들어지므로, 옵션을 추가하면 결과가 달라지는 경우 SearchCacheKeys에도 반영
+ *
+ * @param keyword   검색 키워드
+ * @param pageable  페이징·정렬 정보 (키셋 페이지네이션에서는 페이지 크기만 사용)
+ * @param fuzzy     오타 허용 검색 여부 (편집 거리 1~2 이내 텀까지 매칭)
+ * @param withCount false면 전체 건수 없이 다음 페이지 여부(pageInfo.hasNext)만 제공
+ * @param facets    값별 건수를 함께 응답할 패싯 (비어 있으면 집계하지 않음)
+ * @param filter    검색 결과에 적용할 가격·출판일 범위 필터
+ * @param highlight true면 도서마다 전체 설명 대신 제목·부제목·설명 하이라이트 스니펫을 응답
+ */
+public record BookSearchOptions(
+        String keyword,
+        Pageable pageable,
+        boolean fuzzy,
+        boolean withCount,
+        Set<Facet> facets,
+        RangeFilter filter,
+        boolean highlight
+) {
+
+    public BookSearchOptions {
+        facets = facets == null ? Set.of() : Set.copyOf(facets);
+        filter = filter == null ? RangeFilter.none() : filter;
+    }
+
+    /**
+     * 기본 옵션 (오타 허용 없음, 전체 건수 포함, 패싯·필터·하이라이트 없음)
+     */
+    public static BookSearchOptions of(String keyword, Pageable pageable) {
+        return new BookSearchOptions(keyword, pageable, false, true, Set.of(), RangeFilter.none(), false);
+    }
+
+    public BookSearchOptions withFuzzy(boolean fuzzy) {
+        return new BookSearchOptions(keyword, pageable, fuzzy, withCount, facets, filter, highlight);
+    }
+
+    public BookSearchOptions withCount(boolean withCount) {
+        return new BookSearchOptions(keyword, pageable, fuzzy, withCount, facets, filter, highlight);
+    }
+
+    public BookSearchOptions withFacets(Set<Facet> facets) {
+        return new BookSearchOptions(keyword, pageable, fuzzy, withCount, facets, filter, highlight);
+    }
+
+    public BookSearchOptions withFilter(RangeFilter filter) {
+        return new BookSearchOptions(keyword, pageable, fuzzy, withCount, facets, filter, highlight);
+    }
+
+    public BookSearchOptions withHighlight(boolean highlight) {
+        return new BookSearchOptions(keyword, pageable, fuzzy, withCount, facets, filter, highlight);
+    }
+
+    /**
+     * 키워드를 파싱해 오타 허용 여부와 범위 필터를 적용한 검색 쿼리
+     */
+    public SearchQuery toSearchQuery(SearchQueryParser parser) {
+        return parser.parse(keyword).withFuzzy(fuzzy).withFilter(filter);
+    }
+}
@@ -0,0 +1,52 @@
+package com.trevari.book.dto.response;
+
+import com.trevari.book.domain.AuthorPage;
+import com.trevari.book.domain.AuthorSummary;
+import com.trevari.book.domain.CursorPage;
+import com.trevari.global.dto.CursorInfo;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+/**
+ * 저자 목록 응답 DTO
+ */
+@Schema(description = "저자 목록 응답")
+public record AuthorListResponse(
+        @Schema(description = "이름 접두어", example = "jo")
+        String prefix,
+
+        @Schema(description = "저자 목록 (이름 순)")
+        List<AuthorItem> authors,
+
+        @Schema(description = "키셋 페이지네이션 정보")
+        CursorInfo cursorInfo
+) {
+
+    public static AuthorListResponse of(String prefix, AuthorPage page, int pageSize) {
+        CursorInfo cursorInfo = new CursorInfo(
+                page.hasNext() ? page.nextCursor().encode() : null,
+                page.hasNext(),
+                pageSize,
+                page.totalElements() == CursorPage.UNKNOWN_TOTAL ? null : page.totalElements());
+        return new AuthorListResponse(prefix, page.content().stream()
+                .map(AuthorItem::from)
+                .toList(), cursorInfo);
+    }
+
+    @Schema(description = "저자")
+    public record AuthorItem(
+            @Schema(description = "저자 ID", example = "1")
+            Long id,
+
+            @Schema(description = "저자명", example = "Joshua Bloch")
+            String name,
+
+            @Schema(description = "저술한 도서 수", example = "3")
+            int bookCount
+    ) {
+        public static AuthorItem from(AuthorSummary author) {
+            return new AuthorItem(author.id(), author.name(), author.bookCount());
+        }
+    }
+}
@@ -1,6 +1,6 @@
 package com.trevari.book.dto.response;
 
-import com.trevari.book.domain.BookAuthor;
+import com.trevari.book.domain.BookView;
 import io.swagger.v3.oas.annotations.media.Schema;
 
 /**
@@ -18,11 +18,11 @@ public record BookAuthorResponse(
     String role
 ) {
     
-    public static BookAuthorResponse from(BookAuthor bookAuthor) {
+    public static BookAuthorResponse from(BookView.AuthorEntry author) {
         return new BookAuthorResponse(
-            bookAuthor.getAuthor() != null ? bookAuthor.getAuthor().getId() : null,
-            bookAuthor.getAuthor() != null ? bookAuthor.getAuthor().getName() : "",
-            bookAuthor.getRole()
+            author.id(),
+            author.name() != null ? author.name() : "",
+            author.role()
         );
     }
 }
\ No newline at end of file
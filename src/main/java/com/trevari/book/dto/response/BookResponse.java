@@ -2,12 +2,13 @@ package com.trevari.book.dto.response;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
 import com.fasterxml.jackson.annotation.JsonInclude;
-import com.trevari.book.domain.Book;
 import com.trevari.book.domain.BookFormat;
+import com.trevari.book.domain.BookView;
+import com.trevari.book.domain.search.BookHighlight;
 import io.swagger.v3.oas.annotations.media.Schema;
 import java.time.LocalDate;
 import java.util.List;
-import java.util.Collections;
+import java.util.Map;
 
 @Schema(description = "도서 정보 응답")
 @JsonInclude(JsonInclude.Include.NON_NULL)
@@ -47,49 +48,56 @@ public record BookResponse(
     LocalDate publishedDate,
     
     @Schema(description = "도서 이미지 URL")
-    String imageUrl
+    String imageUrl,
+    
+    @Schema(description = "검색어 하이라이트 스니펫 (highlight=true로 검색한 경우, 일치 부분은 <em>으로 감싸고 HTML 이스케이프)")
+    BookHighlight highlight
 ) {
     
-    public static BookResponse from(Book book) {
-        try {
-            return new BookResponse(
-                book.getIsbn(),
-                book.getTitle(),
-                book.getSubtitle(),
-                book.getDescription(),
-                book.getPageCount(),
-                book.getFormat(),
-                book.getPrice() != null ? PriceResponse.from(book.getPrice()) : null,
-                // BookAuthor에서 저자 이름 추출
-                book.getBookAuthors() != null ? 
-                    book.getBookAuthors().stream()
-                        .map(ba -> ba.getAuthor().getName())
-                        .toList() : 
-                    Collections.emptyList(),
-                // 카테고리 정보
-                book.getCategories() != null ?
-                    book.getCategories().stream()
-                        .map(CategoryResponse::from)
-                        .toList() :
-                    Collections.emptyList(),
-                // PublicationInfo에서 publisher와 publishedDate를 직접 가져오기
-                book.getPublicationInfo() != null ? book.getPublicationInfo().getPublisher() : "",
-                book.getPublicationInfo() != null ? book.getPublicationInfo().getPublishedDate() : null,
-                book.getImageUrl()
-            );
-        } catch (Exception e) {
-            // 오류 발생 시 기본값으로 BookResponse 생성
-            return new BookResponse(
-                book.getIsbn(),
-                book.getTitle(),
-                book.getSubtitle(),
-                null, null, null, null,
-                Collections.emptyList(),
-                Collections.emptyList(),
-                "",
-                null,
-                book.getImageUrl()
-            );
-        }
+    public BookResponse(String isbn, String title, String subtitle, String description, Integer pageCount,
+                        BookFormat format, PriceResponse price, List<String> authors, List<CategoryResponse> categories,
+                        String publisher, LocalDate publishedDate, String imageUrl) {
+        this(isbn, title, subtitle, description, pageCount, format, price, authors, categories, publisher,
+            publishedDate, imageUrl, null);
+    }
+    
+    /**
+     * 하이라이트를 붙이고 전체 설명은 뺀 응답 (설명은 하이라이트 스니펫으로 대신함)
+     */
+    public BookResponse withHighlight(BookHighlight highlight) {
+        return new BookResponse(isbn, title, subtitle, null, pageCount, format, price, authors, categories,
+            publisher, publishedDate, imageUrl, highlight);
+    }
+    
+    /**
+     * 도서 목록 변환 (하이라이트가 있는 도서는 전체 설명 대신 하이라이트로 응답)
+     */
+    public static List<BookResponse> fromAll(List<BookView> books, Map<String, BookHighlight> highlights) {
+        return books.stream()
+            .map(book -> {
+                BookResponse response = from(book);
+                BookHighlight highlight = highlights.get(book.isbn());
+                return highlight != null ? response.withHighlight(highlight) : response;
+            })
+            .toList();
+    }
+    
+    public static BookResponse from(BookView book) {
+        return new BookResponse(
+            book.isbn(),
+            book.title(),
+            book.subtitle(),
+            book.description(),
+            book.pageCount(),
+            book.format(),
+            book.hasPrice() ? new PriceResponse(book.priceAmount(), book.priceCurrency()) : null,
+            book.authorNames(),
+            book.categories().stream()
+                .map(CategoryResponse::from)
+                .toList(),
+            book.hasPublicationInfo() ? book.publisher() : "",
+            book.publishedDate(),
+            book.imageUrl()
+        );
     }
 }
\ No newline at end of file
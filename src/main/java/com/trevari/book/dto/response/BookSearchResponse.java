@@ -1,19 +1,26 @@
 package com.trevari.book.dto.response;
 
-import com.trevari.book.domain.Book;
+import com.trevari.book.domain.BookView;
+import com.trevari.book.domain.CursorPage;
+import com.trevari.book.domain.search.BookHighlight;
+import com.trevari.book.domain.search.FacetCount;
+import com.trevari.global.dto.CursorInfo;
 import com.trevari.global.dto.PageInfo;
 import java.util.List;
+import java.util.Map;
 import lombok.Builder;
 
 @Builder
 public record BookSearchResponse(
     String searchQuery,
     PageInfo pageInfo,
+    CursorInfo cursorInfo,
     List<BookResponse> books,
+    Map<String, List<FacetCount>> facets,
     SearchMetadata searchMetadata
 ) {
     
-    public static BookSearchResponse from(String searchQuery, PageInfo pageInfo, List<Book> books, SearchMetadata searchMetadata) {
+    public static BookSearchResponse from(String searchQuery, PageInfo pageInfo, List<BookView> books, SearchMetadata searchMetadata) {
         List<BookResponse> bookResponses = books.stream()
                 .map(BookResponse::from)
                 .toList();
@@ -25,4 +32,32 @@ public record BookSearchResponse(
                 .searchMetadata(searchMetadata)
                 .build();
     }
+    
+    /**
+     * 키셋(after 커서) 조회 결과로 응답 생성 - pageInfo 대신 cursorInfo를 채움
+     */
+    public static BookSearchResponse fromCursorPage(String searchQuery, CursorPage<BookView> page, int pageSize,
+                                                    SearchMetadata searchMetadata) {
+        return fromCursorPage(searchQuery, page, pageSize, searchMetadata, Map.of());
+    }
+    
+    /**
+     * 키셋(after 커서) 조회 결과로 응답 생성 - 하이라이트가 있는 도서는 전체 설명 대신 하이라이트로 응답
+     */
+    public static BookSearchResponse fromCursorPage(String searchQuery, CursorPage<BookView> page, int pageSize,
+                                                    SearchMetadata searchMetadata,
+                                                    Map<String, BookHighlight> highlights) {
+        CursorInfo cursorInfo = new CursorInfo(
+                page.hasNext() ? page.nextCursor().encode() : null,
+                page.hasNext(),
+                pageSize,
+                page.totalElements() == CursorPage.UNKNOWN_TOTAL ? null : page.totalElements());
+        
+        return BookSearchResponse.builder()
+                .searchQuery(searchQuery)
+                .cursorInfo(cursorInfo)
+                .books(BookResponse.fromAll(page.content(), highlights))
+                .searchMetadata(searchMetadata)
+                .build();
+    }
 }
@@ -2,9 +2,14 @@ package com.trevari.book.dto.response;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
-import com.trevari.book.domain.Book;
+import com.trevari.book.domain.BookView;
+import com.trevari.book.domain.search.BookHighlight;
+import com.trevari.book.domain.search.Facet;
+import com.trevari.book.domain.search.FacetCount;
 import com.trevari.global.dto.PageInfo;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import lombok.Builder;
 import lombok.Getter;
 
@@ -19,32 +24,68 @@ public class CacheableBookSearchResult {
     private final PageInfo pageInfo;
     private final List<BookResponse> books;
     private final String strategy;
+    /**
+     * 패싯 이름별 값 건수 (요청하지 않았거나 계산할 수 없으면 null)
+     */
+    private final Map<String, List<FacetCount>> facets;
     
     @JsonCreator
     public CacheableBookSearchResult(
             @JsonProperty("searchQuery") String searchQuery,
             @JsonProperty("pageInfo") PageInfo pageInfo,
             @JsonProperty("books") List<BookResponse> books,
-            @JsonProperty("strategy") String strategy) {
+            @JsonProperty("strategy") String strategy,
+            @JsonProperty("facets") Map<String, List<FacetCount>> facets) {
         this.searchQuery = searchQuery;
         this.pageInfo = pageInfo;
         this.books = books;
         this.strategy = strategy;
+        this.facets = facets;
+    }
+    
+    public static CacheableBookSearchResult from(String searchQuery, PageInfo pageInfo, List<BookView> books, String strategy) {
+        return from(searchQuery, pageInfo, books, strategy, Map.of());
+    }
+    
+    public static CacheableBookSearchResult from(String searchQuery, PageInfo pageInfo, List<BookView> books, String strategy,
+                                                 Map<Facet, List<FacetCount>> facets) {
+        return from(searchQuery, pageInfo, books, strategy, facets, Map.of());
     }
     
-    public static CacheableBookSearchResult from(String searchQuery, PageInfo pageInfo, List<Book> books, String strategy) {
-        List<BookResponse> bookResponses = books.stream()
-                .map(BookResponse::from)
-                .toList();
+    /**
+     * 하이라이트가 있는 도서는 전체 설명 대신 하이라이트 스니펫으로 응답
+     */
+    public static CacheableBookSearchResult from(String searchQuery, PageInfo pageInfo, List<BookView> books, String strategy,
+                                                 Map<Facet, List<FacetCount>> facets,
+                                                 Map<String, BookHighlight> highlights) {
+        List<BookResponse> bookResponses = BookResponse.fromAll(books, highlights);
+        
+        Map<String, List<FacetCount>> facetsByName = null;
+        if (!facets.isEmpty()) {
+            facetsByName = new LinkedHashMap<>();
+            for (Facet facet : Facet.values()) {
+                if (facets.containsKey(facet)) {
+                    facetsByName.put(facet.paramName(), facets.get(facet));
+                }
+            }
+        }
                 
         return CacheableBookSearchResult.builder()
                 .searchQuery(searchQuery)
                 .pageInfo(pageInfo)
                 .books(bookResponses)
                 .strategy(strategy)
+                .facets(facetsByName)
                 .build();
     }
     
+    /**
+     * 검색어 표기만 바꾼 결과 반환 (정규화 키로 공유된 캐시 결과를 요청 검색어로 응답할 때 사용)
+     */
+    public CacheableBookSearchResult withSearchQuery(String searchQuery) {
+        return new CacheableBookSearchResult(searchQuery, pageInfo, books, strategy, facets);
+    }
+    
     /**
      * 캐시된 결과를 실제 응답 DTO로 변환 (execution time 추가)
      */
@@ -53,6 +94,7 @@ public class CacheableBookSearchResult {
                 .searchQuery(searchQuery)
                 .pageInfo(pageInfo)
                 .books(books)
+                .facets(facets)
                 .searchMetadata(SearchMetadata.of(executionTimeMs, strategy))
                 .build();
     }
@@ -1,5 +1,6 @@
 package com.trevari.book.dto.response;
 
+import com.trevari.book.domain.BookView;
 import com.trevari.book.domain.Category;
 import io.swagger.v3.oas.annotations.media.Schema;
 
@@ -21,4 +22,11 @@ public record CategoryResponse(
                 category.getName()
         );
     }
-}
\ No newline at end of file
+
+    public static CategoryResponse from(BookView.CategoryEntry category) {
+        return new CategoryResponse(
+                category.id(),
+                category.name()
+        );
+    }
+}
@@ -2,8 +2,9 @@ package com.trevari.book.dto.response;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
 import com.fasterxml.jackson.annotation.JsonInclude;
-import com.trevari.book.domain.Book;
 import com.trevari.book.domain.BookFormat;
+import com.trevari.book.domain.BookView;
+import com.trevari.book.domain.PublicationInfo;
 import io.swagger.v3.oas.annotations.media.Schema;
 import java.time.LocalDate;
 import java.util.List;
@@ -11,7 +12,7 @@ import java.util.stream.Collectors;
 
 /**
  * 도서 상세 정보 응답 DTO
- * Book 엔티티의 모든 정보를 포함하여 완전한 상세 정보를 제공
+ * 도서 읽기 모델(BookView)의 모든 정보를 포함하여 완전한 상세 정보를 제공
  */
 @Schema(description = "도서 상세 정보 응답")
 @JsonInclude(JsonInclude.Include.NON_NULL)
@@ -55,64 +56,53 @@ public record DetailedBookResponse(
 ) {
     
     /**
-     * Book 엔티티로부터 완전한 상세 정보 응답 DTO 생성
+     * 도서 읽기 모델로부터 완전한 상세 정보 응답 DTO 생성
      */
-    public static DetailedBookResponse from(Book book) {
+    public static DetailedBookResponse from(BookView book) {
         if (book == null) {
             return null;
         }
         
         // 가격 정보 처리
-        PriceResponse priceResponse = null;
-        if (book.getPrice() != null) {
-            priceResponse = PriceResponse.from(book.getPrice());
-        }
+        PriceResponse priceResponse = book.hasPrice()
+            ? new PriceResponse(book.priceAmount(), book.priceCurrency())
+            : null;
         
-        // 저자 정보 처리
+        // 저자 정보 처리 (읽기 모델이 도서-저자 관계 id 순으로 담고 있음)
         List<BookAuthorResponse> bookAuthorResponses = null;
-        
-        if (book.getBookAuthors() != null && !book.getBookAuthors().isEmpty()) {
-            bookAuthorResponses = book.getBookAuthors().stream()
-                .sorted((ba1, ba2) -> {
-                    if (ba1.getId() == null && ba2.getId() == null) return 0;
-                    if (ba1.getId() == null) return 1;
-                    if (ba2.getId() == null) return -1;
-                    return ba1.getId().compareTo(ba2.getId());
-                })
+        if (!book.authors().isEmpty()) {
+            bookAuthorResponses = book.authors().stream()
                 .map(BookAuthorResponse::from)
                 .collect(Collectors.toList());
         }
         
         // 카테고리 정보 처리
         List<CategoryResponse> categoryResponses = null;
-        if (book.getCategories() != null && !book.getCategories().isEmpty()) {
-            categoryResponses = book.getCategories().stream()
+        if (!book.categories().isEmpty()) {
+            categoryResponses = book.categories().stream()
                 .map(CategoryResponse::from)
                 .collect(Collectors.toList());
         }
         
         // 출판 정보 처리
         String publisher = null;
-        LocalDate publishedDate = null;
-        
-        if (book.getPublicationInfo() != null) {
-            publisher = book.getPublicationInfo().getNormalizedPublisher();
-            publishedDate = book.getPublicationInfo().getPublishedDate();
+        if (book.hasPublicationInfo()) {
+            publisher = new PublicationInfo(book.publisher(), book.publishedDate()).getNormalizedPublisher();
         }
         
         return new DetailedBookResponse(
-            book.getIsbn(),
-            book.getTitle(),
-            book.getSubtitle(),
-            book.getDescription(),
-            book.getPageCount(),
-            book.getFormat(),
+            book.isbn(),
+            book.title(),
+            book.subtitle(),
+            book.description(),
+            book.pageCount(),
+            book.format(),
             priceResponse,
             bookAuthorResponses,
             categoryResponses,
             publisher,
-            publishedDate,
-            book.getImageUrl()
+            book.publishedDate(),
+            book.imageUrl()
         );
     }
 }
\ No newline at end of file
@@ -0,0 +1,47 @@
+package com.trevari.book.dto.response;
+
+import com.trevari.book.index.RelatedBook;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+/**
+ * 관련 도서 응답 DTO
+ */
+@Schema(description = "관련 도서 응답")
+public record RelatedBooksResponse(
+        @Schema(description = "기준 도서 ISBN", example = "9789355510082")
+        String isbn,
+
+        @Schema(description = "관련 도서 목록 (관련도 내림차순)")
+        List<RelatedBookItem> books
+) {
+
+    public static RelatedBooksResponse of(String isbn, List<RelatedBook> books) {
+        return new RelatedBooksResponse(isbn, books.stream()
+                .map(RelatedBookItem::from)
+                .toList());
+    }
+
+    @Schema(description = "관련 도서")
+    public record RelatedBookItem(
+            @Schema(description = "ISBN", example = "9781617293566")
+            String isbn,
+
+            @Schema(description = "제목", example = "Modern Java in Action")
+            String title,
+
+            @Schema(description = "부제목", example = "Lambdas, streams, functional and reactive programming")
+            String subtitle,
+
+            @Schema(description = "저자명 목록", example = "[\"Raoul-Gabriel Urma\"]")
+            List<String> authorNames,
+
+            @Schema(description = "관련도 (저자·카테고리·본문 유사도 가중합)", example = "1.42")
+            float score
+    ) {
+        public static RelatedBookItem from(RelatedBook book) {
+            return new RelatedBookItem(book.isbn(), book.title(), book.subtitle(), book.authorNames(), book.score());
+        }
+    }
+}
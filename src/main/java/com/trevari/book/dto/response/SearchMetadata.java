@@ -11,6 +11,7 @@ public record SearchMetadata(
     public enum SearchStrategy {
         SIMPLE,
         OR_OPERATION,
-        NOT_OPERATION
+        NOT_OPERATION,
+        BOOLEAN
     }
 }
\ No newline at end of file
@@ -0,0 +1,47 @@
+package com.trevari.book.dto.response;
+
+import com.trevari.book.index.vector.SimilarBook;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+/**
+ * 유사 도서 검색 응답 DTO
+ */
+@Schema(description = "유사 도서 검색 응답")
+public record SimilarBooksResponse(
+        @Schema(description = "질의 텍스트", example = "java concurrency")
+        String query,
+
+        @Schema(description = "유사 도서 목록 (유사도 내림차순)")
+        List<SimilarBookItem> books
+) {
+
+    public static SimilarBooksResponse of(String query, List<SimilarBook> books) {
+        return new SimilarBooksResponse(query, books.stream()
+                .map(SimilarBookItem::from)
+                .toList());
+    }
+
+    @Schema(description = "유사 도서")
+    public record SimilarBookItem(
+            @Schema(description = "ISBN", example = "9780321349606")
+            String isbn,
+
+            @Schema(description = "제목", example = "Java Concurrency in Practice")
+            String title,
+
+            @Schema(description = "부제목")
+            String subtitle,
+
+            @Schema(description = "저자명 목록", example = "[\"Brian Goetz\"]")
+            List<String> authorNames,
+
+            @Schema(description = "질의와의 코사인 유사도 근사치 (클수록 유사)", example = "0.53")
+            float similarity
+    ) {
+        public static SimilarBookItem from(SimilarBook book) {
+            return new SimilarBookItem(book.isbn(), book.title(), book.subtitle(), book.authorNames(), book.similarity());
+        }
+    }
+}
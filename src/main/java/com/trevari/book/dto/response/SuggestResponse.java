@@ -0,0 +1,42 @@
+package com.trevari.book.dto.response;
+
+import com.trevari.book.index.suggest.Suggestion;
+import com.trevari.book.index.suggest.SuggestionType;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+/**
+ * 자동완성 응답 DTO
+ */
+@Schema(description = "검색어 자동완성 응답")
+public record SuggestResponse(
+        @Schema(description = "입력된 접두어", example = "jav")
+        String prefix,
+
+        @Schema(description = "자동완성 후보 목록 (인기도 내림차순)")
+        List<SuggestItem> suggestions
+) {
+
+    public static SuggestResponse of(String prefix, List<Suggestion> suggestions) {
+        return new SuggestResponse(prefix, suggestions.stream()
+                .map(SuggestItem::from)
+                .toList());
+    }
+
+    @Schema(description = "자동완성 후보")
+    public record SuggestItem(
+            @Schema(description = "후보 문자열", example = "Java in Action")
+            String text,
+
+            @Schema(description = "후보 출처 (TITLE, AUTHOR, KEYWORD)", example = "TITLE")
+            SuggestionType type,
+
+            @Schema(description = "인기도 가중치", example = "1")
+            long weight
+    ) {
+        public static SuggestItem from(Suggestion suggestion) {
+            return new SuggestItem(suggestion.text(), suggestion.type(), suggestion.weight());
+        }
+    }
+}
@@ -5,6 +5,7 @@ import org.springframework.http.HttpStatus;
 
 public enum BookExceptionCode implements ExceptionCode {
     BOOK_NOT_FOUND("Book not found", HttpStatus.NOT_FOUND),
+    AUTHOR_NOT_FOUND("Author not found", HttpStatus.NOT_FOUND),
     INVALID_SEARCH_KEYWORD("Invalid search keyword", HttpStatus.BAD_REQUEST),
     INVALID_PAGE_PARAMETER("Invalid page parameter", HttpStatus.BAD_REQUEST);
     
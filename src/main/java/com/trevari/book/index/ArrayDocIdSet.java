@@ -0,0 +1,62 @@
+package com.trevari.book.index;
+
+import java.util.Arrays;
+
+/**
+ * 희소 텀용 정렬 int 배열 집합
+ */
+final class ArrayDocIdSet implements DocIdSet {
+
+    private final int[] docs;
+
+    ArrayDocIdSet(int[] docs) {
+        this.docs = docs;
+    }
+
+    @Override
+    public int cardinality() {
+        return docs.length;
+    }
+
+    @Override
+    public boolean contains(int doc) {
+        return Arrays.binarySearch(docs, doc) >= 0;
+    }
+
+    @Override
+    public int intersectionCount(long[] words) {
+        int count = 0;
+        for (int doc : docs) {
+            if ((words[doc >>> 6] & (1L << doc)) != 0) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Override
+    public void orInto(long[] words) {
+        for (int doc : docs) {
+            words[doc >>> 6] |= 1L << doc;
+        }
+    }
+
+    @Override
+    public void andInto(long[] words) {
+        int i = 0;
+        for (int word = 0; word < words.length; word++) {
+            long mask = 0L;
+            while (i < docs.length && (docs[i] >>> 6) == word) {
+                mask |= 1L << docs[i++];
+            }
+            words[word] &= mask;
+        }
+    }
+
+    @Override
+    public void andNotInto(long[] words) {
+        for (int doc : docs) {
+            words[doc >>> 6] &= ~(1L << doc);
+        }
+    }
+}
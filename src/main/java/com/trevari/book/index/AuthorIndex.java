@@ -0,0 +1,195 @@
+package com.trevari.book.index;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 저자별 도서 인접 리스트와 저자 이름 접두어 색인
+ * <p>
+ * - 저자를 (정규화 이름, id) 순으로 정렬한 슬롯에 두고, 슬롯마다 저술한 도서 ordinal을 오름차순으로 평탄화한 배열에 보관
+ *   (ordinal이 (제목, ISBN) 순이므로 저자 도서 목록은 배열 구간을 그대로 잘라 쓰면 됨)
+ * - 접두어로 시작하는 저자는 정렬 배열의 연속 구간이므로 이진 탐색 두 번으로 구간과 건수를 구함
+ * - 이름 정규화: 앞뒤 공백 제거, 소문자, 연속 공백 하나로 축약
+ */
+final class AuthorIndex {
+
+    static final AuthorIndex EMPTY = new AuthorIndex(Map.of(), new long[0], new String[0], new String[0],
+            new int[1], new int[0]);
+
+    private final Map<Long, Integer> slots;
+    private final long[] ids;
+    private final String[] names;
+    private final String[] keys;
+    private final int[] bookStarts;
+    private final int[] books;
+
+    private AuthorIndex(Map<Long, Integer> slots, long[] ids, String[] names, String[] keys,
+                        int[] bookStarts, int[] books) {
+        this.slots = slots;
+        this.ids = ids;
+        this.names = names;
+        this.keys = keys;
+        this.bookStarts = bookStarts;
+        this.books = books;
+    }
+
+    /**
+     * ordinal 순으로 정렬된 도서 문서로 생성 (저자 id가 없는 문서는 건너뜀, 같은 id의 이름은 처음 나온 것 사용)
+     */
+    static AuthorIndex build(List<BookDocument> documents) {
+        Map<Long, String> namesById = new HashMap<>();
+        Map<Long, int[]> docsById = new HashMap<>();
+        Map<Long, Integer> sizes = new HashMap<>();
+        for (int doc = 0; doc < documents.size(); doc++) {
+            BookDocument document = documents.get(doc);
+            for (int i = 0; i < document.authorIds().size(); i++) {
+                Long id = document.authorIds().get(i);
+                if (id == null) {
+                    continue;
+                }
+                namesById.putIfAbsent(id, i < document.authorNames().size() ? document.authorNames().get(i) : "");
+                int size = sizes.getOrDefault(id, 0);
+                int[] docs = docsById.computeIfAbsent(id, k -> new int[2]);
+                if (size > 0 && docs[size - 1] == doc) {
+                    continue;
+                }
+                if (size == docs.length) {
+                    docs = Arrays.copyOf(docs, size * 2);
+                    docsById.put(id, docs);
+                }
+                docs[size] = doc;
+                sizes.put(id, size + 1);
+            }
+        }
+
+        Long[] order = namesById.keySet().toArray(new Long[0]);
+        Map<Long, String> keysById = new HashMap<>(order.length * 2);
+        namesById.forEach((id, name) -> keysById.put(id, normalize(name)));
+        Arrays.sort(order, (a, b) -> {
+            int cmp = keysById.get(a).compareTo(keysById.get(b));
+            return cmp != 0 ? cmp : Long.compare(a, b);
+        });
+
+        int count = order.length;
+        Map<Long, Integer> slots = new HashMap<>(count * 2);
+        long[] ids = new long[count];
+        String[] names = new String[count];
+        String[] keys = new String[count];
+        int[] bookStarts = new int[count + 1];
+        int total = 0;
+        for (int slot = 0; slot < count; slot++) {
+            total += sizes.get(order[slot]);
+        }
+        int[] books = new int[total];
+        int position = 0;
+        for (int slot = 0; slot < count; slot++) {
+            long id = order[slot];
+            slots.put(id, slot);
+            ids[slot] = id;
+            names[slot] = namesById.get(id);
+            keys[slot] = keysById.get(id);
+            bookStarts[slot] = position;
+            int size = sizes.get(id);
+            System.arraycopy(docsById.get(id), 0, books, position, size);
+            position += size;
+        }
+        bookStarts[count] = position;
+        return new AuthorIndex(slots, ids, names, keys, bookStarts, books);
+    }
+
+    /**
+     * 저자 id의 슬롯 (색인에 없으면 -1)
+     */
+    int slot(long id) {
+        return slots.getOrDefault(id, -1);
+    }
+
+    int size() {
+        return ids.length;
+    }
+
+    long id(int slot) {
+        return ids[slot];
+    }
+
+    String name(int slot) {
+        return names[slot];
+    }
+
+    int bookCount(int slot) {
+        return bookStarts[slot + 1] - bookStarts[slot];
+    }
+
+    /**
+     * 저자 도서 ordinal 오름차순 배열에서 ordinal 이상인 첫 위치 (슬롯 기준 0부터, 없으면 bookCount)
+     */
+    int bookPosition(int slot, int ordinal) {
+        int index = Arrays.binarySearch(books, bookStarts[slot], bookStarts[slot + 1], ordinal);
+        return (index >= 0 ? index : -index - 1) - bookStarts[slot];
+    }
+
+    /**
+     * 저자 도서 ordinal 오름차순 배열의 position번째 ordinal
+     */
+    int book(int slot, int position) {
+        return books[bookStarts[slot] + position];
+    }
+
+    /**
+     * 정규화 이름이 prefix로 시작하는 슬롯 구간의 시작
+     */
+    int prefixStart(String prefix) {
+        return slotAfter(normalize(prefix), Long.MIN_VALUE, false);
+    }
+
+    /**
+     * 정규화 이름이 prefix로 시작하는 슬롯 구간의 끝 (제외)
+     */
+    int prefixEnd(String prefix) {
+        String key = normalize(prefix);
+        int low = slotAfter(key, Long.MIN_VALUE, false);
+        int high = ids.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (keys[mid].startsWith(key)) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * (정규화 이름, id) 순서에서 주어진 저자 뒤에 오는 첫 슬롯
+     * 해당 저자가 재색인으로 사라졌어도 정렬 위치는 그대로이므로 이어서 조회할 수 있음
+     */
+    int slotAfter(String name, long id) {
+        return slotAfter(normalize(name), id, true);
+    }
+
+    private int slotAfter(String key, long id, boolean exclusive) {
+        int low = 0;
+        int high = ids.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            int cmp = keys[mid].compareTo(key);
+            if (cmp == 0) {
+                cmp = Long.compare(ids[mid], id);
+            }
+            if (cmp < 0 || (exclusive && cmp == 0)) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    static String normalize(String name) {
+        return name == null ? "" : name.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+}
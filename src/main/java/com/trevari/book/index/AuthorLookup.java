@@ -0,0 +1,77 @@
+package com.trevari.book.index;
+
+import com.trevari.book.domain.AuthorCursor;
+import com.trevari.book.domain.AuthorPage;
+import com.trevari.book.domain.AuthorSummary;
+import com.trevari.book.domain.PageCursor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * BookIndex 스냅샷의 저자 조회
+ * 저자별 도서와 이름 접두어 목록 모두 AuthorIndex의 정렬된 배열에서 커서 위치를 찾은 뒤 limit개만 순회
+ */
+public final class AuthorLookup {
+
+    private final BookIndex index;
+
+    public AuthorLookup(BookIndex index) {
+        this.index = index;
+    }
+
+    /**
+     * 저자별 도서 키셋 조회 - 저자 인접 리스트에서 커서 다음 (제목, ISBN)부터 limit개 반환
+     *
+     * @param authorId 저자 id
+     * @param after    마지막으로 받은 결과 커서 (첫 페이지면 PageCursor.start())
+     * @param limit    반환할 최대 결과 수
+     * @return 페이지 ISBN 목록, 저자의 전체 도서 수, 다음 페이지 커서 (색인에 없는 저자면 빈 결과)
+     */
+    public IndexSearchResult booksAfter(long authorId, PageCursor after, int limit) {
+        AuthorIndex authors = index.authors();
+        int slot = authors.slot(authorId);
+        if (slot < 0 || limit <= 0) {
+            return IndexSearchResult.empty();
+        }
+        int count = authors.bookCount(slot);
+        int from = after.isStart() ? 0 : authors.bookPosition(slot, index.ordinalAfter(after.title(), after.isbn()));
+        int to = Math.min(count, from + limit);
+        List<String> page = new ArrayList<>(Math.max(0, to - from));
+        for (int i = from; i < to; i++) {
+            page.add(index.isbn(authors.book(slot, i)));
+        }
+        int last = to > from ? authors.book(slot, to - 1) : -1;
+        PageCursor nextCursor = to < count && last >= 0
+                ? PageCursor.afterTitle(index.storedField(last, BookField.TITLE), index.isbn(last))
+                : null;
+        return new IndexSearchResult(page, count, nextCursor);
+    }
+
+    /**
+     * 저자 이름 접두어 키셋 조회 - 정규화 이름(대소문자·연속 공백 무시)이 prefix로 시작하는 저자를 (이름, id) 순으로 반환
+     *
+     * @param prefix 이름 접두어 (빈 문자열이면 전체 저자)
+     * @param after  마지막으로 받은 저자 커서 (첫 페이지면 AuthorCursor.start())
+     * @param limit  반환할 최대 저자 수
+     * @return 저자별 도서 수를 포함한 페이지와 접두어에 해당하는 전체 저자 수
+     */
+    public AuthorPage authorsAfter(String prefix, AuthorCursor after, int limit) {
+        AuthorIndex authors = index.authors();
+        int start = authors.prefixStart(prefix);
+        int end = authors.prefixEnd(prefix);
+        if (limit <= 0) {
+            return new AuthorPage(List.of(), null, end - start);
+        }
+        int from = after.isStart() ? start : Math.max(start, authors.slotAfter(after.name(), after.id()));
+        int to = Math.min(end, from + limit);
+        List<AuthorSummary> page = new ArrayList<>(Math.max(0, to - from));
+        for (int slot = from; slot < to; slot++) {
+            page.add(new AuthorSummary(authors.id(slot), authors.name(slot), authors.bookCount(slot)));
+        }
+        AuthorCursor nextCursor = to < end && !page.isEmpty()
+                ? AuthorCursor.after(authors.name(to - 1), authors.id(to - 1))
+                : null;
+        return new AuthorPage(page, nextCursor, end - start);
+    }
+}
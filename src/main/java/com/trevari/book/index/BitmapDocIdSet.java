@@ -0,0 +1,63 @@
+package com.trevari.book.index;
+
+/**
+ * 조밀 텀용 비트맵 집합
+ */
+final class BitmapDocIdSet implements DocIdSet {
+
+    private final long[] words;
+    private final int cardinality;
+
+    private BitmapDocIdSet(long[] words, int cardinality) {
+        this.words = words;
+        this.cardinality = cardinality;
+    }
+
+    static BitmapDocIdSet from(int[] sortedDocs, int maxDoc) {
+        long[] words = new long[DocIdBitSet.wordCount(maxDoc)];
+        for (int doc : sortedDocs) {
+            words[doc >>> 6] |= 1L << doc;
+        }
+        return new BitmapDocIdSet(words, sortedDocs.length);
+    }
+
+    @Override
+    public int cardinality() {
+        return cardinality;
+    }
+
+    @Override
+    public boolean contains(int doc) {
+        return (words[doc >>> 6] & (1L << doc)) != 0;
+    }
+
+    @Override
+    public int intersectionCount(long[] target) {
+        int count = 0;
+        for (int i = 0; i < words.length; i++) {
+            count += Long.bitCount(target[i] & words[i]);
+        }
+        return count;
+    }
+
+    @Override
+    public void orInto(long[] target) {
+        for (int i = 0; i < words.length; i++) {
+            target[i] |= words[i];
+        }
+    }
+
+    @Override
+    public void andInto(long[] target) {
+        for (int i = 0; i < words.length; i++) {
+            target[i] &= words[i];
+        }
+    }
+
+    @Override
+    public void andNotInto(long[] target) {
+        for (int i = 0; i < words.length; i++) {
+            target[i] &= ~words[i];
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.trevari.book.index;
+
+/**
+ * BM25F 점수 계산기
+ * <p>
+ * 텀 t, 문서 d에 대해
+ * <pre>
+ *   tf'(t, d) = Σ_f boost_f × tf_f(t, d) / ((1 - b) + b × len_f(d) / avgLen_f)
+ *   score(t, d) = idf(t) × tf' / (k1 + tf')
+ * </pre>
+ * 필드 길이 정규화와 boost는 색인 시점에 문서별 float 배열로 미리 계산해 두고,
+ * 검색 시에는 빈도와 곱해 더하기만 함
+ */
+public final class Bm25fScorer {
+
+    private static final Bm25fScorer DEFAULTS = new Bm25fScorer(1.2f, 0.75f, 3.0f, 1.5f, 2.0f);
+
+    private final float k1;
+    private final float b;
+    private final float[] boosts;
+
+    public Bm25fScorer(float k1, float b, float titleBoost, float subtitleBoost, float authorBoost) {
+        this.k1 = k1;
+        this.b = b;
+        this.boosts = new float[BookField.COUNT];
+        this.boosts[BookField.TITLE.ordinal()] = titleBoost;
+        this.boosts[BookField.SUBTITLE.ordinal()] = subtitleBoost;
+        this.boosts[BookField.AUTHOR.ordinal()] = authorBoost;
+    }
+
+    public static Bm25fScorer defaults() {
+        return DEFAULTS;
+    }
+
+    /**
+     * 문서별·필드별 (boost / 길이 정규화) 가중치 계산
+     *
+     * @param fieldLengths [doc × COUNT + field] 형태의 필드 토큰 수
+     * @param maxDoc       문서 수
+     * @return 같은 배치의 가중치 배열
+     */
+    float[] fieldWeights(int[] fieldLengths, int maxDoc) {
+        float[] averageLengths = new float[BookField.COUNT];
+        for (int doc = 0; doc < maxDoc; doc++) {
+            for (int field = 0; field < BookField.COUNT; field++) {
+                averageLengths[field] += fieldLengths[doc * BookField.COUNT + field];
+            }
+        }
+        for (int field = 0; field < BookField.COUNT; field++) {
+            averageLengths[field] = maxDoc > 0 && averageLengths[field] > 0 ? averageLengths[field] / maxDoc : 1f;
+        }
+
+        float[] weights = new float[fieldLengths.length];
+        for (int doc = 0; doc < maxDoc; doc++) {
+            for (int field = 0; field < BookField.COUNT; field++) {
+                int slot = doc * BookField.COUNT + field;
+                float norm = (1 - b) + b * fieldLengths[slot] / averageLengths[field];
+                weights[slot] = boosts[field] / norm;
+            }
+        }
+        return weights;
+    }
+
+    /**
+     * 역문서빈도 (BM25 확률적 idf, 항상 양수)
+     */
+    float idf(int docFreq, int maxDoc) {
+        return (float) Math.log(1 + (maxDoc - docFreq + 0.5) / (docFreq + 0.5));
+    }
+
+    /**
+     * posting의 i번째 항목(문서 doc)에 대한 텀 점수
+     */
+    float termScore(float idf, PostingList posting, int i, float[] fieldWeights, int doc) {
+        short[] freqs = posting.freqs();
+        int freqBase = i * BookField.COUNT;
+        int weightBase = doc * BookField.COUNT;
+        float weightedTf = 0f;
+        for (int field = 0; field < BookField.COUNT; field++) {
+            weightedTf += freqs[freqBase + field] * fieldWeights[weightBase + field];
+        }
+        return idf * weightedTf / (k1 + weightedTf);
+    }
+
+    /**
+     * 코퍼스 통계 없이 매기는 텀 점수 (idf 1, 길이 정규화 없이 필드 boost만 적용)
+     * 색인 스냅샷이 없을 때의 DB 검색 결과 페이지 안 재정렬용 (BM25F 점수와 비교할 수 없는 근사치)
+     *
+     * @param fieldFreqs 필드별 텀 빈도 (BookField 순서)
+     */
+    float unnormalizedTermScore(int[] fieldFreqs) {
+        float weightedTf = 0f;
+        for (int field = 0; field < BookField.COUNT; field++) {
+            weightedTf += fieldFreqs[field] * boosts[field];
+        }
+        return weightedTf / (k1 + weightedTf);
+    }
+}
@@ -0,0 +1,59 @@
+package com.trevari.book.index;
+
+import com.trevari.book.domain.search.RangeFilter;
+
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * 범위 필터용 도서 속성 열 저장소
+ * <p>
+ * - 가격(금액)과 출판일(epoch day)은 값 순으로 정렬한 원시 배열(NumericColumn)로 보관
+ * - 통화는 값이 몇 개 되지 않으므로 통화별 ordinal 압축 집합으로 보관
+ * 필터는 검색어 매칭 비트셋에 교집합으로 적용되어, 순위 계산과 전체 건수·패싯 집계가 모두 필터된 집합 기준이 됨
+ */
+final class BookColumns {
+
+    static final BookColumns EMPTY = new BookColumns(0, NumericColumn.EMPTY, NumericColumn.EMPTY, Collections.emptyMap());
+
+    private final int maxDoc;
+    private final NumericColumn price;
+    private final NumericColumn publishedDay;
+    private final Map<String, DocIdSet> currencies;
+
+    BookColumns(int maxDoc, NumericColumn price, NumericColumn publishedDay, Map<String, DocIdSet> currencies) {
+        this.maxDoc = maxDoc;
+        this.price = price;
+        this.publishedDay = publishedDay;
+        this.currencies = currencies;
+    }
+
+    /**
+     * 매칭 비트셋에 범위 필터 적용 (matches &= 필터를 만족하는 문서)
+     */
+    void applyTo(DocIdBitSet matches, RangeFilter filter) {
+        if (filter.isEmpty()) {
+            return;
+        }
+        if (filter.currency() != null) {
+            DocIdSet currencyDocs = currencies.get(filter.currency());
+            if (currencyDocs == null) {
+                matches.and(new DocIdBitSet(maxDoc));
+                return;
+            }
+            matches.and(currencyDocs);
+        }
+        if (filter.hasPriceRange()) {
+            matches.and(price.range(
+                    filter.minPrice() != null ? filter.minPrice() : Integer.MIN_VALUE,
+                    filter.maxPrice() != null ? filter.maxPrice() : Integer.MAX_VALUE,
+                    maxDoc));
+        }
+        if (filter.hasPublishedRange()) {
+            matches.and(publishedDay.range(
+                    filter.publishedFrom() != null ? (int) filter.publishedFrom().toEpochDay() : Integer.MIN_VALUE,
+                    filter.publishedTo() != null ? (int) filter.publishedTo().toEpochDay() : Integer.MAX_VALUE,
+                    maxDoc));
+        }
+    }
+}
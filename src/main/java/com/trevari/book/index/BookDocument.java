@@ -0,0 +1,45 @@
+package com.trevari.book.index;
+
+import com.trevari.book.domain.search.Facet;
+import lombok.Builder;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 인메모리 검색 인덱스에 적재되는 도서 문서
+ * 엔티티 그래프 대신 색인에 필요한 필드만 평탄화하여 보관
+ * 일부 필드만 있는 문서(테스트, 재정렬용 문서 등)는 builder로 만들고, 빠진 목록·맵은 빈 값으로 정규화
+ *
+ * @param facetValues   패싯별 값 목록 (카테고리는 여러 값, 나머지는 최대 한 값)
+ * @param priceAmount   가격 (범위 필터용, 없으면 null)
+ * @param currency      통화 코드 (없으면 null)
+ * @param publishedDate 출판일 (범위 필터용, 없으면 null)
+ * @param pageCount     쪽수 (정렬용, 없으면 null)
+ * @param popularity    인기도 (상세 조회 수, 정렬용)
+ * @param description   설명 (검색 대상은 아니고 하이라이트 스니펫용, 없으면 null)
+ * @param authorIds     authorNames와 같은 순서의 저자 id (저자별 도서 목록용, 모르면 빈 목록)
+ */
+@Builder
+public record BookDocument(
+        String isbn,
+        String title,
+        String subtitle,
+        List<String> authorNames,
+        Map<Facet, List<String>> facetValues,
+        Integer priceAmount,
+        String currency,
+        LocalDate publishedDate,
+        Integer pageCount,
+        int popularity,
+        String description,
+        List<Long> authorIds
+) {
+
+    public BookDocument {
+        authorNames = authorNames != null ? List.copyOf(authorNames) : List.of();
+        facetValues = facetValues != null ? Map.copyOf(facetValues) : Map.of();
+        authorIds = authorIds != null ? List.copyOf(authorIds) : List.of();
+    }
+}
@@ -0,0 +1,13 @@
+package com.trevari.book.index;
+
+/**
+ * 색인 대상 필드
+ * posting의 필드별 빈도 배열과 문서별 길이 정규화 배열은 ordinal() 순서로 평탄화하여 저장
+ */
+public enum BookField {
+    TITLE,
+    SUBTITLE,
+    AUTHOR;
+
+    public static final int COUNT = values().length;
+}
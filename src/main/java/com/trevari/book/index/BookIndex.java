@@ -0,0 +1,244 @@
+package com.trevari.book.index;
+
+import com.trevari.book.domain.search.Facet;
+import com.trevari.book.index.analysis.BookAnalyzer;
+
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * 도서 역색인 스냅샷 (불변)
+ * <p>
+ * - 도서는 (제목, ISBN) 순으로 정렬된 조밀한 ordinal(0..n-1)로 식별
+ * - 텀마다 해당 텀을 포함하는 ordinal의 오름차순 int 배열을 posting list로 보관
+ *   (불리언 연산용으로 조밀한 텀은 비트맵, 희소한 텀은 배열 집합을 함께 보관)
+ * - BM25F 랭킹용으로 posting마다 필드별 빈도를, 문서마다 필드별 (boost / 길이 정규화) 가중치를 보관
+ * - 오타 허용 검색용으로 텀 사전의 SymSpell 삭제 색인을 함께 보관
+ * - 구문 검색 검증용으로 문서별 필드 원문을 보관 (저자명은 줄바꿈으로 연결)
+ * - 하이라이트용으로 제목·부제목·설명의 텀 벡터(텀 id + 원문 오프셋)를 보관 (스니펫 생성 시 원문을 다시 분석하지 않음)
+ * - 관련 도서 추천용으로 도서별 관련 도서 상위 목록(RelatedBooks)을 미리 계산해 보관
+ * - 저자별 도서 목록·저자 이름 접두어 조회용으로 저자 인접 리스트(AuthorIndex)를 보관
+ * - 하이픈·ISBN-10 입력 조회와 ISBN 접두어 조회용으로 ISBN-13 long 정렬 배열(IsbnIndex)을 보관
+ * - 패싯 건수용으로 패싯 값마다 해당 값을 가진 ordinal 압축 집합을 보관 (매칭 비트셋과 교집합 popcount)
+ * - 범위 필터용으로 가격·출판일·통화 열 저장소(BookColumns)를 보관
+ * - 속성 정렬용으로 정렬 기준별 순위 배열(SortRanks)을 보관
+ * - 재색인 시 새 스냅샷을 만들어 통째로 교체하므로 검색 중 잠금이 필요 없음
+ */
+public final class BookIndex {
+
+    private static final BookIndex EMPTY = new BookIndex(
+            new String[0], Collections.emptyMap(), Collections.emptyMap(), new float[0], new String[0], TermVectors.EMPTY,
+            RelatedBooks.EMPTY, AuthorIndex.EMPTY, IsbnIndex.EMPTY,
+            Collections.emptyMap(), BookColumns.EMPTY, SortRanks.EMPTY, Bm25fScorer.defaults(),
+            BookAnalyzer.stemming(), FuzzyTermExpander.EMPTY, false);
+
+    private final String[] isbns;
+    private final Map<String, Integer> ordinals;
+    private final Map<String, PostingList> postings;
+    private final float[] fieldWeights;
+    private final String[] storedFields;
+    private final TermVectors termVectors;
+    private final RelatedBooks relatedBooks;
+    private final AuthorIndex authors;
+    private final IsbnIndex isbnIndex;
+    private final Map<Facet, Map<String, DocIdSet>> facets;
+    private final BookColumns columns;
+    private final SortRanks sortRanks;
+    private final Bm25fScorer scorer;
+    private final BookAnalyzer analyzer;
+    private final FuzzyTermExpander fuzzyTerms;
+    private final boolean ready;
+
+    BookIndex(String[] isbns, Map<String, Integer> ordinals, Map<String, PostingList> postings, float[] fieldWeights,
+              String[] storedFields, TermVectors termVectors, RelatedBooks relatedBooks, AuthorIndex authors,
+              IsbnIndex isbnIndex, Map<Facet, Map<String, DocIdSet>> facets, BookColumns columns, SortRanks sortRanks,
+              Bm25fScorer scorer, BookAnalyzer analyzer, FuzzyTermExpander fuzzyTerms, boolean ready) {
+        this.isbns = isbns;
+        this.ordinals = ordinals;
+        this.postings = postings;
+        this.fieldWeights = fieldWeights;
+        this.storedFields = storedFields;
+        this.termVectors = termVectors;
+        this.relatedBooks = relatedBooks;
+        this.authors = authors;
+        this.isbnIndex = isbnIndex;
+        this.facets = facets;
+        this.columns = columns;
+        this.sortRanks = sortRanks;
+        this.scorer = scorer;
+        this.analyzer = analyzer;
+        this.fuzzyTerms = fuzzyTerms;
+        this.ready = ready;
+    }
+
+    /**
+     * 아직 색인이 만들어지지 않았음을 나타내는 빈 스냅샷
+     */
+    public static BookIndex empty() {
+        return EMPTY;
+    }
+
+    /**
+     * 검색에 사용할 수 있는 스냅샷인지 여부
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 색인된 도서 수
+     */
+    public int size() {
+        return isbns.length;
+    }
+
+    /**
+     * 텀 개수
+     */
+    public int termCount() {
+        return postings.size();
+    }
+
+    /**
+     * ordinal에 해당하는 ISBN 반환
+     */
+    public String isbn(int ordinal) {
+        return isbns[ordinal];
+    }
+
+    /**
+     * ISBN에 해당하는 ordinal 반환 (색인에 없으면 -1)
+     */
+    public int ordinalOf(String isbn) {
+        return ordinals.getOrDefault(isbn, -1);
+    }
+
+    /**
+     * 텀의 posting list 반환 (없으면 빈 posting, 내부 배열은 수정하면 안 됨)
+     */
+    PostingList postings(String term) {
+        return postings.getOrDefault(term, PostingList.EMPTY);
+    }
+
+    /**
+     * 문서별 필드 가중치 ([doc × BookField.COUNT + field], 내부 배열은 수정하면 안 됨)
+     */
+    float[] fieldWeights() {
+        return fieldWeights;
+    }
+
+    /**
+     * 문서의 필드 원문 (없으면 null, 저자명은 줄바꿈으로 연결)
+     */
+    String storedField(int ordinal, BookField field) {
+        return storedFields[ordinal * BookField.COUNT + field.ordinal()];
+    }
+
+    /**
+     * 하이라이트용 제목·부제목·설명 텀 벡터
+     */
+    TermVectors termVectors() {
+        return termVectors;
+    }
+
+    /**
+     * 도서별 관련 도서 상위 목록
+     */
+    RelatedBooks relatedBooks() {
+        return relatedBooks;
+    }
+
+    /**
+     * 저자별 도서 인접 리스트와 저자 이름 접두어 색인
+     */
+    AuthorIndex authors() {
+        return authors;
+    }
+
+    /**
+     * 정규화 ISBN(ISBN-13 long) 정렬 배열
+     */
+    IsbnIndex isbnIndex() {
+        return isbnIndex;
+    }
+
+    /**
+     * 색인된 도서 중 해당 저자의 도서가 있는지 여부
+     */
+    public boolean containsAuthor(long authorId) {
+        return authors.slot(authorId) >= 0;
+    }
+
+    /**
+     * 패싯 값별 ordinal 집합 (값이 있는 문서가 없으면 빈 맵)
+     */
+    Map<String, DocIdSet> facetValues(Facet facet) {
+        return facets.getOrDefault(facet, Collections.emptyMap());
+    }
+
+    /**
+     * 범위 필터용 속성 열 저장소
+     */
+    BookColumns columns() {
+        return columns;
+    }
+
+    /**
+     * 속성 정렬용 정렬 기준별 순위 배열
+     */
+    SortRanks sortRanks() {
+        return sortRanks;
+    }
+
+    /**
+     * 색인 생성 시 사용한 BM25F 점수 계산기
+     */
+    Bm25fScorer scorer() {
+        return scorer;
+    }
+
+    /**
+     * 색인 생성 시 사용한 분석기 (검색어도 같은 분석기로 분석해야 텀이 일치)
+     */
+    BookAnalyzer analyzer() {
+        return analyzer;
+    }
+
+    /**
+     * 오타 허용 검색용 텀 사전 삭제 색인
+     */
+    FuzzyTermExpander fuzzyTerms() {
+        return fuzzyTerms;
+    }
+
+    /**
+     * 텀을 포함하는 도서 수
+     */
+    public int docFreq(String term) {
+        return postings(term).docFreq();
+    }
+
+    /**
+     * (제목, ISBN) 순서에서 주어진 키보다 뒤에 오는 첫 ordinal (키셋 페이지네이션 시작 위치)
+     * 해당 도서가 재색인으로 사라졌어도 정렬 위치는 그대로이므로 이어서 조회할 수 있음
+     */
+    public int ordinalAfter(String title, String isbn) {
+        String key = title != null ? title : "";
+        int low = 0;
+        int high = isbns.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            String midTitle = storedField(mid, BookField.TITLE);
+            int cmp = (midTitle != null ? midTitle : "").compareTo(key);
+            if (cmp == 0) {
+                cmp = isbns[mid].compareTo(isbn);
+            }
+            if (cmp <= 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+}
@@ -0,0 +1,232 @@
+package com.trevari.book.index;
+
+import com.trevari.book.domain.search.Facet;
+import com.trevari.book.domain.search.SortOrder;
+import com.trevari.book.index.analysis.BookAnalyzer;
+import com.trevari.book.index.analysis.Token;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * BookDocument 목록으로부터 BookIndex 스냅샷을 생성하는 빌더
+ * 제목·부제목·저자명을 같은 텀 공간에 색인하고, 텀 빈도는 필드별로 분리해 보관
+ * 제목·부제목·설명은 하이라이트용 텀 벡터(텀 id + 원문 오프셋)도 함께 보관 (설명은 검색 대상이 아님)
+ * 저자·카테고리·텀 벡터로 도서별 관련 도서를 미리 계산
+ * 기본 분석기는 한글 bigram + 영문 소문자 단어 + 복수형 스테머
+ */
+public final class BookIndexBuilder {
+
+    private static final Comparator<BookDocument> ORDINAL_ORDER = Comparator
+            .comparing((BookDocument doc) -> doc.title() != null ? doc.title() : "")
+            .thenComparing(BookDocument::isbn);
+
+    private BookIndexBuilder() {
+    }
+
+    /**
+     * 도서 문서 목록으로 역색인 생성
+     *
+     * @param documents 색인할 도서 문서 목록
+     * @param scorer    필드 가중치 계산에 사용할 BM25F 점수 계산기
+     * @param analyzer  색인과 검색에 함께 사용할 분석기
+     * @return 불변 색인 스냅샷
+     */
+    public static BookIndex build(List<BookDocument> documents, Bm25fScorer scorer, BookAnalyzer analyzer) {
+        List<BookDocument> sorted = new ArrayList<>(documents);
+        sorted.sort(ORDINAL_ORDER);
+
+        int maxDoc = sorted.size();
+        String[] isbns = new String[maxDoc];
+        int[] fieldLengths = new int[maxDoc * BookField.COUNT];
+        String[] storedFields = new String[maxDoc * BookField.COUNT];
+        Map<String, PostingBuilder> builders = new HashMap<>();
+        Map<String, Integer> ordinals = new HashMap<>(maxDoc * 2);
+        TermVectors.Builder termVectors = TermVectors.builder(maxDoc);
+        Map<Facet, Map<String, IntList>> facetDocs = new EnumMap<>(Facet.class);
+        int[] prices = new int[maxDoc];
+        boolean[] hasPrice = new boolean[maxDoc];
+        int[] publishedDays = new int[maxDoc];
+        boolean[] hasPublishedDay = new boolean[maxDoc];
+        Map<String, IntList> currencyDocs = new HashMap<>();
+        int[] pageCounts = new int[maxDoc];
+        boolean[] hasPageCount = new boolean[maxDoc];
+        int[] popularity = new int[maxDoc];
+
+        for (int ordinal = 0; ordinal < maxDoc; ordinal++) {
+            BookDocument doc = sorted.get(ordinal);
+            isbns[ordinal] = doc.isbn();
+            ordinals.put(doc.isbn(), ordinal);
+            int base = ordinal * BookField.COUNT;
+            storedFields[base + BookField.TITLE.ordinal()] = doc.title();
+            storedFields[base + BookField.SUBTITLE.ordinal()] = doc.subtitle();
+            storedFields[base + BookField.AUTHOR.ordinal()] = doc.authorNames().isEmpty()
+                    ? null : String.join("\n", doc.authorNames());
+
+            List<Token> titleTokens = analyzer.analyze(doc.title());
+            List<Token> subtitleTokens = analyzer.analyze(doc.subtitle());
+            addTerms(builders, fieldLengths, ordinal, BookField.TITLE, titleTokens);
+            addTerms(builders, fieldLengths, ordinal, BookField.SUBTITLE, subtitleTokens);
+            List<Token> authorTokens = new ArrayList<>();
+            int authorOffset = 0;
+            for (String authorName : doc.authorNames()) {
+                List<Token> tokens = analyzer.analyze(authorName);
+                addTerms(builders, fieldLengths, ordinal, BookField.AUTHOR, tokens);
+                for (Token token : tokens) {
+                    authorTokens.add(new Token(token.term(), authorTokens.size(), token.startOffset() + authorOffset,
+                            token.endOffset() + authorOffset, token.run()));
+                }
+                authorOffset += authorName.length() + 1;
+            }
+            termVectors.add(ordinal, HighlightField.TITLE, doc.title(), titleTokens);
+            termVectors.add(ordinal, HighlightField.SUBTITLE, doc.subtitle(), subtitleTokens);
+            termVectors.add(ordinal, HighlightField.DESCRIPTION, doc.description(),
+                    analyzer.analyze(truncate(doc.description())));
+            termVectors.add(ordinal, HighlightField.AUTHOR, storedFields[base + BookField.AUTHOR.ordinal()],
+                    authorTokens);
+            addFacetValues(facetDocs, ordinal, doc);
+
+            if (doc.priceAmount() != null) {
+                prices[ordinal] = doc.priceAmount();
+                hasPrice[ordinal] = true;
+            }
+            if (doc.publishedDate() != null) {
+                publishedDays[ordinal] = (int) doc.publishedDate().toEpochDay();
+                hasPublishedDay[ordinal] = true;
+            }
+            if (doc.currency() != null && !doc.currency().isBlank()) {
+                currencyDocs.computeIfAbsent(doc.currency().trim().toUpperCase(Locale.ROOT), c -> new IntList())
+                        .addIfAbsent(ordinal);
+            }
+            if (doc.pageCount() != null) {
+                pageCounts[ordinal] = doc.pageCount();
+                hasPageCount[ordinal] = true;
+            }
+            popularity[ordinal] = doc.popularity();
+        }
+
+        float[] fieldWeights = scorer.fieldWeights(fieldLengths, maxDoc);
+        Map<String, PostingList> postings = new HashMap<>(builders.size() * 2);
+        builders.forEach((term, builder) -> postings.put(term, builder.build(maxDoc, scorer, fieldWeights)));
+
+        Map<Facet, Map<String, DocIdSet>> facets = new EnumMap<>(Facet.class);
+        facetDocs.forEach((facet, values) -> {
+            Map<String, DocIdSet> sets = new HashMap<>(values.size() * 2);
+            values.forEach((value, docs) -> sets.put(value, DocIdSet.of(docs.toArray(), maxDoc)));
+            facets.put(facet, sets);
+        });
+
+        Map<String, DocIdSet> currencies = new HashMap<>(currencyDocs.size() * 2);
+        currencyDocs.forEach((currency, docs) -> currencies.put(currency, DocIdSet.of(docs.toArray(), maxDoc)));
+        BookColumns columns = new BookColumns(maxDoc, NumericColumn.of(prices, hasPrice),
+                NumericColumn.of(publishedDays, hasPublishedDay), currencies);
+
+        boolean[] allPresent = new boolean[maxDoc];
+        Arrays.fill(allPresent, true);
+        Map<SortOrder, int[]> sortOrders = new EnumMap<>(SortOrder.class);
+        for (SortOrder sortOrder : SortOrder.values()) {
+            boolean descending = sortOrder.descending();
+            switch (sortOrder) {
+                case PRICE_ASC, PRICE_DESC -> sortOrders.put(sortOrder, SortRanks.order(prices, hasPrice, descending));
+                case NEWEST, OLDEST -> sortOrders.put(sortOrder,
+                        SortRanks.order(publishedDays, hasPublishedDay, descending));
+                case PAGES_ASC, PAGES_DESC -> sortOrders.put(sortOrder,
+                        SortRanks.order(pageCounts, hasPageCount, descending));
+                case POPULAR -> sortOrders.put(sortOrder, SortRanks.order(popularity, allPresent, descending));
+                case RELEVANCE, TITLE -> {
+                    // 점수 순은 검색 시 계산하고, 제목 순은 ordinal 순서 자체
+                }
+            }
+        }
+
+        TermVectors vectors = termVectors.build();
+        return new BookIndex(isbns, ordinals, postings, fieldWeights, storedFields, vectors,
+                RelatedBooks.build(sorted, vectors), AuthorIndex.build(sorted), IsbnIndex.build(sorted),
+                facets, columns, new SortRanks(sortOrders), scorer, analyzer,
+                FuzzyTermExpander.build(postings.keySet()), true);
+    }
+
+    /**
+     * 텀 벡터에 보관할 앞부분만 분석하도록 자름 (긴 설명 전체를 분석하지 않음)
+     */
+    private static String truncate(String text) {
+        return text != null && text.length() > TermVectors.MAX_TEXT_LENGTH
+                ? text.substring(0, TermVectors.MAX_TEXT_LENGTH) : text;
+    }
+
+    private static void addFacetValues(Map<Facet, Map<String, IntList>> facetDocs, int ordinal, BookDocument doc) {
+        doc.facetValues().forEach((facet, values) -> {
+            Map<String, IntList> docsByValue = facetDocs.computeIfAbsent(facet, f -> new HashMap<>());
+            for (String value : values) {
+                if (value != null && !value.isBlank()) {
+                    docsByValue.computeIfAbsent(value, v -> new IntList()).addIfAbsent(ordinal);
+                }
+            }
+        });
+    }
+
+    private static void addTerms(Map<String, PostingBuilder> builders, int[] fieldLengths, int ordinal,
+                                 BookField field, List<Token> tokens) {
+        fieldLengths[ordinal * BookField.COUNT + field.ordinal()] += tokens.size();
+        for (Token token : tokens) {
+            builders.computeIfAbsent(token.term(), t -> new PostingBuilder()).add(ordinal, field);
+        }
+    }
+
+    /**
+     * ordinal이 오름차순으로만 추가된다는 전제의 int 목록 (같은 값을 여러 번 가진 문서는 한 번만 추가)
+     */
+    private static final class IntList {
+        private int[] values = new int[4];
+        private int size;
+
+        void addIfAbsent(int ordinal) {
+            if (size > 0 && values[size - 1] == ordinal) {
+                return;
+            }
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = ordinal;
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+
+    /**
+     * ordinal이 오름차순으로만 추가된다는 전제의 posting 빌더
+     * 같은 ordinal이 다시 들어오면 해당 필드 빈도만 증가
+     */
+    private static final class PostingBuilder {
+        private int[] docs = new int[4];
+        private short[] freqs = new short[4 * BookField.COUNT];
+        private int size;
+
+        void add(int ordinal, BookField field) {
+            if (size == 0 || docs[size - 1] != ordinal) {
+                if (size == docs.length) {
+                    docs = Arrays.copyOf(docs, size * 2);
+                    freqs = Arrays.copyOf(freqs, size * 2 * BookField.COUNT);
+                }
+                docs[size++] = ordinal;
+            }
+            int slot = (size - 1) * BookField.COUNT + field.ordinal();
+            if (freqs[slot] < Short.MAX_VALUE) {
+                freqs[slot]++;
+            }
+        }
+
+        PostingList build(int maxDoc, Bm25fScorer scorer, float[] fieldWeights) {
+            return PostingList.of(Arrays.copyOf(docs, size),
+                    Arrays.copyOf(freqs, size * BookField.COUNT), maxDoc, scorer, fieldWeights);
+        }
+    }
+}
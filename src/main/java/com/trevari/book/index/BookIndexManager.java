@@ -0,0 +1,95 @@
+package com.trevari.book.index;
+
+import com.trevari.book.index.analysis.BookAnalyzer;
+import com.trevari.book.persistence.BookDocumentLoader;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 인메모리 검색 인덱스 생명주기 관리
+ * - 애플리케이션 기동 완료 시 최초 색인
+ * - 설정된 주기마다 새 스냅샷을 만들어 원자적으로 교체
+ * - 교체 후 같은 도서 문서를 BookIndexRebuiltEvent로 발행해 다른 인메모리 색인도 함께 재구성
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BookIndexManager {
+
+    private final BookDocumentLoader documentLoader;
+    private final SearchIndexProperties properties;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private volatile BookIndex current = BookIndex.empty();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (properties.isEnabled()) {
+            rebuild();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${search.index.refresh-interval-ms:600000}",
+            initialDelayString = "${search.index.refresh-interval-ms:600000}")
+    public void scheduledRefresh() {
+        if (properties.isEnabled()) {
+            rebuild();
+        }
+    }
+
+    /**
+     * DB에서 도서 문서를 읽어 새 스냅샷을 만들고 교체한 뒤 같은 문서로 BookIndexRebuiltEvent 발행
+     * 실패하면 기존 스냅샷을 그대로 유지하고 이벤트도 발행하지 않음 (다른 색인도 기존 상태 유지)
+     */
+    public synchronized void rebuild() {
+        long startTime = System.currentTimeMillis();
+        List<BookDocument> documents;
+        try {
+            documents = documentLoader.loadAll();
+            BookIndex index = BookIndexBuilder.build(documents, scorer(), analyzer());
+            this.current = index;
+
+            log.info("Book search index rebuilt in {}ms - books: {}, terms: {}",
+                    System.currentTimeMillis() - startTime, index.size(), index.termCount());
+        } catch (Exception e) {
+            log.error("Failed to rebuild book search index, keeping previous snapshot", e);
+            return;
+        }
+        eventPublisher.publishEvent(new BookIndexRebuiltEvent(documents));
+    }
+
+    /**
+     * 설정된 BM25F 파라미터로 만든 점수 계산기 (DB 검색 결과 재정렬에도 같은 설정을 사용)
+     */
+    public Bm25fScorer scorer() {
+        return properties.getScoring().toScorer();
+    }
+
+    /**
+     * 설정된 분석 파이프라인 (DB 검색 결과 재정렬에도 같은 설정을 사용)
+     */
+    public BookAnalyzer analyzer() {
+        return properties.toAnalyzer();
+    }
+
+    /**
+     * 결과가 없을 때 오타 허용 검색으로 재시도할지 여부
+     */
+    public boolean isFuzzyFallbackEnabled() {
+        return properties.isFuzzyFallback();
+    }
+
+    /**
+     * 현재 검색에 사용할 스냅샷 (색인 전이면 isReady() == false)
+     */
+    public BookIndex current() {
+        return current;
+    }
+}
@@ -0,0 +1,17 @@
+package com.trevari.book.index;
+
+import java.util.List;
+
+/**
+ * 검색 인덱스 스냅샷이 교체되었음을 알리는 이벤트
+ * 자동완성·유사 도서 색인처럼 도서 문서로 만드는 다른 색인은 DB를 다시 읽지 않고
+ * 이 이벤트의 문서로 재구성하므로 검색 인덱스와 같은 시점의 카탈로그를 사용
+ *
+ * @param documents 새 스냅샷을 만든 도서 문서 (읽기 전용)
+ */
+public record BookIndexRebuiltEvent(List<BookDocument> documents) {
+
+    public BookIndexRebuiltEvent {
+        documents = List.copyOf(documents);
+    }
+}
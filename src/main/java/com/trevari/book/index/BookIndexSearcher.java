@@ -0,0 +1,809 @@
+package com.trevari.book.index;
+
+import com.trevari.book.domain.PageCursor;
+import com.trevari.book.domain.search.BookHighlight;
+import com.trevari.book.domain.search.Facet;
+import com.trevari.book.domain.search.FacetCount;
+import com.trevari.book.domain.search.QueryNode;
+import com.trevari.book.domain.search.QueryPlanner;
+import com.trevari.book.domain.search.RangeFilter;
+import com.trevari.book.domain.search.SearchQuery;
+import com.trevari.book.domain.search.SortOrder;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * BookIndex 스냅샷 위에서 SearchQuery를 평가하는 검색기
+ * <p>
+ * - SIMPLE: 검색어 단어들의 교집합 (여러 단어면 모든 단어가 있는 도서만, 제목·부제목에서 단어가 가까울수록 근접도 가산점)
+ * - OR_OPERATION: 두 키워드 단어 전체의 합집합
+ * - NOT_OPERATION: 포함 키워드 합집합에서 제외 키워드 합집합을 뺀 차집합
+ * - BOOLEAN: QueryPlanner가 선택도 순으로 정렬한 구문 트리를 비트셋 연산으로 평가
+ *   (구문은 모든 텀의 교집합을 후보로 삼고, 저장된 필드 원문에서 텀이 연속해서 나오는지 검증)
+ * 한글 단어는 bigram 텀들의 교집합일 때 일치한 것으로 봄 ("프로그래밍" = 프로 ∧ 로그 ∧ 그래 ∧ 래밍)
+ * fuzzy 쿼리면 단어를 편집 거리 1~2 이내 사전 텀들의 합집합으로 확장 ("pyhton" = pyhton ∨ python)
+ * <p>
+ * 매칭 집합은 텀별 압축 집합의 비트 연산(or / and / andNot)으로 만들고, 전체 건수는 비트셋의 popcount로 계산
+ * 정렬은 BM25F 점수(제목·부제목·저자 필드별 boost와 길이 정규화 반영) 내림차순,
+ * 같은 경우 ordinal(제목, ISBN) 오름차순
+ * <p>
+ * 키셋(search-after) 조회는 커서의 (점수, ordinal) 뒤 순위 문서만 상위 k개 힙에 넣으므로
+ * 깊은 페이지에서도 힙 크기가 (offset + limit)가 아닌 페이지 크기로 유지됨
+ * <p>
+ * 패싯 건수는 같은 매칭 비트셋과 패싯 값별 ordinal 집합의 교집합 popcount로 계산 (추가 조회 없음)
+ * 쿼리의 가격·출판일 범위 필터는 열 저장소에서 범위 비트셋으로 만들어 매칭 비트셋과 교집합
+ * 가격·출판일·쪽수·인기도 정렬은 색인 시 미리 계산한 순위 배열(SortRanks)로 매칭 비트셋을 상위 k개 정렬 (점수 계산 없음)
+ * 하이라이트는 페이지 도서의 텀 벡터에서 검색어 텀 id가 나온 오프셋만 찾아 보관된 원문을 자름 (원문 재분석 없음)
+ * 저자·ISBN·관련 도서 조회는 쿼리 평가가 필요 없으므로 AuthorLookup, IsbnLookup, RelatedBookLookup이 담당
+ */
+public final class BookIndexSearcher {
+
+    private static final QueryTerms NO_TERMS =
+            new QueryTerms(new String[0], new PostingList[0], new float[0], new TermGroup[0]);
+    private static final int MAX_FUZZY_EXPANSIONS = 8;
+    /**
+     * 편집 거리별 텀 가중치 (정확히 일치한 텀이 오타 교정 텀보다 우선)
+     * 2의 거듭제곱이라 곱해도 WAND 점수 상한과 실제 점수의 대소 관계가 바뀌지 않음
+     */
+    private static final float[] FUZZY_BOOSTS = {1f, 0.5f, 0.25f};
+    /**
+     * 근접도 가산점 최댓값 비율 (단어별 최대 텀 점수 합 대비)
+     * 단어가 붙어 나온 도서가 흩어져 나온 도서보다 앞서되, 텀 빈도·필드 차이를 뒤집지는 않을 정도
+     */
+    private static final float PROXIMITY_WEIGHT = 0.5f;
+    private static final int NO_MORE_DOCS = Integer.MAX_VALUE;
+    private static final int MAX_FACET_VALUES = 20;
+    private static final int FRAGMENT_LENGTH = 150;
+    /** 구문 검증 필드 (역색인 필드와 같은 제목·부제목·저자) */
+    private static final HighlightField[] PHRASE_FIELDS =
+            {HighlightField.TITLE, HighlightField.SUBTITLE, HighlightField.AUTHOR};
+    private static final Comparator<FacetCount> FACET_ORDER = Comparator
+            .comparingInt(FacetCount::count).reversed()
+            .thenComparing(FacetCount::value);
+
+    private final BookIndex index;
+
+    public BookIndexSearcher(BookIndex index) {
+        this.index = index;
+    }
+
+    /**
+     * 검색 쿼리 실행 + 요청한 패싯의 값별 건수 집계 + 정렬 기준 지정
+     *
+     * @param query     파싱된 검색 쿼리
+     * @param offset    건너뛸 결과 수
+     * @param limit     반환할 최대 결과 수
+     * @param facets    건수를 집계할 패싯 (비어 있으면 집계하지 않음)
+     * @param sortOrder 정렬 기준 (RELEVANCE면 BM25F 점수 순, 그 외는 미리 계산한 순위 순)
+     * @return 페이지 ISBN 목록, 전체 매칭 수, 패싯별 상위 값 건수 (건수 내림차순, 같으면 값 오름차순)
+     */
+    public IndexSearchResult search(SearchQuery query, int offset, int limit, Set<Facet> facets, SortOrder sortOrder) {
+        if (limit <= 0) {
+            return IndexSearchResult.empty();
+        }
+        Matches matched = match(query);
+        if (matched == null) {
+            return IndexSearchResult.empty();
+        }
+        IndexSearchResult result = sortOrder == SortOrder.RELEVANCE
+                ? rank(matched, offset, limit)
+                : sorted(matched.docs(), sortOrder, offset, limit);
+        return facets.isEmpty() ? result : result.withFacets(facetCounts(matched.docs(), facets));
+    }
+
+    /**
+     * 매칭 도서 수 (순위 계산 없이 매칭 비트셋 popcount만 수행)
+     */
+    public int count(SearchQuery query) {
+        Matches matched = match(query);
+        return matched != null ? matched.docs().cardinality() : 0;
+    }
+
+    /**
+     * 검색 결과 도서의 하이라이트 스니펫
+     * 제목·부제목은 일치한 텀이 있을 때만 전체를, 설명은 일치 구간이 가장 많은 FRAGMENT_LENGTH자 조각(일치가 없으면 앞부분)을 반환
+     *
+     * @param query 파싱된 검색 쿼리 (제외 검색어는 하이라이트하지 않고, fuzzy면 오타 확장 텀도 하이라이트)
+     * @param isbns 하이라이트할 도서 ISBN 목록 (보통 검색 결과 페이지)
+     * @return ISBN별 하이라이트 (색인에 없거나 하이라이트할 내용이 없는 도서는 제외)
+     */
+    public Map<String, BookHighlight> highlight(SearchQuery query, List<String> isbns) {
+        TermVectors termVectors = index.termVectors();
+        BitSet terms = new BitSet();
+        for (QueryNode leaf : query.root().positiveLeaves()) {
+            for (List<String> group : index.analyzer().termGroups(leaf.text())) {
+                group.forEach(term -> addTermId(terms, termVectors, term));
+                if (query.fuzzy() && group.size() == 1) {
+                    expand(group.get(0)).forEach(alternative -> addTermId(terms, termVectors, alternative.term()));
+                }
+            }
+        }
+
+        Map<String, BookHighlight> highlights = new LinkedHashMap<>();
+        for (String isbn : isbns) {
+            int doc = index.ordinalOf(isbn);
+            if (doc < 0) {
+                continue;
+            }
+            String description = termVectors.text(doc, HighlightField.DESCRIPTION);
+            BookHighlight highlight = new BookHighlight(
+                    wholeField(termVectors, doc, HighlightField.TITLE, terms),
+                    wholeField(termVectors, doc, HighlightField.SUBTITLE, terms),
+                    description != null
+                            ? SnippetFormatter.fragment(description,
+                            termVectors.matchedSpans(doc, HighlightField.DESCRIPTION, terms), FRAGMENT_LENGTH)
+                            : null);
+            if (!highlight.isEmpty()) {
+                highlights.put(isbn, highlight);
+            }
+        }
+        return highlights;
+    }
+
+    private static void addTermId(BitSet terms, TermVectors termVectors, String term) {
+        int termId = termVectors.termId(term);
+        if (termId >= 0) {
+            terms.set(termId);
+        }
+    }
+
+    /**
+     * 일치한 텀이 있으면 필드 전체를 하이라이트 (없으면 null)
+     */
+    private static String wholeField(TermVectors termVectors, int doc, HighlightField field, BitSet terms) {
+        String text = termVectors.text(doc, field);
+        if (text == null) {
+            return null;
+        }
+        int[] spans = termVectors.matchedSpans(doc, field, terms);
+        return spans.length > 0 ? SnippetFormatter.whole(text, spans) : null;
+    }
+
+    /**
+     * 키셋(search-after) 검색 - 커서 다음 순위부터 limit개 반환
+     * 점수가 없는 커서(DB 검색 경로에서 발급된 (제목, ISBN) 순 커서)면 같은 순서로 이어서 반환
+     *
+     * @param query 파싱된 검색 쿼리
+     * @param after 마지막으로 받은 결과 커서 (첫 페이지면 PageCursor.start())
+     * @param limit 반환할 최대 결과 수
+     * @return 페이지 ISBN 목록, 전체 매칭 수, 다음 페이지 커서
+     */
+    public IndexSearchResult searchAfter(SearchQuery query, PageCursor after, int limit) {
+        if (limit <= 0) {
+            return IndexSearchResult.empty();
+        }
+        Matches matched = match(query);
+        if (matched == null) {
+            return IndexSearchResult.empty();
+        }
+        if (!after.isStart() && !after.hasScore()) {
+            return listAfter(matched.docs(), after, limit);
+        }
+
+        int totalHits = matched.docs().cardinality();
+        if (totalHits == 0) {
+            return IndexSearchResult.empty();
+        }
+        float afterScore = after.isStart() ? Float.POSITIVE_INFINITY : after.score();
+        int afterDoc = after.isStart() ? 0 : index.ordinalAfter(after.title(), after.isbn());
+        TopDocsCollector.TopDocs top = topDocs(matched.includes().postings(), matched.includes().boosts(),
+                matched.proximity(), matched.docs(), Math.min(limit + 1, totalHits), afterScore, afterDoc);
+
+        int count = Math.min(limit, top.docs().length);
+        List<String> page = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            page.add(index.isbn(top.docs()[i]));
+        }
+        PageCursor nextCursor = null;
+        if (top.docs().length > limit) {
+            int last = top.docs()[limit - 1];
+            nextCursor = PageCursor.afterScore(top.scores()[limit - 1], index.storedField(last, BookField.TITLE),
+                    index.isbn(last));
+        }
+        return new IndexSearchResult(page, totalHits, nextCursor);
+    }
+
+    /**
+     * 전체 도서를 (제목, ISBN) 순 키셋으로 조회 - 커서 위치를 이진 탐색한 뒤 limit개만 순회
+     */
+    public IndexSearchResult listAfter(PageCursor after, int limit) {
+        if (limit <= 0) {
+            return IndexSearchResult.empty();
+        }
+        return listAfter(DocIdBitSet.all(index.size()), after, limit);
+    }
+
+    private IndexSearchResult listAfter(DocIdBitSet matches, PageCursor after, int limit) {
+        int doc = matches.nextSetBit(after.isStart() ? 0 : index.ordinalAfter(after.title(), after.isbn()));
+        List<String> page = new ArrayList<>(limit);
+        int last = -1;
+        while (doc >= 0 && page.size() < limit) {
+            page.add(index.isbn(doc));
+            last = doc;
+            doc = matches.nextSetBit(doc + 1);
+        }
+        PageCursor nextCursor = doc >= 0 && last >= 0
+                ? PageCursor.afterTitle(index.storedField(last, BookField.TITLE), index.isbn(last))
+                : null;
+        return new IndexSearchResult(page, matches.cardinality(), nextCursor);
+    }
+
+    /**
+     * 카테고리 목록 조회 - 이름에 categoryName이 포함된 (대소문자 무시) 카테고리의 도서를 정렬 기준 순으로 반환
+     *
+     * @param categoryName 카테고리명 (부분 일치)
+     * @param filter       가격·출판일 범위 필터
+     * @param offset       건너뛸 결과 수
+     * @param limit        반환할 최대 결과 수
+     * @param sortOrder    정렬 기준 (RELEVANCE면 (제목, ISBN) 순)
+     * @return 페이지 ISBN 목록과 전체 매칭 수
+     */
+    public IndexSearchResult browse(String categoryName, RangeFilter filter, int offset, int limit,
+                                    SortOrder sortOrder) {
+        if (limit <= 0) {
+            return IndexSearchResult.empty();
+        }
+        return sorted(categoryMatches(categoryName, filter),
+                sortOrder == SortOrder.RELEVANCE ? SortOrder.TITLE : sortOrder, offset, limit);
+    }
+
+    /**
+     * 카테고리 목록 키셋 조회 - 커서 다음 (제목, ISBN)부터 limit개 반환
+     */
+    public IndexSearchResult browseAfter(String categoryName, RangeFilter filter, PageCursor after, int limit) {
+        if (limit <= 0) {
+            return IndexSearchResult.empty();
+        }
+        return listAfter(categoryMatches(categoryName, filter), after, limit);
+    }
+
+    private DocIdBitSet categoryMatches(String categoryName, RangeFilter filter) {
+        String needle = categoryName.trim().toLowerCase(Locale.ROOT);
+        DocIdBitSet matches = new DocIdBitSet(index.size());
+        index.facetValues(Facet.CATEGORY).forEach((category, docs) -> {
+            if (category.toLowerCase(Locale.ROOT).contains(needle)) {
+                matches.or(docs);
+            }
+        });
+        index.columns().applyTo(matches, filter);
+        return matches;
+    }
+
+    /**
+     * 전략별로 검색어를 분석하고 범위 필터까지 적용한 매칭 비트셋 생성 (점수를 매길 포함 텀이 없으면 null)
+     */
+    private Matches match(SearchQuery query) {
+        Matches matched = matchQuery(query);
+        if (matched != null) {
+            index.columns().applyTo(matched.docs(), query.filter());
+        }
+        return matched;
+    }
+
+    private Matches matchQuery(SearchQuery query) {
+        boolean fuzzy = query.fuzzy();
+        return switch (query.strategy()) {
+            case SIMPLE -> matchAll(termsOf(fuzzy, query.getFirstKeyword()));
+            case OR_OPERATION -> matchTerms(termsOf(fuzzy, query.getFirstKeyword(), query.getSecondKeyword()), NO_TERMS);
+            case NOT_OPERATION -> matchTerms(termsOf(fuzzy, query.getIncludeKeyword()),
+                    termsOf(false, query.getExcludeKeyword()));
+            case BOOLEAN -> matchBoolean(query.root(), fuzzy);
+        };
+    }
+
+    /**
+     * 모든 단어의 교집합 매칭 비트셋 (여러 단어 단순 검색)
+     * 문서 빈도가 낮은 단어부터 교집합해 중간 결과를 빨리 줄이고, 비면 나머지 단어는 보지 않음
+     */
+    private Matches matchAll(QueryTerms includes) {
+        TermGroup[] groups = includes.groups();
+        if (groups.length <= 1) {
+            return matchTerms(includes, NO_TERMS);
+        }
+
+        TermGroup[] order = groups.clone();
+        Arrays.sort(order, Comparator.comparingInt(group -> groupDocFreq(includes, group)));
+        DocIdBitSet matches = DocIdBitSet.all(index.size());
+        for (TermGroup group : order) {
+            if (matches.isEmpty()) {
+                break;
+            }
+            int[] ids = group.terms();
+            if (group.any() && ids.length > 1) {
+                DocIdBitSet union = new DocIdBitSet(index.size());
+                for (int id : ids) {
+                    union.or(includes.postings()[id].docSet());
+                }
+                matches.and(union);
+            } else {
+                for (int id : ids) {
+                    matches.and(includes.postings()[id].docSet());
+                }
+            }
+        }
+        return new Matches(includes, matches, proximity(includes));
+    }
+
+    /**
+     * 단어 묶음이 일치하는 문서 수 추정치 (교집합 묶음은 가장 드문 텀, 합집합 묶음은 텀 문서 빈도 합)
+     */
+    private static int groupDocFreq(QueryTerms terms, TermGroup group) {
+        int docFreq = group.any() ? 0 : Integer.MAX_VALUE;
+        for (int id : group.terms()) {
+            int termDocFreq = terms.postings()[id].docFreq();
+            docFreq = group.any() ? docFreq + termDocFreq : Math.min(docFreq, termDocFreq);
+        }
+        return docFreq;
+    }
+
+    /**
+     * 단어별 텀으로 근접도 가산점 계산기 생성
+     * 가산점 최댓값은 단어별 최대 텀 점수(텀 가중치 × idf, 교집합 묶음은 합, 합집합 묶음은 최댓값) 합의 PROXIMITY_WEIGHT배
+     */
+    private ProximityScorer proximity(QueryTerms terms) {
+        Bm25fScorer scorer = index.scorer();
+        List<List<String>> groupTerms = new ArrayList<>(terms.groups().length);
+        float maxScore = 0f;
+        for (TermGroup group : terms.groups()) {
+            List<String> words = new ArrayList<>(group.terms().length);
+            float groupScore = 0f;
+            for (int id : group.terms()) {
+                words.add(terms.terms()[id]);
+                float termScore = terms.boosts()[id] * scorer.idf(terms.postings()[id].docFreq(), index.size());
+                groupScore = group.any() ? Math.max(groupScore, termScore) : groupScore + termScore;
+            }
+            groupTerms.add(words);
+            maxScore += groupScore;
+        }
+        return ProximityScorer.of(index.termVectors(), groupTerms, PROXIMITY_WEIGHT * maxScore);
+    }
+
+    /**
+     * 포함 단어의 합집합에서 제외 단어를 뺀 매칭 비트셋
+     */
+    private Matches matchTerms(QueryTerms includes, QueryTerms excludes) {
+        if (includes.postings().length == 0) {
+            return null;
+        }
+        DocIdBitSet matches = new DocIdBitSet(index.size());
+        applyGroups(matches, includes, false);
+        applyGroups(matches, excludes, true);
+        return new Matches(includes, matches);
+    }
+
+    /**
+     * 불리언 구문 트리 평가
+     * 매칭 집합은 실행 계획 순서대로 만들고, 점수는 제외되지 않은 단어/구문의 텀으로 계산
+     */
+    private Matches matchBoolean(QueryNode root, boolean fuzzy) {
+        if (!root.isPositive()) {
+            throw new IllegalArgumentException("Query must contain at least one keyword that is not excluded");
+        }
+        QueryTerms includes = termsOf(fuzzy, root.positiveLeaves().stream().map(QueryNode::text).toArray(String[]::new));
+        if (includes.postings().length == 0) {
+            return null;
+        }
+
+        QueryNode plan = QueryPlanner.plan(root, this::selectivity);
+        return new Matches(includes, evaluate(plan, fuzzy));
+    }
+
+    /**
+     * 실행 계획 노드를 매칭 비트셋으로 평가
+     * And는 앞 절(선택도 낮은 절)부터 교집합을 만들다가 비면 나머지 절을 평가하지 않음
+     * 제외 절 안의 단어는 오타 확장하지 않음
+     */
+    private DocIdBitSet evaluate(QueryNode node, boolean fuzzy) {
+        if (node instanceof QueryNode.Term term) {
+            DocIdBitSet matches = new DocIdBitSet(index.size());
+            applyGroups(matches, termsOf(fuzzy, term.value()), false);
+            return matches;
+        }
+        if (node instanceof QueryNode.Phrase phrase) {
+            return phraseMatches(phrase.value());
+        }
+        if (node instanceof QueryNode.Not not) {
+            return DocIdBitSet.all(index.size()).andNot(evaluate(not.clause(), false));
+        }
+        if (node instanceof QueryNode.Or or) {
+            DocIdBitSet matches = new DocIdBitSet(index.size());
+            for (QueryNode clause : or.clauses()) {
+                matches.or(evaluate(clause, fuzzy));
+            }
+            return matches;
+        }
+
+        DocIdBitSet matches = null;
+        for (QueryNode clause : ((QueryNode.And) node).clauses()) {
+            if (clause instanceof QueryNode.Not not) {
+                if (matches == null) {
+                    matches = DocIdBitSet.all(index.size());
+                }
+                matches.andNot(evaluate(not.clause(), false));
+            } else {
+                DocIdBitSet clauseMatches = evaluate(clause, fuzzy);
+                matches = matches == null ? clauseMatches : matches.and(clauseMatches);
+            }
+            if (matches.isEmpty()) {
+                break;
+            }
+        }
+        return matches != null ? matches : new DocIdBitSet(index.size());
+    }
+
+    /**
+     * 구문 일치 문서 - 희소한 텀부터 교집합으로 후보를 좁힌 뒤, 텀 벡터에서 필드 안에 텀이 같은 순서로 연속하는지 검증
+     */
+    private DocIdBitSet phraseMatches(String phrase) {
+        List<String> terms = index.analyzer().terms(phrase);
+        DocIdBitSet matches = new DocIdBitSet(index.size());
+        if (terms.isEmpty()) {
+            return matches;
+        }
+
+        List<String> distinct = new ArrayList<>(new LinkedHashSet<>(terms));
+        distinct.sort(Comparator.comparingInt(index::docFreq));
+        matches.or(index.postings(distinct.get(0)).docSet());
+        for (int i = 1; i < distinct.size() && !matches.isEmpty(); i++) {
+            matches.and(index.postings(distinct.get(i)).docSet());
+        }
+
+        if (terms.size() > 1) {
+            int[] termIds = new int[terms.size()];
+            for (int i = 0; i < termIds.length; i++) {
+                termIds[i] = index.termVectors().termId(terms.get(i));
+            }
+            for (int doc = matches.nextSetBit(0); doc >= 0; doc = matches.nextSetBit(doc + 1)) {
+                if (!containsPhrase(doc, termIds)) {
+                    matches.clear(doc);
+                }
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * 색인 시 저장한 텀 벡터 위치로 구문 연속 여부 확인 (검색 대상 필드만)
+     */
+    private boolean containsPhrase(int doc, int[] termIds) {
+        for (HighlightField field : PHRASE_FIELDS) {
+            if (index.termVectors().containsSequence(doc, field, termIds)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 단어/구문 노드의 선택도 추정 (문서 빈도 기반)
+     * 단어 묶음은 단어별 일치의 합집합, 한글 단어와 구문은 가장 희소한 텀으로 근사
+     */
+    private double selectivity(QueryNode leaf) {
+        if (index.size() == 0) {
+            return 0.0;
+        }
+        if (leaf instanceof QueryNode.Phrase) {
+            return (double) minDocFreq(index.analyzer().terms(leaf.text())) / index.size();
+        }
+        double none = 1.0;
+        for (List<String> group : index.analyzer().termGroups(leaf.text())) {
+            none *= 1.0 - (double) minDocFreq(group) / index.size();
+        }
+        return 1.0 - none;
+    }
+
+    private int minDocFreq(List<String> terms) {
+        int min = terms.isEmpty() ? 0 : index.size();
+        for (String term : terms) {
+            min = Math.min(min, index.docFreq(term));
+        }
+        return min;
+    }
+
+    /**
+     * 검색어들을 색인 분석기로 분석해 중복 없는 텀 posting과 단어별 텀 묶음으로 변환
+     * fuzzy면 단일 텀 단어를 편집 거리 이내 사전 텀들의 합집합으로 확장 (거리가 멀수록 낮은 가중치)
+     */
+    private QueryTerms termsOf(boolean fuzzy, String... keywords) {
+        Map<String, Float> termBoosts = new LinkedHashMap<>();
+        List<String[]> groupTerms = new ArrayList<>();
+        List<Boolean> groupAny = new ArrayList<>();
+        for (String keyword : keywords) {
+            for (List<String> group : index.analyzer().termGroups(keyword)) {
+                List<FuzzyTermExpander.FuzzyTerm> alternatives =
+                        fuzzy && group.size() == 1 ? expand(group.get(0)) : List.of();
+                if (alternatives.isEmpty()) {
+                    group.forEach(term -> termBoosts.merge(term, 1f, Math::max));
+                    groupTerms.add(group.toArray(new String[0]));
+                    groupAny.add(false);
+                    continue;
+                }
+
+                String[] terms = new String[alternatives.size() + 1];
+                terms[0] = group.get(0);
+                termBoosts.merge(terms[0], 1f, Math::max);
+                for (int i = 0; i < alternatives.size(); i++) {
+                    FuzzyTermExpander.FuzzyTerm alternative = alternatives.get(i);
+                    terms[i + 1] = alternative.term();
+                    termBoosts.merge(alternative.term(), FUZZY_BOOSTS[alternative.distance()], Math::max);
+                }
+                groupTerms.add(terms);
+                groupAny.add(true);
+            }
+        }
+
+        Map<String, Integer> termIds = new LinkedHashMap<>();
+        termBoosts.keySet().forEach(term -> termIds.put(term, termIds.size()));
+        String[] terms = termIds.keySet().toArray(new String[0]);
+        PostingList[] postings = new PostingList[termIds.size()];
+        float[] boosts = new float[termIds.size()];
+        termIds.forEach((term, id) -> {
+            postings[id] = index.postings(term);
+            boosts[id] = termBoosts.get(term);
+        });
+
+        TermGroup[] groups = new TermGroup[groupTerms.size()];
+        for (int g = 0; g < groups.length; g++) {
+            String[] group = groupTerms.get(g);
+            int[] ids = new int[group.length];
+            for (int i = 0; i < ids.length; i++) {
+                ids[i] = termIds.get(group[i]);
+            }
+            groups[g] = new TermGroup(ids, groupAny.get(g));
+        }
+        return new QueryTerms(terms, postings, boosts, groups);
+    }
+
+    /**
+     * 오타 허용 확장 - 거리 오름차순, 같은 거리면 흔한 텀 순으로 최대 MAX_FUZZY_EXPANSIONS개
+     */
+    private List<FuzzyTermExpander.FuzzyTerm> expand(String term) {
+        List<FuzzyTermExpander.FuzzyTerm> candidates = new ArrayList<>(index.fuzzyTerms().expand(term));
+        candidates.sort(Comparator.comparingInt(FuzzyTermExpander.FuzzyTerm::distance)
+                .thenComparing(candidate -> -index.docFreq(candidate.term())));
+
+        return candidates.size() > MAX_FUZZY_EXPANSIONS ? candidates.subList(0, MAX_FUZZY_EXPANSIONS) : candidates;
+    }
+
+    /**
+     * 단어별 텀 묶음의 합집합을 matches에 반영 (제외 검색이면 차집합)
+     * 묶음은 모든 텀의 교집합(한글 bigram) 또는 어느 텀이든의 합집합(오타 확장)
+     */
+    private void applyGroups(DocIdBitSet matches, QueryTerms terms, boolean exclude) {
+        for (TermGroup group : terms.groups()) {
+            int[] ids = group.terms();
+            if (ids.length == 1 || group.any()) {
+                for (int id : ids) {
+                    DocIdSet docSet = terms.postings()[id].docSet();
+                    if (exclude) {
+                        matches.andNot(docSet);
+                    } else {
+                        matches.or(docSet);
+                    }
+                }
+                continue;
+            }
+
+            DocIdBitSet conjunction = new DocIdBitSet(index.size()).or(terms.postings()[ids[0]].docSet());
+            for (int i = 1; i < ids.length; i++) {
+                conjunction.and(terms.postings()[ids[i]].docSet());
+            }
+            if (exclude) {
+                matches.andNot(conjunction);
+            } else {
+                matches.or(conjunction);
+            }
+        }
+    }
+
+    /**
+     * 매칭 비트셋 중 BM25F 상위 (offset + limit)개를 구해 요청 페이지만 반환
+     * 전체 건수는 비트셋 popcount로 계산하고, 점수 계산은 WAND로 상위 k개에 들 수 있는 문서에만 수행
+     */
+    private IndexSearchResult rank(Matches matched, int offset, int limit) {
+        int totalHits = matched.docs().cardinality();
+        if (offset >= totalHits) {
+            return new IndexSearchResult(List.of(), totalHits);
+        }
+
+        int[] top = topDocs(matched.includes().postings(), matched.includes().boosts(), matched.proximity(),
+                matched.docs(), (int) Math.min((long) offset + limit, totalHits), Float.POSITIVE_INFINITY, 0).docs();
+        List<String> page = new ArrayList<>(top.length - offset);
+        for (int i = offset; i < top.length; i++) {
+            page.add(index.isbn(top[i]));
+        }
+        return new IndexSearchResult(page, totalHits);
+    }
+
+    /**
+     * 매칭 비트셋을 미리 계산한 순위 순으로 정렬해 요청 페이지만 반환
+     */
+    private IndexSearchResult sorted(DocIdBitSet matches, SortOrder sortOrder, int offset, int limit) {
+        int totalHits = matches.cardinality();
+        int[] top = index.sortRanks().topDocs(matches, totalHits, sortOrder, offset, limit);
+        List<String> page = new ArrayList<>(top.length);
+        for (int doc : top) {
+            page.add(index.isbn(doc));
+        }
+        return new IndexSearchResult(page, totalHits);
+    }
+
+    /**
+     * Block-Max WAND 상위 k개 평가
+     * <p>
+     * 텀 커서를 현재 문서 순으로 정렬하고, 앞에서부터 텀 점수 상한을 더해 힙의 최소 점수에 처음 도달하는 커서를 pivot으로 삼음
+     * - pivot 앞 커서들이 모두 pivot 문서에 있으면 실제 점수를 계산해 힙에 넣음
+     * - 아니면 앞 커서들을 pivot 문서로 건너뜀 (그 사이 문서는 상한 합이 힙 최소 점수에 못 미치므로 상위 k개에 들 수 없음)
+     * 문서는 ordinal 오름차순으로 방문하므로 나중 문서가 힙 최소 점수와 동점이면 순위에서 밀려 건너뛰어도 결과가 같음
+     * 키셋 조회면 (afterScore, afterDoc)보다 순위가 낮은 문서만 힙에 넣음 (afterScore가 양의 무한대면 전체)
+     * 근접도 가산점은 문서와 관계없이 maxBonus 이하이므로 상한에 maxBonus를 더해 두고, 실제 점수 계산 시에만 구함
+     * matches는 includes 텀 posting 합집합의 부분집합이어야 함
+     */
+    private TopDocsCollector.TopDocs topDocs(PostingList[] includes, float[] boosts, ProximityScorer proximity,
+                                             DocIdBitSet matches, int k, float afterScore, int afterDoc) {
+        Bm25fScorer scorer = index.scorer();
+        float[] fieldWeights = index.fieldWeights();
+        int termCount = includes.length;
+
+        float[] idfs = new float[termCount];
+        int[] positions = new int[termCount];
+        int[] currentDocs = new int[termCount];
+        int[] order = new int[termCount];
+        for (int t = 0; t < termCount; t++) {
+            // 텀 점수는 idf에 비례하므로 텀 가중치를 idf에 곱해 둠
+            idfs[t] = boosts[t] * scorer.idf(includes[t].docFreq(), index.size());
+            currentDocs[t] = includes[t].docs().length > 0 ? includes[t].docs()[0] : NO_MORE_DOCS;
+            order[t] = t;
+        }
+
+        TopDocsCollector collector = new TopDocsCollector(k);
+        while (true) {
+            sortByCurrentDoc(order, currentDocs);
+
+            float threshold = collector.minCompetitiveScore();
+            float upperBound = proximity.maxBonus();
+            int pivot = -1;
+            for (int i = 0; i < termCount && currentDocs[order[i]] != NO_MORE_DOCS; i++) {
+                upperBound += boosts[order[i]] * includes[order[i]].maxScore();
+                if (upperBound >= threshold) {
+                    pivot = i;
+                    break;
+                }
+            }
+            if (pivot < 0) {
+                break;
+            }
+
+            int pivotDoc = currentDocs[order[pivot]];
+            while (pivot + 1 < termCount && currentDocs[order[pivot + 1]] == pivotDoc) {
+                pivot++;
+            }
+
+            // block-max: pivot 문서가 속한 블록들의 상한 합으로 한 번 더 걸러내고, 안 되면 블록 끝 너머로 건너뜀
+            float blockUpperBound = proximity.maxBonus();
+            int skipTarget = pivot + 1 < termCount ? currentDocs[order[pivot + 1]] : NO_MORE_DOCS;
+            for (int i = 0; i <= pivot; i++) {
+                PostingList posting = includes[order[i]];
+                int block = posting.blockOf(positions[order[i]], pivotDoc);
+                if (block >= 0) {
+                    blockUpperBound += boosts[order[i]] * posting.blockMaxScores()[block];
+                    skipTarget = Math.min(skipTarget, posting.blockLastDocs()[block] + 1);
+                }
+            }
+            if (blockUpperBound < threshold) {
+                for (int i = 0; i <= pivot; i++) {
+                    advance(includes[order[i]], positions, currentDocs, order[i], skipTarget);
+                }
+                continue;
+            }
+
+            if (currentDocs[order[0]] == pivotDoc) {
+                if (matches.get(pivotDoc)) {
+                    float score = proximity.bonus(pivotDoc);
+                    for (int t = 0; t < termCount; t++) {
+                        if (currentDocs[t] == pivotDoc) {
+                            score += scorer.termScore(idfs[t], includes[t], positions[t], fieldWeights, pivotDoc);
+                        }
+                    }
+                    if (score < afterScore || (score == afterScore && pivotDoc >= afterDoc)) {
+                        collector.collect(pivotDoc, score);
+                    }
+                }
+                for (int t = 0; t < termCount; t++) {
+                    if (currentDocs[t] == pivotDoc) {
+                        advance(includes[t], positions, currentDocs, t, pivotDoc + 1);
+                    }
+                }
+            } else {
+                for (int i = 0; i < pivot; i++) {
+                    advance(includes[order[i]], positions, currentDocs, order[i], pivotDoc);
+                }
+            }
+        }
+        return collector.drainSorted();
+    }
+
+    private static void advance(PostingList posting, int[] positions, int[] currentDocs, int t, int target) {
+        int position = posting.advance(positions[t], target);
+        positions[t] = position;
+        currentDocs[t] = position < posting.docs().length ? posting.docs()[position] : NO_MORE_DOCS;
+    }
+
+    /**
+     * 텀 수가 적으므로 삽입 정렬
+     */
+    private static void sortByCurrentDoc(int[] order, int[] currentDocs) {
+        for (int i = 1; i < order.length; i++) {
+            int term = order[i];
+            int j = i - 1;
+            while (j >= 0 && currentDocs[order[j]] > currentDocs[term]) {
+                order[j + 1] = order[j];
+                j--;
+            }
+            order[j + 1] = term;
+        }
+    }
+
+    /**
+     * 패싯별 값 건수 - 매칭 비트셋과 값별 ordinal 집합의 교집합 popcount, 상위 MAX_FACET_VALUES개
+     */
+    private Map<Facet, List<FacetCount>> facetCounts(DocIdBitSet matches, Set<Facet> facets) {
+        Map<Facet, List<FacetCount>> counts = new EnumMap<>(Facet.class);
+        for (Facet facet : facets) {
+            List<FacetCount> values = new ArrayList<>();
+            index.facetValues(facet).forEach((value, docs) -> {
+                int count = matches.intersectionCount(docs);
+                if (count > 0) {
+                    values.add(new FacetCount(value, count));
+                }
+            });
+            values.sort(FACET_ORDER);
+            counts.put(facet, List.copyOf(values.subList(0, Math.min(values.size(), MAX_FACET_VALUES))));
+        }
+        return counts;
+    }
+
+    /**
+     * 매칭 결과
+     *
+     * @param includes  점수 계산 대상 텀
+     * @param docs      매칭 문서 비트셋 (includes 텀 posting 합집합의 부분집합)
+     * @param proximity 근접도 가산점 (여러 단어 단순 검색이 아니면 NONE)
+     */
+    private record Matches(QueryTerms includes, DocIdBitSet docs, ProximityScorer proximity) {
+
+        Matches(QueryTerms includes, DocIdBitSet docs) {
+            this(includes, docs, ProximityScorer.NONE);
+        }
+    }
+
+    /**
+     * 분석된 검색어
+     *
+     * @param terms    중복 없는 텀 (postings와 같은 순서)
+     * @param postings 중복 없는 텀별 posting (점수 계산 대상)
+     * @param boosts   텀별 점수 가중치 (정확 일치 1, 오타 확장은 거리에 따라 감소)
+     * @param groups   단어별 텀 묶음
+     */
+    private record QueryTerms(String[] terms, PostingList[] postings, float[] boosts, TermGroup[] groups) {
+    }
+
+    /**
+     * 검색어 단어 하나에 해당하는 텀 묶음
+     *
+     * @param terms QueryTerms.postings 인덱스
+     * @param any   true면 어느 텀이든 있으면 일치(오타 확장), false면 모든 텀이 있어야 일치(한글 bigram)
+     */
+    private record TermGroup(int[] terms, boolean any) {
+    }
+}
@@ -0,0 +1,145 @@
+package com.trevari.book.index;
+
+import java.util.Arrays;
+
+/**
+ * 질의 평가용 가변 비트셋
+ * OR/AND/NOT 평가 결과를 담고, 전체 매칭 수는 popcount로 계산
+ */
+public final class DocIdBitSet {
+
+    private final long[] words;
+
+    public DocIdBitSet(int maxDoc) {
+        this.words = new long[wordCount(maxDoc)];
+    }
+
+    static int wordCount(int maxDoc) {
+        return (maxDoc + 63) >>> 6;
+    }
+
+    /**
+     * 0..maxDoc-1 전체를 담은 비트셋
+     */
+    public static DocIdBitSet all(int maxDoc) {
+        DocIdBitSet set = new DocIdBitSet(maxDoc);
+        Arrays.fill(set.words, -1L);
+        if ((maxDoc & 63) != 0) {
+            set.words[set.words.length - 1] = (1L << maxDoc) - 1;
+        }
+        return set;
+    }
+
+    /**
+     * 합집합 (this |= set)
+     */
+    public DocIdBitSet or(DocIdSet set) {
+        set.orInto(words);
+        return this;
+    }
+
+    /**
+     * 합집합 (this |= other)
+     */
+    public DocIdBitSet or(DocIdBitSet other) {
+        for (int i = 0; i < words.length; i++) {
+            words[i] |= other.words[i];
+        }
+        return this;
+    }
+
+    /**
+     * 교집합 (this &= set)
+     */
+    public DocIdBitSet and(DocIdSet set) {
+        set.andInto(words);
+        return this;
+    }
+
+    /**
+     * 교집합 (this &= other)
+     */
+    public DocIdBitSet and(DocIdBitSet other) {
+        for (int i = 0; i < words.length; i++) {
+            words[i] &= other.words[i];
+        }
+        return this;
+    }
+
+    /**
+     * 차집합 (this &= ~set)
+     */
+    public DocIdBitSet andNot(DocIdSet set) {
+        set.andNotInto(words);
+        return this;
+    }
+
+    /**
+     * 차집합 (this &= ~other)
+     */
+    public DocIdBitSet andNot(DocIdBitSet other) {
+        for (int i = 0; i < words.length; i++) {
+            words[i] &= ~other.words[i];
+        }
+        return this;
+    }
+
+    public void set(int doc) {
+        words[doc >>> 6] |= 1L << doc;
+    }
+
+    public void clear(int doc) {
+        words[doc >>> 6] &= ~(1L << doc);
+    }
+
+    public boolean get(int doc) {
+        return (words[doc >>> 6] & (1L << doc)) != 0;
+    }
+
+    public boolean isEmpty() {
+        for (long word : words) {
+            if (word != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 집합 원소 수 (별도 count 쿼리 없이 비트맵에서 바로 계산)
+     */
+    public int cardinality() {
+        int count = 0;
+        for (long word : words) {
+            count += Long.bitCount(word);
+        }
+        return count;
+    }
+
+    /**
+     * 압축 집합과의 교집합 원소 수 (this는 변경하지 않음)
+     */
+    public int intersectionCount(DocIdSet set) {
+        return set.intersectionCount(words);
+    }
+
+    /**
+     * from 이상인 첫 번째 원소, 없으면 -1
+     */
+    public int nextSetBit(int from) {
+        int wordIndex = from >>> 6;
+        if (wordIndex >= words.length) {
+            return -1;
+        }
+        long word = words[wordIndex] & (-1L << from);
+        while (true) {
+            if (word != 0) {
+                return (wordIndex << 6) + Long.numberOfTrailingZeros(word);
+            }
+            if (++wordIndex == words.length) {
+                return -1;
+            }
+            word = words[wordIndex];
+        }
+    }
+}
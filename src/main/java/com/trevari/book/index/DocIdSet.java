@@ -0,0 +1,53 @@
+package com.trevari.book.index;
+
+/**
+ * 불변 도서 ordinal 집합 (압축 posting 표현)
+ * <p>
+ * - 희소한 텀: 정렬된 int 배열 ({@link ArrayDocIdSet})
+ * - 조밀한 텀: 비트맵 ({@link BitmapDocIdSet})
+ * 두 표현 모두 {@link DocIdBitSet}에 대한 합집합/교집합/차집합을 word 단위 비트 연산으로 수행
+ */
+public sealed interface DocIdSet permits ArrayDocIdSet, BitmapDocIdSet {
+
+    /**
+     * 배열 표현(원소당 32비트)이 비트맵 표현(문서당 1비트)보다 커지는 밀도 기준
+     */
+    int BITMAP_DENSITY_DIVISOR = 32;
+
+    /**
+     * 정렬된 ordinal 배열로부터 더 작은 표현을 선택해 생성
+     *
+     * @param sortedDocs 오름차순 ordinal 배열 (배열 표현일 때 복사 없이 공유)
+     * @param maxDoc     전체 문서 수
+     */
+    static DocIdSet of(int[] sortedDocs, int maxDoc) {
+        if ((long) sortedDocs.length * BITMAP_DENSITY_DIVISOR > maxDoc) {
+            return BitmapDocIdSet.from(sortedDocs, maxDoc);
+        }
+        return new ArrayDocIdSet(sortedDocs);
+    }
+
+    int cardinality();
+
+    boolean contains(int doc);
+
+    /**
+     * |words ∩ this| (교집합을 만들지 않고 원소 수만 계산)
+     */
+    int intersectionCount(long[] words);
+
+    /**
+     * words |= this
+     */
+    void orInto(long[] words);
+
+    /**
+     * words &= this
+     */
+    void andInto(long[] words);
+
+    /**
+     * words &= ~this
+     */
+    void andNotInto(long[] words);
+}
@@ -0,0 +1,185 @@
+package com.trevari.book.index;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 오타 허용 검색용 SymSpell 방식 삭제 색인
+ * <p>
+ * 사전 텀마다 앞 PREFIX_LENGTH 글자에서 최대 MAX_DISTANCE 글자를 지운 문자열을 키로 텀 id를 등록해 두고,
+ * 검색어도 같은 방식으로 지운 문자열을 만들어 키가 겹치는 텀만 후보로 삼은 뒤 실제 편집 거리(OSA)로 검증
+ * 사전 전체와 편집 거리를 계산하지 않으므로 확장 비용이 사전 크기와 거의 무관
+ * <p>
+ * 한글 bigram과 짧은 텀(MIN_TERM_LENGTH 미만)은 오타 교정 의미가 없어 대상에서 제외
+ */
+final class FuzzyTermExpander {
+
+    static final int MAX_DISTANCE = 2;
+    private static final int MIN_TERM_LENGTH = 3;
+    private static final int TWO_EDITS_MIN_LENGTH = 6;
+    private static final int PREFIX_LENGTH = 7;
+
+    static final FuzzyTermExpander EMPTY = build(List.of());
+
+    private final String[] terms;
+    private final Map<String, int[]> deletes;
+
+    private FuzzyTermExpander(String[] terms, Map<String, int[]> deletes) {
+        this.terms = terms;
+        this.deletes = deletes;
+    }
+
+    static FuzzyTermExpander build(Collection<String> dictionary) {
+        List<String> eligible = new ArrayList<>();
+        for (String term : dictionary) {
+            if (isEligible(term)) {
+                eligible.add(term);
+            }
+        }
+        String[] terms = eligible.toArray(new String[0]);
+
+        Map<String, List<Integer>> building = new HashMap<>();
+        for (int id = 0; id < terms.length; id++) {
+            for (String delete : deletesOf(terms[id], MAX_DISTANCE)) {
+                building.computeIfAbsent(delete, key -> new ArrayList<>(2)).add(id);
+            }
+        }
+
+        Map<String, int[]> deletes = new HashMap<>(building.size() * 2);
+        building.forEach((delete, ids) -> deletes.put(delete, ids.stream().mapToInt(Integer::intValue).toArray()));
+        return new FuzzyTermExpander(terms, deletes);
+    }
+
+    /**
+     * 허용 편집 거리 (3~5글자는 1, 6글자 이상은 2, 그보다 짧으면 0)
+     */
+    static int maxDistanceFor(String term) {
+        if (!isEligible(term)) {
+            return 0;
+        }
+        return term.length() >= TWO_EDITS_MIN_LENGTH ? 2 : 1;
+    }
+
+    /**
+     * 편집 거리 이내의 사전 텀 목록 (자기 자신 제외, 거리 오름차순)
+     *
+     * @param term 분석기를 거친 검색 텀
+     * @return 후보 텀과 편집 거리
+     */
+    List<FuzzyTerm> expand(String term) {
+        int maxDistance = maxDistanceFor(term);
+        if (maxDistance == 0) {
+            return List.of();
+        }
+
+        Set<Integer> seen = new HashSet<>();
+        List<FuzzyTerm> candidates = new ArrayList<>();
+        for (String delete : deletesOf(term, maxDistance)) {
+            int[] ids = deletes.get(delete);
+            if (ids == null) {
+                continue;
+            }
+            for (int id : ids) {
+                if (!seen.add(id) || terms[id].equals(term)) {
+                    continue;
+                }
+                int distance = distance(term, terms[id], maxDistance);
+                if (distance <= maxDistance) {
+                    candidates.add(new FuzzyTerm(terms[id], distance));
+                }
+            }
+        }
+        candidates.sort(Comparator.comparingInt(FuzzyTerm::distance).thenComparing(FuzzyTerm::term));
+        return candidates;
+    }
+
+    private static boolean isEligible(String term) {
+        if (term.length() < MIN_TERM_LENGTH) {
+            return false;
+        }
+        for (int i = 0; i < term.length(); i++) {
+            if (Character.UnicodeScript.of(term.charAt(i)) == Character.UnicodeScript.HANGUL) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 앞 PREFIX_LENGTH 글자에서 0~maxDistance 글자를 지운 문자열 전체
+     */
+    private static Set<String> deletesOf(String term, int maxDistance) {
+        String prefix = term.length() > PREFIX_LENGTH ? term.substring(0, PREFIX_LENGTH) : term;
+        Set<String> result = new HashSet<>();
+        result.add(prefix);
+        List<String> frontier = List.of(prefix);
+        for (int distance = 1; distance <= maxDistance; distance++) {
+            List<String> next = new ArrayList<>();
+            for (String word : frontier) {
+                if (word.length() <= 1) {
+                    continue;
+                }
+                for (int i = 0; i < word.length(); i++) {
+                    String delete = word.substring(0, i) + word.substring(i + 1);
+                    if (result.add(delete)) {
+                        next.add(delete);
+                    }
+                }
+            }
+            frontier = next;
+        }
+        return result;
+    }
+
+    /**
+     * 인접 전치를 한 번의 편집으로 보는 편집 거리 (Optimal String Alignment)
+     * maxDistance를 넘으면 maxDistance + 1을 반환하고 조기 종료
+     */
+    static int distance(String a, String b, int maxDistance) {
+        if (Math.abs(a.length() - b.length()) > maxDistance) {
+            return maxDistance + 1;
+        }
+        int[] previousPrevious = new int[b.length() + 1];
+        int[] previous = new int[b.length() + 1];
+        int[] current = new int[b.length() + 1];
+        for (int j = 0; j <= b.length(); j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= a.length(); i++) {
+            current[0] = i;
+            int rowMin = current[0];
+            for (int j = 1; j <= b.length(); j++) {
+                int cost = a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1;
+                int value = Math.min(Math.min(previous[j] + 1, current[j - 1] + 1), previous[j - 1] + cost);
+                if (i > 1 && j > 1 && a.charAt(i - 1) == b.charAt(j - 2) && a.charAt(i - 2) == b.charAt(j - 1)) {
+                    value = Math.min(value, previousPrevious[j - 2] + 1);
+                }
+                current[j] = value;
+                rowMin = Math.min(rowMin, value);
+            }
+            if (rowMin > maxDistance) {
+                return maxDistance + 1;
+            }
+            int[] recycled = previousPrevious;
+            previousPrevious = previous;
+            previous = current;
+            current = recycled;
+        }
+        return Math.min(previous[b.length()], maxDistance + 1);
+    }
+
+    /**
+     * 확장 후보
+     *
+     * @param term     사전 텀
+     * @param distance 검색 텀과의 편집 거리
+     */
+    record FuzzyTerm(String term, int distance) {
+    }
+}
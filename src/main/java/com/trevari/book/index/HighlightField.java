@@ -0,0 +1,14 @@
+package com.trevari.book.index;
+
+/**
+ * 문서별 텀 벡터를 보관하는 필드 (TITLE·SUBTITLE·DESCRIPTION은 하이라이트 스니펫, TITLE·SUBTITLE·AUTHOR는 구문 검증에 사용)
+ * 문서별 텀 벡터는 ordinal() 순서로 평탄화하여 저장 ([doc × HighlightField.COUNT + field])
+ */
+public enum HighlightField {
+    TITLE,
+    SUBTITLE,
+    DESCRIPTION,
+    AUTHOR;
+
+    public static final int COUNT = values().length;
+}
@@ -0,0 +1,40 @@
+package com.trevari.book.index;
+
+import com.trevari.book.domain.PageCursor;
+import com.trevari.book.domain.search.Facet;
+import com.trevari.book.domain.search.FacetCount;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 인메모리 색인 검색 결과
+ *
+ * @param isbns      요청한 페이지에 해당하는 ISBN 목록 (순위 순)
+ * @param totalHits  전체 매칭 도서 수
+ * @param nextCursor 키셋 조회에서 다음 페이지 커서 (마지막 페이지거나 오프셋 조회면 null)
+ * @param facets     패싯별 값 건수 (요청하지 않았으면 빈 맵)
+ */
+public record IndexSearchResult(
+        List<String> isbns,
+        long totalHits,
+        PageCursor nextCursor,
+        Map<Facet, List<FacetCount>> facets
+) {
+
+    public IndexSearchResult(List<String> isbns, long totalHits, PageCursor nextCursor) {
+        this(isbns, totalHits, nextCursor, Map.of());
+    }
+
+    public IndexSearchResult(List<String> isbns, long totalHits) {
+        this(isbns, totalHits, null);
+    }
+
+    public static IndexSearchResult empty() {
+        return new IndexSearchResult(List.of(), 0L);
+    }
+
+    public IndexSearchResult withFacets(Map<Facet, List<FacetCount>> facets) {
+        return new IndexSearchResult(isbns, totalHits, nextCursor, facets);
+    }
+}
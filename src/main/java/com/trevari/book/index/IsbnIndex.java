@@ -0,0 +1,90 @@
+package com.trevari.book.index;
+
+import com.trevari.book.domain.Isbn;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 정규화 ISBN 색인
+ * <p>
+ * - 도서 ISBN을 ISBN-13 long으로 정규화해 정렬한 원시 배열과, 같은 순서의 ordinal 배열로 보관
+ * - 단건 조회와 접두어 구간 조회 모두 long 배열 이진 탐색이므로 문자열 비교 없이 O(log n)
+ * - ISBN 형식이 아닌 키(ISBN이 없어 다른 식별자를 쓴 도서)는 색인하지 않음
+ */
+final class IsbnIndex {
+
+    static final IsbnIndex EMPTY = new IsbnIndex(new long[0], new int[0]);
+
+    private final long[] keys;
+    private final int[] docs;
+
+    private IsbnIndex(long[] keys, int[] docs) {
+        this.keys = keys;
+        this.docs = docs;
+    }
+
+    /**
+     * ordinal 순으로 정렬된 도서 문서로 생성 (같은 ISBN-13이 여럿이면 ordinal 순)
+     */
+    static IsbnIndex build(List<BookDocument> documents) {
+        int[] ordinals = new int[documents.size()];
+        long[] values = new long[documents.size()];
+        int size = 0;
+        for (int doc = 0; doc < documents.size(); doc++) {
+            long isbn = Isbn.toLong(documents.get(doc).isbn());
+            if (isbn != Isbn.INVALID) {
+                values[size] = isbn;
+                ordinals[size++] = doc;
+            }
+        }
+        Integer[] order = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> Long.compare(values[a], values[b]));
+        long[] keys = new long[size];
+        int[] docs = new int[size];
+        for (int i = 0; i < size; i++) {
+            keys[i] = values[order[i]];
+            docs[i] = ordinals[order[i]];
+        }
+        return new IsbnIndex(keys, docs);
+    }
+
+    /**
+     * 정규화 ISBN에 해당하는 첫 ordinal (없으면 -1)
+     */
+    int find(long isbn) {
+        int position = lowerBound(isbn);
+        return position < keys.length && keys[position] == isbn ? docs[position] : -1;
+    }
+
+    /**
+     * 정규화 ISBN 이상인 첫 위치 (구간 조회는 [lowerBound(from), lowerBound(to)))
+     */
+    int lowerBound(long isbn) {
+        int low = 0;
+        int high = keys.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (keys[mid] < isbn) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    int size() {
+        return keys.length;
+    }
+
+    /**
+     * position번째(ISBN 순) 도서의 ordinal
+     */
+    int doc(int position) {
+        return docs[position];
+    }
+}
@@ -0,0 +1,66 @@
+package com.trevari.book.index;
+
+import com.trevari.book.domain.Isbn;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * BookIndex 스냅샷의 ISBN 조회
+ * 입력 ISBN 해석은 문자열·하이픈 제거·ISBN-13 정규화 순으로 찾고, 접두어 조회는 정규화 ISBN 정렬 배열(IsbnIndex)의 구간을 이진 탐색
+ */
+public final class IsbnLookup {
+
+    private final BookIndex index;
+
+    public IsbnLookup(BookIndex index) {
+        this.index = index;
+    }
+
+    /**
+     * 입력 ISBN을 색인에 저장된 ISBN으로 해석
+     * 저장된 문자열과 그대로 일치하지 않으면 하이픈·공백을 제거하고, 그래도 없으면 ISBN-13 정규화 값으로 찾음 (ISBN-10 입력 포함)
+     *
+     * @param isbn 조회 요청 ISBN
+     * @return 저장된 ISBN (색인에 없으면 null)
+     */
+    public String resolve(String isbn) {
+        if (isbn == null || isbn.isBlank()) {
+            return null;
+        }
+        int doc = index.ordinalOf(isbn.trim());
+        if (doc < 0) {
+            doc = index.ordinalOf(Isbn.strip(isbn));
+        }
+        if (doc < 0) {
+            long normalized = Isbn.toLong(isbn);
+            doc = normalized != Isbn.INVALID ? index.isbnIndex().find(normalized) : -1;
+        }
+        return doc >= 0 ? index.isbn(doc) : null;
+    }
+
+    /**
+     * ISBN 접두어 조회 - 정규화 ISBN-13이 접두어로 시작하는 도서를 ISBN 순으로 반환 (출판사 접두어별 목록 등)
+     *
+     * @param prefix ISBN-13 또는 ISBN-10 숫자 접두어 (하이픈 허용)
+     * @param offset 건너뛸 결과 수
+     * @param limit  반환할 최대 결과 수
+     * @return 페이지 ISBN 목록과 접두어에 해당하는 전체 도서 수 (접두어가 숫자가 아니면 빈 결과)
+     */
+    public IndexSearchResult prefix(String prefix, int offset, int limit) {
+        long[] range = Isbn.prefixRange(prefix);
+        if (range == null) {
+            return IndexSearchResult.empty();
+        }
+        IsbnIndex isbns = index.isbnIndex();
+        int from = isbns.lowerBound(range[0]);
+        int to = isbns.lowerBound(range[1]);
+        int start = (int) Math.min(to, (long) from + Math.max(0, offset));
+        int end = (int) Math.min(to, (long) start + Math.max(0, limit));
+        List<String> page = new ArrayList<>(end - start);
+        for (int position = start; position < end; position++) {
+            page.add(index.isbn(isbns.doc(position)));
+        }
+        return new IndexSearchResult(page, to - from);
+    }
+}
@@ -0,0 +1,79 @@
+package com.trevari.book.index;
+
+import java.util.Arrays;
+
+/**
+ * 정수 속성 하나를 값 순으로 정렬해 보관하는 열 저장소 (가격, 출판일 등 범위 필터용)
+ * <p>
+ * 값과 ordinal을 (값, ordinal) 순으로 정렬한 두 개의 원시 배열로 보관하고,
+ * 범위 [min, max]는 이진 탐색으로 구간 양 끝을 찾아 그 사이 ordinal을 비트셋에 모음
+ * 값이 없는 문서는 배열에 넣지 않으므로 어떤 범위에도 포함되지 않음
+ */
+final class NumericColumn {
+
+    static final NumericColumn EMPTY = new NumericColumn(new int[0], new int[0]);
+
+    private final int[] sortedValues;
+    private final int[] ordinals;
+
+    private NumericColumn(int[] sortedValues, int[] ordinals) {
+        this.sortedValues = sortedValues;
+        this.ordinals = ordinals;
+    }
+
+    /**
+     * ordinal별 값으로 열 생성
+     *
+     * @param values  ordinal별 값 (present가 false인 위치는 무시)
+     * @param present ordinal별 값 존재 여부
+     */
+    static NumericColumn of(int[] values, boolean[] present) {
+        int size = 0;
+        long[] packed = new long[values.length];
+        for (int ordinal = 0; ordinal < values.length; ordinal++) {
+            if (present[ordinal]) {
+                // 상위 32비트 값(부호 포함), 하위 32비트 ordinal - long 정렬 한 번으로 (값, ordinal) 순이 됨
+                packed[size++] = ((long) values[ordinal] << 32) | ordinal;
+            }
+        }
+        Arrays.sort(packed, 0, size);
+
+        int[] sortedValues = new int[size];
+        int[] ordinals = new int[size];
+        for (int i = 0; i < size; i++) {
+            sortedValues[i] = (int) (packed[i] >> 32);
+            ordinals[i] = (int) packed[i];
+        }
+        return new NumericColumn(sortedValues, ordinals);
+    }
+
+    /**
+     * 값이 [min, max]인 문서 비트셋
+     */
+    DocIdBitSet range(int min, int max, int maxDoc) {
+        DocIdBitSet docs = new DocIdBitSet(maxDoc);
+        int to = firstGreaterThan(max);
+        for (int i = firstAtLeast(min); i < to; i++) {
+            docs.set(ordinals[i]);
+        }
+        return docs;
+    }
+
+    private int firstAtLeast(int value) {
+        int low = 0;
+        int high = sortedValues.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (sortedValues[mid] < value) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private int firstGreaterThan(int value) {
+        return value == Integer.MAX_VALUE ? sortedValues.length : firstAtLeast(value + 1);
+    }
+}
@@ -0,0 +1,88 @@
+package com.trevari.book.index;
+
+import com.trevari.book.domain.search.QueryNode;
+import com.trevari.book.domain.search.SearchQuery;
+import com.trevari.book.index.analysis.BookAnalyzer;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 색인 밖에서 가져온 도서 페이지(DB 검색 결과)의 best-effort 재정렬
+ * <p>
+ * - 임시 색인을 만들지 않고 페이지 문서의 제목·부제목·저자명을 분석해 검색어 텀의 필드별 빈도만 세어 점수 계산
+ * - DB 경로는 색인 스냅샷이 준비되기 전에만 쓰이므로 코퍼스 통계(idf, 평균 필드 길이)가 없어
+ *   idf 1·길이 정규화 없이 필드 boost만 적용 - 색인 경로의 BM25F 점수와 같은 기준이 아님
+ * - 어느 도서가 어느 페이지에 오는지는 DB 순서로 이미 정해지고 페이지 안의 순서만 바꾸므로,
+ *   결과 순서는 색인 경로의 순위와 다를 수 있음 (색인이 준비되면 색인 경로가 대신함)
+ * - 제외되지 않은 단어·구문의 텀만 점수에 반영하고, 점수가 같거나 토큰 단위로 일치하지 않는 도서는 기존 순서 유지
+ */
+public final class PageRanker {
+
+    private final Bm25fScorer scorer;
+    private final BookAnalyzer analyzer;
+
+    public PageRanker(Bm25fScorer scorer, BookAnalyzer analyzer) {
+        this.scorer = scorer;
+        this.analyzer = analyzer;
+    }
+
+    /**
+     * 페이지 문서를 점수 내림차순으로 정렬한 ISBN 목록
+     */
+    public List<String> rank(SearchQuery searchQuery, List<BookDocument> documents) {
+        Set<String> terms = new LinkedHashSet<>();
+        for (QueryNode leaf : searchQuery.root().positiveLeaves()) {
+            terms.addAll(analyzer.terms(leaf.text()));
+        }
+
+        List<BookDocument> ordered = new ArrayList<>(documents);
+        if (terms.isEmpty() || ordered.size() < 2) {
+            return ordered.stream().map(BookDocument::isbn).toList();
+        }
+
+        List<Float> scores = new ArrayList<>(ordered.size());
+        for (BookDocument document : ordered) {
+            scores.add(score(document, terms));
+        }
+        List<Integer> positions = new ArrayList<>(ordered.size());
+        for (int i = 0; i < ordered.size(); i++) {
+            positions.add(i);
+        }
+        // 안정 정렬이므로 같은 점수는 DB가 준 순서 유지
+        positions.sort(Comparator.comparing(scores::get, Collections.reverseOrder()));
+        return positions.stream().map(i -> ordered.get(i).isbn()).toList();
+    }
+
+    private float score(BookDocument document, Set<String> terms) {
+        List<List<String>> fieldTerms = new ArrayList<>(BookField.COUNT);
+        for (int field = 0; field < BookField.COUNT; field++) {
+            fieldTerms.add(List.of());
+        }
+        fieldTerms.set(BookField.TITLE.ordinal(), terms(document.title()));
+        fieldTerms.set(BookField.SUBTITLE.ordinal(), terms(document.subtitle()));
+        fieldTerms.set(BookField.AUTHOR.ordinal(), terms(String.join(" ", document.authorNames())));
+
+        float score = 0f;
+        int[] fieldFreqs = new int[BookField.COUNT];
+        for (String term : terms) {
+            boolean found = false;
+            for (int field = 0; field < BookField.COUNT; field++) {
+                fieldFreqs[field] = Collections.frequency(fieldTerms.get(field), term);
+                found |= fieldFreqs[field] > 0;
+            }
+            if (found) {
+                score += scorer.unnormalizedTermScore(fieldFreqs);
+            }
+        }
+        return score;
+    }
+
+    private List<String> terms(String text) {
+        return text == null || text.isBlank() ? List.of() : analyzer.terms(text);
+    }
+}
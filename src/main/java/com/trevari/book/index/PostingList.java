@@ -0,0 +1,94 @@
+package com.trevari.book.index;
+
+/**
+ * 텀 하나의 posting 정보
+ *
+ * @param docs           텀을 포함하는 ordinal 오름차순 배열 (순회용)
+ * @param freqs          docs[i]의 필드별 출현 빈도 ([i × BookField.COUNT + field])
+ * @param docSet         불리언 연산용 압축 집합 (희소하면 docs를 공유하는 배열, 조밀하면 비트맵)
+ * @param maxScore       이 텀이 어떤 문서에 줄 수 있는 BM25F 점수의 상한 (WAND 건너뛰기용)
+ * @param blockLastDocs  BLOCK_SIZE개 단위 블록의 마지막 ordinal
+ * @param blockMaxScores 블록별 BM25F 점수 상한 (block-max WAND 건너뛰기용)
+ */
+record PostingList(
+        int[] docs,
+        short[] freqs,
+        DocIdSet docSet,
+        float maxScore,
+        int[] blockLastDocs,
+        float[] blockMaxScores
+) {
+
+    static final int BLOCK_SIZE = 64;
+
+    static final PostingList EMPTY = new PostingList(
+            new int[0], new short[0], new ArrayDocIdSet(new int[0]), 0f, new int[0], new float[0]);
+
+    /**
+     * posting 생성 - 문서별 필드 가중치로 텀 전체와 블록별 점수 상한을 미리 계산
+     */
+    static PostingList of(int[] docs, short[] freqs, int maxDoc, Bm25fScorer scorer, float[] fieldWeights) {
+        int blockCount = (docs.length + BLOCK_SIZE - 1) / BLOCK_SIZE;
+        int[] blockLastDocs = new int[blockCount];
+        float[] blockMaxScores = new float[blockCount];
+        PostingList posting = new PostingList(docs, freqs, DocIdSet.of(docs, maxDoc), 0f, blockLastDocs, blockMaxScores);
+
+        float idf = scorer.idf(docs.length, maxDoc);
+        float maxScore = 0f;
+        for (int i = 0; i < docs.length; i++) {
+            int block = i / BLOCK_SIZE;
+            float score = scorer.termScore(idf, posting, i, fieldWeights, docs[i]);
+            blockLastDocs[block] = docs[i];
+            blockMaxScores[block] = Math.max(blockMaxScores[block], score);
+            maxScore = Math.max(maxScore, score);
+        }
+        // 부동소수점 합산 순서 차이로 실제 점수가 상한을 넘지 않도록 한 ulp 올림
+        for (int block = 0; block < blockCount; block++) {
+            blockMaxScores[block] = Math.nextUp(blockMaxScores[block]);
+        }
+        return new PostingList(docs, freqs, posting.docSet(), Math.nextUp(maxScore), blockLastDocs, blockMaxScores);
+    }
+
+    int docFreq() {
+        return docs.length;
+    }
+
+    /**
+     * from 위치부터 target 이상인 첫 항목의 위치 (없으면 docs.length)
+     * 지수 탐색으로 구간을 잡은 뒤 이진 탐색하므로 멀리 건너뛸수록 이득
+     */
+    int advance(int from, int target) {
+        if (from >= docs.length || docs[from] >= target) {
+            return from;
+        }
+        int low = from;
+        int bound = 1;
+        while (from + bound < docs.length && docs[from + bound] < target) {
+            low = from + bound;
+            bound <<= 1;
+        }
+        int high = Math.min(from + bound, docs.length);
+        low++;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (docs[mid] < target) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * position이 속한 블록부터 찾아 target을 포함할 수 있는 첫 블록 (없으면 -1)
+     */
+    int blockOf(int position, int target) {
+        for (int block = position / BLOCK_SIZE; block < blockLastDocs.length; block++) {
+            if (blockLastDocs[block] >= target) {
+                return block;
+            }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,91 @@
+package com.trevari.book.index;
+
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 여러 단어 단순 검색의 근접도 가산점
+ * <p>
+ * - 제목·부제목 텀 벡터에서 모든 단어를 포함하는 가장 짧은 토큰 구간을 구해 (단어 수 / 구간 길이)로 근접도를 계산
+ *   (단어가 순서와 관계없이 붙어 나오면 1, 서로 멀수록 0에 가까워짐)
+ * - 가산점 = maxBonus × 필드별 (필드 가중치 × 근접도)의 최댓값 (제목 1, 부제목 0.5)
+ * - 가산점은 maxBonus를 넘지 않으므로 WAND 점수 상한에 maxBonus만 더하면 상위 k개 결과가 그대로 유지됨
+ */
+final class ProximityScorer {
+
+    static final ProximityScorer NONE = new ProximityScorer(TermVectors.EMPTY, new int[0], new int[0], 0, 0f);
+
+    private static final HighlightField[] FIELDS = {HighlightField.TITLE, HighlightField.SUBTITLE};
+    private static final float[] FIELD_WEIGHTS = {1f, 0.5f};
+
+    private final TermVectors termVectors;
+    private final int[] terms;
+    private final int[] groupMasks;
+    private final int groupCount;
+    private final float maxBonus;
+
+    private ProximityScorer(TermVectors termVectors, int[] terms, int[] groupMasks, int groupCount, float maxBonus) {
+        this.termVectors = termVectors;
+        this.terms = terms;
+        this.groupMasks = groupMasks;
+        this.groupCount = groupCount;
+        this.maxBonus = maxBonus;
+    }
+
+    /**
+     * 단어별 텀 묶음으로 생성 (단어가 하나뿐이거나, 어떤 단어도 제목·부제목·설명에 없으면 NONE)
+     *
+     * @param groups   단어별 텀 (묶음 안의 어느 텀이 나와도 그 단어가 나온 것으로 봄)
+     * @param maxBonus 가산점 최댓값
+     */
+    static ProximityScorer of(TermVectors termVectors, List<List<String>> groups, float maxBonus) {
+        if (groups.size() < 2 || groups.size() > Integer.SIZE || maxBonus <= 0f) {
+            return NONE;
+        }
+        Map<Integer, Integer> masks = new TreeMap<>();
+        int covered = 0;
+        for (int g = 0; g < groups.size(); g++) {
+            for (String term : groups.get(g)) {
+                int termId = termVectors.termId(term);
+                if (termId >= 0) {
+                    masks.merge(termId, 1 << g, (a, b) -> a | b);
+                    covered |= 1 << g;
+                }
+            }
+        }
+        if (covered != (groups.size() == Integer.SIZE ? -1 : (1 << groups.size()) - 1)) {
+            return NONE;
+        }
+
+        int[] terms = new int[masks.size()];
+        int[] groupMasks = new int[masks.size()];
+        int i = 0;
+        for (Map.Entry<Integer, Integer> entry : masks.entrySet()) {
+            terms[i] = entry.getKey();
+            groupMasks[i++] = entry.getValue();
+        }
+        return new ProximityScorer(termVectors, terms, groupMasks, groups.size(), maxBonus);
+    }
+
+    float maxBonus() {
+        return maxBonus;
+    }
+
+    /**
+     * 문서의 근접도 가산점 (0 이상 maxBonus 이하)
+     */
+    float bonus(int doc) {
+        if (groupCount == 0) {
+            return 0f;
+        }
+        float best = 0f;
+        for (int f = 0; f < FIELDS.length; f++) {
+            int window = termVectors.minCoveringWindow(doc, FIELDS[f], terms, groupMasks, groupCount);
+            if (window > 0) {
+                best = Math.max(best, FIELD_WEIGHTS[f] * Math.min(1f, (float) groupCount / window));
+            }
+        }
+        return maxBonus * best;
+    }
+}
@@ -0,0 +1,21 @@
+package com.trevari.book.index;
+
+import java.util.List;
+
+/**
+ * 관련 도서 (색인에 보관된 필드만으로 구성하므로 DB 조회 없이 응답 가능)
+ *
+ * @param isbn        ISBN
+ * @param title       제목
+ * @param subtitle    부제목 (없으면 null)
+ * @param authorNames 저자명 목록
+ * @param score       관련도 (저자·카테고리·본문 유사도 가중합, 클수록 관련 높음)
+ */
+public record RelatedBook(
+        String isbn,
+        String title,
+        String subtitle,
+        List<String> authorNames,
+        float score
+) {
+}
@@ -0,0 +1,42 @@
+package com.trevari.book.index;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * BookIndex 스냅샷의 관련 도서 조회
+ * 색인 시 미리 계산한 목록(RelatedBooks)을 저장된 필드로 채워 반환 (조회 시 유사도 계산 없음)
+ */
+public final class RelatedBookLookup {
+
+    private final BookIndex index;
+
+    public RelatedBookLookup(BookIndex index) {
+        this.index = index;
+    }
+
+    /**
+     * 도서의 관련 도서 (관련도 내림차순, 같으면 ordinal 오름차순)
+     *
+     * @param isbn  기준 도서 ISBN
+     * @param limit 반환할 최대 도서 수 (미리 계산된 RelatedBooks.MAX_RELATED개까지)
+     * @return 관련 도서 목록 (색인에 없는 도서면 빈 목록)
+     */
+    public List<RelatedBook> related(String isbn, int limit) {
+        int doc = index.ordinalOf(isbn);
+        if (doc < 0 || limit <= 0) {
+            return List.of();
+        }
+        TopDocsCollector.TopDocs top = index.relatedBooks().of(doc);
+        int size = Math.min(limit, top.docs().length);
+        List<RelatedBook> related = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            int other = top.docs()[i];
+            String authors = index.storedField(other, BookField.AUTHOR);
+            related.add(new RelatedBook(index.isbn(other), index.storedField(other, BookField.TITLE),
+                    index.storedField(other, BookField.SUBTITLE),
+                    authors != null ? List.of(authors.split("\n")) : List.of(), top.scores()[i]));
+        }
+        return related;
+    }
+}
@@ -0,0 +1,306 @@
+package com.trevari.book.index;
+
+import com.trevari.book.domain.search.Facet;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 도서별 관련 도서 목록 (색인 생성 시 미리 계산하여 조회 시에는 배열만 읽음)
+ * <p>
+ * 관련도 = AUTHOR_WEIGHT × (공유 저자 수 / 기준 도서 저자 수)
+ *        + CATEGORY_WEIGHT × 카테고리 집합 Jaccard 계수
+ *        + TEXT_WEIGHT × 제목·부제목·설명 TF-IDF 코사인 유사도
+ * <p>
+ * - TF-IDF 벡터는 (1 + ln tf) × ln(1 + N / df) 가중치 상위 MAX_VECTOR_TERMS개 텀만 남겨 다시 정규화 (근사 코사인)
+ * - 후보는 저자·벡터 텀·카테고리의 역목록으로만 모으고, 역목록이 MAX_CANDIDATE_DOCS보다 긴 흔한 값은 후보 생성에서 제외
+ *   (흔한 카테고리도 다른 경로로 들어온 후보의 Jaccard 계산에는 반영)
+ * - 도서마다 상위 MAX_RELATED개를 관련도 내림차순(같으면 ordinal 오름차순)으로 평탄화한 배열에 보관
+ */
+final class RelatedBooks {
+
+    static final int MAX_RELATED = 20;
+    static final float AUTHOR_WEIGHT = 1.0f;
+    static final float CATEGORY_WEIGHT = 0.5f;
+    static final float TEXT_WEIGHT = 1.0f;
+    private static final int MAX_VECTOR_TERMS = 32;
+    private static final int MAX_CANDIDATE_DOCS = 2_000;
+
+    static final RelatedBooks EMPTY = new RelatedBooks(new int[1], new int[0], new float[0]);
+
+    private final int[] starts;
+    private final int[] docs;
+    private final float[] scores;
+
+    private RelatedBooks(int[] starts, int[] docs, float[] scores) {
+        this.starts = starts;
+        this.docs = docs;
+        this.scores = scores;
+    }
+
+    /**
+     * 도서의 관련 도서 (관련도 순, 최대 MAX_RELATED개)
+     */
+    TopDocsCollector.TopDocs of(int doc) {
+        return new TopDocsCollector.TopDocs(Arrays.copyOfRange(docs, starts[doc], starts[doc + 1]),
+                Arrays.copyOfRange(scores, starts[doc], starts[doc + 1]));
+    }
+
+    /**
+     * ordinal 순으로 정렬된 도서 문서와 같은 순서로 만든 텀 벡터로 관련 도서 계산
+     */
+    static RelatedBooks build(List<BookDocument> documents, TermVectors termVectors) {
+        int maxDoc = documents.size();
+        int[][] docAuthors = new int[maxDoc][];
+        int[][] docCategories = new int[maxDoc][];
+        Map<String, Integer> authorIds = new HashMap<>();
+        Map<String, Integer> categoryIds = new HashMap<>();
+        for (int doc = 0; doc < maxDoc; doc++) {
+            BookDocument document = documents.get(doc);
+            docAuthors[doc] = valueIds(authorIds, document.authorNames(), true);
+            docCategories[doc] = valueIds(categoryIds, document.facetValues().getOrDefault(Facet.CATEGORY, List.of()), false);
+        }
+        int[][] authorDocs = invert(docAuthors, authorIds.size());
+        int[][] categoryDocs = invert(docCategories, categoryIds.size());
+
+        TextVectors vectors = TextVectors.build(maxDoc, termVectors);
+
+        int[] starts = new int[maxDoc + 1];
+        int[] related = new int[Math.min(maxDoc, MAX_RELATED) * maxDoc];
+        float[] relatedScores = new float[related.length];
+        int size = 0;
+
+        float[] textScores = new float[maxDoc];
+        float[] authorScores = new float[maxDoc];
+        int[] marks = new int[maxDoc];
+        Arrays.fill(marks, -1);
+        int[] candidates = new int[maxDoc];
+        for (int doc = 0; doc < maxDoc; doc++) {
+            int candidateCount = 0;
+
+            int[] terms = vectors.terms()[doc];
+            float[] weights = vectors.weights()[doc];
+            for (int i = 0; i < terms.length; i++) {
+                int[] termDocs = vectors.termDocs()[terms[i]];
+                if (termDocs.length > MAX_CANDIDATE_DOCS) {
+                    continue;
+                }
+                float[] termWeights = vectors.termWeights()[terms[i]];
+                for (int j = 0; j < termDocs.length; j++) {
+                    candidateCount = mark(marks, candidates, candidateCount, doc, termDocs[j]);
+                    textScores[termDocs[j]] += weights[i] * termWeights[j];
+                }
+            }
+            for (int author : docAuthors[doc]) {
+                if (authorDocs[author].length > MAX_CANDIDATE_DOCS) {
+                    continue;
+                }
+                for (int other : authorDocs[author]) {
+                    candidateCount = mark(marks, candidates, candidateCount, doc, other);
+                    authorScores[other] += 1f / docAuthors[doc].length;
+                }
+            }
+            for (int category : docCategories[doc]) {
+                if (categoryDocs[category].length <= MAX_CANDIDATE_DOCS) {
+                    for (int other : categoryDocs[category]) {
+                        candidateCount = mark(marks, candidates, candidateCount, doc, other);
+                    }
+                }
+            }
+
+            TopDocsCollector collector = new TopDocsCollector(MAX_RELATED);
+            for (int i = 0; i < candidateCount; i++) {
+                int other = candidates[i];
+                if (other != doc) {
+                    float score = TEXT_WEIGHT * textScores[other]
+                            + AUTHOR_WEIGHT * authorScores[other]
+                            + CATEGORY_WEIGHT * jaccard(docCategories[doc], docCategories[other]);
+                    if (score > 0f) {
+                        collector.collect(other, score);
+                    }
+                }
+                textScores[other] = 0f;
+                authorScores[other] = 0f;
+            }
+
+            TopDocsCollector.TopDocs top = collector.drainSorted();
+            starts[doc] = size;
+            System.arraycopy(top.docs(), 0, related, size, top.docs().length);
+            System.arraycopy(top.scores(), 0, relatedScores, size, top.scores().length);
+            size += top.docs().length;
+        }
+        starts[maxDoc] = size;
+        return new RelatedBooks(starts, Arrays.copyOf(related, size), Arrays.copyOf(relatedScores, size));
+    }
+
+    private static int mark(int[] marks, int[] candidates, int candidateCount, int doc, int other) {
+        if (marks[other] != doc) {
+            marks[other] = doc;
+            candidates[candidateCount++] = other;
+        }
+        return candidateCount;
+    }
+
+    /**
+     * 값 목록을 중복 없는 오름차순 id 배열로 변환 (저자명은 대소문자·앞뒤 공백 무시)
+     */
+    private static int[] valueIds(Map<String, Integer> ids, List<String> values, boolean normalize) {
+        int[] result = new int[values.size()];
+        int size = 0;
+        for (String value : values) {
+            if (value == null || value.isBlank()) {
+                continue;
+            }
+            String key = normalize ? value.trim().toLowerCase(Locale.ROOT) : value;
+            result[size++] = ids.computeIfAbsent(key, k -> ids.size());
+        }
+        return Arrays.stream(result, 0, size).sorted().distinct().toArray();
+    }
+
+    /**
+     * 문서별 값 id 배열을 값별 ordinal 오름차순 배열로 뒤집음
+     */
+    private static int[][] invert(int[][] docValues, int valueCount) {
+        int[] counts = new int[valueCount];
+        for (int[] values : docValues) {
+            for (int value : values) {
+                counts[value]++;
+            }
+        }
+        int[][] valueDocs = new int[valueCount][];
+        for (int value = 0; value < valueCount; value++) {
+            valueDocs[value] = new int[counts[value]];
+            counts[value] = 0;
+        }
+        for (int doc = 0; doc < docValues.length; doc++) {
+            for (int value : docValues[doc]) {
+                valueDocs[value][counts[value]++] = doc;
+            }
+        }
+        return valueDocs;
+    }
+
+    /**
+     * 오름차순 id 배열 두 개의 Jaccard 계수
+     */
+    private static float jaccard(int[] a, int[] b) {
+        if (a.length == 0 || b.length == 0) {
+            return 0f;
+        }
+        int shared = 0;
+        int i = 0;
+        int j = 0;
+        while (i < a.length && j < b.length) {
+            if (a[i] == b[j]) {
+                shared++;
+                i++;
+                j++;
+            } else if (a[i] < b[j]) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+        return (float) shared / (a.length + b.length - shared);
+    }
+
+    /**
+     * 도서별 TF-IDF 벡터(상위 텀만, 단위 길이)와 텀별 역목록
+     *
+     * @param terms       도서별 벡터 텀 id
+     * @param weights     terms와 같은 순서의 정규화된 가중치
+     * @param termDocs    텀별 벡터에 그 텀을 가진 ordinal 오름차순 배열
+     * @param termWeights termDocs와 같은 순서의 가중치
+     */
+    private record TextVectors(int[][] terms, float[][] weights, int[][] termDocs, float[][] termWeights) {
+
+        static TextVectors build(int maxDoc, TermVectors termVectors) {
+            int termCount = termVectors.termCount();
+            int[][] docTerms = new int[maxDoc][];
+            int[][] docFreqs = new int[maxDoc][];
+            int[] df = new int[termCount];
+            for (int doc = 0; doc < maxDoc; doc++) {
+                int[] tokens = concat(termVectors.tokenTerms(doc, HighlightField.TITLE),
+                        termVectors.tokenTerms(doc, HighlightField.SUBTITLE),
+                        termVectors.tokenTerms(doc, HighlightField.DESCRIPTION));
+                Arrays.sort(tokens);
+                int[] terms = new int[tokens.length];
+                int[] freqs = new int[tokens.length];
+                int size = 0;
+                for (int i = 0; i < tokens.length; i++) {
+                    if (size > 0 && terms[size - 1] == tokens[i]) {
+                        freqs[size - 1]++;
+                    } else {
+                        terms[size] = tokens[i];
+                        freqs[size++] = 1;
+                        df[tokens[i]]++;
+                    }
+                }
+                docTerms[doc] = Arrays.copyOf(terms, size);
+                docFreqs[doc] = Arrays.copyOf(freqs, size);
+            }
+
+            int[][] vectorTerms = new int[maxDoc][];
+            float[][] vectorWeights = new float[maxDoc][];
+            int[] termDocCounts = new int[termCount];
+            for (int doc = 0; doc < maxDoc; doc++) {
+                int[] terms = docTerms[doc];
+                float[] weights = new float[terms.length];
+                for (int i = 0; i < terms.length; i++) {
+                    weights[i] = (float) ((1 + Math.log(docFreqs[doc][i])) * Math.log(1 + (double) maxDoc / df[terms[i]]));
+                }
+                Integer[] order = new Integer[terms.length];
+                for (int i = 0; i < order.length; i++) {
+                    order[i] = i;
+                }
+                Arrays.sort(order, (x, y) -> Float.compare(weights[y], weights[x]));
+
+                int keep = Math.min(terms.length, MAX_VECTOR_TERMS);
+                vectorTerms[doc] = new int[keep];
+                vectorWeights[doc] = new float[keep];
+                double norm = 0;
+                for (int i = 0; i < keep; i++) {
+                    norm += (double) weights[order[i]] * weights[order[i]];
+                }
+                for (int i = 0; i < keep; i++) {
+                    vectorTerms[doc][i] = terms[order[i]];
+                    vectorWeights[doc][i] = norm > 0 ? (float) (weights[order[i]] / Math.sqrt(norm)) : 0f;
+                    termDocCounts[terms[order[i]]]++;
+                }
+            }
+
+            int[][] termDocs = new int[termCount][];
+            float[][] termWeights = new float[termCount][];
+            for (int term = 0; term < termCount; term++) {
+                termDocs[term] = new int[termDocCounts[term]];
+                termWeights[term] = new float[termDocCounts[term]];
+                termDocCounts[term] = 0;
+            }
+            for (int doc = 0; doc < maxDoc; doc++) {
+                for (int i = 0; i < vectorTerms[doc].length; i++) {
+                    int term = vectorTerms[doc][i];
+                    termDocs[term][termDocCounts[term]] = doc;
+                    termWeights[term][termDocCounts[term]++] = vectorWeights[doc][i];
+                }
+            }
+            return new TextVectors(vectorTerms, vectorWeights, termDocs, termWeights);
+        }
+
+        private static int[] concat(int[]... arrays) {
+            int length = 0;
+            for (int[] array : arrays) {
+                length += array.length;
+            }
+            int[] result = new int[length];
+            int position = 0;
+            for (int[] array : arrays) {
+                System.arraycopy(array, 0, result, position, array.length);
+                position += array.length;
+            }
+            return result;
+        }
+    }
+}
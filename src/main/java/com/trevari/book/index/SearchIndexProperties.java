@@ -0,0 +1,71 @@
+package com.trevari.book.index;
+
+import com.trevari.book.index.analysis.BookAnalyzer;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 인메모리 검색 인덱스 설정 (search.index.*)
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "search.index")
+public class SearchIndexProperties {
+
+    /**
+     * 인메모리 인덱스 사용 여부 (false면 기존 MySQL 검색 경로만 사용)
+     */
+    private boolean enabled = false;
+
+    /**
+     * 재색인 주기 (밀리초)
+     */
+    private long refreshIntervalMs = 600_000L;
+
+    /**
+     * 영문 복수형 스테머 사용 여부
+     */
+    private boolean stemming = true;
+
+    /**
+     * 결과가 0건이면 오타 허용 검색으로 자동 재시도할지 여부
+     */
+    private boolean fuzzyFallback = true;
+
+    /**
+     * BM25F 랭킹 파라미터 (search.index.scoring.*)
+     */
+    private Scoring scoring = new Scoring();
+
+    public BookAnalyzer toAnalyzer() {
+        return stemming ? BookAnalyzer.stemming() : BookAnalyzer.standard();
+    }
+
+    @Getter
+    @Setter
+    public static class Scoring {
+
+        /**
+         * 텀 빈도 포화 계수
+         */
+        private float k1 = 1.2f;
+
+        /**
+         * 필드 길이 정규화 강도 (0이면 길이 무시, 1이면 완전 정규화)
+         */
+        private float b = 0.75f;
+
+        private float titleBoost = 3.0f;
+
+        private float subtitleBoost = 1.5f;
+
+        private float authorBoost = 2.0f;
+
+        public Bm25fScorer toScorer() {
+            return new Bm25fScorer(k1, b, titleBoost, subtitleBoost, authorBoost);
+        }
+    }
+}
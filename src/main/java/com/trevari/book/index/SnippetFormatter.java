@@ -0,0 +1,130 @@
+package com.trevari.book.index;
+
+/**
+ * 원문과 일치 구간으로 하이라이트 조각을 만드는 포매터
+ * <p>
+ * - 일치 구간은 &lt;em&gt;으로 감싸고 나머지 원문은 HTML 이스케이프
+ * - 긴 필드는 일치 구간이 가장 많이 들어가는 fragmentLength자 창을 골라, 가능하면 공백 경계에서 자르고 잘린 쪽에 말줄임표를 붙임
+ */
+final class SnippetFormatter {
+
+    static final String PRE_TAG = "<em>";
+    static final String POST_TAG = "</em>";
+    static final String ELLIPSIS = "…";
+
+    private SnippetFormatter() {
+    }
+
+    /**
+     * 원문 전체를 하이라이트
+     *
+     * @param text  원문
+     * @param spans 일치 구간 ([start0, end0, ...], 시작 위치 오름차순, 겹치지 않음)
+     */
+    static String whole(String text, int[] spans) {
+        return format(text, spans, 0, text.length());
+    }
+
+    /**
+     * 일치 구간이 가장 많은 창을 골라 하이라이트 (일치 구간이 없으면 앞부분)
+     *
+     * @param text           원문
+     * @param spans          일치 구간 ([start0, end0, ...], 시작 위치 오름차순, 겹치지 않음)
+     * @param fragmentLength 조각 최대 길이 (말줄임표 제외)
+     */
+    static String fragment(String text, int[] spans, int fragmentLength) {
+        if (text.length() <= fragmentLength) {
+            return whole(text, spans);
+        }
+
+        int matchStart = 0;
+        int matchEnd = 0;
+        int bestCount = 0;
+        int last = 0;
+        for (int first = 0; first < spans.length; first += 2) {
+            // 창 [spans[first], spans[first] + fragmentLength)에 완전히 들어가는 구간 수 (두 포인터)
+            last = Math.max(last, first);
+            while (last + 2 < spans.length && spans[last + 3] <= spans[first] + fragmentLength) {
+                last += 2;
+            }
+            int count = (last - first) / 2 + 1;
+            if (count > bestCount) {
+                bestCount = count;
+                matchStart = spans[first];
+                matchEnd = Math.min(spans[last + 1], spans[first] + fragmentLength);
+            }
+        }
+
+        // 일치 구간을 창 가운데쯤 두고, 원문 끝을 넘으면 앞으로 당김
+        int start = Math.max(0, matchStart - (fragmentLength - (matchEnd - matchStart)) / 2);
+        int end = Math.min(text.length(), start + fragmentLength);
+        start = Math.max(0, end - fragmentLength);
+
+        if (start > 0) {
+            int space = indexOfWhitespace(text, start, matchStart);
+            if (space >= 0) {
+                start = space + 1;
+            }
+        }
+        if (end < text.length()) {
+            int space = lastIndexOfWhitespace(text, matchEnd, end);
+            if (space >= 0) {
+                end = space;
+            }
+        }
+
+        return (start > 0 ? ELLIPSIS : "") + format(text, spans, start, end) + (end < text.length() ? ELLIPSIS : "");
+    }
+
+    /**
+     * text[start, end)를 이스케이프하며 그 안에 완전히 들어가는 일치 구간만 태그로 감쌈
+     */
+    private static String format(String text, int[] spans, int start, int end) {
+        StringBuilder builder = new StringBuilder(end - start + 16);
+        int position = start;
+        for (int i = 0; i < spans.length; i += 2) {
+            if (spans[i] < start || spans[i + 1] > end) {
+                continue;
+            }
+            escape(builder, text, position, spans[i]);
+            builder.append(PRE_TAG);
+            escape(builder, text, spans[i], spans[i + 1]);
+            builder.append(POST_TAG);
+            position = spans[i + 1];
+        }
+        escape(builder, text, position, end);
+        return builder.toString();
+    }
+
+    private static void escape(StringBuilder builder, String text, int start, int end) {
+        for (int i = start; i < end; i++) {
+            char c = text.charAt(i);
+            switch (c) {
+                case '&' -> builder.append("&amp;");
+                case '<' -> builder.append("&lt;");
+                case '>' -> builder.append("&gt;");
+                case '"' -> builder.append("&quot;");
+                case '\'' -> builder.append("&#39;");
+                default -> builder.append(c);
+            }
+        }
+    }
+
+    private static int indexOfWhitespace(String text, int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (Character.isWhitespace(text.charAt(i))) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static int lastIndexOfWhitespace(String text, int from, int to) {
+        for (int i = to - 1; i >= from; i--) {
+            if (Character.isWhitespace(text.charAt(i))) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,183 @@
+package com.trevari.book.index;
+
+import com.trevari.book.domain.search.SortOrder;
+
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 정렬 기준별로 미리 계산한 순위 배열 (가격·출판일·쪽수·인기도 정렬용)
+ * <p>
+ * 색인 시 정렬 기준마다 ordinal을 (값, ordinal) 순으로 한 번 정렬해 두 원시 배열로 보관
+ * - ordinalsByRank[r]: r번째 순위의 ordinal (값이 없는 도서는 맨 뒤에 ordinal 순)
+ * - ranks[ordinal]: 해당 도서의 순위 (모든 도서에서 유일)
+ * 검색 시에는 값 대신 int 순위만 비교하므로, 필터까지 적용된 임의의 매칭 비트셋을 DB 정렬 없이 상위 k개로 정렬
+ * - 매칭이 조밀하면 순위 순서대로 훑어 매칭 문서를 k개 모을 때까지 진행 (방문 수 약 k × 전체 / 매칭 수)
+ * - 희소하면 매칭 문서를 순회하며 크기 k의 int 최대 힙으로 순위가 앞선 k개를 유지 (매칭 수 × log k)
+ * TITLE은 ordinal 순서 자체이므로 배열 없이 비트셋을 앞에서부터 순회
+ */
+final class SortRanks {
+
+    static final SortRanks EMPTY = new SortRanks(new EnumMap<>(SortOrder.class));
+
+    private final Map<SortOrder, int[]> ordinalsByRank;
+    private final Map<SortOrder, int[]> ranks;
+
+    /**
+     * @param ordinalsByRank 정렬 기준별 순위 순 ordinal 배열 (order()로 생성)
+     */
+    SortRanks(Map<SortOrder, int[]> ordinalsByRank) {
+        this.ordinalsByRank = ordinalsByRank;
+        this.ranks = new EnumMap<>(SortOrder.class);
+        ordinalsByRank.forEach((sortOrder, ordinals) -> {
+            int[] rankOf = new int[ordinals.length];
+            for (int rank = 0; rank < ordinals.length; rank++) {
+                rankOf[ordinals[rank]] = rank;
+            }
+            ranks.put(sortOrder, rankOf);
+        });
+    }
+
+    /**
+     * 속성 값으로 순위 순 ordinal 배열 생성 - 값 순, 같으면 ordinal 순이고 값이 없는 도서는 방향과 관계없이 맨 뒤
+     *
+     * @param values     ordinal별 값 (present가 false인 위치는 무시)
+     * @param present    ordinal별 값 존재 여부
+     * @param descending 내림차순 여부
+     */
+    static int[] order(int[] values, boolean[] present, boolean descending) {
+        int size = 0;
+        long[] packed = new long[values.length];
+        for (int ordinal = 0; ordinal < values.length; ordinal++) {
+            if (present[ordinal]) {
+                // 내림차순은 비트 반전(~v)으로 뒤집어 오름차순 정렬 한 번으로 처리 (음수·최솟값도 넘치지 않음)
+                int key = descending ? ~values[ordinal] : values[ordinal];
+                packed[size++] = ((long) key << 32) | ordinal;
+            }
+        }
+        Arrays.sort(packed, 0, size);
+
+        int[] ordinals = new int[values.length];
+        for (int i = 0; i < size; i++) {
+            ordinals[i] = (int) packed[i];
+        }
+        int rank = size;
+        for (int ordinal = 0; ordinal < values.length; ordinal++) {
+            if (!present[ordinal]) {
+                ordinals[rank++] = ordinal;
+            }
+        }
+        return ordinals;
+    }
+
+    /**
+     * 매칭 문서를 정렬 기준 순으로 나열했을 때 [offset, offset + limit) 구간의 ordinal
+     *
+     * @param matches   매칭 문서 비트셋
+     * @param totalHits 매칭 문서 수 (matches의 popcount)
+     * @param sortOrder RELEVANCE를 제외한 정렬 기준
+     */
+    int[] topDocs(DocIdBitSet matches, int totalHits, SortOrder sortOrder, int offset, int limit) {
+        int k = (int) Math.min((long) offset + limit, totalHits);
+        if (offset >= k) {
+            return new int[0];
+        }
+
+        int[] ordinals = ordinalsByRank.get(sortOrder);
+        int[] top;
+        if (ordinals == null) {
+            top = firstDocs(matches, k);
+        } else if ((long) k * ordinals.length <= (long) totalHits * totalHits) {
+            top = scanByRank(matches, ordinals, k);
+        } else {
+            top = heapByRank(matches, ordinals, ranks.get(sortOrder), k);
+        }
+        return Arrays.copyOfRange(top, offset, k);
+    }
+
+    /**
+     * ordinal 순 (TITLE) - 비트셋 앞에서부터 k개
+     */
+    private static int[] firstDocs(DocIdBitSet matches, int k) {
+        int[] top = new int[k];
+        int doc = matches.nextSetBit(0);
+        for (int i = 0; i < k; i++) {
+            top[i] = doc;
+            doc = matches.nextSetBit(doc + 1);
+        }
+        return top;
+    }
+
+    /**
+     * 조밀한 매칭 - 순위 순서대로 훑으며 매칭 문서 k개 수집
+     */
+    private static int[] scanByRank(DocIdBitSet matches, int[] ordinals, int k) {
+        int[] top = new int[k];
+        int size = 0;
+        for (int rank = 0; size < k; rank++) {
+            if (matches.get(ordinals[rank])) {
+                top[size++] = ordinals[rank];
+            }
+        }
+        return top;
+    }
+
+    /**
+     * 희소한 매칭 - 순위 최대 힙으로 순위가 가장 앞선 k개를 유지한 뒤 순위 순으로 정렬
+     */
+    private static int[] heapByRank(DocIdBitSet matches, int[] ordinals, int[] rankOf, int k) {
+        int[] heap = new int[k];
+        int size = 0;
+        for (int doc = matches.nextSetBit(0); doc >= 0; doc = matches.nextSetBit(doc + 1)) {
+            int rank = rankOf[doc];
+            if (size < k) {
+                heap[size] = rank;
+                siftUp(heap, size++);
+            } else if (rank < heap[0]) {
+                heap[0] = rank;
+                siftDown(heap, k);
+            }
+        }
+
+        Arrays.sort(heap);
+        int[] top = new int[k];
+        for (int i = 0; i < k; i++) {
+            top[i] = ordinals[heap[i]];
+        }
+        return top;
+    }
+
+    private static void siftUp(int[] heap, int index) {
+        int value = heap[index];
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (heap[parent] >= value) {
+                break;
+            }
+            heap[index] = heap[parent];
+            index = parent;
+        }
+        heap[index] = value;
+    }
+
+    private static void siftDown(int[] heap, int size) {
+        int value = heap[0];
+        int index = 0;
+        while (true) {
+            int child = 2 * index + 1;
+            if (child >= size) {
+                break;
+            }
+            if (child + 1 < size && heap[child + 1] > heap[child]) {
+                child++;
+            }
+            if (heap[child] <= value) {
+                break;
+            }
+            heap[index] = heap[child];
+            index = child;
+        }
+        heap[index] = value;
+    }
+}
@@ -0,0 +1,223 @@
+package com.trevari.book.index;
+
+import com.trevari.book.index.analysis.Token;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 하이라이트·구문 검증용 문서별 텀 벡터 (색인 시 분석한 토큰의 텀 id와 원문 오프셋)
+ * <p>
+ * - 슬롯([doc × HighlightField.COUNT + field])별 토큰을 평탄화한 배열에 이어 붙이고, 슬롯 시작 위치만 따로 보관
+ * - 텀은 사전 id로 보관하므로 검색어 텀을 id 집합으로 바꾼 뒤 슬롯의 id 배열만 훑으면 일치 위치를 얻음 (원문 재분석 없음)
+ * - 원문은 MAX_TEXT_LENGTH자까지만 보관하므로 오프셋은 short로 저장
+ */
+final class TermVectors {
+
+    static final int MAX_TEXT_LENGTH = 1_000;
+
+    static final TermVectors EMPTY = new TermVectors(
+            Map.of(), new int[1], new int[0], new short[0], new short[0], new String[0]);
+
+    private final Map<String, Integer> termIds;
+    private final int[] slotStarts;
+    private final int[] tokenTerms;
+    private final short[] startOffsets;
+    private final short[] endOffsets;
+    private final String[] texts;
+
+    private TermVectors(Map<String, Integer> termIds, int[] slotStarts, int[] tokenTerms,
+                        short[] startOffsets, short[] endOffsets, String[] texts) {
+        this.termIds = termIds;
+        this.slotStarts = slotStarts;
+        this.tokenTerms = tokenTerms;
+        this.startOffsets = startOffsets;
+        this.endOffsets = endOffsets;
+        this.texts = texts;
+    }
+
+    static Builder builder(int maxDoc) {
+        return new Builder(maxDoc);
+    }
+
+    /**
+     * 텀의 사전 id (어느 문서의 하이라이트 필드에도 없으면 -1)
+     */
+    int termId(String term) {
+        return termIds.getOrDefault(term, -1);
+    }
+
+    /**
+     * 사전의 텀 수 (텀 id는 0..termCount-1)
+     */
+    int termCount() {
+        return termIds.size();
+    }
+
+    /**
+     * 필드 토큰의 텀 id (등장 순서, 중복 포함)
+     */
+    int[] tokenTerms(int doc, HighlightField field) {
+        int slot = doc * HighlightField.COUNT + field.ordinal();
+        return Arrays.copyOfRange(tokenTerms, slotStarts[slot], slotStarts[slot + 1]);
+    }
+
+    /**
+     * 문서의 하이라이트 필드 원문 (MAX_TEXT_LENGTH자까지, 없으면 null)
+     */
+    String text(int doc, HighlightField field) {
+        return texts[doc * HighlightField.COUNT + field.ordinal()];
+    }
+
+    /**
+     * 필드에서 terms에 속한 토큰의 원문 구간 ([start0, end0, start1, end1, ...], 시작 위치 오름차순)
+     * 한글 bigram처럼 겹치거나 맞닿은 구간은 하나로 합침
+     */
+    int[] matchedSpans(int doc, HighlightField field, BitSet terms) {
+        int slot = doc * HighlightField.COUNT + field.ordinal();
+        int[] spans = new int[8];
+        int size = 0;
+        for (int i = slotStarts[slot]; i < slotStarts[slot + 1]; i++) {
+            if (!terms.get(tokenTerms[i])) {
+                continue;
+            }
+            int start = startOffsets[i];
+            int end = endOffsets[i];
+            if (size > 0 && start <= spans[size - 1]) {
+                spans[size - 1] = Math.max(spans[size - 1], end);
+                continue;
+            }
+            if (size == spans.length) {
+                spans = Arrays.copyOf(spans, size * 2);
+            }
+            spans[size++] = start;
+            spans[size++] = end;
+        }
+        return Arrays.copyOf(spans, size);
+    }
+
+    /**
+     * 필드 토큰에 terms가 같은 순서로 연속해 나오는지 여부 (구문 검증, 원문 재분석 없음)
+     * 저자처럼 여러 값을 줄바꿈으로 이은 필드에서는 값 경계를 넘는 연속은 인정하지 않음
+     */
+    boolean containsSequence(int doc, HighlightField field, int[] terms) {
+        int slot = doc * HighlightField.COUNT + field.ordinal();
+        String text = texts[slot];
+        int last = slotStarts[slot + 1] - terms.length;
+        candidates:
+        for (int i = slotStarts[slot]; i <= last; i++) {
+            for (int k = 0; k < terms.length; k++) {
+                if (tokenTerms[i + k] != terms[k]) {
+                    continue candidates;
+                }
+                if (k > 0 && text.lastIndexOf('\n', startOffsets[i + k]) >= endOffsets[i + k - 1]) {
+                    continue candidates;
+                }
+            }
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * 필드 토큰 중 모든 단어 묶음을 하나 이상 포함하는 가장 짧은 구간의 토큰 수 (모든 묶음이 나오지 않으면 0)
+     * 토큰을 한 번 훑으며 묶음별 마지막 등장 위치를 갱신하고, 그 최솟값부터 현재 위치까지를 후보 구간으로 봄
+     *
+     * @param terms      검색어 텀 id (오름차순)
+     * @param groupMasks 텀 id별로 속한 묶음 비트 (terms와 같은 순서)
+     * @param groupCount 묶음 수 (32 이하)
+     */
+    int minCoveringWindow(int doc, HighlightField field, int[] terms, int[] groupMasks, int groupCount) {
+        int slot = doc * HighlightField.COUNT + field.ordinal();
+        int[] lastSeen = new int[groupCount];
+        Arrays.fill(lastSeen, -1);
+        int allGroups = groupCount == Integer.SIZE ? -1 : (1 << groupCount) - 1;
+        int seen = 0;
+        int best = 0;
+        int start = slotStarts[slot];
+        for (int i = start; i < slotStarts[slot + 1]; i++) {
+            int index = Arrays.binarySearch(terms, tokenTerms[i]);
+            if (index < 0) {
+                continue;
+            }
+            int mask = groupMasks[index];
+            seen |= mask;
+            for (int g = 0; g < groupCount; g++) {
+                if ((mask & (1 << g)) != 0) {
+                    lastSeen[g] = i - start;
+                }
+            }
+            if (seen != allGroups) {
+                continue;
+            }
+            int first = i - start;
+            for (int position : lastSeen) {
+                first = Math.min(first, position);
+            }
+            int window = i - start - first + 1;
+            if (best == 0 || window < best) {
+                best = window;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * 슬롯 오름차순으로만 추가된다는 전제의 텀 벡터 빌더
+     */
+    static final class Builder {
+        private final Map<String, Integer> termIds = new HashMap<>();
+        private final int[] slotStarts;
+        private final String[] texts;
+        private int[] tokenTerms = new int[64];
+        private short[] startOffsets = new short[64];
+        private short[] endOffsets = new short[64];
+        private int size;
+        private int nextSlot;
+
+        private Builder(int maxDoc) {
+            this.slotStarts = new int[maxDoc * HighlightField.COUNT + 1];
+            this.texts = new String[maxDoc * HighlightField.COUNT];
+        }
+
+        /**
+         * 필드 원문과 분석 토큰 추가 (MAX_TEXT_LENGTH자를 넘는 부분의 토큰은 버림)
+         */
+        void add(int doc, HighlightField field, String text, List<Token> tokens) {
+            int slot = doc * HighlightField.COUNT + field.ordinal();
+            while (nextSlot <= slot) {
+                slotStarts[nextSlot++] = size;
+            }
+            if (text == null || text.isEmpty()) {
+                return;
+            }
+            texts[slot] = text.length() > MAX_TEXT_LENGTH ? text.substring(0, MAX_TEXT_LENGTH) : text;
+
+            for (Token token : tokens) {
+                if (token.endOffset() > MAX_TEXT_LENGTH) {
+                    break;
+                }
+                if (size == tokenTerms.length) {
+                    tokenTerms = Arrays.copyOf(tokenTerms, size * 2);
+                    startOffsets = Arrays.copyOf(startOffsets, size * 2);
+                    endOffsets = Arrays.copyOf(endOffsets, size * 2);
+                }
+                tokenTerms[size] = termIds.computeIfAbsent(token.term(), t -> termIds.size());
+                startOffsets[size] = (short) token.startOffset();
+                endOffsets[size] = (short) token.endOffset();
+                size++;
+            }
+        }
+
+        TermVectors build() {
+            while (nextSlot < slotStarts.length) {
+                slotStarts[nextSlot++] = size;
+            }
+            return new TermVectors(termIds, slotStarts, Arrays.copyOf(tokenTerms, size),
+                    Arrays.copyOf(startOffsets, size), Arrays.copyOf(endOffsets, size), texts);
+        }
+    }
+}
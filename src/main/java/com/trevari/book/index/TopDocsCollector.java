@@ -0,0 +1,112 @@
+package com.trevari.book.index;
+
+/**
+ * 상위 k개 문서를 유지하는 primitive 최소 힙
+ * 힙의 루트는 현재 상위 k개 중 가장 낮은 순위 문서 (점수 오름차순, 동점이면 ordinal 내림차순)
+ */
+final class TopDocsCollector {
+
+    private final int[] docs;
+    private final float[] scores;
+    private int size;
+
+    TopDocsCollector(int capacity) {
+        this.docs = new int[capacity];
+        this.scores = new float[capacity];
+    }
+
+    /**
+     * a가 b보다 높은 순위인지 (점수 내림차순, 동점이면 ordinal 오름차순)
+     */
+    static boolean ranksBefore(int docA, float scoreA, int docB, float scoreB) {
+        return scoreA > scoreB || (scoreA == scoreB && docA < docB);
+    }
+
+    void collect(int doc, float score) {
+        if (size < docs.length) {
+            docs[size] = doc;
+            scores[size] = score;
+            siftUp(size++);
+        } else if (size > 0 && ranksBefore(doc, score, docs[0], scores[0])) {
+            docs[0] = doc;
+            scores[0] = score;
+            siftDown(0);
+        }
+    }
+
+    boolean isFull() {
+        return size == docs.length;
+    }
+
+    /**
+     * 힙에 들어가기 위해 넘어야 하는 점수 (가득 차지 않았으면 음의 무한대)
+     */
+    float minCompetitiveScore() {
+        return isFull() && size > 0 ? scores[0] : Float.NEGATIVE_INFINITY;
+    }
+
+    /**
+     * 순위 순으로 정렬된 문서 ordinal과 점수 반환 (힙은 비워짐)
+     */
+    TopDocs drainSorted() {
+        int[] sorted = new int[size];
+        float[] sortedScores = new float[size];
+        while (size > 0) {
+            sorted[size - 1] = docs[0];
+            sortedScores[size - 1] = scores[0];
+            size--;
+            docs[0] = docs[size];
+            scores[0] = scores[size];
+            siftDown(0);
+        }
+        return new TopDocs(sorted, sortedScores);
+    }
+
+    private void siftUp(int i) {
+        while (i > 0) {
+            int parent = (i - 1) >>> 1;
+            if (!ranksBefore(docs[parent], scores[parent], docs[i], scores[i])) {
+                return;
+            }
+            swap(i, parent);
+            i = parent;
+        }
+    }
+
+    private void siftDown(int i) {
+        while (true) {
+            int left = 2 * i + 1;
+            if (left >= size) {
+                return;
+            }
+            int worst = left;
+            int right = left + 1;
+            if (right < size && ranksBefore(docs[left], scores[left], docs[right], scores[right])) {
+                worst = right;
+            }
+            if (!ranksBefore(docs[i], scores[i], docs[worst], scores[worst])) {
+                return;
+            }
+            swap(i, worst);
+            i = worst;
+        }
+    }
+
+    private void swap(int i, int j) {
+        int doc = docs[i];
+        docs[i] = docs[j];
+        docs[j] = doc;
+        float score = scores[i];
+        scores[i] = scores[j];
+        scores[j] = score;
+    }
+
+    /**
+     * 순위 순 상위 문서
+     *
+     * @param docs   문서 ordinal
+     * @param scores docs와 같은 순서의 점수
+     */
+    record TopDocs(int[] docs, float[] scores) {
+    }
+}
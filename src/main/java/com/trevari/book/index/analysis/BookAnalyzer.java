@@ -0,0 +1,146 @@
+package com.trevari.book.index.analysis;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 도서 색인/검색 공용 분석 파이프라인 (토크나이저 + 텀 필터)
+ * <p>
+ * 텍스트를 문자 종류별 연속 구간으로 나눈 뒤
+ * - 한글 구간: 2글자씩 겹치는 bigram (한 글자 구간은 그대로) - 형태소 분석 없이도 복합어 내부 부분 일치 가능
+ * - 그 외 문자·숫자 구간: 소문자로 정규화한 단어 하나
+ * 을 만들고, 등록된 필터를 순서대로 적용
+ * <p>
+ * 색인과 검색이 같은 인스턴스를 써야 텀이 일치하므로 색인 스냅샷이 자신을 만든 분석기를 함께 보관
+ */
+public final class BookAnalyzer {
+
+    private static final BookAnalyzer STANDARD = new BookAnalyzer(List.of());
+    private static final BookAnalyzer STEMMING = new BookAnalyzer(List.of(new LightStemFilter()));
+
+    private final List<TokenFilter> filters;
+
+    public BookAnalyzer(List<TokenFilter> filters) {
+        this.filters = List.copyOf(filters);
+    }
+
+    /**
+     * 필터 없이 토큰화와 소문자 정규화만 수행하는 분석기
+     */
+    public static BookAnalyzer standard() {
+        return STANDARD;
+    }
+
+    /**
+     * 영문 복수형 스테머를 포함한 분석기
+     */
+    public static BookAnalyzer stemming() {
+        return STEMMING;
+    }
+
+    /**
+     * 텍스트를 토큰 목록으로 분석 (중복 포함, 등장 순서 유지)
+     *
+     * @param text 분석할 텍스트 (null 허용)
+     * @return 위치·오프셋을 포함한 토큰 목록
+     */
+    public List<Token> analyze(String text) {
+        List<Token> tokens = new ArrayList<>();
+        if (text == null || text.isEmpty()) {
+            return tokens;
+        }
+
+        int run = 0;
+        int i = 0;
+        while (i < text.length()) {
+            int codePoint = text.codePointAt(i);
+            if (!Character.isLetterOrDigit(codePoint)) {
+                i += Character.charCount(codePoint);
+                continue;
+            }
+
+            boolean hangul = isHangul(codePoint);
+            int start = i;
+            while (i < text.length()) {
+                int next = text.codePointAt(i);
+                if (!Character.isLetterOrDigit(next) || isHangul(next) != hangul) {
+                    break;
+                }
+                i += Character.charCount(next);
+            }
+
+            if (hangul) {
+                addBigrams(tokens, text, start, i, run);
+            } else {
+                addToken(tokens, text.substring(start, i).toLowerCase(Locale.ROOT), start, i, run);
+            }
+            run++;
+        }
+        return tokens;
+    }
+
+    /**
+     * 텍스트의 텀만 순서대로 반환 (중복 포함)
+     */
+    public List<String> terms(String text) {
+        List<Token> tokens = analyze(text);
+        List<String> terms = new ArrayList<>(tokens.size());
+        for (Token token : tokens) {
+            terms.add(token.term());
+        }
+        return terms;
+    }
+
+    /**
+     * 검색어를 문자 구간별 텀 묶음으로 분석
+     * 한 구간에서 나온 bigram들은 모두 일치해야 그 단어가 일치한 것으로 보기 위해 묶음 단위로 반환
+     *
+     * @param keyword 검색어
+     * @return 구간별 중복 없는 텀 목록
+     */
+    public List<List<String>> termGroups(String keyword) {
+        List<List<String>> groups = new ArrayList<>();
+        Set<String> group = new LinkedHashSet<>();
+        int currentRun = -1;
+        for (Token token : analyze(keyword)) {
+            if (token.run() != currentRun && !group.isEmpty()) {
+                groups.add(List.copyOf(group));
+                group.clear();
+            }
+            currentRun = token.run();
+            group.add(token.term());
+        }
+        if (!group.isEmpty()) {
+            groups.add(List.copyOf(group));
+        }
+        return groups;
+    }
+
+    private void addBigrams(List<Token> tokens, String text, int start, int end, int run) {
+        // 한글 음절은 BMP 범위이므로 char 단위로 처리
+        if (end - start == 1) {
+            addToken(tokens, text.substring(start, end), start, end, run);
+            return;
+        }
+        for (int i = start; i + 1 < end; i++) {
+            addToken(tokens, text.substring(i, i + 2), i, i + 2, run);
+        }
+    }
+
+    private void addToken(List<Token> tokens, String term, int startOffset, int endOffset, int run) {
+        for (TokenFilter filter : filters) {
+            term = filter.filter(term);
+            if (term.isEmpty()) {
+                return;
+            }
+        }
+        tokens.add(new Token(term, tokens.size(), startOffset, endOffset, run));
+    }
+
+    private static boolean isHangul(int codePoint) {
+        return Character.UnicodeScript.of(codePoint) == Character.UnicodeScript.HANGUL;
+    }
+}
@@ -0,0 +1,37 @@
+package com.trevari.book.index.analysis;
+
+/**
+ * 영문 복수형만 단수형으로 되돌리는 가벼운 스테머 (Harman S-stemmer)
+ * <p>
+ * - ies → y (aies, eies 제외)
+ * - es → e (aes, ees, oes 제외)
+ * - s → 제거 (us, ss 제외)
+ * 한글 bigram이나 숫자에는 영향이 없고, 과도한 어간 추출로 인한 오매칭을 피하기 위해 다른 접미사는 건드리지 않음
+ */
+public final class LightStemFilter implements TokenFilter {
+
+    private static final int MIN_LENGTH = 4;
+
+    @Override
+    public String filter(String term) {
+        int length = term.length();
+        if (length < MIN_LENGTH || !isAsciiLetter(term.charAt(length - 1))) {
+            return term;
+        }
+
+        if (term.endsWith("ies") && !term.endsWith("eies") && !term.endsWith("aies")) {
+            return term.substring(0, length - 3) + "y";
+        }
+        if (term.endsWith("es") && !term.endsWith("aes") && !term.endsWith("ees") && !term.endsWith("oes")) {
+            return term.substring(0, length - 1);
+        }
+        if (term.endsWith("s") && !term.endsWith("us") && !term.endsWith("ss")) {
+            return term.substring(0, length - 1);
+        }
+        return term;
+    }
+
+    private static boolean isAsciiLetter(char c) {
+        return c >= 'a' && c <= 'z';
+    }
+}
@@ -0,0 +1,19 @@
+package com.trevari.book.index.analysis;
+
+/**
+ * 분석기가 만든 토큰
+ *
+ * @param term        색인/검색에 쓰는 정규화된 텀
+ * @param position    필드 내 토큰 순번 (0부터, 구문·근접 검색용)
+ * @param startOffset 원문에서 토큰이 시작하는 문자 위치 (포함)
+ * @param endOffset   원문에서 토큰이 끝나는 문자 위치 (미포함, 하이라이트용)
+ * @param run         토큰을 만든 문자 구간 순번 (한글 구간의 bigram들은 같은 값을 가짐)
+ */
+public record Token(
+        String term,
+        int position,
+        int startOffset,
+        int endOffset,
+        int run
+) {
+}
@@ -0,0 +1,14 @@
+package com.trevari.book.index.analysis;
+
+/**
+ * 토크나이저가 만든 텀을 후처리하는 필터
+ */
+@FunctionalInterface
+public interface TokenFilter {
+
+    /**
+     * @param term 소문자로 정규화된 텀
+     * @return 변환된 텀 (빈 문자열이면 토큰을 버림)
+     */
+    String filter(String term);
+}
@@ -0,0 +1,311 @@
+package com.trevari.book.index.suggest;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * 접두어 자동완성용 불변 구조
+ * <p>
+ * - 정규화된 키(소문자, 공백 하나로 축약)를 사전순으로 정렬해 하나의 char[]에 이어 붙여 보관 (키마다 String 객체를 두지 않음)
+ * - 후보 전체 문자열 외에 단어 시작 위치부터의 접미 문자열도 키로 넣어 "java"로 "Modern Java in Action"을 찾을 수 있게 함
+ * - 접두어에 해당하는 키는 정렬 배열의 연속 구간이므로 이진 탐색 두 번으로 구간을 찾음
+ * - 구간 내 가중치 최댓값 위치를 세그먼트 트리로 구해 상위 k개를 구간 분할 방식으로 꺼냄 (O(log n + k log k))
+ */
+public final class PrefixSuggester {
+
+    /**
+     * 후보 하나당 키로 등록할 최대 단어 시작 위치 수 (전체 문자열 포함)
+     */
+    private static final int MAX_KEYS_PER_SUGGESTION = 8;
+
+    private static final PrefixSuggester EMPTY = build(List.of());
+
+    private final char[] keyChars;
+    private final int[] keyStarts;
+    private final int[] keySuggestions;
+    private final int[] maxTree;
+    private final int leafOffset;
+
+    private final String[] texts;
+    private final SuggestionType[] types;
+    private final long[] weights;
+
+    private PrefixSuggester(char[] keyChars, int[] keyStarts, int[] keySuggestions,
+                            String[] texts, SuggestionType[] types, long[] weights) {
+        this.keyChars = keyChars;
+        this.keyStarts = keyStarts;
+        this.keySuggestions = keySuggestions;
+        this.texts = texts;
+        this.types = types;
+        this.weights = weights;
+
+        int keyCount = keySuggestions.length;
+        int offset = 1;
+        while (offset < keyCount) {
+            offset <<= 1;
+        }
+        this.leafOffset = offset;
+        this.maxTree = new int[offset * 2];
+        Arrays.fill(maxTree, -1);
+        for (int key = 0; key < keyCount; key++) {
+            maxTree[offset + key] = key;
+        }
+        for (int node = offset - 1; node > 0; node--) {
+            maxTree[node] = better(maxTree[node * 2], maxTree[node * 2 + 1]);
+        }
+    }
+
+    public static PrefixSuggester empty() {
+        return EMPTY;
+    }
+
+    /**
+     * 후보 목록으로 자동완성 구조 생성
+     * 같은 (정규화 문자열, 출처) 후보는 가중치가 가장 큰 것 하나만 남김
+     *
+     * @param suggestions 자동완성 후보
+     * @return 불변 자동완성 구조
+     */
+    public static PrefixSuggester build(List<Suggestion> suggestions) {
+        Map<String, Suggestion> distinct = new HashMap<>();
+        for (Suggestion suggestion : suggestions) {
+            String normalized = normalize(suggestion.text());
+            if (normalized.isEmpty()) {
+                continue;
+            }
+            distinct.merge(suggestion.type() + ":" + normalized, suggestion,
+                    (a, b) -> a.weight() >= b.weight() ? a : b);
+        }
+
+        List<Suggestion> unique = new ArrayList<>(distinct.values());
+        String[] texts = new String[unique.size()];
+        SuggestionType[] types = new SuggestionType[unique.size()];
+        long[] weights = new long[unique.size()];
+        List<KeyEntry> entries = new ArrayList<>();
+        for (int id = 0; id < unique.size(); id++) {
+            Suggestion suggestion = unique.get(id);
+            texts[id] = suggestion.text().strip();
+            types[id] = suggestion.type();
+            weights[id] = suggestion.weight();
+
+            String normalized = normalize(suggestion.text());
+            int keys = 0;
+            for (int start = 0; start < normalized.length() && keys < MAX_KEYS_PER_SUGGESTION; start++) {
+                if (start == 0 || normalized.charAt(start - 1) == ' ') {
+                    entries.add(new KeyEntry(normalized.substring(start), start, id));
+                    keys++;
+                }
+            }
+        }
+        // 같은 키라면 문자열 처음부터 일치하는 후보가 앞서도록 정렬 (가중치 동점 시 앞선 키가 우선)
+        entries.sort(Comparator.comparing(KeyEntry::key)
+                .thenComparingInt(KeyEntry::offset)
+                .thenComparingInt(KeyEntry::suggestion));
+
+        int totalChars = 0;
+        for (KeyEntry entry : entries) {
+            totalChars += entry.key().length();
+        }
+        char[] keyChars = new char[totalChars];
+        int[] keyStarts = new int[entries.size() + 1];
+        int[] keySuggestions = new int[entries.size()];
+        int position = 0;
+        for (int key = 0; key < entries.size(); key++) {
+            String text = entries.get(key).key();
+            text.getChars(0, text.length(), keyChars, position);
+            keyStarts[key] = position;
+            keySuggestions[key] = entries.get(key).suggestion();
+            position += text.length();
+        }
+        keyStarts[entries.size()] = position;
+
+        return new PrefixSuggester(keyChars, keyStarts, keySuggestions, texts, types, weights);
+    }
+
+    /**
+     * 소문자 변환, 앞뒤 공백 제거, 연속 공백을 하나로 축약
+     */
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        StringBuilder normalized = new StringBuilder(text.length());
+        boolean pendingSpace = false;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (Character.isWhitespace(c)) {
+                pendingSpace = normalized.length() > 0;
+                continue;
+            }
+            if (pendingSpace) {
+                normalized.append(' ');
+                pendingSpace = false;
+            }
+            normalized.append(c);
+        }
+        return normalized.toString().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * 접두어로 시작하는 후보를 가중치 내림차순으로 반환
+     *
+     * @param prefix 사용자가 입력 중인 문자열
+     * @param limit  최대 후보 수
+     * @return 중복 없는 후보 목록
+     */
+    public List<Suggestion> suggest(String prefix, int limit) {
+        String normalized = normalize(prefix);
+        if (normalized.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        int from = lowerBound(normalized);
+        int to = upperBound(normalized, from);
+        if (from >= to) {
+            return List.of();
+        }
+
+        // 구간 최댓값을 꺼내고 좌우 구간으로 나누어 다시 넣는 방식으로 상위 후보를 순서대로 방출
+        PriorityQueue<int[]> ranges = new PriorityQueue<>(
+                (a, b) -> a[2] == b[2] ? 0 : (better(a[2], b[2]) == a[2] ? -1 : 1));
+        ranges.add(new int[]{from, to, argMax(from, to)});
+
+        List<Suggestion> results = new ArrayList<>(limit);
+        int[] emittedIds = new int[limit];
+        while (!ranges.isEmpty() && results.size() < limit) {
+            int[] range = ranges.poll();
+            int key = range[2];
+            int id = keySuggestions[key];
+            if (!contains(emittedIds, results.size(), id)) {
+                emittedIds[results.size()] = id;
+                results.add(new Suggestion(texts[id], types[id], weights[id]));
+            }
+            if (range[0] < key) {
+                ranges.add(new int[]{range[0], key, argMax(range[0], key)});
+            }
+            if (key + 1 < range[1]) {
+                ranges.add(new int[]{key + 1, range[1], argMax(key + 1, range[1])});
+            }
+        }
+        return results;
+    }
+
+    /**
+     * 등록된 후보 수
+     */
+    public int size() {
+        return texts.length;
+    }
+
+    /**
+     * 등록된 키 수 (후보 × 단어 시작 위치)
+     */
+    public int keyCount() {
+        return keySuggestions.length;
+    }
+
+    private static boolean contains(int[] values, int size, int value) {
+        for (int i = 0; i < size; i++) {
+            if (values[i] == value) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 가중치가 큰 키, 같으면 사전순으로 앞선 키 (-1은 빈 노드)
+     */
+    private int better(int keyA, int keyB) {
+        if (keyA < 0) {
+            return keyB;
+        }
+        if (keyB < 0) {
+            return keyA;
+        }
+        long weightA = weights[keySuggestions[keyA]];
+        long weightB = weights[keySuggestions[keyB]];
+        if (weightA != weightB) {
+            return weightA > weightB ? keyA : keyB;
+        }
+        return Math.min(keyA, keyB);
+    }
+
+    /**
+     * [from, to) 구간에서 가중치가 가장 큰 키
+     */
+    private int argMax(int from, int to) {
+        int best = -1;
+        for (int left = from + leafOffset, right = to + leafOffset; left < right; left >>= 1, right >>= 1) {
+            if ((left & 1) == 1) {
+                best = better(best, maxTree[left++]);
+            }
+            if ((right & 1) == 1) {
+                best = better(best, maxTree[--right]);
+            }
+        }
+        return best;
+    }
+
+    /**
+     * prefix 이상인 첫 키
+     */
+    private int lowerBound(String prefix) {
+        int low = 0;
+        int high = keySuggestions.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (compareKey(mid, prefix, false) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * from 이후 prefix로 시작하지 않는 첫 키
+     */
+    private int upperBound(String prefix, int from) {
+        int low = from;
+        int high = keySuggestions.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (compareKey(mid, prefix, true) <= 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * 키와 prefix 비교 (prefixOnly면 키의 앞 prefix 길이만 비교)
+     */
+    private int compareKey(int key, String prefix, boolean prefixOnly) {
+        int start = keyStarts[key];
+        int length = keyStarts[key + 1] - start;
+        int common = Math.min(length, prefix.length());
+        for (int i = 0; i < common; i++) {
+            int diff = keyChars[start + i] - prefix.charAt(i);
+            if (diff != 0) {
+                return diff;
+            }
+        }
+        if (prefixOnly && length >= prefix.length()) {
+            return 0;
+        }
+        return length - prefix.length();
+    }
+
+    private record KeyEntry(String key, int offset, int suggestion) {
+    }
+}
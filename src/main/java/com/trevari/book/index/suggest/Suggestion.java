@@ -0,0 +1,15 @@
+package com.trevari.book.index.suggest;
+
+/**
+ * 자동완성 후보
+ *
+ * @param text   화면에 보여줄 원문
+ * @param type   후보 출처
+ * @param weight 인기도 가중치 (클수록 먼저 노출)
+ */
+public record Suggestion(
+        String text,
+        SuggestionType type,
+        long weight
+) {
+}
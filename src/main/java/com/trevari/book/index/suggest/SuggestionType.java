@@ -0,0 +1,10 @@
+package com.trevari.book.index.suggest;
+
+/**
+ * 자동완성 후보 출처
+ */
+public enum SuggestionType {
+    TITLE,
+    AUTHOR,
+    KEYWORD
+}
@@ -0,0 +1,222 @@
+package com.trevari.book.index.vector;
+
+import com.trevari.book.index.BookDocument;
+import com.trevari.book.index.analysis.BookAnalyzer;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 도서 벡터 근사 최근접 이웃 색인
+ * <p>
+ * - 제목·부제목·저자명·설명을 TfIdfProjector로 단위 벡터로 만들어 HnswGraph에 삽입
+ * - 도서 텍스트의 해시를 보관해 sync 시 새 도서는 삽입, 바뀐 도서는 삭제 후 재삽입, 빠진 도서는 삭제만 수행 (전체 재구성 없음)
+ * - idf는 build 시점에 고정되므로, 학습 이후 도서가 크게 늘거나 삭제 표시가 쌓이면 needsRebuild로 전체 재구성 필요를 알림
+ * - 탐색은 읽기 잠금, 삽입·삭제는 쓰기 잠금으로 보호
+ */
+public final class BookVectorIndex {
+
+    private static final long SEED = 42L;
+    /**
+     * 학습 당시 도서 수 대비 이 배수를 넘게 늘면 전체 재구성 (idf가 카탈로그를 대표하지 못함)
+     */
+    private static final double GROWTH_LIMIT = 1.5;
+    /**
+     * 삽입된 노드 중 삭제 표시 비율이 이 값을 넘으면 전체 재구성 (탐색이 죽은 노드를 많이 경유)
+     */
+    private static final double DELETED_LIMIT = 0.2;
+
+    private final TfIdfProjector projector;
+    private final HnswGraph graph;
+    private final int fittedSize;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Map<String, Integer> nodes = new HashMap<>();
+    private final List<SimilarBook> books = new ArrayList<>();
+    private int[] fingerprints = new int[16];
+
+    private BookVectorIndex(TfIdfProjector projector, HnswGraph graph, int fittedSize) {
+        this.projector = projector;
+        this.graph = graph;
+        this.fittedSize = fittedSize;
+    }
+
+    /**
+     * 도서 문서 목록으로 idf를 학습하고 전체 도서를 삽입
+     *
+     * @param documents      도서 문서 목록
+     * @param analyzer       텀 분석기
+     * @param dimension      벡터 차원
+     * @param maxConnections 노드당 최대 이웃 수 (M)
+     * @param beamWidth      삽입 시 이웃 후보 폭 (efConstruction)
+     */
+    public static BookVectorIndex build(List<BookDocument> documents, BookAnalyzer analyzer,
+                                        int dimension, int maxConnections, int beamWidth) {
+        List<String> texts = documents.stream().map(BookVectorIndex::text).toList();
+        TfIdfProjector projector = TfIdfProjector.fit(texts, analyzer, dimension, SEED);
+        BookVectorIndex index = new BookVectorIndex(projector,
+                new HnswGraph(dimension, maxConnections, beamWidth, SEED), documents.size());
+        for (int i = 0; i < documents.size(); i++) {
+            index.insert(documents.get(i), texts.get(i));
+        }
+        return index;
+    }
+
+    /**
+     * 현재 도서 목록에 맞춰 증분 반영
+     *
+     * @param documents 현재 전체 도서 문서 목록
+     * @return 삽입·삭제한 벡터 수
+     */
+    public int sync(List<BookDocument> documents) {
+        lock.writeLock().lock();
+        try {
+            int changes = 0;
+            Set<String> present = new HashSet<>(documents.size() * 2);
+            for (BookDocument document : documents) {
+                present.add(document.isbn());
+                String text = text(document);
+                Integer node = nodes.get(document.isbn());
+                if (node != null && fingerprints[node] == text.hashCode()) {
+                    continue;
+                }
+                if (node != null) {
+                    remove(document.isbn());
+                    changes++;
+                }
+                if (insert(document, text)) {
+                    changes++;
+                }
+            }
+            for (String isbn : new ArrayList<>(nodes.keySet())) {
+                if (!present.contains(isbn)) {
+                    remove(isbn);
+                    changes++;
+                }
+            }
+            return changes;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 도서 하나 삽입 (이미 있으면 기존 벡터를 삭제하고 다시 삽입)
+     */
+    public void upsert(BookDocument document) {
+        lock.writeLock().lock();
+        try {
+            remove(document.isbn());
+            insert(document, text(document));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 전체 재구성이 필요한지 여부 (학습 이후 도서 급증 또는 삭제 표시 누적)
+     *
+     * @param documentCount 현재 전체 도서 수
+     */
+    public boolean needsRebuild(int documentCount) {
+        lock.readLock().lock();
+        try {
+            return documentCount > fittedSize * GROWTH_LIMIT
+                    || graph.deletedCount() > graph.size() * DELETED_LIMIT;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 검색 가능한 도서 수
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return nodes.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 자유 텍스트와 유사한 도서 탐색
+     *
+     * @param query 질의 텍스트
+     * @param k     반환할 최대 도서 수
+     * @param ef    탐색 후보 폭 (efSearch)
+     * @return 유사도 내림차순 도서 (질의에 학습된 텀이 없으면 빈 목록)
+     */
+    public List<SimilarBook> search(String query, int k, int ef) {
+        float[] vector = projector.project(query);
+        if (vector == null) {
+            return List.of();
+        }
+        lock.readLock().lock();
+        try {
+            HnswGraph.Neighbors neighbors = graph.search(vector, k, ef);
+            List<SimilarBook> result = new ArrayList<>(neighbors.nodes().length);
+            for (int i = 0; i < neighbors.nodes().length; i++) {
+                SimilarBook book = books.get(neighbors.nodes()[i]);
+                result.add(new SimilarBook(book.isbn(), book.title(), book.subtitle(), book.authorNames(),
+                        neighbors.similarities()[i]));
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 쓰기 잠금 안에서(또는 공개 전 build 중에) 호출
+     *
+     * @return 삽입 여부 (학습된 텀이 하나도 없는 도서는 벡터를 만들 수 없어 제외)
+     */
+    private boolean insert(BookDocument document, String text) {
+        float[] vector = projector.project(text);
+        if (vector == null) {
+            return false;
+        }
+        int node = graph.add(vector);
+        if (node == fingerprints.length) {
+            fingerprints = Arrays.copyOf(fingerprints, node * 2);
+        }
+        fingerprints[node] = text.hashCode();
+        books.add(new SimilarBook(document.isbn(), document.title(), document.subtitle(), document.authorNames(), 0f));
+        nodes.put(document.isbn(), node);
+        return true;
+    }
+
+    private void remove(String isbn) {
+        Integer node = nodes.remove(isbn);
+        if (node != null) {
+            graph.delete(node);
+        }
+    }
+
+    /**
+     * 벡터화할 도서 텍스트 (제목·부제목·저자명·설명)
+     */
+    private static String text(BookDocument document) {
+        StringBuilder builder = new StringBuilder();
+        append(builder, document.title());
+        append(builder, document.subtitle());
+        document.authorNames().forEach(name -> append(builder, name));
+        append(builder, document.description());
+        return builder.toString();
+    }
+
+    private static void append(StringBuilder builder, String value) {
+        if (value != null && !value.isBlank()) {
+            builder.append(value).append('\n');
+        }
+    }
+}
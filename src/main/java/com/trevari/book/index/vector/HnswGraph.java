@@ -0,0 +1,456 @@
+package com.trevari.book.index.vector;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * 단위 벡터용 HNSW(Hierarchical Navigable Small World) 근사 최근접 이웃 그래프
+ * <p>
+ * - 유사도는 내적 (단위 벡터이므로 코사인 유사도)
+ * - 벡터는 노드별 최대 절댓값을 127로 맞춘 int8 코드와 배율로 양자화해 보관 (float 대비 메모리 1/4)
+ * - 노드 레벨은 -ln(U) / ln(M) 분포로 뽑고, 상위 레벨에서 탐욕 탐색으로 진입점을 좁힌 뒤
+ *   레벨 0에서 후보 폭 ef의 빔 탐색으로 이웃을 찾음
+ * - 새 노드의 이웃 선택은 "후보가 이미 고른 이웃보다 새 노드에 더 가까울 때만 채택"하는 휴리스틱 (군집 사이 연결 유지),
+ *   모자라면 버린 후보로 채우고, 이웃 쪽 역방향 연결은 넘치면 가장 먼 이웃과 교체
+ * - 삽입은 증분으로 가능하고, 삭제는 표시만 하여 탐색 경로로는 쓰되 결과에서 제외
+ * <p>
+ * 동기화하지 않으므로 삽입·삭제와 탐색을 동시에 하려면 호출 측에서 잠금 필요 (탐색끼리는 동시 호출 가능)
+ */
+public final class HnswGraph {
+
+    private final int dimension;
+    private final int maxConnections;
+    private final int maxConnections0;
+    private final int beamWidth;
+    private final double levelMultiplier;
+    private final Random random;
+
+    private byte[] codes;
+    private float[] scales;
+    private int[][][] links;
+    private final BitSet deleted = new BitSet();
+    private int size;
+    private int deletedCount;
+    private int entryPoint = -1;
+    private int maxLevel = -1;
+
+    /**
+     * @param dimension      벡터 차원
+     * @param maxConnections 레벨 1 이상 노드당 최대 이웃 수 (M, 레벨 0은 2M)
+     * @param beamWidth      삽입 시 이웃 후보 폭 (efConstruction)
+     * @param seed           레벨 난수 시드 (같은 입력이면 같은 그래프)
+     */
+    public HnswGraph(int dimension, int maxConnections, int beamWidth, long seed) {
+        if (dimension <= 0 || maxConnections < 2 || beamWidth < 1) {
+            throw new IllegalArgumentException("Invalid HNSW parameters");
+        }
+        this.dimension = dimension;
+        this.maxConnections = maxConnections;
+        this.maxConnections0 = maxConnections * 2;
+        this.beamWidth = beamWidth;
+        this.levelMultiplier = 1 / Math.log(maxConnections);
+        this.random = new Random(seed);
+        this.codes = new byte[16 * dimension];
+        this.scales = new float[16];
+        this.links = new int[16][][];
+    }
+
+    public int dimension() {
+        return dimension;
+    }
+
+    /**
+     * 삽입된 노드 수 (삭제 표시된 노드 포함)
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * 삭제 표시된 노드 수
+     */
+    public int deletedCount() {
+        return deletedCount;
+    }
+
+    /**
+     * 단위 벡터 삽입
+     *
+     * @param vector dimension 길이의 단위 벡터
+     * @return 새 노드 번호 (0부터 삽입 순)
+     */
+    public int add(float[] vector) {
+        if (vector.length != dimension) {
+            throw new IllegalArgumentException("Vector dimension mismatch: " + vector.length);
+        }
+        int node = size;
+        ensureCapacity(node + 1);
+        encode(node, vector);
+        int level = (int) (-Math.log(1 - random.nextDouble()) * levelMultiplier);
+        links[node] = new int[level + 1][];
+        for (int l = 0; l <= level; l++) {
+            links[node][l] = new int[1 + (l == 0 ? maxConnections0 : maxConnections)];
+        }
+        size++;
+
+        if (entryPoint < 0) {
+            entryPoint = node;
+            maxLevel = level;
+            return node;
+        }
+
+        int current = entryPoint;
+        for (int l = maxLevel; l > level; l--) {
+            current = greedy(vector, current, l);
+        }
+        for (int l = Math.min(level, maxLevel); l >= 0; l--) {
+            Neighbors candidates = searchLayer(vector, current, beamWidth, l, false);
+            int[] selected = select(candidates.nodes(), candidates.similarities(),
+                    l == 0 ? maxConnections0 : maxConnections);
+            int[] nodeLinks = links[node][l];
+            nodeLinks[0] = selected.length;
+            System.arraycopy(selected, 0, nodeLinks, 1, selected.length);
+            for (int neighbor : selected) {
+                link(neighbor, node, l);
+            }
+            current = candidates.nodes()[0];
+        }
+        if (level > maxLevel) {
+            entryPoint = node;
+            maxLevel = level;
+        }
+        return node;
+    }
+
+    /**
+     * 노드 삭제 표시 (그래프 연결은 그대로 두고 탐색 결과에서만 제외)
+     */
+    public void delete(int node) {
+        if (node >= 0 && node < size && !deleted.get(node)) {
+            deleted.set(node);
+            deletedCount++;
+        }
+    }
+
+    /**
+     * k개 근사 최근접 이웃 탐색
+     *
+     * @param query 단위 벡터 질의
+     * @param k     반환할 최대 이웃 수
+     * @param ef    레벨 0 탐색 후보 폭 (클수록 재현율이 높고 느림, k보다 작으면 k 사용)
+     * @return 유사도 내림차순 이웃 (삭제된 노드 제외)
+     */
+    public Neighbors search(float[] query, int k, int ef) {
+        if (entryPoint < 0 || k <= 0) {
+            return Neighbors.EMPTY;
+        }
+        int current = entryPoint;
+        for (int l = maxLevel; l > 0; l--) {
+            current = greedy(query, current, l);
+        }
+        Neighbors found = searchLayer(query, current, Math.max(ef, k), 0, true);
+        int count = Math.min(k, found.nodes().length);
+        return new Neighbors(Arrays.copyOf(found.nodes(), count), Arrays.copyOf(found.similarities(), count));
+    }
+
+    /**
+     * 상위 레벨 탐욕 탐색 - 더 가까운 이웃이 없을 때까지 이동
+     */
+    private int greedy(float[] query, int start, int level) {
+        int current = start;
+        float best = similarity(query, current);
+        boolean changed = true;
+        while (changed) {
+            changed = false;
+            int[] nodeLinks = links[current][level];
+            for (int i = 1; i <= nodeLinks[0]; i++) {
+                float similarity = similarity(query, nodeLinks[i]);
+                if (similarity > best) {
+                    best = similarity;
+                    current = nodeLinks[i];
+                    changed = true;
+                }
+            }
+        }
+        return current;
+    }
+
+    /**
+     * 한 레벨에서 후보 폭 ef의 빔 탐색
+     *
+     * @param skipDeleted 삭제된 노드를 경유만 하고 결과에는 넣지 않을지 여부
+     * @return 유사도 내림차순 최대 ef개 노드
+     */
+    private Neighbors searchLayer(float[] query, int start, int ef, int level, boolean skipDeleted) {
+        VisitedSet visited = new VisitedSet(ef * maxConnections0);
+        NodeHeap candidates = new NodeHeap(ef * 2, false);
+        NodeHeap results = new NodeHeap(ef + 1, true);
+
+        float startSimilarity = similarity(query, start);
+        visited.add(start);
+        candidates.push(start, startSimilarity);
+        if (!skipDeleted || !deleted.get(start)) {
+            results.push(start, startSimilarity);
+        }
+        while (candidates.size() > 0) {
+            float candidateSimilarity = candidates.topSimilarity();
+            int candidate = candidates.pop();
+            if (results.size() >= ef && candidateSimilarity < results.topSimilarity()) {
+                break;
+            }
+            int[] nodeLinks = links[candidate][level];
+            for (int i = 1; i <= nodeLinks[0]; i++) {
+                int neighbor = nodeLinks[i];
+                if (!visited.add(neighbor)) {
+                    continue;
+                }
+                float similarity = similarity(query, neighbor);
+                if (results.size() < ef || similarity > results.topSimilarity()) {
+                    candidates.push(neighbor, similarity);
+                    if (!skipDeleted || !deleted.get(neighbor)) {
+                        results.push(neighbor, similarity);
+                        if (results.size() > ef) {
+                            results.pop();
+                        }
+                    }
+                }
+            }
+        }
+
+        int count = results.size();
+        int[] nodes = new int[count];
+        float[] similarities = new float[count];
+        for (int i = count - 1; i >= 0; i--) {
+            similarities[i] = results.topSimilarity();
+            nodes[i] = results.pop();
+        }
+        return new Neighbors(nodes, similarities);
+    }
+
+    /**
+     * 이웃 선택 휴리스틱 - 유사도 내림차순 후보 중 이미 고른 이웃보다 기준점에 더 가까운 후보만 채택하고, 모자라면 버린 후보로 채움
+     */
+    private int[] select(int[] candidates, float[] similarities, int max) {
+        int[] selected = new int[Math.min(max, candidates.length)];
+        int count = 0;
+        List<Integer> pruned = new ArrayList<>();
+        for (int i = 0; i < candidates.length && count < selected.length; i++) {
+            boolean diverse = true;
+            for (int j = 0; j < count; j++) {
+                if (similarity(candidates[i], selected[j]) > similarities[i]) {
+                    diverse = false;
+                    break;
+                }
+            }
+            if (diverse) {
+                selected[count++] = candidates[i];
+            } else {
+                pruned.add(candidates[i]);
+            }
+        }
+        for (int i = 0; i < pruned.size() && count < selected.length; i++) {
+            selected[count++] = pruned.get(i);
+        }
+        return selected;
+    }
+
+    /**
+     * 역방향 연결 추가 (이웃 수가 넘치면 가장 먼 이웃보다 가까울 때만 그 자리를 대신함)
+     * 넘칠 때마다 휴리스틱으로 다시 고르면 삽입 비용이 M² 배로 늘어나므로 새 노드 쪽 선택에만 휴리스틱을 씀
+     */
+    private void link(int from, int to, int level) {
+        int[] nodeLinks = links[from][level];
+        int max = nodeLinks.length - 1;
+        if (nodeLinks[0] < max) {
+            nodeLinks[++nodeLinks[0]] = to;
+            return;
+        }
+
+        int weakest = -1;
+        float weakestSimilarity = similarity(from, to);
+        for (int i = 1; i <= max; i++) {
+            float similarity = similarity(from, nodeLinks[i]);
+            if (similarity < weakestSimilarity) {
+                weakestSimilarity = similarity;
+                weakest = i;
+            }
+        }
+        if (weakest > 0) {
+            nodeLinks[weakest] = to;
+        }
+    }
+
+    private void encode(int node, float[] vector) {
+        float maxAbs = 0f;
+        for (float value : vector) {
+            maxAbs = Math.max(maxAbs, Math.abs(value));
+        }
+        float scale = maxAbs > 0f ? maxAbs / 127f : 0f;
+        int base = node * dimension;
+        for (int i = 0; i < dimension; i++) {
+            codes[base + i] = scale > 0f ? (byte) Math.round(vector[i] / scale) : 0;
+        }
+        scales[node] = scale;
+    }
+
+    private float similarity(float[] query, int node) {
+        int base = node * dimension;
+        float sum = 0f;
+        for (int i = 0; i < dimension; i++) {
+            sum += query[i] * codes[base + i];
+        }
+        return sum * scales[node];
+    }
+
+    private float similarity(int a, int b) {
+        int baseA = a * dimension;
+        int baseB = b * dimension;
+        int sum = 0;
+        for (int i = 0; i < dimension; i++) {
+            sum += codes[baseA + i] * codes[baseB + i];
+        }
+        return sum * scales[a] * scales[b];
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity <= scales.length) {
+            return;
+        }
+        int grown = Math.max(capacity, scales.length * 2);
+        codes = Arrays.copyOf(codes, grown * dimension);
+        scales = Arrays.copyOf(scales, grown);
+        links = Arrays.copyOf(links, grown);
+    }
+
+    /**
+     * 탐색 결과
+     *
+     * @param nodes        유사도 내림차순 노드 번호
+     * @param similarities nodes와 같은 순서의 유사도
+     */
+    public record Neighbors(int[] nodes, float[] similarities) {
+        static final Neighbors EMPTY = new Neighbors(new int[0], new float[0]);
+    }
+
+    /**
+     * (유사도, 노드) 이진 힙 - minHeap이면 유사도가 가장 낮은 노드, 아니면 가장 높은 노드가 top
+     */
+    private static final class NodeHeap {
+        private int[] nodes;
+        private float[] similarities;
+        private final boolean minHeap;
+        private int size;
+
+        NodeHeap(int capacity, boolean minHeap) {
+            this.nodes = new int[Math.max(capacity, 4)];
+            this.similarities = new float[nodes.length];
+            this.minHeap = minHeap;
+        }
+
+        int size() {
+            return size;
+        }
+
+        float topSimilarity() {
+            return similarities[0];
+        }
+
+        void push(int node, float similarity) {
+            if (size == nodes.length) {
+                nodes = Arrays.copyOf(nodes, size * 2);
+                similarities = Arrays.copyOf(similarities, size * 2);
+            }
+            int i = size++;
+            while (i > 0) {
+                int parent = (i - 1) >>> 1;
+                if (!above(similarity, similarities[parent])) {
+                    break;
+                }
+                nodes[i] = nodes[parent];
+                similarities[i] = similarities[parent];
+                i = parent;
+            }
+            nodes[i] = node;
+            similarities[i] = similarity;
+        }
+
+        int pop() {
+            int top = nodes[0];
+            size--;
+            int node = nodes[size];
+            float similarity = similarities[size];
+            int i = 0;
+            while (true) {
+                int child = i * 2 + 1;
+                if (child >= size) {
+                    break;
+                }
+                if (child + 1 < size && above(similarities[child + 1], similarities[child])) {
+                    child++;
+                }
+                if (!above(similarities[child], similarity)) {
+                    break;
+                }
+                nodes[i] = nodes[child];
+                similarities[i] = similarities[child];
+                i = child;
+            }
+            nodes[i] = node;
+            similarities[i] = similarity;
+            return top;
+        }
+
+        private boolean above(float a, float b) {
+            return minHeap ? a < b : a > b;
+        }
+    }
+
+    /**
+     * 방문 노드 집합 (선형 탐사 해시, 탐색 한 번에 방문하는 노드만큼만 메모리 사용)
+     */
+    private static final class VisitedSet {
+        private int[] slots;
+        private int size;
+
+        VisitedSet(int expected) {
+            int capacity = Integer.highestOneBit(Math.max(expected, 16) * 2 - 1) << 1;
+            this.slots = new int[capacity];
+            Arrays.fill(slots, -1);
+        }
+
+        /**
+         * 처음 방문이면 추가하고 true
+         */
+        boolean add(int node) {
+            if (size * 2 >= slots.length) {
+                rehash();
+            }
+            int mask = slots.length - 1;
+            int slot = (node * 0x9E3779B9) >>> 1 & mask;
+            while (slots[slot] != -1) {
+                if (slots[slot] == node) {
+                    return false;
+                }
+                slot = (slot + 1) & mask;
+            }
+            slots[slot] = node;
+            size++;
+            return true;
+        }
+
+        private void rehash() {
+            int[] old = slots;
+            slots = new int[old.length * 2];
+            Arrays.fill(slots, -1);
+            size = 0;
+            for (int node : old) {
+                if (node != -1) {
+                    add(node);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.trevari.book.index.vector;
+
+import java.util.List;
+
+/**
+ * 유사 도서 검색 결과
+ *
+ * @param isbn        ISBN
+ * @param title       제목
+ * @param subtitle    부제목 (없으면 null)
+ * @param authorNames 저자명 목록
+ * @param similarity  질의와의 코사인 유사도 근사치 (-1~1, 클수록 유사)
+ */
+public record SimilarBook(
+        String isbn,
+        String title,
+        String subtitle,
+        List<String> authorNames,
+        float similarity
+) {
+}
@@ -0,0 +1,132 @@
+package com.trevari.book.index.vector;
+
+import com.trevari.book.index.analysis.BookAnalyzer;
+import com.trevari.book.index.analysis.Token;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 텍스트를 TF-IDF 희소 벡터로 만든 뒤 랜덤 프로젝션으로 고정 차원 밀집 단위 벡터로 줄이는 변환기 (외부 모델 없음)
+ * <p>
+ * - 가중치: (1 + ln tf) × ln(1 + N / df), 학습 시 본 적 없는 텀은 무시
+ * - 프로젝션 행렬은 보관하지 않고 텀 해시와 시드로 차원마다 ±1을 만들어 곱함 (Rademacher 랜덤 프로젝션)
+ *   같은 텀은 항상 같은 부호 열을 쓰므로 문서와 질의가 같은 공간에 놓이고, 내적이 원래 TF-IDF 코사인을 근사
+ * - 텀 사전과 df는 학습 시점에 고정되므로 이후 추가된 도서도 같은 공간에 증분 삽입 가능
+ */
+public final class TfIdfProjector {
+
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+    private final BookAnalyzer analyzer;
+    private final Map<String, Float> idf;
+    private final int dimension;
+    private final long seed;
+
+    private TfIdfProjector(BookAnalyzer analyzer, Map<String, Float> idf, int dimension, long seed) {
+        this.analyzer = analyzer;
+        this.idf = idf;
+        this.dimension = dimension;
+        this.seed = seed;
+    }
+
+    /**
+     * 문서 텍스트 목록으로 텀별 idf 학습
+     *
+     * @param texts     문서 텍스트 목록
+     * @param analyzer  텀 분석기
+     * @param dimension 프로젝션 차원
+     * @param seed      프로젝션 시드
+     */
+    public static TfIdfProjector fit(List<String> texts, BookAnalyzer analyzer, int dimension, long seed) {
+        Map<String, Integer> documentFrequencies = new HashMap<>();
+        for (String text : texts) {
+            Set<String> terms = new HashSet<>();
+            for (Token token : analyzer.analyze(text)) {
+                terms.add(token.term());
+            }
+            terms.forEach(term -> documentFrequencies.merge(term, 1, Integer::sum));
+        }
+        Map<String, Float> idf = new HashMap<>(documentFrequencies.size() * 2);
+        int documentCount = texts.size();
+        documentFrequencies.forEach((term, df) ->
+                idf.put(term, (float) Math.log(1 + (double) documentCount / df)));
+        return new TfIdfProjector(analyzer, idf, dimension, seed);
+    }
+
+    public int dimension() {
+        return dimension;
+    }
+
+    /**
+     * 텍스트를 단위 벡터로 변환
+     *
+     * @return dimension 길이의 단위 벡터 (학습한 텀이 하나도 없으면 null)
+     */
+    public float[] project(String text) {
+        Map<String, Integer> frequencies = new HashMap<>();
+        for (Token token : analyzer.analyze(text)) {
+            if (idf.containsKey(token.term())) {
+                frequencies.merge(token.term(), 1, Integer::sum);
+            }
+        }
+        if (frequencies.isEmpty()) {
+            return null;
+        }
+
+        float[] vector = new float[dimension];
+        frequencies.forEach((term, tf) -> accumulate(vector, term, (float) (1 + Math.log(tf)) * idf.get(term)));
+
+        double norm = 0;
+        for (float value : vector) {
+            norm += (double) value * value;
+        }
+        if (norm == 0) {
+            return null;
+        }
+        float inverse = (float) (1 / Math.sqrt(norm));
+        for (int i = 0; i < dimension; i++) {
+            vector[i] *= inverse;
+        }
+        return vector;
+    }
+
+    /**
+     * 텀의 ±1 부호 열에 가중치를 곱해 더함 (64차원마다 해시에서 64비트를 뽑아 씀)
+     */
+    private void accumulate(float[] vector, String term, float weight) {
+        long state = seed ^ hash(term);
+        for (int base = 0; base < dimension; base += 64) {
+            state += GOLDEN_GAMMA;
+            long bits = mix(state);
+            int end = Math.min(64, dimension - base);
+            for (int bit = 0; bit < end; bit++) {
+                vector[base + bit] += ((bits >>> bit) & 1L) == 0 ? weight : -weight;
+            }
+        }
+    }
+
+    /**
+     * 64비트 FNV-1a (String.hashCode보다 충돌이 적어 서로 다른 텀이 같은 부호 열을 쓰는 일이 드묾)
+     */
+    private static long hash(String term) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < term.length(); i++) {
+            hash ^= term.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+
+    /**
+     * SplitMix64 출력 함수
+     */
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
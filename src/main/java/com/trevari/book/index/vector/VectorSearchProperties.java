@@ -0,0 +1,41 @@
+package com.trevari.book.index.vector;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 유사 도서 벡터 검색 설정 (search.vector.*)
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "search.vector")
+public class VectorSearchProperties {
+
+    /**
+     * 벡터 색인 사용 여부 (search.index.enabled도 true여야 하며, 꺼져 있으면 유사 도서 검색은 빈 결과)
+     */
+    private boolean enabled = true;
+
+    /**
+     * 랜덤 프로젝션 차원 (클수록 TF-IDF 코사인 근사가 정확하고 메모리·삽입 비용 증가, 도서당 차원 수만큼 바이트 사용)
+     */
+    private int dimension = 128;
+
+    /**
+     * HNSW 노드당 최대 이웃 수 (M)
+     */
+    private int maxConnections = 16;
+
+    /**
+     * HNSW 삽입 시 이웃 후보 폭 (efConstruction)
+     */
+    private int beamWidth = 100;
+
+    /**
+     * HNSW 탐색 후보 폭 (efSearch, 클수록 재현율이 높고 느림)
+     */
+    private int efSearch = 64;
+}
@@ -1,9 +1,23 @@
 package com.trevari.book.persistence;
 
 import com.trevari.book.domain.Author;
+import com.trevari.book.domain.AuthorCursor;
+import com.trevari.book.domain.AuthorPage;
+import com.trevari.book.domain.AuthorRepository;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
 @Repository
-public interface AuthorJpaRepository extends JpaRepository<Author, Long> {
+public interface AuthorJpaRepository extends JpaRepository<Author, Long>, AuthorRepository, CustomAuthorRepository {
+
+    /**
+     * CrudRepository.existsById(ID)와 AuthorRepository.existsById(Long)을 하나로 합쳐 호출이 모호하지 않도록 재선언
+     */
+    @Override
+    boolean existsById(Long id);
+
+    @Override
+    default AuthorPage findByNamePrefixAfter(String prefix, AuthorCursor after, int size) {
+        return findByNamePrefix(prefix, after, size);
+    }
 }
@@ -0,0 +1,119 @@
+package com.trevari.book.persistence;
+
+import com.querydsl.core.Tuple;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.trevari.book.domain.BookFormat;
+import com.trevari.book.domain.search.Facet;
+import com.trevari.book.index.BookDocument;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.trevari.book.domain.QAuthor.author;
+import static com.trevari.book.domain.QBook.book;
+import static com.trevari.book.domain.QBookAuthor.bookAuthor;
+import static com.trevari.book.domain.QCategory.category;
+
+/**
+ * 인메모리 검색 인덱스 적재용 조회 Repository
+ * 엔티티를 로딩하지 않고 필요한 컬럼만 조회하여 BookDocument로 변환
+ * 패싯 값(카테고리, 출판사, 출판 연도, 형태)도 함께 적재하여 색인 시 값별 도서 집합을 만듦
+ * 가격·통화·출판일도 함께 적재하여 색인 시 범위 필터용 열 저장소를 만듦
+ * 쪽수와 인기도(Redis에 누적된 상세 조회 수)도 함께 적재하여 색인 시 정렬 기준별 순위 배열을 만듦
+ * 설명도 함께 적재하여 색인 시 하이라이트용 텀 벡터를 만듦 (검색 대상은 아님)
+ * 저자 id도 함께 적재하여 색인 시 저자별 도서 인접 리스트를 만듦
+ */
+@Repository
+@RequiredArgsConstructor
+public class BookDocumentLoader {
+
+    private final JPAQueryFactory queryFactory;
+    private final BookPopularityRepository bookPopularityRepository;
+
+    /**
+     * 전체 도서를 색인용 문서로 조회 (도서 1회 + 저자 1회 + 카테고리 1회, 총 3회 쿼리 + 인기도 Redis 조회 1회)
+     *
+     * @return 색인용 도서 문서 목록
+     */
+    @Transactional(readOnly = true)
+    public List<BookDocument> loadAll() {
+        Map<String, List<String>> authorsByIsbn = new HashMap<>();
+        Map<String, List<Long>> authorIdsByIsbn = new HashMap<>();
+        List<Tuple> authorRows = queryFactory
+                .select(bookAuthor.book.isbn, author.id, author.name)
+                .from(bookAuthor)
+                .join(bookAuthor.author, author)
+                .orderBy(bookAuthor.id.asc())
+                .fetch();
+        for (Tuple row : authorRows) {
+            authorsByIsbn.computeIfAbsent(row.get(bookAuthor.book.isbn), isbn -> new ArrayList<>())
+                    .add(row.get(author.name));
+            authorIdsByIsbn.computeIfAbsent(row.get(bookAuthor.book.isbn), isbn -> new ArrayList<>())
+                    .add(row.get(author.id));
+        }
+
+        Map<String, List<String>> categoriesByIsbn = new HashMap<>();
+        List<Tuple> categoryRows = queryFactory
+                .select(book.isbn, category.name)
+                .from(book)
+                .join(book.categories, category)
+                .fetch();
+        for (Tuple row : categoryRows) {
+            categoriesByIsbn.computeIfAbsent(row.get(book.isbn), isbn -> new ArrayList<>())
+                    .add(row.get(category.name));
+        }
+
+        List<Tuple> bookRows = queryFactory
+                .select(book.isbn, book.title, book.subtitle,
+                        book.publicationInfo.publisher, book.publicationInfo.publishedDate, book.format,
+                        book.price.amount, book.price.currency, book.pageCount, book.description)
+                .from(book)
+                .fetch();
+        Map<String, Integer> viewsByIsbn = bookPopularityRepository.findAllViews();
+
+        List<BookDocument> documents = new ArrayList<>(bookRows.size());
+        for (Tuple row : bookRows) {
+            String isbn = row.get(book.isbn);
+            documents.add(new BookDocument(
+                    isbn,
+                    row.get(book.title),
+                    row.get(book.subtitle),
+                    authorsByIsbn.getOrDefault(isbn, List.of()),
+                    facetValues(row, categoriesByIsbn.getOrDefault(isbn, List.of())),
+                    row.get(book.price.amount),
+                    row.get(book.price.currency),
+                    row.get(book.publicationInfo.publishedDate),
+                    row.get(book.pageCount),
+                    viewsByIsbn.getOrDefault(isbn, 0),
+                    row.get(book.description),
+                    authorIdsByIsbn.getOrDefault(isbn, List.of())
+            ));
+        }
+        return documents;
+    }
+
+    private Map<Facet, List<String>> facetValues(Tuple row, List<String> categories) {
+        Map<Facet, List<String>> values = new EnumMap<>(Facet.class);
+        values.put(Facet.CATEGORY, categories);
+        String publisher = row.get(book.publicationInfo.publisher);
+        if (publisher != null && !publisher.isBlank()) {
+            values.put(Facet.PUBLISHER, List.of(publisher.trim()));
+        }
+        LocalDate publishedDate = row.get(book.publicationInfo.publishedDate);
+        if (publishedDate != null) {
+            values.put(Facet.YEAR, List.of(String.valueOf(publishedDate.getYear())));
+        }
+        BookFormat format = row.get(book.format);
+        if (format != null) {
+            values.put(Facet.FORMAT, List.of(format.name()));
+        }
+        return values;
+    }
+}
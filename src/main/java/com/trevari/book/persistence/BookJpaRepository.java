@@ -2,23 +2,78 @@ package com.trevari.book.persistence;
 
 import com.trevari.book.domain.Book;
 import com.trevari.book.domain.BookRepository;
+import com.trevari.book.domain.BookView;
+import com.trevari.book.domain.CursorPage;
+import com.trevari.book.domain.FacetedPage;
+import com.trevari.book.domain.Isbn;
+import com.trevari.book.domain.PageCursor;
+import com.trevari.book.domain.SearchSlice;
+import com.trevari.book.domain.search.BookHighlight;
+import com.trevari.book.domain.search.Facet;
+import com.trevari.book.domain.search.RangeFilter;
 import com.trevari.book.domain.search.SearchQuery;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 
 @Repository
 public interface BookJpaRepository extends JpaRepository<Book, String>, BookRepository, CustomBookRepository {
 
-    @Override
+    /**
+     * 엔티티 단건 조회 (저장·수정용, 조회 응답은 findViewByIsbn의 읽기 모델 사용)
+     */
     Optional<Book> findByIsbn(String isbn);
+
+    /**
+     * 요청 값 그대로, 하이픈 제거, ISBN-13, ISBN-10 형식 순으로 PK 존재 여부를 확인 (최대 4회 조회)
+     */
+    @Override
+    default Optional<String> resolveIsbn(String isbn) {
+        if (isbn == null || isbn.isBlank()) {
+            return Optional.empty();
+        }
+        Set<String> candidates = new LinkedHashSet<>();
+        candidates.add(isbn.trim());
+        candidates.add(Isbn.strip(isbn));
+        long normalized = Isbn.toLong(isbn);
+        if (normalized != Isbn.INVALID) {
+            candidates.add(Isbn.toIsbn13(normalized));
+            String isbn10 = Isbn.toIsbn10(normalized);
+            if (isbn10 != null) {
+                candidates.add(isbn10);
+            }
+        }
+        return candidates.stream().filter(this::existsById).findFirst();
+    }
+
+    @Override
+    default Page<BookView> findByIsbnPrefix(String prefix, Pageable pageable) {
+        return findByIsbnStartingWithAny(Isbn.storedPrefixes(prefix), pageable);
+    }
     
+    /**
+     * 요청 Pageable의 정렬을 그대로 적용해 엔티티를 조회한 뒤 읽기 모델로 변환 (호출 트랜잭션 안에서 카테고리까지 읽음)
+     */
     @Override
-    default Page<Book> searchBooks(SearchQuery searchQuery, Pageable pageable) {
+    default Page<BookView> findAllViews(Pageable pageable) {
+        return findAll(pageable).map(BookView::from);
+    }
+
+    @Override
+    default Page<BookView> searchBooks(SearchQuery searchQuery, Pageable pageable) {
+        // 범위 필터는 풀텍스트 쿼리에 없으므로 필터가 있으면 조건식 경로로 검색
+        if (!searchQuery.filter().isEmpty()) {
+            return findByQuery(searchQuery.root(), searchQuery.filter(), pageable);
+        }
         return switch (searchQuery.strategy()) {
             case SIMPLE -> findByKeyword(searchQuery.getFirstKeyword(), pageable);
             case OR_OPERATION -> findByOrKeywords(searchQuery.getFirstKeyword(), 
@@ -27,11 +82,59 @@ public interface BookJpaRepository extends JpaRepository<Book, String>, BookRepo
             case NOT_OPERATION -> findByNotKeywords(searchQuery.getIncludeKeyword(), 
                                                    searchQuery.getExcludeKeyword(), 
                                                    pageable);
+            case BOOLEAN -> findByQuery(searchQuery.root(), RangeFilter.none(), pageable);
         };
     }
 
+    /**
+     * DB 검색 경로는 패싯 건수를 계산하지 않음 (패싯마다 GROUP BY 쿼리가 추가되므로 인메모리 색인에서만 제공)
+     */
+    @Override
+    default FacetedPage<BookView> searchBooksWithFacets(SearchQuery searchQuery, Pageable pageable, Set<Facet> facets) {
+        return new FacetedPage<>(searchBooks(searchQuery, pageable), Map.of(), false);
+    }
+
+    /**
+     * DB 검색 경로는 하이라이트를 만들지 않음 (일치 위치를 알려면 원문을 다시 분석해야 하므로 인메모리 색인의 텀 벡터로만 제공)
+     */
+    @Override
+    default Map<String, BookHighlight> highlight(SearchQuery searchQuery, List<String> isbns) {
+        return Map.of();
+    }
+
+    @Override
+    default SearchSlice<BookView> searchBooksSlice(SearchQuery searchQuery, Pageable pageable) {
+        return new SearchSlice<>(findSliceByQuery(searchQuery, pageable), false);
+    }
+
+    @Override
+    default long countBooks(SearchQuery searchQuery, long limit) {
+        return countByQuery(searchQuery, limit);
+    }
+
+    @Override
+    default Page<BookView> findByCategory(String categoryName, RangeFilter filter, Pageable pageable) {
+        return findByCategoryName(categoryName, filter, pageable);
+    }
+
+    @Override
+    default CursorPage<BookView> findAllAfter(PageCursor after, int size) {
+        return findByQueryAfter(null, RangeFilter.none(), after, size);
+    }
+
+    @Override
+    default CursorPage<BookView> searchBooksAfter(SearchQuery searchQuery, PageCursor after, int size) {
+        return findByQueryAfter(searchQuery.root(), searchQuery.filter(), after, size);
+    }
+
+    @Override
+    default CursorPage<BookView> findByCategoryAfter(String categoryName, RangeFilter filter, PageCursor after,
+                                                     int size) {
+        return findByCategoryNameAfter(categoryName, filter, after, size);
+    }
+
     @Override
-    default Page<Book> findByCategory(String categoryName, Pageable pageable) {
-        return findByCategoryName(categoryName, pageable);
+    default CursorPage<BookView> findByAuthorAfter(Long authorId, PageCursor after, int size) {
+        return findByAuthorIdAfter(authorId, after, size);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,124 @@
+package com.trevari.book.persistence;
+
+import com.querydsl.core.Tuple;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.trevari.book.domain.BookView;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static com.trevari.book.domain.QAuthor.author;
+import static com.trevari.book.domain.QBook.book;
+import static com.trevari.book.domain.QBookAuthor.bookAuthor;
+import static com.trevari.book.domain.QCategory.category;
+
+/**
+ * 검색 결과 페이지·상세 조회용 도서 조회 Repository
+ * <p>
+ * - 엔티티를 로딩하지 않고 응답에 필요한 컬럼만 Tuple로 조회해 BookView 읽기 모델로 조립
+ *   (EAGER 저자 연관의 도서별 추가 조회, 지연 카테고리 컬렉션 초기화, 스냅샷·dirty checking 없음)
+ * - 페이지 크기와 관계없이 도서 1회 + 저자 1회 + 카테고리 1회, 총 3회 쿼리
+ * - 저자는 BookAuthor id 순, 카테고리는 id 순으로 담으므로 응답의 저자 순서가 매번 같음
+ */
+@Repository
+@RequiredArgsConstructor
+public class BookPageLoader {
+
+    private final JPAQueryFactory queryFactory;
+
+    /**
+     * ISBN 목록의 도서를 주어진 순서대로 조회 (없는 ISBN은 건너뜀)
+     *
+     * @param isbns 도서 ISBN 목록 (색인·정렬이 정한 페이지 순서)
+     * @return 같은 순서의 도서 목록
+     */
+    @Transactional(readOnly = true)
+    public List<BookView> loadInOrder(List<String> isbns) {
+        if (isbns.isEmpty()) {
+            return List.of();
+        }
+
+        Map<String, Tuple> bookRowsByIsbn = new HashMap<>();
+        List<Tuple> bookRows = queryFactory
+                .select(book.isbn, book.title, book.subtitle, book.imageUrl, book.description,
+                        book.pageCount, book.format, book.price.amount, book.price.currency,
+                        book.publicationInfo.publisher, book.publicationInfo.publishedDate)
+                .from(book)
+                .where(book.isbn.in(isbns))
+                .fetch();
+        for (Tuple row : bookRows) {
+            bookRowsByIsbn.put(row.get(book.isbn), row);
+        }
+        if (bookRowsByIsbn.isEmpty()) {
+            return List.of();
+        }
+
+        List<String> found = List.copyOf(bookRowsByIsbn.keySet());
+        Map<String, List<BookView.AuthorEntry>> authorsByIsbn = new HashMap<>();
+        List<Tuple> authorRows = queryFactory
+                .select(bookAuthor.book.isbn, bookAuthor.role, author.id, author.name)
+                .from(bookAuthor)
+                .join(bookAuthor.author, author)
+                .where(bookAuthor.book.isbn.in(found))
+                .orderBy(bookAuthor.id.asc())
+                .fetch();
+        for (Tuple row : authorRows) {
+            authorsByIsbn.computeIfAbsent(row.get(bookAuthor.book.isbn), isbn -> new ArrayList<>())
+                    .add(new BookView.AuthorEntry(row.get(author.id), row.get(author.name), row.get(bookAuthor.role)));
+        }
+
+        Map<String, List<BookView.CategoryEntry>> categoriesByIsbn = new HashMap<>();
+        List<Tuple> categoryRows = queryFactory
+                .select(book.isbn, category.id, category.name)
+                .from(book)
+                .join(book.categories, category)
+                .where(book.isbn.in(found))
+                .orderBy(category.id.asc())
+                .fetch();
+        for (Tuple row : categoryRows) {
+            categoriesByIsbn.computeIfAbsent(row.get(book.isbn), isbn -> new ArrayList<>())
+                    .add(new BookView.CategoryEntry(row.get(category.id), row.get(category.name)));
+        }
+
+        List<BookView> ordered = new ArrayList<>(isbns.size());
+        for (String isbn : isbns) {
+            Tuple row = bookRowsByIsbn.get(isbn);
+            if (row != null) {
+                ordered.add(toView(row, authorsByIsbn.get(isbn), categoriesByIsbn.get(isbn)));
+            }
+        }
+        return ordered;
+    }
+
+    /**
+     * ISBN으로 도서 단건 조회 (페이지 조회와 같은 3회 쿼리)
+     */
+    @Transactional(readOnly = true)
+    public Optional<BookView> load(String isbn) {
+        return loadInOrder(List.of(isbn)).stream().findFirst();
+    }
+
+    private BookView toView(Tuple row, List<BookView.AuthorEntry> authors, List<BookView.CategoryEntry> categories) {
+        return new BookView(
+                row.get(book.isbn),
+                row.get(book.title),
+                row.get(book.subtitle),
+                row.get(book.description),
+                row.get(book.pageCount),
+                row.get(book.format),
+                row.get(book.price.amount),
+                row.get(book.price.currency),
+                row.get(book.publicationInfo.publisher),
+                row.get(book.publicationInfo.publishedDate),
+                row.get(book.imageUrl),
+                authors,
+                categories
+        );
+    }
+}
@@ -0,0 +1,56 @@
+package com.trevari.book.persistence;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.stereotype.Repository;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 도서 인기도(상세 조회 수) 저장소
+ * Redis SortedSet에 ISBN별 조회 수를 ZINCRBY로 원자적으로 누적하고, 색인 시 전체를 한 번에 읽어 인기도 정렬 순위를 만듦
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class BookPopularityRepository {
+
+    static final String BOOK_VIEWS_KEY = "book_popularity:views";
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    /**
+     * 도서 상세 조회 수 1 증가
+     */
+    public void incrementViews(String isbn) {
+        stringRedisTemplate.opsForZSet().incrementScore(BOOK_VIEWS_KEY, isbn, 1.0);
+    }
+
+    /**
+     * 전체 도서의 조회 수 (조회 기록이 없는 도서는 포함하지 않음)
+     * Redis 오류 시 빈 맵을 반환해 색인 생성은 계속 진행 (인기도 정렬만 제목 순이 됨)
+     */
+    public Map<String, Integer> findAllViews() {
+        try {
+            Set<ZSetOperations.TypedTuple<String>> entries =
+                    stringRedisTemplate.opsForZSet().rangeWithScores(BOOK_VIEWS_KEY, 0, -1);
+            if (entries == null) {
+                return Map.of();
+            }
+            Map<String, Integer> views = new HashMap<>(entries.size() * 2);
+            for (ZSetOperations.TypedTuple<String> entry : entries) {
+                if (entry.getValue() != null && entry.getScore() != null) {
+                    views.put(entry.getValue(), (int) Math.min(entry.getScore(), Integer.MAX_VALUE));
+                }
+            }
+            return views;
+        } catch (Exception e) {
+            log.warn("Failed to load book popularity from Redis: {}", e.getMessage());
+            return Map.of();
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.trevari.book.persistence;
+
+import com.trevari.book.domain.CategoryStats;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * 카테고리별 도서 수 집계 Repository
+ */
+@Repository
+public interface CategoryStatsJpaRepository extends JpaRepository<CategoryStats, Long> {
+
+    /**
+     * 집계 재계산 쿼리 (category 전체를 book_category와 GROUP BY해 집계 행을 덮어씀)
+     * 트리거가 놓친 변경을 보정하는 용도로 주기적으로만 실행
+     */
+    String RECONCILE_QUERY = """
+            INSERT INTO category_stats (category_id, name, book_count)
+            SELECT * FROM (
+                SELECT c.id, c.name, COUNT(bc.book_isbn) AS book_count
+                FROM category c
+                LEFT JOIN book_category bc ON bc.category_id = c.id
+                GROUP BY c.id, c.name
+            ) fresh
+            ON DUPLICATE KEY UPDATE name = fresh.name, book_count = fresh.book_count
+            """;
+
+    /**
+     * 도서 수가 많은 순(같으면 이름 순)으로 pageable 크기만큼 조회
+     * (book_count, name) 인덱스 순서대로 읽으므로 조회 비용이 전체 카테고리 수가 아닌 limit에 비례
+     */
+    List<CategoryStats> findAllByOrderByBookCountDescNameAsc(Pageable pageable);
+
+    /**
+     * 집계 재계산
+     */
+    @Transactional
+    @Modifying
+    @Query(value = RECONCILE_QUERY, nativeQuery = true)
+    void reconcile();
+}
@@ -0,0 +1,15 @@
+package com.trevari.book.persistence;
+
+import com.trevari.book.domain.AuthorCursor;
+import com.trevari.book.domain.AuthorPage;
+
+/**
+ * 저자 조회용 커스텀 Repository 인터페이스
+ */
+public interface CustomAuthorRepository {
+    
+    /**
+     * 이름 접두어로 저자 키셋 조회 ((소문자 이름, id) 순, 도서가 있는 저자만, 저자별 도서 수 포함)
+     */
+    AuthorPage findByNamePrefix(String prefix, AuthorCursor after, int size);
+}
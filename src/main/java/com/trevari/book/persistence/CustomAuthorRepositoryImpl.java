@@ -0,0 +1,64 @@
+package com.trevari.book.persistence;
+
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.StringExpression;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.trevari.book.domain.AuthorCursor;
+import com.trevari.book.domain.AuthorPage;
+import com.trevari.book.domain.AuthorSummary;
+import com.trevari.book.domain.CursorPage;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Locale;
+
+import static com.trevari.book.domain.QAuthor.author;
+import static com.trevari.book.domain.QBookAuthor.bookAuthor;
+
+/**
+ * QueryDSL을 사용한 저자 커스텀 Repository 구현체
+ */
+@Repository
+@RequiredArgsConstructor
+public class CustomAuthorRepositoryImpl implements CustomAuthorRepository {
+    
+    private final JPAQueryFactory queryFactory;
+    
+    /**
+     * 인메모리 색인과 같은 순서를 쓰도록 소문자 이름으로 정렬하고, 도서 수는 저자-도서 연결을 GROUP BY로 셈
+     * OFFSET 없이 커서 다음 (size + 1)건만 조회해 다음 페이지 여부를 판단 (전체 건수는 계산하지 않음)
+     */
+    @Override
+    public AuthorPage findByNamePrefix(String prefix, AuthorCursor after, int size) {
+        StringExpression name = author.name.trim().lower();
+        BooleanExpression prefixCondition = prefix == null || prefix.isBlank()
+                ? null
+                : name.startsWith(prefix.trim().toLowerCase(Locale.ROOT));
+        BooleanExpression keyset = null;
+        if (!after.isStart()) {
+            String afterName = after.name().trim().toLowerCase(Locale.ROOT);
+            keyset = name.gt(afterName).or(name.eq(afterName).and(author.id.gt(after.id())));
+        }
+        
+        List<Tuple> rows = queryFactory
+                .select(author.id, author.name, bookAuthor.count())
+                .from(author)
+                .join(author.bookAuthors, bookAuthor)
+                .where(prefixCondition, keyset)
+                .groupBy(author.id, author.name)
+                .orderBy(name.asc(), author.id.asc())
+                .limit(size + 1L)
+                .fetch();
+        
+        boolean hasNext = rows.size() > size;
+        List<AuthorSummary> content = (hasNext ? rows.subList(0, size) : rows).stream()
+                .map(row -> new AuthorSummary(row.get(author.id), row.get(author.name),
+                        row.get(bookAuthor.count()).intValue()))
+                .toList();
+        AuthorSummary last = hasNext ? content.get(content.size() - 1) : null;
+        return new AuthorPage(content, last != null ? AuthorCursor.after(last.name(), last.id()) : null,
+                CursorPage.UNKNOWN_TOTAL);
+    }
+}
@@ -1,31 +1,80 @@
 package com.trevari.book.persistence;
 
-import com.trevari.book.domain.Book;
+import com.trevari.book.domain.BookView;
+import com.trevari.book.domain.CursorPage;
+import com.trevari.book.domain.PageCursor;
+import com.trevari.book.domain.search.QueryNode;
+import com.trevari.book.domain.search.RangeFilter;
+import com.trevari.book.domain.search.SearchQuery;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+import java.util.List;
+import java.util.Optional;
 
 /**
  * 복잡한 쿼리를 위한 커스텀 Repository 인터페이스
  */
 public interface CustomBookRepository {
     
+    /**
+     * 저장된 ISBN으로 도서 읽기 모델 조회 (BookPageLoader의 3회 쿼리)
+     */
+    Optional<BookView> findViewByIsbn(String isbn);
+    
     /**
      * 키워드로 도서 검색 (제목, 부제목, 저자명 대상)
      */
-    Page<Book> findByKeyword(String keyword, Pageable pageable);
+    Page<BookView> findByKeyword(String keyword, Pageable pageable);
     
     /**
      * OR 연산 키워드 검색
      */
-    Page<Book> findByOrKeywords(String keyword1, String keyword2, Pageable pageable);
+    Page<BookView> findByOrKeywords(String keyword1, String keyword2, Pageable pageable);
     
     /**
      * NOT 연산 키워드 검색 (첫 번째 키워드 포함, 두 번째 키워드 제외)
      */
-    Page<Book> findByNotKeywords(String includeKeyword, String excludeKeyword, Pageable pageable);
+    Page<BookView> findByNotKeywords(String includeKeyword, String excludeKeyword, Pageable pageable);
+    
+    /**
+     * 불리언 구문 트리 검색 (AND/OR/NOT, 괄호, 구문 조합)
+     */
+    Page<BookView> findByQuery(QueryNode root, RangeFilter filter, Pageable pageable);
+    
+    /**
+     * 검색 쿼리 결과 조회 (COUNT 없이 size + 1건으로 다음 페이지 여부만 판단)
+     */
+    Slice<BookView> findSliceByQuery(SearchQuery searchQuery, Pageable pageable);
+    
+    /**
+     * 검색 쿼리 매칭 수 (최대 limit건까지만 셈)
+     */
+    long countByQuery(SearchQuery searchQuery, long limit);
     
     /**
      * 카테고리명으로 도서 검색
      */
-    Page<Book> findByCategoryName(String categoryName, Pageable pageable);
+    Page<BookView> findByCategoryName(String categoryName, RangeFilter filter, Pageable pageable);
+    
+    /**
+     * 불리언 구문 트리 키셋 검색 ((제목, ISBN) 순, root가 null이면 전체 도서)
+     */
+    CursorPage<BookView> findByQueryAfter(QueryNode root, RangeFilter filter, PageCursor after, int size);
+    
+    /**
+     * 카테고리명으로 도서 키셋 검색 ((제목, ISBN) 순)
+     */
+    CursorPage<BookView> findByCategoryNameAfter(String categoryName, RangeFilter filter, PageCursor after, int size);
+    
+    /**
+     * 저자 id로 도서 키셋 조회 ((제목, ISBN) 순)
+     */
+    CursorPage<BookView> findByAuthorIdAfter(Long authorId, PageCursor after, int size);
+    
+    /**
+     * 문자열 ISBN 접두어 중 하나로 시작하는 도서 검색 (ISBN 순)
+     */
+    Page<BookView> findByIsbnStartingWithAny(List<String> prefixes, Pageable pageable);
 }
@@ -1,18 +1,31 @@
 package com.trevari.book.persistence;
 
+import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.core.types.dsl.Expressions;
 import com.querydsl.jpa.impl.JPAQueryFactory;
-import com.trevari.book.domain.Book;
+import com.querydsl.core.Tuple;
+import com.trevari.book.domain.BookView;
+import com.trevari.book.domain.CursorPage;
+import com.trevari.book.domain.PageCursor;
+import com.trevari.book.domain.search.QueryNode;
+import com.trevari.book.domain.search.QueryPlanner;
+import com.trevari.book.domain.search.RangeFilter;
+import com.trevari.book.domain.search.SearchQuery;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Repository;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 
 import static com.trevari.book.domain.QBook.book;
 
@@ -25,19 +38,25 @@ import static com.trevari.book.domain.QBook.book;
 public class CustomBookRepositoryImpl implements CustomBookRepository {
     
     private final JPAQueryFactory queryFactory;
+    private final BookPageLoader bookPageLoader;
     
     @Autowired(required = false)
     private OptimizedBookRepository optimizedBookRepository;
     
     @Override
-    public Page<Book> findByKeyword(String keyword, Pageable pageable) {
+    public Optional<BookView> findViewByIsbn(String isbn) {
+        return bookPageLoader.load(isbn);
+    }
+    
+    @Override
+    public Page<BookView> findByKeyword(String keyword, Pageable pageable) {
         log.debug("Searching books with keyword: {} using optimized search", keyword);
         
         // Try optimized full-text search first
         if (optimizedBookRepository != null) {
             try {
                 log.debug("Using MySQL full-text search for keyword: {}", keyword);
-                return optimizedBookRepository.findByFullTextSearch(keyword, pageable);
+                return loadPage(optimizedBookRepository.findByFullTextSearch(FullTextTerms.requireAll(keyword), pageable));
             } catch (Exception e) {
                 log.warn("Full-text search failed, falling back to QueryDSL: {}", e.getMessage());
             }
@@ -45,37 +64,19 @@ public class CustomBookRepositoryImpl implements CustomBookRepository {
         
         // Optimized QueryDSL implementation (성능 개선 + 테스트 호환)
         log.debug("Using optimized QueryDSL search for keyword: {}", keyword);
-        BooleanExpression searchCondition = createKeywordSearchCondition(keyword);
-        
-        List<Book> books = queryFactory
-                .selectFrom(book)
-                .leftJoin(book.bookAuthors).fetchJoin()
-                .where(searchCondition)
-                .orderBy(book.title.asc()) // 안전한 기본 정렬
-                .offset(pageable.getOffset())
-                .limit(pageable.getPageSize())
-                .distinct()
-                .fetch();
-        
-        Long totalCount = queryFactory
-                .select(book.countDistinct())
-                .from(book)
-                .leftJoin(book.bookAuthors)
-                .where(searchCondition)
-                .fetchOne();
-        
-        return new PageImpl<>(books, pageable, totalCount != null ? totalCount : 0L);
+        return findPage(createKeywordSearchCondition(keyword), pageable, book.title.asc(), book.isbn.asc());
     }
     
     @Override
-    public Page<Book> findByOrKeywords(String keyword1, String keyword2, Pageable pageable) {
+    public Page<BookView> findByOrKeywords(String keyword1, String keyword2, Pageable pageable) {
         log.debug("Searching books with OR keywords: {} OR {} using optimized search", keyword1, keyword2);
         
         // Try optimized full-text OR search first
         if (optimizedBookRepository != null) {
             try {
                 log.debug("Using MySQL full-text OR search for keywords: {} OR {}", keyword1, keyword2);
-                return optimizedBookRepository.findByOrFullTextSearch(keyword1, keyword2, pageable);
+                return loadPage(optimizedBookRepository.findByOrFullTextSearch(
+                        FullTextTerms.requireAll(keyword1), FullTextTerms.requireAll(keyword2), pageable));
             } catch (Exception e) {
                 log.warn("Full-text OR search failed, falling back to QueryDSL: {}", e.getMessage());
             }
@@ -97,34 +98,19 @@ public class CustomBookRepositoryImpl implements CustomBookRepository {
             orCondition = null;
         }
         
-        List<Book> books = queryFactory
-                .selectFrom(book)
-                .leftJoin(book.bookAuthors).fetchJoin()
-                .where(orCondition)
-                .offset(pageable.getOffset())
-                .limit(pageable.getPageSize())
-                .distinct()
-                .fetch();
-        
-        Long totalCount = queryFactory
-                .select(book.countDistinct())
-                .from(book)
-                .leftJoin(book.bookAuthors)
-                .where(orCondition)
-                .fetchOne();
-        
-        return new PageImpl<>(books, pageable, totalCount != null ? totalCount : 0L);
+        return findPage(orCondition, pageable, book.title.asc(), book.isbn.asc());
     }
     
     @Override
-    public Page<Book> findByNotKeywords(String includeKeyword, String excludeKeyword, Pageable pageable) {
+    public Page<BookView> findByNotKeywords(String includeKeyword, String excludeKeyword, Pageable pageable) {
         log.debug("Searching books with NOT keywords: {} NOT {} using optimized search", includeKeyword, excludeKeyword);
         
         // Try optimized full-text NOT search first
         if (optimizedBookRepository != null) {
             try {
                 log.debug("Using MySQL full-text NOT search for keywords: {} NOT {}", includeKeyword, excludeKeyword);
-                return optimizedBookRepository.findByNotFullTextSearch(includeKeyword, excludeKeyword, pageable);
+                return loadPage(optimizedBookRepository.findByNotFullTextSearch(
+                        FullTextTerms.requireAll(includeKeyword), FullTextTerms.requireAll(excludeKeyword), pageable));
             } catch (Exception e) {
                 log.warn("Full-text NOT search failed, falling back to QueryDSL: {}", e.getMessage());
             }
@@ -144,25 +130,212 @@ public class CustomBookRepositoryImpl implements CustomBookRepository {
             notCondition = null;
         }
         
-        // 데이터 조회
-        List<Book> books = queryFactory
-                .selectFrom(book)
-                .leftJoin(book.bookAuthors).fetchJoin()
-                .where(notCondition)
+        return findPage(notCondition, pageable, book.title.asc(), book.isbn.asc());
+    }
+    
+    @Override
+    public Page<BookView> findByQuery(QueryNode root, RangeFilter filter, Pageable pageable) {
+        // 풀텍스트 UNION 쿼리를 조합마다 만들지 않고, 실행 순서를 정한 구문 트리를 하나의 조건식으로 컴파일
+        QueryNode plan = QueryPlanner.plan(root, CustomBookRepositoryImpl::estimateSelectivity);
+        log.debug("Searching books with boolean query plan: {}", plan);
+        BooleanExpression condition = compile(plan).and(rangeCondition(filter));
+        
+        return findPage(condition, pageable, book.title.asc(), book.isbn.asc());
+    }
+    
+    @Override
+    public Slice<BookView> findSliceByQuery(SearchQuery searchQuery, Pageable pageable) {
+        if (useFullText(searchQuery)) {
+            try {
+                Slice<String> isbns = switch (searchQuery.strategy()) {
+                    case OR_OPERATION -> optimizedBookRepository.findSliceByOrFullTextSearch(
+                            FullTextTerms.requireAll(searchQuery.getFirstKeyword()),
+                            FullTextTerms.requireAll(searchQuery.getSecondKeyword()), pageable);
+                    case NOT_OPERATION -> optimizedBookRepository.findSliceByNotFullTextSearch(
+                            FullTextTerms.requireAll(searchQuery.getIncludeKeyword()),
+                            FullTextTerms.requireAll(searchQuery.getExcludeKeyword()), pageable);
+                    default -> optimizedBookRepository.findSliceByFullTextSearch(
+                            FullTextTerms.requireAll(searchQuery.getFirstKeyword()), pageable);
+                };
+                return new SliceImpl<>(bookPageLoader.loadInOrder(isbns.getContent()), pageable, isbns.hasNext());
+            } catch (Exception e) {
+                log.warn("Full-text slice search failed, falling back to QueryDSL: {}", e.getMessage());
+            }
+        }
+        
+        // size + 1건의 ISBN만 조회해 다음 페이지 여부를 판단하고 (COUNT 쿼리 없음), 페이지 도서만 IN 조회로 로딩
+        List<String> isbns = queryFactory
+                .select(book.isbn)
+                .from(book)
+                .where(searchCondition(searchQuery))
+                .orderBy(book.title.asc(), book.isbn.asc())
                 .offset(pageable.getOffset())
-                .limit(pageable.getPageSize())
-                .distinct()
+                .limit(pageable.getPageSize() + 1L)
                 .fetch();
         
-        // 총 개수 조회
-        Long totalCount = queryFactory
-                .select(book.countDistinct())
+        boolean hasNext = isbns.size() > pageable.getPageSize();
+        List<BookView> books = bookPageLoader.loadInOrder(hasNext ? isbns.subList(0, pageable.getPageSize()) : isbns);
+        return new SliceImpl<>(books, pageable, hasNext);
+    }
+    
+    @Override
+    public long countByQuery(SearchQuery searchQuery, long limit) {
+        if (useFullText(searchQuery)) {
+            try {
+                return switch (searchQuery.strategy()) {
+                    case OR_OPERATION -> optimizedBookRepository.countByOrFullTextSearch(
+                            FullTextTerms.requireAll(searchQuery.getFirstKeyword()),
+                            FullTextTerms.requireAll(searchQuery.getSecondKeyword()), limit);
+                    case NOT_OPERATION -> optimizedBookRepository.countByNotFullTextSearch(
+                            FullTextTerms.requireAll(searchQuery.getIncludeKeyword()),
+                            FullTextTerms.requireAll(searchQuery.getExcludeKeyword()), limit);
+                    default -> optimizedBookRepository.countByFullTextSearch(
+                            FullTextTerms.requireAll(searchQuery.getFirstKeyword()), limit);
+                };
+            } catch (Exception e) {
+                log.warn("Full-text count failed, falling back to QueryDSL: {}", e.getMessage());
+            }
+        }
+        
+        // 저자 조건은 any() 서브쿼리라 조인 중복이 없으므로 DISTINCT 없이 ISBN만 limit건까지 조회
+        return queryFactory
+                .select(book.isbn)
+                .from(book)
+                .where(searchCondition(searchQuery))
+                .limit(limit)
+                .fetch()
+                .size();
+    }
+    
+    /**
+     * 풀텍스트 검색이 반환한 ISBN 페이지의 도서 로딩 (관련도 순서 유지)
+     */
+    private Page<BookView> loadPage(Page<String> isbns) {
+        return new PageImpl<>(bookPageLoader.loadInOrder(isbns.getContent()), isbns.getPageable(), isbns.getTotalElements());
+    }
+    
+    /**
+     * 풀텍스트 쿼리로 처리할 수 있는 검색인지 여부 (불리언 검색과 범위 필터는 조건식 경로로 처리)
+     */
+    private boolean useFullText(SearchQuery searchQuery) {
+        return optimizedBookRepository != null
+                && searchQuery.strategy() != SearchQuery.SearchStrategy.BOOLEAN
+                && searchQuery.filter().isEmpty();
+    }
+    
+    /**
+     * 검색 쿼리 전체를 하나의 조건식으로 변환 (단순/OR/NOT 검색도 구문 트리로 표현됨)
+     */
+    private BooleanExpression searchCondition(SearchQuery searchQuery) {
+        return compile(QueryPlanner.plan(searchQuery.root(), CustomBookRepositoryImpl::estimateSelectivity))
+                .and(rangeCondition(searchQuery.filter()));
+    }
+    
+    /**
+     * 범위 필터 조건 (필터가 없으면 null)
+     * 기본 경로는 검색 색인의 열 저장소이고, 이 조건은 색인이 준비되지 않았을 때의 대체 경로에서만 쓰임
+     */
+    private BooleanExpression rangeCondition(RangeFilter filter) {
+        if (filter.isEmpty()) {
+            return null;
+        }
+        return Expressions.allOf(
+                filter.minPrice() != null ? book.price.amount.goe(filter.minPrice()) : null,
+                filter.maxPrice() != null ? book.price.amount.loe(filter.maxPrice()) : null,
+                filter.currency() != null ? book.price.currency.upper().eq(filter.currency()) : null,
+                filter.publishedFrom() != null ? book.publicationInfo.publishedDate.goe(filter.publishedFrom()) : null,
+                filter.publishedTo() != null ? book.publicationInfo.publishedDate.loe(filter.publishedTo()) : null
+        );
+    }
+    
+    @Override
+    public CursorPage<BookView> findByQueryAfter(QueryNode root, RangeFilter filter, PageCursor after, int size) {
+        BooleanExpression condition = rangeCondition(filter);
+        if (root != null) {
+            QueryNode plan = QueryPlanner.plan(root, CustomBookRepositoryImpl::estimateSelectivity);
+            log.debug("Searching books after {} with boolean query plan: {}", after, plan);
+            condition = compile(plan).and(condition);
+        }
+        return findAfter(condition, after, size);
+    }
+    
+    @Override
+    public CursorPage<BookView> findByCategoryNameAfter(String categoryName, RangeFilter filter, PageCursor after, int size) {
+        BooleanExpression categoryCondition = createCategorySearchCondition(categoryName);
+        return findAfter(categoryCondition != null ? categoryCondition.and(rangeCondition(filter)) : rangeCondition(filter),
+                after, size);
+    }
+    
+    @Override
+    public CursorPage<BookView> findByAuthorIdAfter(Long authorId, PageCursor after, int size) {
+        return findAfter(book.bookAuthors.any().author.id.eq(authorId), after, size);
+    }
+    
+    /**
+     * (제목, ISBN) 순 키셋 조회
+     * OFFSET 없이 커서 다음 (size + 1)건의 키만 조회해 다음 페이지 여부를 판단하고,
+     * 페이지 도서는 ISBN으로 저자·카테고리와 함께 다시 로딩 (fetch join과 limit을 함께 쓰면 메모리 페이징이 되므로 분리)
+     * DB에는 검색 점수가 없으므로 점수 커서도 (제목, ISBN) 위치로 이어서 조회
+     */
+    private CursorPage<BookView> findAfter(BooleanExpression condition, PageCursor after, int size) {
+        BooleanExpression keyset = null;
+        if (!after.isStart()) {
+            keyset = book.title.gt(after.title())
+                    .or(book.title.eq(after.title()).and(book.isbn.gt(after.isbn())));
+        }
+        
+        List<Tuple> keys = queryFactory
+                .select(book.isbn, book.title)
                 .from(book)
-                .leftJoin(book.bookAuthors)
-                .where(notCondition)
-                .fetchOne();
+                .where(condition, keyset)
+                .orderBy(book.title.asc(), book.isbn.asc())
+                .limit(size + 1L)
+                .fetch();
+        
+        boolean hasNext = keys.size() > size;
+        List<Tuple> pageKeys = hasNext ? keys.subList(0, size) : keys;
+        if (pageKeys.isEmpty()) {
+            return new CursorPage<>(List.of(), null, CursorPage.UNKNOWN_TOTAL, false);
+        }
         
-        return new PageImpl<>(books, pageable, totalCount != null ? totalCount : 0L);
+        List<BookView> books = bookPageLoader.loadInOrder(pageKeys.stream().map(key -> key.get(book.isbn)).toList());
+        
+        Tuple last = pageKeys.get(pageKeys.size() - 1);
+        PageCursor nextCursor = hasNext ? PageCursor.afterTitle(last.get(book.title), last.get(book.isbn)) : null;
+        return new CursorPage<>(books, nextCursor, CursorPage.UNKNOWN_TOTAL, false);
+    }
+    
+    /**
+     * 구문 트리를 QueryDSL 조건식으로 변환 (절 순서는 플래너가 정한 순서 그대로)
+     * 단어 묶음과 구문 모두 문자열 포함 조건이므로 구문은 원문에 그대로 이어진 경우에만 일치
+     */
+    private BooleanExpression compile(QueryNode node) {
+        if (node instanceof QueryNode.Not not) {
+            return compile(not.clause()).not();
+        }
+        if (node instanceof QueryNode.And || node instanceof QueryNode.Or) {
+            boolean and = node instanceof QueryNode.And;
+            List<QueryNode> clauses = and ? ((QueryNode.And) node).clauses() : ((QueryNode.Or) node).clauses();
+            List<BooleanExpression> compiled = new ArrayList<>(clauses.size());
+            for (QueryNode clause : clauses) {
+                compiled.add(compile(clause));
+            }
+            BooleanExpression result = compiled.get(0);
+            for (int i = 1; i < compiled.size(); i++) {
+                result = and ? result.and(compiled.get(i)) : result.or(compiled.get(i));
+            }
+            return result;
+        }
+        // 빈 단어는 색인 검색과 같이 어떤 도서와도 일치하지 않는 상수 조건 (null이면 Not 절의 not()에서 NPE)
+        BooleanExpression condition = createKeywordSearchCondition(node.text());
+        return condition != null ? condition : Expressions.FALSE.isTrue();
+    }
+    
+    /**
+     * DB에는 텀 통계가 없으므로 긴 검색어일수록 드물다고 보고 선택도 추정
+     */
+    private static double estimateSelectivity(QueryNode leaf) {
+        return 1.0 / (1 + leaf.text().length());
     }
     
     /**
@@ -189,29 +362,58 @@ public class CustomBookRepositoryImpl implements CustomBookRepository {
     }
 
     @Override
-    public Page<Book> findByCategoryName(String categoryName, Pageable pageable) {
-        // 카테고리 검색 조건 생성
+    public Page<BookView> findByCategoryName(String categoryName, RangeFilter filter, Pageable pageable) {
+        // 카테고리 검색 조건 생성 (범위 필터가 있으면 함께 적용)
         BooleanExpression categoryCondition = createCategorySearchCondition(categoryName);
+        if (categoryCondition != null) {
+            categoryCondition = categoryCondition.and(rangeCondition(filter));
+        }
+        
+        return findPage(categoryCondition, pageable, book.title.asc(), book.isbn.asc());
+    }
+    
+    /**
+     * 문자열 ISBN 접두어 검색 - PK 인덱스 범위 스캔(LIKE 'prefix%')으로 조회
+     */
+    @Override
+    public Page<BookView> findByIsbnStartingWithAny(List<String> prefixes, Pageable pageable) {
+        if (prefixes.isEmpty()) {
+            return new PageImpl<>(List.of(), pageable, 0L);
+        }
+        BooleanExpression condition = null;
+        for (String prefix : prefixes) {
+            BooleanExpression startsWith = book.isbn.startsWith(prefix);
+            condition = condition == null ? startsWith : condition.or(startsWith);
+        }
         
-        // 데이터 조회
-        List<Book> books = queryFactory
-                .selectFrom(book)
-                .join(book.categories)
-                .where(categoryCondition)
+        return findPage(condition, pageable, book.isbn.asc());
+    }
+    
+    /**
+     * 두 단계 페이지 조회
+     * 1단계에서 조건에 맞는 페이지의 ISBN만 OFFSET/LIMIT으로 조회하고, 2단계에서 그 ISBN의 도서·저자·카테고리를 IN 조회로 로딩
+     * (컬렉션 fetch join과 OFFSET/LIMIT을 함께 쓰면 Hibernate가 매칭 행 전체를 읽어 메모리에서 페이징하므로 분리)
+     * 저자·카테고리 조건은 any() 서브쿼리라 조인 중복이 없으므로 DISTINCT 없이 ISBN과 건수를 셈
+     * 첫 페이지가 페이지 크기보다 적게 채워지면 건수 쿼리를 생략
+     */
+    private Page<BookView> findPage(BooleanExpression condition, Pageable pageable, OrderSpecifier<?>... orders) {
+        List<String> isbns = queryFactory
+                .select(book.isbn)
+                .from(book)
+                .where(condition)
+                .orderBy(orders)
                 .offset(pageable.getOffset())
                 .limit(pageable.getPageSize())
-                .distinct()
                 .fetch();
         
-        // 총 개수 조회
-        Long totalCount = queryFactory
-                .select(book.countDistinct())
-                .from(book)
-                .join(book.categories)
-                .where(categoryCondition)
-                .fetchOne();
-        
-        return new PageImpl<>(books, pageable, totalCount != null ? totalCount : 0L);
+        return PageableExecutionUtils.getPage(bookPageLoader.loadInOrder(isbns), pageable, () -> {
+            Long totalCount = queryFactory
+                    .select(book.count())
+                    .from(book)
+                    .where(condition)
+                    .fetchOne();
+            return totalCount != null ? totalCount : 0L;
+        });
     }
     
     /**
@@ -0,0 +1,45 @@
+package com.trevari.book.persistence;
+
+import java.util.Locale;
+import java.util.Set;
+import java.util.StringJoiner;
+
+/**
+ * 풀텍스트 불리언 모드 검색식 생성
+ * <p>
+ * - 단어마다 +를 붙여 모든 단어가 있는 도서만 매칭 (자연어 모드는 여러 단어 검색어를 단어 OR로 처리)
+ * - 글자·숫자·밑줄 외의 문자는 단어 구분자로 취급하므로 불리언 연산자(+ - < > ( ) ~ * " @)가 검색식에 섞이지 않음
+ * - InnoDB는 색인하지 않는 단어(불용어, 최소 토큰 길이 미만)에 +가 붙으면 아무 도서도 매칭하지 않으므로 검색식에서 제외
+ *   (서버 기본값 innodb_ft_min_token_size=3, INFORMATION_SCHEMA.INNODB_FT_DEFAULT_STOPWORD 기준)
+ */
+final class FullTextTerms {
+
+    private static final int MIN_TOKEN_SIZE = 3;
+
+    private static final Set<String> DEFAULT_STOPWORDS = Set.of(
+            "a", "about", "an", "are", "as", "at", "be", "by", "com", "de", "en", "for", "from", "how", "i", "in",
+            "is", "it", "la", "of", "on", "or", "that", "the", "this", "to", "was", "what", "when", "where", "who",
+            "will", "with", "und", "www");
+
+    private FullTextTerms() {
+    }
+
+    /**
+     * 검색어를 모든 단어가 있어야 매칭되는 불리언 모드 검색식으로 변환
+     *
+     * @param keyword 검색 키워드 (여러 단어 가능)
+     * @return 불리언 모드 검색식 (예: "Spring in Action" -> "+Spring +Action", 색인되는 단어가 없으면 빈 문자열)
+     */
+    static String requireAll(String keyword) {
+        StringJoiner terms = new StringJoiner(" ");
+        if (keyword != null) {
+            for (String term : keyword.split("[^\\p{L}\\p{N}_]+")) {
+                if (term.codePointCount(0, term.length()) >= MIN_TOKEN_SIZE
+                        && !DEFAULT_STOPWORDS.contains(term.toLowerCase(Locale.ROOT))) {
+                    terms.add("+" + term);
+                }
+            }
+        }
+        return terms.toString();
+    }
+}
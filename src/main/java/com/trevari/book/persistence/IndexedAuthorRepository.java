@@ -0,0 +1,42 @@
+package com.trevari.book.persistence;
+
+import com.trevari.book.domain.AuthorCursor;
+import com.trevari.book.domain.AuthorPage;
+import com.trevari.book.domain.AuthorRepository;
+import com.trevari.book.index.AuthorLookup;
+import com.trevari.book.index.BookIndex;
+import com.trevari.book.index.BookIndexManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 인메모리 색인의 저자 인접 리스트를 우선 사용하는 AuthorRepository 구현체
+ * <p>
+ * - 이름 접두어 목록은 색인의 (정규화 이름, id) 정렬 배열에서 이진 탐색으로 구간을 찾아 커서 위치부터 잘라 씀 (전체 건수 포함)
+ * - 색인에는 도서가 있는 저자만 있으므로, 존재 여부는 색인에 없으면 DB에 다시 확인
+ * - 색인이 준비되지 않았으면 AuthorJpaRepository의 GROUP BY 키셋 조회로 위임
+ */
+@Primary
+@Repository
+@RequiredArgsConstructor
+public class IndexedAuthorRepository implements AuthorRepository {
+
+    private final AuthorJpaRepository authorJpaRepository;
+    private final BookIndexManager indexManager;
+
+    @Override
+    public boolean existsById(Long id) {
+        BookIndex index = indexManager.current();
+        return (index.isReady() && index.containsAuthor(id)) || authorJpaRepository.existsById(id);
+    }
+
+    @Override
+    public AuthorPage findByNamePrefixAfter(String prefix, AuthorCursor after, int size) {
+        BookIndex index = indexManager.current();
+        if (!index.isReady()) {
+            return authorJpaRepository.findByNamePrefixAfter(prefix, after, size);
+        }
+        return new AuthorLookup(index).authorsAfter(prefix, after, size);
+    }
+}
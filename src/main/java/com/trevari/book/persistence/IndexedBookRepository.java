@@ -0,0 +1,282 @@
+package com.trevari.book.persistence;
+
+import com.trevari.book.domain.BookRepository;
+import com.trevari.book.domain.BookView;
+import com.trevari.book.domain.CursorPage;
+import com.trevari.book.domain.FacetedPage;
+import com.trevari.book.domain.PageCursor;
+import com.trevari.book.domain.SearchSlice;
+import com.trevari.book.domain.search.BookHighlight;
+import com.trevari.book.domain.search.Facet;
+import com.trevari.book.domain.search.RangeFilter;
+import com.trevari.book.domain.search.SearchQuery;
+import com.trevari.book.domain.search.SortOrder;
+import com.trevari.book.index.AuthorLookup;
+import com.trevari.book.index.BookDocument;
+import com.trevari.book.index.BookIndex;
+import com.trevari.book.index.BookIndexManager;
+import com.trevari.book.index.BookIndexSearcher;
+import com.trevari.book.index.IndexSearchResult;
+import com.trevari.book.index.IsbnLookup;
+import com.trevari.book.index.PageRanker;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 인메모리 역색인을 우선 사용하는 BookRepository 구현체
+ * <p>
+ * - 검색은 BookIndex에서 매칭/정렬/페이징 후 해당 페이지의 ISBN만 DB에서 로딩
+ *   (BookPageLoader가 엔티티 대신 컬럼 Tuple 3회 조회로 조립하므로 페이지 크기와 관계없이 쿼리 수가 고정)
+ * - 정확 일치 결과가 0건이면 (설정 시) 오타 허용 검색으로 한 번 더 평가 - 색인에서만 지원
+ * - 색인이 준비되지 않았으면 기존 MySQL 풀텍스트/QueryDSL 경로로 위임하고, 받은 페이지 안에서만 best-effort로 재정렬
+ *   (코퍼스 통계 없이 필드 boost만 쓰는 근사 점수이고 페이지 구성은 DB 순서를 따르므로, 색인 경로의 순위와 일치하지 않음)
+ * - 색인 검색은 전체 건수가 비트셋 popcount로 공짜이므로 슬라이스 요청에도 Page를 반환하고, 건수 조회는 순위 계산 없이 매칭만 평가
+ * - 패싯 건수는 색인 검색에서 같은 매칭 비트셋으로 계산하고, 색인이 준비되지 않았으면 제공하지 않음
+ * - 키셋(after 커서) 검색·전체 목록은 색인에서 커서 위치부터 페이지 크기만큼만 평가
+ *   (전체 목록은 색인 스냅샷 기준이므로 재색인 전 추가된 도서는 다음 재색인 후 노출)
+ * - 가격·출판일 범위 필터는 색인의 열 저장소 범위 비트셋을 매칭 비트셋과 교집합해 적용하고,
+ *   범위 필터가 있는 카테고리 목록도 색인의 카테고리 패싯 집합으로 조회 (색인이 준비되지 않았으면 DB 조건식으로 대체)
+ * - 가격·출판일·쪽수·인기도 정렬(Pageable의 Sort)은 색인의 미리 계산한 순위 배열로만 수행
+ *   (DB 경로에는 정렬 없이 위임해 filesort를 만들지 않으므로, 색인이 준비되기 전에는 기본 순서로 응답)
+ * - 하이라이트는 색인의 텀 벡터에서 일치 오프셋을 찾아 만들고, 색인이 준비되지 않았으면 제공하지 않음
+ * - 저자별 도서 목록은 색인의 저자 인접 리스트에서 커서 위치부터 잘라 쓰고,
+ *   색인에 없는 저자(재색인 전 추가)나 색인이 준비되지 않았으면 DB 키셋 조회로 위임
+ * - ISBN 해석(하이픈 제거, ISBN-10↔13)과 ISBN 접두어 조회는 색인의 ISBN-13 long 정렬 배열을 이진 탐색하고,
+ *   색인에 없는 ISBN은 DB에서 형식별로 다시 확인
+ * - 단건 조회는 BookPageLoader로, 전체/필터·정렬 없는 카테고리 조회는 BookJpaRepository에 그대로 위임
+ */
+@Slf4j
+@Primary
+@Repository
+@RequiredArgsConstructor
+public class IndexedBookRepository implements BookRepository {
+
+    private final BookJpaRepository bookJpaRepository;
+    private final BookPageLoader bookPageLoader;
+    private final BookIndexManager indexManager;
+
+    @Override
+    public Optional<BookView> findViewByIsbn(String isbn) {
+        return bookPageLoader.load(isbn);
+    }
+
+    @Override
+    public Optional<String> resolveIsbn(String isbn) {
+        BookIndex index = indexManager.current();
+        if (!index.isReady()) {
+            return bookJpaRepository.resolveIsbn(isbn);
+        }
+        String resolved = new IsbnLookup(index).resolve(isbn);
+        // 재색인 전에 추가된 도서일 수 있으므로 색인에 없으면 DB에서 다시 확인
+        return resolved != null ? Optional.of(resolved) : bookJpaRepository.resolveIsbn(isbn);
+    }
+
+    @Override
+    public Page<BookView> findByIsbnPrefix(String prefix, Pageable pageable) {
+        BookIndex index = indexManager.current();
+        if (!index.isReady()) {
+            return bookJpaRepository.findByIsbnPrefix(prefix, pageable);
+        }
+        IndexSearchResult result = new IsbnLookup(index)
+                .prefix(prefix, (int) pageable.getOffset(), pageable.getPageSize());
+        return new PageImpl<>(loadInOrder(result.isbns()), pageable, result.totalHits());
+    }
+
+    @Override
+    public Page<BookView> findAllViews(Pageable pageable) {
+        return bookJpaRepository.findAllViews(pageable);
+    }
+
+    @Override
+    public Page<BookView> searchBooks(SearchQuery searchQuery, Pageable pageable) {
+        return searchBooksWithFacets(searchQuery, pageable, Set.of()).page();
+    }
+
+    @Override
+    public FacetedPage<BookView> searchBooksWithFacets(SearchQuery searchQuery, Pageable pageable, Set<Facet> facets) {
+        BookIndex index = indexManager.current();
+        if (!index.isReady()) {
+            log.debug("Search index not ready, delegating to database search: {}", searchQuery.originalQuery());
+            Page<BookView> page = bookJpaRepository.searchBooks(searchQuery, unsorted(pageable));
+            return new FacetedPage<>(rankPage(searchQuery, page), Map.of(), false);
+        }
+
+        BookIndexSearcher searcher = new BookIndexSearcher(index);
+        int offset = (int) pageable.getOffset();
+        SortOrder sortOrder = SortOrder.of(pageable.getSort());
+        IndexSearchResult result = searcher.search(searchQuery, offset, pageable.getPageSize(), facets, sortOrder);
+        boolean fuzzyFallback = result.totalHits() == 0 && !searchQuery.fuzzy() && indexManager.isFuzzyFallbackEnabled();
+        if (fuzzyFallback) {
+            log.debug("No exact match for '{}', retrying with fuzzy matching", searchQuery.originalQuery());
+            result = searcher.search(searchQuery.withFuzzy(true), offset, pageable.getPageSize(), facets, sortOrder);
+        }
+        log.debug("Index search for '{}' matched {} books", searchQuery.originalQuery(), result.totalHits());
+
+        Page<BookView> page = new PageImpl<>(loadInOrder(result.isbns()), pageable, result.totalHits());
+        return new FacetedPage<>(page, result.facets(), fuzzyFallback);
+    }
+
+    @Override
+    public SearchSlice<BookView> searchBooksSlice(SearchQuery searchQuery, Pageable pageable) {
+        if (indexManager.current().isReady()) {
+            FacetedPage<BookView> result = searchBooksWithFacets(searchQuery, pageable, Set.of());
+            return new SearchSlice<>(result.page(), result.fuzzyFallback());
+        }
+
+        log.debug("Search index not ready, delegating to database slice search: {}", searchQuery.originalQuery());
+        Slice<BookView> slice = bookJpaRepository.searchBooksSlice(searchQuery, unsorted(pageable)).slice();
+        return new SearchSlice<>(new SliceImpl<>(rank(searchQuery, slice.getContent()), pageable, slice.hasNext()), false);
+    }
+
+    @Override
+    public Map<String, BookHighlight> highlight(SearchQuery searchQuery, List<String> isbns) {
+        BookIndex index = indexManager.current();
+        if (!index.isReady() || isbns.isEmpty()) {
+            return bookJpaRepository.highlight(searchQuery, isbns);
+        }
+
+        return new BookIndexSearcher(index).highlight(searchQuery, isbns);
+    }
+
+    @Override
+    public long countBooks(SearchQuery searchQuery, long limit) {
+        BookIndex index = indexManager.current();
+        if (!index.isReady()) {
+            return bookJpaRepository.countBooks(searchQuery, limit);
+        }
+
+        BookIndexSearcher searcher = new BookIndexSearcher(index);
+        long count = searcher.count(searchQuery);
+        if (count == 0 && !searchQuery.fuzzy() && indexManager.isFuzzyFallbackEnabled()) {
+            count = searcher.count(searchQuery.withFuzzy(true));
+        }
+        return Math.min(count, limit);
+    }
+
+    @Override
+    public Page<BookView> findByCategory(String categoryName, RangeFilter filter, Pageable pageable) {
+        BookIndex index = indexManager.current();
+        SortOrder sortOrder = SortOrder.of(pageable.getSort());
+        if ((filter.isEmpty() && sortOrder == SortOrder.RELEVANCE) || !index.isReady()) {
+            return bookJpaRepository.findByCategory(categoryName, filter, unsorted(pageable));
+        }
+
+        IndexSearchResult result = new BookIndexSearcher(index)
+                .browse(categoryName, filter, (int) pageable.getOffset(), pageable.getPageSize(), sortOrder);
+        return new PageImpl<>(loadInOrder(result.isbns()), pageable, result.totalHits());
+    }
+
+    @Override
+    public CursorPage<BookView> findAllAfter(PageCursor after, int size) {
+        BookIndex index = indexManager.current();
+        if (!index.isReady()) {
+            return bookJpaRepository.findAllAfter(after, size);
+        }
+        return toCursorPage(new BookIndexSearcher(index).listAfter(after, size), false);
+    }
+
+    @Override
+    public CursorPage<BookView> searchBooksAfter(SearchQuery searchQuery, PageCursor after, int size) {
+        BookIndex index = indexManager.current();
+        if (!index.isReady()) {
+            log.debug("Search index not ready, delegating to database keyset search: {}", searchQuery.originalQuery());
+            return bookJpaRepository.searchBooksAfter(searchQuery, after, size);
+        }
+
+        BookIndexSearcher searcher = new BookIndexSearcher(index);
+        IndexSearchResult result = searcher.searchAfter(searchQuery, after, size);
+        boolean fuzzyFallback = result.totalHits() == 0 && !searchQuery.fuzzy() && indexManager.isFuzzyFallbackEnabled();
+        if (fuzzyFallback) {
+            log.debug("No exact match for '{}', retrying with fuzzy matching", searchQuery.originalQuery());
+            result = searcher.searchAfter(searchQuery.withFuzzy(true), after, size);
+        }
+        return toCursorPage(result, fuzzyFallback);
+    }
+
+    @Override
+    public CursorPage<BookView> findByCategoryAfter(String categoryName, RangeFilter filter, PageCursor after,
+                                                    int size) {
+        BookIndex index = indexManager.current();
+        if (filter.isEmpty() || !index.isReady()) {
+            return bookJpaRepository.findByCategoryAfter(categoryName, filter, after, size);
+        }
+        return toCursorPage(new BookIndexSearcher(index).browseAfter(categoryName, filter, after, size), false);
+    }
+
+    @Override
+    public CursorPage<BookView> findByAuthorAfter(Long authorId, PageCursor after, int size) {
+        BookIndex index = indexManager.current();
+        if (!index.isReady() || !index.containsAuthor(authorId)) {
+            return bookJpaRepository.findByAuthorAfter(authorId, after, size);
+        }
+        return toCursorPage(new AuthorLookup(index).booksAfter(authorId, after, size), false);
+    }
+
+    private CursorPage<BookView> toCursorPage(IndexSearchResult result, boolean fuzzyFallback) {
+        return new CursorPage<>(loadInOrder(result.isbns()), result.nextCursor(), result.totalHits(), fuzzyFallback);
+    }
+
+    private Page<BookView> rankPage(SearchQuery searchQuery, Page<BookView> page) {
+        return new PageImpl<>(rank(searchQuery, page.getContent()), page.getPageable(), page.getTotalElements());
+    }
+
+    /**
+     * DB 경로용 페이징 정보 - 정렬을 떼어 내 네이티브 풀텍스트 쿼리에 ORDER BY가 붙지 않게 함
+     */
+    private static Pageable unsorted(Pageable pageable) {
+        return pageable.getSort().isSorted() ? PageRequest.of(pageable.getPageNumber(), pageable.getPageSize()) : pageable;
+    }
+
+    /**
+     * DB 검색 결과 페이지의 best-effort 재정렬 (페이지 안의 순서만 바꾸고, 어느 도서가 어느 페이지에 오는지는 DB 순서)
+     */
+    private List<BookView> rank(SearchQuery searchQuery, List<BookView> books) {
+        if (books.size() < 2) {
+            return books;
+        }
+
+        Map<String, BookView> booksByIsbn = new LinkedHashMap<>();
+        List<BookDocument> documents = new ArrayList<>(books.size());
+        for (BookView book : books) {
+            booksByIsbn.put(book.isbn(), book);
+            documents.add(toDocument(book));
+        }
+
+        List<BookView> ordered = new ArrayList<>(books.size());
+        for (String isbn : new PageRanker(indexManager.scorer(), indexManager.analyzer()).rank(searchQuery, documents)) {
+            ordered.add(booksByIsbn.get(isbn));
+        }
+        return ordered;
+    }
+
+    private BookDocument toDocument(BookView book) {
+        return BookDocument.builder()
+                .isbn(book.isbn())
+                .title(book.title())
+                .subtitle(book.subtitle())
+                .authorNames(book.authorNames())
+                .build();
+    }
+
+    /**
+     * 색인이 정한 순서대로 페이지 도서 조회 (도서·저자·카테고리 3회 쿼리)
+     */
+    private List<BookView> loadInOrder(List<String> isbns) {
+        return bookPageLoader.loadInOrder(isbns);
+    }
+}
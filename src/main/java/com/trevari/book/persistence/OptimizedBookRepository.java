@@ -3,6 +3,7 @@ package com.trevari.book.persistence;
 import com.trevari.book.domain.Book;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -10,108 +11,131 @@ import org.springframework.data.repository.query.Param;
 /**
  * 성능 최적화된 검색 쿼리 (풀텍스트 전용)
  * 주로 MySQL 풀텍스트 검색 지원용, QueryDSL이 메인
+ * <p>
+ * - 도서 제목·부제목과 저자명을 한 행으로 비정규화한 book_search_doc의 FULLTEXT 인덱스 하나로 검색
+ *   (book·book_author·author 조인과 MATCH 분기별 UNION 없이 단일 테이블 MATCH, 도서당 한 행이라 DISTINCT도 없음)
+ * - 관련도 내림차순, 같은 점수는 ISBN 순으로 정렬한 페이지 ISBN만 반환하고 도서는 BookPageLoader로 로딩
+ * - 불리언 모드로 검색하므로 키워드 파라미터는 FullTextTerms.requireAll로 변환한 검색식(모든 단어 필수)을 넘김
+ * <p>
+ * 같은 검색 조건을 세 가지 형태로 제공
+ * - Page: 결과 + COUNT (기존 방식)
+ * - Slice: 결과만 (size + 1건 조회로 다음 페이지 여부 판단, COUNT 없음)
+ * - 상한 count: 최대 :limit건까지만 세는 COUNT (결과가 매우 많으면 상한에서 멈춤)
  */
 public interface OptimizedBookRepository extends JpaRepository<Book, String> {
 
+    /**
+     * 단순 검색 매칭 조건 (FROM ~ WHERE 절)
+     */
+    String FULL_TEXT_MATCH = """
+            FROM book_search_doc d
+            WHERE MATCH(d.title, d.subtitle, d.authors) AGAINST(:keyword IN BOOLEAN MODE)
+            """;
+
+    /**
+     * 단순 검색 본문 쿼리 (관련도 내림차순)
+     */
+    String FULL_TEXT_QUERY = "SELECT d.isbn " + FULL_TEXT_MATCH + """
+            ORDER BY MATCH(d.title, d.subtitle, d.authors) AGAINST(:keyword IN BOOLEAN MODE) DESC, d.isbn
+            """;
+
+    /**
+     * OR 검색 매칭 조건 (FROM ~ WHERE 절)
+     * 두 키워드 검색식을 각각 괄호로 묶은 선택 그룹으로 이어 붙여 MATCH 하나로 처리
+     * (어느 한 키워드의 단어가 모두 있으면 매칭되고, 두 키워드가 모두 있는 도서는 점수가 합산되어 위로 올라감)
+     */
+    String OR_FULL_TEXT_MATCH = """
+            FROM book_search_doc d
+            WHERE MATCH(d.title, d.subtitle, d.authors) AGAINST(CONCAT('(', :keyword1, ') (', :keyword2, ')') IN BOOLEAN MODE)
+            """;
+
+    /**
+     * OR 검색 본문 쿼리 (관련도 내림차순)
+     */
+    String OR_FULL_TEXT_QUERY = "SELECT d.isbn " + OR_FULL_TEXT_MATCH + """
+            ORDER BY MATCH(d.title, d.subtitle, d.authors) AGAINST(CONCAT('(', :keyword1, ') (', :keyword2, ')') IN BOOLEAN MODE) DESC, d.isbn
+            """;
+
+    /**
+     * NOT 검색 매칭 조건 (FROM ~ WHERE 절)
+     */
+    String NOT_FULL_TEXT_MATCH = """
+            FROM book_search_doc d
+            WHERE MATCH(d.title, d.subtitle, d.authors) AGAINST(:includeKeyword IN BOOLEAN MODE)
+              AND NOT MATCH(d.title, d.subtitle, d.authors) AGAINST(:excludeKeyword IN BOOLEAN MODE)
+            """;
+
+    /**
+     * NOT 검색 본문 쿼리 (관련도 내림차순)
+     */
+    String NOT_FULL_TEXT_QUERY = "SELECT d.isbn " + NOT_FULL_TEXT_MATCH + """
+            ORDER BY MATCH(d.title, d.subtitle, d.authors) AGAINST(:includeKeyword IN BOOLEAN MODE) DESC, d.isbn
+            """;
+
     /**
      * MySQL 풀텍스트 검색 사용 (최고 성능)
      * 인덱스가 없으면 실패하므로 fallback 필요
+     *
+     * @return 페이지 도서 ISBN (관련도 순)
      */
-    @Query(value = """
-            (SELECT b.*, MATCH(b.title, b.subtitle) AGAINST(:keyword IN NATURAL LANGUAGE MODE) as relevance_score
-             FROM book b 
-             WHERE MATCH(b.title, b.subtitle) AGAINST(:keyword IN NATURAL LANGUAGE MODE)
-             ORDER BY relevance_score DESC)
-            UNION
-            (SELECT DISTINCT b.*, MATCH(a.name) AGAINST(:keyword IN NATURAL LANGUAGE MODE) as relevance_score
-             FROM book b 
-             JOIN book_author ba ON b.isbn = ba.book_isbn 
-             JOIN author a ON ba.author_id = a.id
-             WHERE MATCH(a.name) AGAINST(:keyword IN NATURAL LANGUAGE MODE)
-             ORDER BY relevance_score DESC)
-            ORDER BY relevance_score DESC
-            """,
-            countQuery = """
-                    SELECT COUNT(DISTINCT b.isbn) FROM book b
-                    LEFT JOIN book_author ba ON b.isbn = ba.book_isbn
-                    LEFT JOIN author a ON ba.author_id = a.id
-                    WHERE MATCH(b.title, b.subtitle) AGAINST(:keyword IN NATURAL LANGUAGE MODE)
-                       OR MATCH(a.name) AGAINST(:keyword IN NATURAL LANGUAGE MODE)
-                    """,
+    @Query(value = FULL_TEXT_QUERY,
+            countQuery = "SELECT COUNT(*) " + FULL_TEXT_MATCH,
             nativeQuery = true)
-    Page<Book> findByFullTextSearch(@Param("keyword") String keyword, Pageable pageable);
+    Page<String> findByFullTextSearch(@Param("keyword") String keyword, Pageable pageable);
+
+    /**
+     * 풀텍스트 검색 (COUNT 없이 다음 페이지 여부만)
+     */
+    @Query(value = FULL_TEXT_QUERY, nativeQuery = true)
+    Slice<String> findSliceByFullTextSearch(@Param("keyword") String keyword, Pageable pageable);
+
+    /**
+     * 풀텍스트 검색 매칭 수 (최대 limit건까지만 셈)
+     */
+    @Query(value = "SELECT COUNT(*) FROM (SELECT d.isbn " + FULL_TEXT_MATCH + " LIMIT :limit) capped",
+            nativeQuery = true)
+    long countByFullTextSearch(@Param("keyword") String keyword, @Param("limit") long limit);
 
     /**
      * OR 검색 풀텍스트 최적화
      */
-    @Query(value = """
-            (SELECT b.*, MATCH(b.title, b.subtitle) AGAINST(:keyword1 IN NATURAL LANGUAGE MODE) as relevance_score
-             FROM book b 
-             WHERE MATCH(b.title, b.subtitle) AGAINST(:keyword1 IN NATURAL LANGUAGE MODE))
-            UNION
-            (SELECT b.*, MATCH(b.title, b.subtitle) AGAINST(:keyword2 IN NATURAL LANGUAGE MODE) as relevance_score
-             FROM book b 
-             WHERE MATCH(b.title, b.subtitle) AGAINST(:keyword2 IN NATURAL LANGUAGE MODE))
-            UNION
-            (SELECT DISTINCT b.*, MATCH(a.name) AGAINST(:keyword1 IN NATURAL LANGUAGE MODE) as relevance_score
-             FROM book b 
-             JOIN book_author ba ON b.isbn = ba.book_isbn 
-             JOIN author a ON ba.author_id = a.id
-             WHERE MATCH(a.name) AGAINST(:keyword1 IN NATURAL LANGUAGE MODE))
-            UNION
-            (SELECT DISTINCT b.*, MATCH(a.name) AGAINST(:keyword2 IN NATURAL LANGUAGE MODE) as relevance_score
-             FROM book b 
-             JOIN book_author ba ON b.isbn = ba.book_isbn 
-             JOIN author a ON ba.author_id = a.id
-             WHERE MATCH(a.name) AGAINST(:keyword2 IN NATURAL LANGUAGE MODE))
-            ORDER BY relevance_score DESC
-            """,
-            countQuery = """
-                    SELECT COUNT(DISTINCT b.isbn) FROM book b
-                    LEFT JOIN book_author ba ON b.isbn = ba.book_isbn
-                    LEFT JOIN author a ON ba.author_id = a.id
-                    WHERE MATCH(b.title, b.subtitle) AGAINST(:keyword1 IN NATURAL LANGUAGE MODE)
-                       OR MATCH(b.title, b.subtitle) AGAINST(:keyword2 IN NATURAL LANGUAGE MODE)
-                       OR MATCH(a.name) AGAINST(:keyword1 IN NATURAL LANGUAGE MODE)
-                       OR MATCH(a.name) AGAINST(:keyword2 IN NATURAL LANGUAGE MODE)
-                    """,
+    @Query(value = OR_FULL_TEXT_QUERY,
+            countQuery = "SELECT COUNT(*) " + OR_FULL_TEXT_MATCH,
+            nativeQuery = true)
+    Page<String> findByOrFullTextSearch(@Param("keyword1") String keyword1,
+                                        @Param("keyword2") String keyword2,
+                                        Pageable pageable);
+
+    @Query(value = OR_FULL_TEXT_QUERY, nativeQuery = true)
+    Slice<String> findSliceByOrFullTextSearch(@Param("keyword1") String keyword1,
+                                              @Param("keyword2") String keyword2,
+                                              Pageable pageable);
+
+    @Query(value = "SELECT COUNT(*) FROM (SELECT d.isbn " + OR_FULL_TEXT_MATCH + " LIMIT :limit) capped",
             nativeQuery = true)
-    Page<Book> findByOrFullTextSearch(@Param("keyword1") String keyword1,
-                                      @Param("keyword2") String keyword2,
-                                      Pageable pageable);
+    long countByOrFullTextSearch(@Param("keyword1") String keyword1,
+                                 @Param("keyword2") String keyword2,
+                                 @Param("limit") long limit);
 
     /**
      * NOT 검색 풀텍스트 최적화
-     * includeKeyword는 포함하고 excludeKeyword는 제외
+     * includeKeyword는 포함하고 excludeKeyword는 제외 (제목·부제목·저자명 어디에도 없어야 함)
      */
-    @Query(value = """
-            SELECT DISTINCT result.* FROM (
-                (SELECT b.*, MATCH(b.title, b.subtitle) AGAINST(:includeKeyword IN NATURAL LANGUAGE MODE) as relevance_score
-                 FROM book b 
-                 WHERE MATCH(b.title, b.subtitle) AGAINST(:includeKeyword IN NATURAL LANGUAGE MODE)
-                   AND NOT MATCH(b.title, b.subtitle) AGAINST(:excludeKeyword IN NATURAL LANGUAGE MODE))
-                UNION
-                (SELECT DISTINCT b.*, MATCH(a.name) AGAINST(:includeKeyword IN NATURAL LANGUAGE MODE) as relevance_score
-                 FROM book b 
-                 JOIN book_author ba ON b.isbn = ba.book_isbn 
-                 JOIN author a ON ba.author_id = a.id
-                 WHERE MATCH(a.name) AGAINST(:includeKeyword IN NATURAL LANGUAGE MODE)
-                   AND NOT (MATCH(b.title, b.subtitle) AGAINST(:excludeKeyword IN NATURAL LANGUAGE MODE)
-                            OR MATCH(a.name) AGAINST(:excludeKeyword IN NATURAL LANGUAGE MODE)))
-            ) result
-            ORDER BY result.relevance_score DESC
-            """,
-            countQuery = """
-                    SELECT COUNT(DISTINCT b.isbn) FROM book b
-                    LEFT JOIN book_author ba ON b.isbn = ba.book_isbn
-                    LEFT JOIN author a ON ba.author_id = a.id
-                    WHERE (MATCH(b.title, b.subtitle) AGAINST(:includeKeyword IN NATURAL LANGUAGE MODE)
-                           OR MATCH(a.name) AGAINST(:includeKeyword IN NATURAL LANGUAGE MODE))
-                      AND NOT (MATCH(b.title, b.subtitle) AGAINST(:excludeKeyword IN NATURAL LANGUAGE MODE)
-                               OR MATCH(a.name) AGAINST(:excludeKeyword IN NATURAL LANGUAGE MODE))
-                    """,
+    @Query(value = NOT_FULL_TEXT_QUERY,
+            countQuery = "SELECT COUNT(*) " + NOT_FULL_TEXT_MATCH,
+            nativeQuery = true)
+    Page<String> findByNotFullTextSearch(@Param("includeKeyword") String includeKeyword,
+                                         @Param("excludeKeyword") String excludeKeyword,
+                                         Pageable pageable);
+
+    @Query(value = NOT_FULL_TEXT_QUERY, nativeQuery = true)
+    Slice<String> findSliceByNotFullTextSearch(@Param("includeKeyword") String includeKeyword,
+                                               @Param("excludeKeyword") String excludeKeyword,
+                                               Pageable pageable);
+
+    @Query(value = "SELECT COUNT(*) FROM (SELECT d.isbn " + NOT_FULL_TEXT_MATCH + " LIMIT :limit) capped",
             nativeQuery = true)
-    Page<Book> findByNotFullTextSearch(@Param("includeKeyword") String includeKeyword,
-                                       @Param("excludeKeyword") String excludeKeyword,
-                                       Pageable pageable);
-}
\ No newline at end of file
+    long countByNotFullTextSearch(@Param("includeKeyword") String includeKeyword,
+                                  @Param("excludeKeyword") String excludeKeyword,
+                                  @Param("limit") long limit);
+}
@@ -24,6 +24,9 @@ public interface SearchKeywordJpaRepository extends JpaRepository<SearchKeyword,
     @Query("SELECT s FROM SearchKeyword s ORDER BY s.searchCount DESC LIMIT 10")
     List<SearchKeyword> findTop10ByOrderBySearchCountDesc();
 
+    @Query("SELECT s FROM SearchKeyword s ORDER BY s.searchCount DESC LIMIT 1000")
+    List<SearchKeyword> findTop1000ByOrderBySearchCountDesc();
+
     @Modifying
     @Query("UPDATE SearchKeyword s SET s.searchCount = s.searchCount + 1 WHERE s.keyword = :keyword")
     void incrementSearchCount(@Param("keyword") String keyword);
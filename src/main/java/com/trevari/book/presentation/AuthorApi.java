@@ -0,0 +1,85 @@
+package com.trevari.book.presentation;
+
+import com.trevari.book.dto.response.AuthorListResponse;
+import com.trevari.book.dto.response.BookSearchResponse;
+import com.trevari.global.dto.ApiResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
+
+@Tag(name = "Author API", description = "저자 목록 및 저자별 도서 조회 API")
+public interface AuthorApi {
+
+    @Operation(
+            summary = "저자 목록 조회",
+            description = "이름이 접두어로 시작하는 저자를 이름 순(대소문자 무시)으로 조회합니다. " +
+                    "저자별 도서 수를 포함하며, after 커서로 OFFSET 없이 다음 페이지를 조회합니다. " +
+                    "검색 인덱스가 준비되어 있으면 전체 건수도 함께 반환합니다."
+    )
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "200",
+                    description = "저자 목록 조회 성공",
+                    content = @Content(schema = @Schema(implementation = AuthorListResponse.class))
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "400",
+                    description = "잘못된 요청 - 유효하지 않은 커서 또는 페이지 크기",
+                    content = @Content(schema = @Schema(implementation = ApiResponse.class))
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "429",
+                    description = "요청 한도 초과 - 1분 동안 100회 제한",
+                    content = @Content(schema = @Schema(implementation = ApiResponse.class))
+            )
+    })
+    ResponseEntity<ApiResponse<AuthorListResponse>> getAuthors(
+            @Parameter(description = "저자 이름 접두어 (빈 값이면 전체 저자)", example = "jo")
+            @RequestParam(defaultValue = "") String prefix,
+            @Parameter(description = "키셋 페이지네이션 커서 - 직전 응답의 nextCursor (빈 값이면 첫 페이지)", example = "")
+            @RequestParam(defaultValue = "") String after,
+            @Parameter(description = "페이지 크기", example = "20")
+            @RequestParam(defaultValue = "20") int size);
+
+    @Operation(
+            summary = "저자별 도서 조회",
+            description = "특정 저자의 도서를 (제목, ISBN) 순으로 조회합니다. " +
+                    "검색 인덱스 재생성 시 미리 만든 저자별 도서 목록에서 커서 위치부터 잘라 반환하므로 " +
+                    "저자-도서 조인 없이 응답합니다."
+    )
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "200",
+                    description = "저자별 도서 조회 성공 - 도서 목록과 cursorInfo 포함",
+                    content = @Content(schema = @Schema(implementation = BookSearchResponse.class))
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "400",
+                    description = "잘못된 요청 - 유효하지 않은 커서 또는 페이지 크기",
+                    content = @Content(schema = @Schema(implementation = ApiResponse.class))
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "404",
+                    description = "저자를 찾을 수 없음",
+                    content = @Content(schema = @Schema(implementation = ApiResponse.class))
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "429",
+                    description = "요청 한도 초과 - 1분 동안 100회 제한",
+                    content = @Content(schema = @Schema(implementation = ApiResponse.class))
+            )
+    })
+    ResponseEntity<ApiResponse<BookSearchResponse>> getBooksByAuthor(
+            @Parameter(description = "저자 ID", required = true, example = "1")
+            @PathVariable Long id,
+            @Parameter(description = "키셋 페이지네이션 커서 - 직전 응답의 nextCursor (빈 값이면 첫 페이지)", example = "")
+            @RequestParam(defaultValue = "") String after,
+            @Parameter(description = "페이지 크기", example = "20")
+            @RequestParam(defaultValue = "20") int size);
+}
@@ -0,0 +1,55 @@
+package com.trevari.book.presentation;
+
+import com.trevari.book.application.AuthorService;
+import com.trevari.book.dto.response.AuthorListResponse;
+import com.trevari.book.dto.response.BookSearchResponse;
+import com.trevari.global.dto.ApiResponse;
+import com.trevari.global.ratelimit.RateLimit;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 저자 관련 API를 제공하는 컨트롤러
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/authors")
+@RequiredArgsConstructor
+public class AuthorController implements AuthorApi {
+
+    private final AuthorService authorService;
+
+    @Override
+    @GetMapping
+    @RateLimit(limit = 100, window = 1)
+    public ResponseEntity<ApiResponse<AuthorListResponse>> getAuthors(
+            @RequestParam(defaultValue = "") String prefix,
+            @RequestParam(defaultValue = "") String after,
+            @RequestParam(defaultValue = "20") int size) {
+        log.info("Request to get authors - prefix: {}, after: {}, size: {}", prefix, after, size);
+
+        AuthorListResponse response = authorService.getAuthors(prefix, after, size);
+
+        return ApiResponse.ok(response, "Authors retrieved successfully");
+    }
+
+    @Override
+    @GetMapping("/{id}/books")
+    @RateLimit(limit = 100, window = 1)
+    public ResponseEntity<ApiResponse<BookSearchResponse>> getBooksByAuthor(
+            @PathVariable Long id,
+            @RequestParam(defaultValue = "") String after,
+            @RequestParam(defaultValue = "20") int size) {
+        log.info("Request to get books by author - id: {}, after: {}, size: {}", id, after, size);
+
+        BookSearchResponse response = authorService.getBooksByAuthor(id, after, size);
+
+        return ApiResponse.ok(response, "Books for author retrieved successfully");
+    }
+}
@@ -2,6 +2,7 @@ package com.trevari.book.presentation;
 
 import com.trevari.book.dto.response.BookSearchResponse;
 import com.trevari.book.dto.response.DetailedBookResponse;
+import com.trevari.book.dto.response.RelatedBooksResponse;
 import com.trevari.global.dto.ApiResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -9,10 +10,13 @@ import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestParam;
 
+import java.time.LocalDate;
+
 @Tag(name = "Book API", description = "도서 조회 및 검색 API")
 public interface BookApi {
 
@@ -20,7 +24,8 @@ public interface BookApi {
             summary = "도서 상세 조회",
             description = "ISBN으로 특정 도서의 상세 정보를 조회합니다. " +
                     "제목, 부제목, 저자, 출판사, 출간일, 카테고리, 이미지 URL 등 " +
-                    "모든 도서 정보를 포함한 완전한 상세 데이터를 반환합니다."
+                    "모든 도서 정보를 포함한 완전한 상세 데이터를 반환합니다. " +
+                    "하이픈이 섞인 ISBN이나 같은 도서의 ISBN-10으로도 조회할 수 있습니다."
     )
     @ApiResponses(value = {
             @io.swagger.v3.oas.annotations.responses.ApiResponse(
@@ -53,6 +58,72 @@ public interface BookApi {
             @Parameter(description = "도서 ISBN (13자리)", required = true, example = "9789355510082")
             @PathVariable String isbn);
 
+    @Operation(
+            summary = "관련 도서 조회",
+            description = "특정 도서와 관련된 도서를 관련도 순으로 조회합니다. " +
+                    "저자 공유, 카테고리 겹침, 제목·부제목·설명의 TF-IDF 유사도를 합산한 관련도로 " +
+                    "검색 인덱스 재생성 시 미리 계산한 목록을 메모리에서 반환하므로 DB 조회가 없습니다. " +
+                    "검색 인덱스가 아직 준비되지 않았으면 빈 목록을 반환합니다."
+    )
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "200",
+                    description = "관련 도서 조회 성공",
+                    content = @Content(schema = @Schema(implementation = RelatedBooksResponse.class))
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "400",
+                    description = "잘못된 ISBN 형식 - 빈 값",
+                    content = @Content(schema = @Schema(implementation = ApiResponse.class))
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "404",
+                    description = "도서를 찾을 수 없음 - 검색 인덱스에 해당 ISBN의 도서가 없음",
+                    content = @Content(schema = @Schema(implementation = ApiResponse.class))
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "429",
+                    description = "요청 한도 초과 - 1분 동안 100회 제한",
+                    content = @Content(schema = @Schema(implementation = ApiResponse.class))
+            )
+    })
+    ResponseEntity<ApiResponse<RelatedBooksResponse>> getRelatedBooks(
+            @Parameter(description = "도서 ISBN (13자리)", required = true, example = "9789355510082")
+            @PathVariable String isbn,
+            @Parameter(description = "최대 도서 수 (1-20)", example = "10")
+            @RequestParam(defaultValue = "10") int limit);
+
+
+    @Operation(
+            summary = "ISBN 접두어로 도서 조회",
+            description = "ISBN이 접두어로 시작하는 도서를 ISBN 순으로 조회합니다 (출판사 접두어별 목록 등). " +
+                    "하이픈은 무시하며, 978·979로 시작하지 않는 접두어는 ISBN-10 접두어로 보고 978을 붙여 찾습니다. " +
+                    "ISBN-10으로 저장된 도서도 ISBN-13으로 정규화해 함께 조회합니다."
+    )
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "200",
+                    description = "ISBN 접두어 조회 성공 - 도서 목록과 페이지 정보 포함",
+                    content = @Content(schema = @Schema(implementation = BookSearchResponse.class))
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "400",
+                    description = "잘못된 접두어 - 빈 값 또는 숫자가 아닌 값",
+                    content = @Content(schema = @Schema(implementation = ApiResponse.class))
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "429",
+                    description = "요청 한도 초과 - 1분 동안 100회 제한",
+                    content = @Content(schema = @Schema(implementation = ApiResponse.class))
+            )
+    })
+    ResponseEntity<ApiResponse<BookSearchResponse>> getBooksByIsbnPrefix(
+            @Parameter(description = "ISBN 접두어 (하이픈 허용)", required = true, example = "978-89-6626")
+            @RequestParam String prefix,
+            @Parameter(description = "페이지 번호 (1부터 시작)", example = "1")
+            @RequestParam(defaultValue = "1") int page,
+            @Parameter(description = "페이지 크기", example = "20")
+            @RequestParam(defaultValue = "20") int size);
 
     @Operation(
             summary = "전체 도서 목록 조회",
@@ -75,7 +146,9 @@ public interface BookApi {
             @Parameter(description = "페이지 번호 (1부터 시작)", example = "1")
             @RequestParam(defaultValue = "1") int page,
             @Parameter(description = "페이지 크기", example = "20")
-            @RequestParam(defaultValue = "20") int size);
+            @RequestParam(defaultValue = "20") int size,
+            @Parameter(description = "키셋 페이지네이션 커서 - 지정하면 page 대신 (제목, ISBN) 순으로 커서 다음부터 조회 (빈 값이면 첫 페이지)", example = "")
+            @RequestParam(required = false) String after);
 
     @Operation(
             summary = "카테고리별 도서 조회",
@@ -105,5 +178,20 @@ public interface BookApi {
             @Parameter(description = "페이지 번호 (1부터 시작)", example = "1")
             @RequestParam(defaultValue = "1") int page,
             @Parameter(description = "페이지 크기 (1-100)", example = "20")
-            @RequestParam(defaultValue = "20") int size);
+            @RequestParam(defaultValue = "20") int size,
+            @Parameter(description = "키셋 페이지네이션 커서 - 지정하면 page 대신 (제목, ISBN) 순으로 커서 다음부터 조회 (빈 값이면 첫 페이지)", example = "")
+            @RequestParam(required = false) String after,
+            @Parameter(description = "최소 가격 (포함)", example = "10000")
+            @RequestParam(required = false) Integer minPrice,
+            @Parameter(description = "최대 가격 (포함)", example = "30000")
+            @RequestParam(required = false) Integer maxPrice,
+            @Parameter(description = "통화 코드 - 가격 범위는 통화를 환산하지 않으므로 함께 지정 권장", example = "KRW")
+            @RequestParam(required = false) String currency,
+            @Parameter(description = "출판일 시작 (포함, yyyy-MM-dd)", example = "2020-01-01")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate publishedFrom,
+            @Parameter(description = "출판일 끝 (포함, yyyy-MM-dd)", example = "2024-12-31")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate publishedTo,
+            @Parameter(description = "정렬 기준 (relevance·title=제목 순, price_asc, price_desc, newest, oldest, pages_asc, pages_desc, popular) - " +
+                    "키셋(after) 조회에는 지정할 수 없음", example = "newest")
+            @RequestParam(required = false) String sort);
 }
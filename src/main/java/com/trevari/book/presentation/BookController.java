@@ -1,8 +1,12 @@
 package com.trevari.book.presentation;
 
 import com.trevari.book.application.BookService;
+import com.trevari.book.application.RelatedBookService;
+import com.trevari.book.domain.search.RangeFilter;
+import com.trevari.book.domain.search.SortOrder;
 import com.trevari.book.dto.response.BookSearchResponse;
 import com.trevari.book.dto.response.DetailedBookResponse;
+import com.trevari.book.dto.response.RelatedBooksResponse;
 import com.trevari.book.exception.BookException;
 import com.trevari.book.exception.BookExceptionCode;
 import com.trevari.global.dto.ApiResponse;
@@ -12,9 +16,12 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
+
 /**
  * 도서 관련 API를 제공하는 컨트롤러
  */
@@ -25,6 +32,7 @@ import org.springframework.web.bind.annotation.*;
 public class BookController implements BookApi {
 
     private final BookService bookService;
+    private final RelatedBookService relatedBookService;
 
     /**
      * ISBN으로 도서 상세 조회 (완전한 상세 정보 제공)
@@ -47,12 +55,61 @@ public class BookController implements BookApi {
         return ApiResponse.ok(detailedBook, "Book retrieved successfully");
     }
 
+    /**
+     * 관련 도서 조회 (색인 시 미리 계산한 목록을 메모리에서 반환)
+     *
+     * @param isbn  기준 도서 ISBN
+     * @param limit 최대 도서 수 (1~20)
+     * @return 관련도 내림차순 관련 도서 목록
+     */
+    @Override
+    @GetMapping("/{isbn}/related")
+    @RateLimit(limit = 100, window = 1)
+    public ResponseEntity<ApiResponse<RelatedBooksResponse>> getRelatedBooks(
+            @PathVariable String isbn,
+            @RequestParam(defaultValue = "10") int limit) {
+
+        if (StringUtils.isBlank(isbn)) {
+            throw new BookException(BookExceptionCode.INVALID_SEARCH_KEYWORD);
+        }
+        log.info("Request to get related books - ISBN: {}, limit: {}", isbn, limit);
+
+        RelatedBooksResponse response = relatedBookService.getRelatedBooks(isbn, limit);
+
+        return ApiResponse.ok(response, "Related books retrieved successfully");
+    }
+
+    @Override
+    @GetMapping("/isbn")
+    @RateLimit(limit = 100, window = 1)
+    public ResponseEntity<ApiResponse<BookSearchResponse>> getBooksByIsbnPrefix(
+            @RequestParam String prefix,
+            @RequestParam(defaultValue = "1") int page,
+            @RequestParam(defaultValue = "20") int size) {
+
+        if (StringUtils.isBlank(prefix)) {
+            throw new BookException(BookExceptionCode.INVALID_SEARCH_KEYWORD);
+        }
+        log.info("Request to get books by ISBN prefix - prefix: {}, page: {}, size: {}", prefix, page, size);
+
+        BookSearchResponse response = bookService.getBooksByIsbnPrefix(prefix, PageRequest.of(page - 1, size));
+
+        return ApiResponse.ok(response, String.format("Books for ISBN prefix '%s' retrieved successfully", prefix));
+    }
+
     @Override
     @GetMapping("/all")
     @RateLimit(limit = 100, window = 1)
     public ResponseEntity<ApiResponse<BookSearchResponse>> getAllBooks(
             @RequestParam(defaultValue = "1") int page,
-            @RequestParam(defaultValue = "20") int size) {
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) String after) {
+
+        // after 커서가 있으면 (빈 값 포함) OFFSET 없는 키셋 페이지네이션
+        if (after != null) {
+            log.info("Request to get all books - after: {}, size: {}", after, size);
+            return ApiResponse.ok(bookService.getAllBooksAfter(after, size), "All books retrieved successfully");
+        }
 
         log.info("Request to get all books - page: {}, size: {}", page, size);
 
@@ -70,17 +127,36 @@ public class BookController implements BookApi {
     public ResponseEntity<ApiResponse<BookSearchResponse>> getBooksByCategory(
             @PathVariable String categoryName,
             @RequestParam(defaultValue = "1") int page,
-            @RequestParam(defaultValue = "20") int size) {
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) String after,
+            @RequestParam(required = false) Integer minPrice,
+            @RequestParam(required = false) Integer maxPrice,
+            @RequestParam(required = false) String currency,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate publishedFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate publishedTo,
+            @RequestParam(required = false) String sort) {
 
         if (StringUtils.isBlank(categoryName)) {
             throw new BookException(BookExceptionCode.INVALID_SEARCH_KEYWORD);
         }
+        RangeFilter filter = new RangeFilter(minPrice, maxPrice, currency, publishedFrom, publishedTo);
+        SortOrder sortOrder = SortOrder.fromParam(sort);
+
+        if (after != null) {
+            if (sortOrder != SortOrder.RELEVANCE) {
+                throw new IllegalArgumentException("Sort is not supported with cursor pagination");
+            }
+            log.info("Request to get books by category - category: {}, after: {}, size: {}", categoryName, after, size);
+            BookSearchResponse response = bookService.getBooksByCategoryAfter(categoryName, filter, after, size);
+            return ApiResponse.ok(response, String.format("Books for category '%s' retrieved successfully", categoryName));
+        }
 
-        log.info("Request to get books by category - category: {}, page: {}, size: {}", categoryName, page, size);
+        log.info("Request to get books by category - category: {}, page: {}, size: {}, sort: {}",
+                categoryName, page, size, sortOrder.paramName());
 
         // 페이지 번호를 0 기반으로 변환
-        Pageable pageable = PageRequest.of(page - 1, size);
-        BookSearchResponse response = bookService.getBooksByCategory(categoryName, pageable);
+        Pageable pageable = PageRequest.of(page - 1, size, sortOrder.toSort());
+        BookSearchResponse response = bookService.getBooksByCategory(categoryName, filter, pageable);
 
         return ApiResponse.ok(response, String.format("Books for category '%s' retrieved successfully", categoryName));
     }
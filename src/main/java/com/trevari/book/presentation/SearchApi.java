@@ -2,6 +2,8 @@ package com.trevari.book.presentation;
 
 import com.trevari.book.dto.response.BookSearchResponse;
 import com.trevari.book.dto.response.PopularSearchResponse;
+import com.trevari.book.dto.response.SimilarBooksResponse;
+import com.trevari.book.dto.response.SuggestResponse;
 import com.trevari.global.dto.ApiResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -9,6 +11,8 @@ import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import java.time.LocalDate;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RequestParam;
 
@@ -17,8 +21,8 @@ public interface SearchApi {
     
     @Operation(
         summary = "도서 검색", 
-        description = "키워드로 도서를 검색합니다. OR(|) 연산자와 NOT(-) 연산자를 지원하며, " +
-                     "제목, 부제목, 저자 필드를 대상으로 검색합니다. 최대 2개의 키워드를 지원합니다."
+        description = "키워드로 도서를 검색합니다. OR(|, OR), NOT(-, NOT), AND 연산자와 괄호, 큰따옴표 구문 검색을 지원하며, " +
+                     "제목, 부제목, 저자 필드를 대상으로 검색합니다. 최대 10개의 키워드를 지원합니다."
     )
     @ApiResponses(value = {
         @io.swagger.v3.oas.annotations.responses.ApiResponse(
@@ -39,7 +43,8 @@ public interface SearchApi {
     })
     ResponseEntity<ApiResponse<BookSearchResponse>> searchBooks(
         @Parameter(
-            description = "검색 키워드. OR 연산: 'Java|Spring', NOT 연산: 'Java -Spring'", 
+            description = "검색 키워드. OR 연산: 'Java|Spring', NOT 연산: 'Java -Spring', " +
+                          "조합: '(Java | Kotlin) AND \"in action\" -Android'", 
             required = true, 
             example = "Spring Boot"
         )
@@ -49,7 +54,49 @@ public interface SearchApi {
         @RequestParam(defaultValue = "1") int page,
         
         @Parameter(description = "페이지 크기 (1-100)", example = "20")
-        @RequestParam(defaultValue = "20") int size
+        @RequestParam(defaultValue = "20") int size,
+        
+        @Parameter(description = "오타 허용 검색 여부 (편집 거리 1~2 이내 단어까지 매칭, 결과가 없으면 자동 적용)", example = "false")
+        @RequestParam(defaultValue = "false") boolean fuzzy,
+        
+        @Parameter(description = "키셋 페이지네이션 커서. 지정하면 page 대신 직전 응답 cursorInfo.nextCursor 다음부터 조회 " +
+                                 "(빈 값이면 첫 페이지, 응답에는 pageInfo 대신 cursorInfo 포함)", example = "")
+        @RequestParam(required = false) String after,
+        
+        @Parameter(description = "전체 건수 계산 여부. false면 pageInfo에 전체 건수 없이 hasNext만 제공 (countType=NONE). " +
+                                 "true여도 결과가 매우 많으면 상한까지만 센 근사치를 제공 (countType=APPROXIMATE)", example = "true")
+        @RequestParam(defaultValue = "true") boolean count,
+        
+        @Parameter(description = "값별 건수를 함께 응답할 패싯 (쉼표 구분: category, publisher, year, format). " +
+                                 "패싯별 상위 20개 값을 건수 내림차순으로 제공하며, 키셋(after) 조회와 검색 색인 준비 전에는 제공하지 않음",
+                   example = "category,year")
+        @RequestParam(required = false) String facets,
+        
+        @Parameter(description = "최소 가격 (포함)", example = "10000")
+        @RequestParam(required = false) Integer minPrice,
+        
+        @Parameter(description = "최대 가격 (포함)", example = "30000")
+        @RequestParam(required = false) Integer maxPrice,
+        
+        @Parameter(description = "통화 코드 - 가격 범위는 통화를 환산하지 않으므로 함께 지정 권장", example = "KRW")
+        @RequestParam(required = false) String currency,
+        
+        @Parameter(description = "출판일 시작 (포함, yyyy-MM-dd)", example = "2020-01-01")
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate publishedFrom,
+        
+        @Parameter(description = "출판일 끝 (포함, yyyy-MM-dd)", example = "2024-12-31")
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate publishedTo,
+        
+        @Parameter(description = "정렬 기준 (relevance, title, price_asc, price_desc, newest, oldest, pages_asc, pages_desc, popular). " +
+                                 "값이 없는 도서는 맨 뒤, 같으면 제목 순. 키셋(after) 조회에는 지정할 수 없고, " +
+                                 "검색 색인 준비 전에는 기본 순서로 응답",
+                   example = "relevance")
+        @RequestParam(required = false) String sort,
+        
+        @Parameter(description = "하이라이트 스니펫 응답 여부. true면 도서마다 전체 설명 대신 highlight(제목·부제목·설명 조각)를 제공하며, " +
+                                 "일치 부분은 <em>으로 감싸고 나머지는 HTML 이스케이프 (검색 색인 준비 전에는 제공하지 않고 설명을 그대로 응답)",
+                   example = "false")
+        @RequestParam(defaultValue = "false") boolean highlight
     );
     
     @Operation(
@@ -70,4 +117,61 @@ public interface SearchApi {
         )
     })
     ResponseEntity<ApiResponse<PopularSearchResponse>> getPopularKeywords();
+    
+    @Operation(
+        summary = "검색어 자동완성", 
+        description = "입력 중인 접두어로 시작하는 도서 제목, 저자명, 인기 검색어를 인기도 순으로 반환합니다. " +
+                     "제목·저자명은 중간 단어로도 일치하며, 메모리 구조에서만 응답하므로 키 입력마다 호출할 수 있습니다."
+    )
+    @ApiResponses(value = {
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "200",
+            description = "자동완성 성공 - 접두어가 비어 있으면 빈 목록",
+            content = @Content(schema = @Schema(implementation = SuggestResponse.class))
+        ),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "429",
+            description = "요청 한도 초과 - 10초 동안 60회 제한",
+            content = @Content(schema = @Schema(implementation = ApiResponse.class))
+        )
+    })
+    ResponseEntity<ApiResponse<SuggestResponse>> suggest(
+        @Parameter(description = "입력 중인 검색어 접두어", example = "jav")
+        @RequestParam(defaultValue = "") String prefix,
+        
+        @Parameter(description = "최대 후보 수 (1-20)", example = "10")
+        @RequestParam(defaultValue = "10") int limit
+    );
+    
+    @Operation(
+        summary = "유사 도서 검색", 
+        description = "자유 텍스트와 주제가 비슷한 도서를 유사도 순으로 반환합니다. " +
+                     "도서의 제목·부제목·저자명·설명을 TF-IDF 벡터로 만들어 랜덤 프로젝션으로 줄인 뒤 " +
+                     "HNSW 근사 최근접 이웃 그래프에서 찾으므로 키워드가 정확히 일치하지 않아도 결과가 나오며, DB 조회가 없습니다. " +
+                     "벡터 색인이 준비되기 전이거나 질의에 색인된 단어가 하나도 없으면 빈 목록을 반환합니다."
+    )
+    @ApiResponses(value = {
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "200",
+            description = "유사 도서 검색 성공",
+            content = @Content(schema = @Schema(implementation = SimilarBooksResponse.class))
+        ),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "400",
+            description = "잘못된 질의 - 빈 값",
+            content = @Content(schema = @Schema(implementation = ApiResponse.class))
+        ),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "429",
+            description = "요청 한도 초과 - 10초 동안 30회 제한",
+            content = @Content(schema = @Schema(implementation = ApiResponse.class))
+        )
+    })
+    ResponseEntity<ApiResponse<SimilarBooksResponse>> findSimilarBooks(
+        @Parameter(description = "질의 텍스트 (자연어 문장 가능)", required = true, example = "java concurrency")
+        @RequestParam String q,
+        
+        @Parameter(description = "최대 도서 수 (1-50)", example = "10")
+        @RequestParam(defaultValue = "10") int limit
+    );
 }
\ No newline at end of file
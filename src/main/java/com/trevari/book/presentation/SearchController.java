@@ -2,9 +2,17 @@ package com.trevari.book.presentation;
 
 import com.trevari.book.application.BookService;
 import com.trevari.book.application.SearchKeywordService;
+import com.trevari.book.application.SimilarBookService;
+import com.trevari.book.application.SuggestionService;
+import com.trevari.book.domain.search.Facet;
+import com.trevari.book.domain.search.RangeFilter;
+import com.trevari.book.domain.search.SortOrder;
 import com.trevari.book.dto.PopularKeywordDto;
+import com.trevari.book.dto.request.BookSearchOptions;
 import com.trevari.book.dto.response.BookSearchResponse;
 import com.trevari.book.dto.response.PopularSearchResponse;
+import com.trevari.book.dto.response.SimilarBooksResponse;
+import com.trevari.book.dto.response.SuggestResponse;
 import com.trevari.book.exception.BookException;
 import com.trevari.book.exception.BookExceptionCode;
 import com.trevari.global.dto.ApiResponse;
@@ -16,11 +24,12 @@ import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import java.time.LocalDate;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -38,6 +47,8 @@ public class SearchController implements SearchApi {
     
     private final BookService bookService;
     private final SearchKeywordService searchKeywordService;
+    private final SuggestionService suggestionService;
+    private final SimilarBookService similarBookService;
     
     @Override
     @GetMapping("/books")
@@ -45,18 +56,52 @@ public class SearchController implements SearchApi {
     public ResponseEntity<ApiResponse<BookSearchResponse>> searchBooks(
         @RequestParam String keyword,
         @RequestParam(defaultValue = "1") int page,
-        @RequestParam(defaultValue = "20") int size) {
+        @RequestParam(defaultValue = "20") int size,
+        @RequestParam(defaultValue = "false") boolean fuzzy,
+        @RequestParam(required = false) String after,
+        @RequestParam(defaultValue = "true") boolean count,
+        @RequestParam(required = false) String facets,
+        @RequestParam(required = false) Integer minPrice,
+        @RequestParam(required = false) Integer maxPrice,
+        @RequestParam(required = false) String currency,
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate publishedFrom,
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate publishedTo,
+        @RequestParam(required = false) String sort,
+        @RequestParam(defaultValue = "false") boolean highlight) {
         
         if (StringUtils.isBlank(keyword)) {
             throw new BookException(BookExceptionCode.INVALID_SEARCH_KEYWORD);
         }
+        RangeFilter filter = new RangeFilter(minPrice, maxPrice, currency, publishedFrom, publishedTo);
+        SortOrder sortOrder = SortOrder.fromParam(sort);
         
-        log.info("Request to search books via /api/search/books - query: {}, page: {}, size: {}", keyword, page, size);
+        // after 커서가 있으면 (빈 값 포함) OFFSET 없는 키셋 페이지네이션
+        if (after != null) {
+            if (sortOrder != SortOrder.RELEVANCE) {
+                throw new IllegalArgumentException("Sort is not supported with cursor pagination");
+            }
+            log.info("Request to search books via /api/search/books - query: {}, after: {}, size: {}, fuzzy: {}, highlight: {}",
+                    keyword, after, size, fuzzy, highlight);
+            BookSearchOptions options = BookSearchOptions.of(keyword, PageRequest.ofSize(size))
+                    .withFuzzy(fuzzy)
+                    .withFilter(filter)
+                    .withHighlight(highlight);
+            return ApiResponse.ok(bookService.searchBooksAfter(options, after),
+                    "Books search completed successfully");
+        }
+        
+        log.info("Request to search books via /api/search/books - query: {}, page: {}, size: {}, fuzzy: {}, count: {}, facets: {}, sort: {}, highlight: {}",
+                keyword, page, size, fuzzy, count, facets, sortOrder.paramName(), highlight);
         
         // 페이지 번호를 0 기반으로 변환 (Spring Data는 0부터 시작)
-        Pageable pageable = PageRequest.of(page - 1, size);
+        BookSearchOptions options = BookSearchOptions.of(keyword, PageRequest.of(page - 1, size, sortOrder.toSort()))
+                .withFuzzy(fuzzy)
+                .withCount(count)
+                .withFacets(Facet.parseAll(facets))
+                .withFilter(filter)
+                .withHighlight(highlight);
         
-        BookSearchResponse response = bookService.searchBooks(keyword, pageable);
+        BookSearchResponse response = bookService.searchBooks(options);
         
         return ApiResponse.ok(response, "Books search completed successfully");
     }
@@ -74,4 +119,36 @@ public class SearchController implements SearchApi {
         
         return ApiResponse.ok(response, "Popular search keywords retrieved successfully");
     }
+    
+    @Override
+    @GetMapping("/suggest")
+    @RateLimit(limit = 60, window = 10, timeUnit = java.util.concurrent.TimeUnit.SECONDS)
+    public ResponseEntity<ApiResponse<SuggestResponse>> suggest(
+        @RequestParam(defaultValue = "") String prefix,
+        @RequestParam(defaultValue = "10") int limit) {
+        
+        // 키 입력마다 호출되므로 debug 레벨로만 기록
+        log.debug("Request to suggest keywords - prefix: {}, limit: {}", prefix, limit);
+        
+        SuggestResponse response = suggestionService.suggest(prefix, limit);
+        
+        return ApiResponse.ok(response, "Suggestions retrieved successfully");
+    }
+    
+    @Override
+    @GetMapping("/similar")
+    @RateLimit(limit = 30, window = 10, timeUnit = java.util.concurrent.TimeUnit.SECONDS)
+    public ResponseEntity<ApiResponse<SimilarBooksResponse>> findSimilarBooks(
+        @RequestParam String q,
+        @RequestParam(defaultValue = "10") int limit) {
+        
+        if (StringUtils.isBlank(q)) {
+            throw new BookException(BookExceptionCode.INVALID_SEARCH_KEYWORD);
+        }
+        log.info("Request to find similar books - query: {}, limit: {}", q, limit);
+        
+        SimilarBooksResponse response = similarBookService.findSimilar(q, limit);
+        
+        return ApiResponse.ok(response, "Similar books retrieved successfully");
+    }
 }
\ No newline at end of file
@@ -0,0 +1,25 @@
+package com.trevari.global.config;
+
+import io.micrometer.core.instrument.config.MeterFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Micrometer 메트릭 설정 클래스
+ */
+@Configuration
+public class MetricsConfig {
+
+    /**
+     * 검색어별 캐시 메트릭의 태그 종류 수 제한
+     * 검색어는 사용자 입력이라 제한이 없으면 메트릭 수가 무한히 늘어나므로, 상한을 넘은 검색어는 기록하지 않음
+     * (전체 적중률은 검색어 태그가 없는 book.search.cache로 계속 집계)
+     */
+    private static final int MAX_TRACKED_SEARCH_QUERIES = 500;
+
+    @Bean
+    public MeterFilter searchCacheQueryTagLimit() {
+        return MeterFilter.maximumAllowableTags(
+                "book.search.cache.query", "query", MAX_TRACKED_SEARCH_QUERIES, MeterFilter.deny());
+    }
+}
@@ -0,0 +1,66 @@
+package com.trevari.global.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+
+/**
+ * 읽기/쓰기 데이터소스 라우팅 설정 (datasource.replica.enabled=true일 때만 적용)
+ * <p>
+ * - 프라이머리 풀(pool=primary)은 spring.datasource.*, 레플리카 풀(pool=replica)은 datasource.replica.*로 만들고
+ *   두 풀을 ReadWriteRoutingDataSource로 묶어 JPA가 쓰는 기본 데이터소스로 등록
+ * - 레플리카 풀 커넥션은 읽기 전용으로 열어 라우팅 실수로 쓰기가 레플리카에 가지 않도록 함
+ * - 레플리카 풀은 첫 지연 확인 때 열리고 커넥션 대기 시간을 짧게 두어, 레플리카 장애가 지연 확인(스케줄러 스레드)을 오래 붙잡지 않도록 함
+ * - 풀별 지표는 HikariCP 풀 이름 태그로 구분되어 hikaricp.connections.*에 따로 집계됨
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "datasource.replica", name = "enabled", havingValue = "true")
+public class DataSourceRoutingConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    public HikariDataSource replicaDataSource(ReplicaDataSourceProperties properties) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName("replica");
+        dataSource.setJdbcUrl(properties.getUrl());
+        dataSource.setUsername(properties.getUsername());
+        dataSource.setPassword(properties.getPassword());
+        dataSource.setDriverClassName(properties.getDriverClassName());
+        dataSource.setMaximumPoolSize(properties.getMaximumPoolSize());
+        dataSource.setConnectionTimeout(properties.getConnectionTimeoutMs());
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(@Qualifier("replicaDataSource") DataSource replicaDataSource,
+                                               ReplicaDataSourceProperties properties, MeterRegistry meterRegistry) {
+        // 첫 확인은 기동 직후의 첫 @Scheduled 실행에 맡겨, 레플리카가 응답하지 않아도 기동이 지연되지 않도록 함
+        return new ReplicaLagMonitor(replicaDataSource, properties.getMaxLagSeconds(), meterRegistry);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primaryDataSource,
+                                 @Qualifier("replicaDataSource") DataSource replicaDataSource,
+                                 ReplicaLagMonitor replicaLagMonitor, MeterRegistry meterRegistry) {
+        return new LazyConnectionDataSourceProxy(
+                new ReadWriteRoutingDataSource(primaryDataSource, replicaDataSource, replicaLagMonitor, meterRegistry));
+    }
+}
@@ -0,0 +1,62 @@
+package com.trevari.global.datasource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * 트랜잭션 종류에 따라 프라이머리/레플리카 커넥션 풀을 고르는 데이터소스
+ * <p>
+ * - readOnly 트랜잭션이고 레플리카 복제 지연이 허용치 이내면 레플리카, 그 외(쓰기, 트랜잭션 없음, 지연 초과)는 프라이머리
+ * - 트랜잭션 시작 시점에는 readOnly 여부가 아직 동기화되지 않으므로 LazyConnectionDataSourceProxy로 감싸
+ *   첫 쿼리 시점에 커넥션을 고르도록 해야 함
+ * - 대상별 커넥션 획득 수를 datasource.routing{target} 카운터로 노출 (풀 자체 지표는 hikaricp.*{pool})
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    enum Target {
+        PRIMARY,
+        REPLICA
+    }
+
+    private final ReplicaLagMonitor lagMonitor;
+    private final Counter primaryRoutes;
+    private final Counter replicaRoutes;
+    private final Counter fallbackRoutes;
+
+    public ReadWriteRoutingDataSource(DataSource primary, DataSource replica, ReplicaLagMonitor lagMonitor,
+                                      MeterRegistry meterRegistry) {
+        this.lagMonitor = lagMonitor;
+        this.primaryRoutes = routeCounter(meterRegistry, "primary");
+        this.replicaRoutes = routeCounter(meterRegistry, "replica");
+        this.fallbackRoutes = routeCounter(meterRegistry, "primary_fallback");
+        setTargetDataSources(Map.of(Target.PRIMARY, primary, Target.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            primaryRoutes.increment();
+            return Target.PRIMARY;
+        }
+        if (!lagMonitor.isAvailable()) {
+            fallbackRoutes.increment();
+            return Target.PRIMARY;
+        }
+        replicaRoutes.increment();
+        return Target.REPLICA;
+    }
+
+    private static Counter routeCounter(MeterRegistry meterRegistry, String target) {
+        return Counter.builder("datasource.routing")
+                .tag("target", target)
+                .description("대상별 커넥션 획득 수 (primary_fallback은 복제 지연으로 프라이머리에서 읽은 경우)")
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,50 @@
+package com.trevari.global.datasource;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 읽기 전용 레플리카 데이터소스 설정 (datasource.replica.*)
+ * 프라이머리는 기존 spring.datasource.* 설정을 그대로 사용
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "datasource.replica")
+public class ReplicaDataSourceProperties {
+
+    /**
+     * 읽기/쓰기 라우팅 사용 여부 (false면 spring.datasource 단일 데이터소스만 사용)
+     */
+    private boolean enabled = false;
+
+    private String url;
+
+    private String username;
+
+    private String password;
+
+    private String driverClassName = "com.mysql.cj.jdbc.Driver";
+
+    /**
+     * 레플리카 커넥션 풀 최대 크기
+     */
+    private int maximumPoolSize = 10;
+
+    /**
+     * 레플리카 커넥션 획득 대기 시간 (밀리초, HikariCP 기본 30초보다 짧게 두어 장애 시 빨리 사용 불가로 판단)
+     */
+    private long connectionTimeoutMs = 3_000L;
+
+    /**
+     * 읽기를 레플리카로 보낼 수 있는 최대 복제 지연 (초, 넘으면 프라이머리로 읽음)
+     */
+    private long maxLagSeconds = 5;
+
+    /**
+     * 복제 지연 확인 주기 (밀리초, ReplicaLagMonitor.check의 실행 간격)
+     */
+    private long lagCheckIntervalMs = 5_000L;
+}
@@ -0,0 +1,91 @@
+package com.trevari.global.datasource;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * 레플리카 복제 지연 감시
+ * <p>
+ * - 주기마다 레플리카에서 SHOW REPLICA STATUS(MySQL 8.0.22 미만은 SHOW SLAVE STATUS)의 지연 초를 읽어
+ *   허용치 이내일 때만 읽기 전용 트랜잭션을 레플리카로 보내도록 허용
+ * - 복제가 멈췄거나(지연 NULL), 복제 설정이 없거나(행 없음), 조회에 실패하면 사용 불가로 보고 읽기도 프라이머리로 보냄
+ * - 기동 후 첫 확인(첫 스케줄 실행) 전까지는 사용 불가 (상태를 모르는 레플리카에서 읽지 않음)
+ * - 지연(datasource.replica.lag)과 사용 가능 여부(datasource.replica.available)를 게이지로 노출
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+
+    private final DataSource replica;
+    private final long maxLagSeconds;
+
+    private volatile boolean available = false;
+    private volatile Long lagSeconds;
+
+    public ReplicaLagMonitor(DataSource replica, long maxLagSeconds, MeterRegistry meterRegistry) {
+        this.replica = replica;
+        this.maxLagSeconds = maxLagSeconds;
+        Gauge.builder("datasource.replica.lag", this, monitor -> monitor.lagSeconds != null ? monitor.lagSeconds : Double.NaN)
+                .baseUnit("seconds")
+                .description("레플리카 복제 지연 (알 수 없으면 NaN)")
+                .register(meterRegistry);
+        Gauge.builder("datasource.replica.available", this, monitor -> monitor.available ? 1 : 0)
+                .description("읽기 전용 트랜잭션을 레플리카로 보내는지 여부")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "#{@replicaDataSourceProperties.lagCheckIntervalMs}")
+    public void check() {
+        update(probe());
+    }
+
+    /**
+     * 확인한 복제 지연 반영
+     *
+     * @param lagSeconds 복제 지연 초 (복제가 멈췄거나 알 수 없으면 null)
+     */
+    public void update(Long lagSeconds) {
+        boolean nowAvailable = lagSeconds != null && lagSeconds <= maxLagSeconds;
+        if (nowAvailable != available) {
+            log.warn("Replica routing {} - lag: {}s, max: {}s",
+                    nowAvailable ? "enabled" : "disabled", lagSeconds, maxLagSeconds);
+        }
+        this.lagSeconds = lagSeconds;
+        this.available = nowAvailable;
+    }
+
+    public boolean isAvailable() {
+        return available;
+    }
+
+    private Long probe() {
+        try (Connection connection = replica.getConnection();
+             Statement statement = connection.createStatement()) {
+            try (ResultSet status = statement.executeQuery("SHOW REPLICA STATUS")) {
+                return lagOf(status, "Seconds_Behind_Source");
+            } catch (SQLException e) {
+                try (ResultSet status = statement.executeQuery("SHOW SLAVE STATUS")) {
+                    return lagOf(status, "Seconds_Behind_Master");
+                }
+            }
+        } catch (SQLException e) {
+            log.warn("Failed to check replica lag: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private static Long lagOf(ResultSet status, String column) throws SQLException {
+        if (!status.next()) {
+            return null;
+        }
+        long lag = status.getLong(column);
+        return status.wasNull() ? null : lag;
+    }
+}
@@ -0,0 +1,17 @@
+package com.trevari.global.dto;
+
+/**
+ * 키셋 페이지네이션 정보 (after 커서로 요청한 경우 PageInfo 대신 제공)
+ *
+ * @param nextCursor    다음 페이지 요청에 after로 넘길 커서 (마지막 페이지면 null)
+ * @param hasNext       다음 페이지 존재 여부
+ * @param pageSize      요청한 페이지 크기
+ * @param totalElements 전체 건수 (계산하지 않는 경로면 null)
+ */
+public record CursorInfo(
+        String nextCursor,
+        boolean hasNext,
+        int pageSize,
+        Long totalElements
+) {
+}
@@ -1,23 +1,73 @@
 package com.trevari.global.dto;
 
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 
+/**
+ * 페이지 정보
+ *
+ * @param currentPage   현재 페이지 (1부터 시작)
+ * @param pageSize      페이지 크기
+ * @param totalPages    전체 페이지 수 (countType이 NONE이면 null)
+ * @param totalElements 전체 건수 (APPROXIMATE면 최소 건수, NONE이면 null)
+ * @param hasNext       다음 페이지 존재 여부
+ * @param countType     전체 건수의 정확도
+ */
 public record PageInfo(
         int currentPage,
         int pageSize,
-        int totalPages,
-        long totalElements
+        Integer totalPages,
+        Long totalElements,
+        boolean hasNext,
+        CountType countType
 ) {
+
+    /**
+     * 전체 건수 정확도
+     * - EXACT: 정확한 건수
+     * - APPROXIMATE: 세기 상한에서 멈춘 근사치 (실제 건수는 totalElements 이상)
+     * - NONE: 건수를 세지 않음 (hasNext로만 다음 페이지 판단)
+     */
+    public enum CountType {
+        EXACT, APPROXIMATE, NONE
+    }
+
     public static PageInfo from(Page<?> page) {
         return new PageInfo(
                 page.getNumber() + 1, // 0-based를 1-based로 변환
                 page.getSize(),
                 page.getTotalPages(),
-                page.getTotalElements()
+                page.getTotalElements(),
+                page.hasNext(),
+                CountType.EXACT
         );
     }
 
     public static PageInfo of(Page<?> page) {
         return from(page);
     }
-}
\ No newline at end of file
+
+    /**
+     * 슬라이스와 별도로 구한 (캐시된) 전체 건수로 페이지 정보 생성
+     *
+     * @param approximate 건수가 세기 상한에서 멈춘 근사치인지 여부
+     */
+    public static PageInfo of(Slice<?> slice, long totalElements, boolean approximate) {
+        int totalPages = slice.getSize() == 0 ? 1 : (int) Math.ceil((double) totalElements / slice.getSize());
+        return new PageInfo(
+                slice.getNumber() + 1,
+                slice.getSize(),
+                totalPages,
+                totalElements,
+                slice.hasNext(),
+                approximate ? CountType.APPROXIMATE : CountType.EXACT
+        );
+    }
+
+    /**
+     * 전체 건수 없이 다음 페이지 여부만 담은 페이지 정보
+     */
+    public static PageInfo withoutCount(Slice<?> slice) {
+        return new PageInfo(slice.getNumber() + 1, slice.getSize(), null, null, slice.hasNext(), CountType.NONE);
+    }
+}
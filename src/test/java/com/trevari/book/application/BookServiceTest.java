@@ -2,6 +2,7 @@ package com.trevari.book.application;
 
 import com.trevari.book.domain.Book;
 import com.trevari.book.domain.BookRepository;
+import com.trevari.book.domain.BookView;
 import com.trevari.book.domain.PublicationInfo;
 import com.trevari.book.exception.BookException;
 import com.trevari.book.exception.BookExceptionCode;
@@ -15,11 +16,11 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.LocalDate;
 import java.util.List;
-import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
@@ -38,11 +39,11 @@ class BookServiceTest {
     @InjectMocks
     private BookService bookService;
 
-    private Book sampleBook;
+    private BookView sampleBook;
 
     @BeforeEach
     void setUp() {
-        sampleBook = Book.builder()
+        sampleBook = BookView.from(Book.builder()
                 .isbn("9781617297397")
                 .title("Java in Action")
                 .subtitle("Lambdas, streams, functional and reactive programming")
@@ -50,7 +51,7 @@ class BookServiceTest {
                         .publisher("Manning Publications")
                         .publishedDate(LocalDate.of(2020, 1, 1))
                         .build())
-                .build();
+                .build());
     }
 
     @Test
@@ -61,20 +62,35 @@ class BookServiceTest {
         given(bookCacheService.getCachedBookByIsbn(isbn)).willReturn(sampleBook);
 
         // when
-        Book result = bookService.getBookByIsbn(isbn);
+        BookView result = bookService.getBookByIsbn(isbn);
 
         // then
         assertThat(result).isNotNull();
-        assertThat(result.getIsbn()).isEqualTo(isbn);
-        assertThat(result.getTitle()).isEqualTo("Java in Action");
-        assertThat(result.getSubtitle()).isEqualTo("Lambdas, streams, functional and reactive programming");
-        assertThat(result.getPublicationInfo().getAuthors()).isEmpty(); // Authors moved to BookAuthor entity
-        assertThat(result.getPublicationInfo().getPublisher()).isEqualTo("Manning Publications");
-        assertThat(result.getPublicationInfo().getPublishedDate()).isEqualTo(LocalDate.of(2020, 1, 1));
+        assertThat(result.isbn()).isEqualTo(isbn);
+        assertThat(result.title()).isEqualTo("Java in Action");
+        assertThat(result.subtitle()).isEqualTo("Lambdas, streams, functional and reactive programming");
+        assertThat(result.authors()).isEmpty();
+        assertThat(result.publisher()).isEqualTo("Manning Publications");
+        assertThat(result.publishedDate()).isEqualTo(LocalDate.of(2020, 1, 1));
 
         verify(bookCacheService).getCachedBookByIsbn(isbn);
     }
 
+    @Test
+    @DisplayName("하이픈이 섞인 ISBN도 캐시 적중이면 저장된 ISBN 해석(DB 조회) 없이 반환")
+    void getBookByIsbn_HyphenatedIsbn() {
+        // given
+        String scanned = "978-1-61729-739-7";
+        given(bookCacheService.getCachedBookByIsbn(scanned)).willReturn(sampleBook);
+
+        // when
+        BookView result = bookService.getBookByIsbn(scanned);
+
+        // then
+        assertThat(result.isbn()).isEqualTo("9781617297397");
+        verify(bookRepository, never()).resolveIsbn(scanned);
+    }
+
     @Test
     @DisplayName("존재하지 않는 ISBN으로 조회시 BookException 발생")
     void getBookByIsbn_BookNotFound() {
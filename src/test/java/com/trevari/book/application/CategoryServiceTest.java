@@ -1,9 +1,11 @@
 package com.trevari.book.application;
 
 import com.trevari.book.domain.Category;
+import com.trevari.book.domain.CategoryStats;
 import com.trevari.book.dto.response.CategoryResponse;
 import com.trevari.book.dto.response.PopularCategoryResponse;
 import com.trevari.book.persistence.CategoryJpaRepository;
+import com.trevari.book.persistence.CategoryStatsJpaRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -11,6 +13,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
 
 import java.util.Arrays;
 import java.util.List;
@@ -28,11 +31,14 @@ class CategoryServiceTest {
     @Mock
     private CategoryJpaRepository categoryRepository;
 
+    @Mock
+    private CategoryStatsJpaRepository categoryStatsRepository;
+
     @InjectMocks
     private CategoryService categoryService;
 
     private List<Category> testCategories;
-    private List<Object[]> testPopularCategories;
+    private List<CategoryStats> testPopularCategories;
 
     @BeforeEach
     void setUp() {
@@ -43,11 +49,11 @@ class CategoryServiceTest {
                 Category.builder().id(3L).name("Science").build()
         );
 
-        // 인기 카테고리 데이터 준비 [id, name, bookCount]
+        // 인기 카테고리 집계 데이터 준비 (도서 수 내림차순)
         testPopularCategories = Arrays.asList(
-                new Object[]{1L, "Programming", 150L},
-                new Object[]{2L, "Technology", 100L},
-                new Object[]{3L, "Science", 50L}
+                CategoryStats.builder().categoryId(1L).name("Programming").bookCount(150L).build(),
+                CategoryStats.builder().categoryId(2L).name("Technology").bookCount(100L).build(),
+                CategoryStats.builder().categoryId(3L).name("Science").bookCount(50L).build()
         );
     }
 
@@ -87,7 +93,8 @@ class CategoryServiceTest {
     @DisplayName("인기 카테고리 조회 테스트")
     void getPopularCategories() {
         // Given
-        given(categoryRepository.findCategoriesWithBookCount()).willReturn(testPopularCategories);
+        given(categoryStatsRepository.findAllByOrderByBookCountDescNameAsc(PageRequest.ofSize(3)))
+                .willReturn(testPopularCategories);
 
         // When
         List<PopularCategoryResponse> result = categoryService.getPopularCategories(3);
@@ -107,14 +114,15 @@ class CategoryServiceTest {
         assertThat(secondCategory.name()).isEqualTo("Technology");
         assertThat(secondCategory.bookCount()).isEqualTo(100L);
 
-        verify(categoryRepository).findCategoriesWithBookCount();
+        verify(categoryStatsRepository).findAllByOrderByBookCountDescNameAsc(PageRequest.ofSize(3));
     }
 
     @Test
-    @DisplayName("인기 카테고리 조회 - 제한된 수 테스트")
+    @DisplayName("인기 카테고리 조회 - 제한된 수를 조회 쿼리에 그대로 전달")
     void getPopularCategories_WithLimit() {
         // Given
-        given(categoryRepository.findCategoriesWithBookCount()).willReturn(testPopularCategories);
+        given(categoryStatsRepository.findAllByOrderByBookCountDescNameAsc(PageRequest.ofSize(2)))
+                .willReturn(testPopularCategories.subList(0, 2));
 
         // When
         List<PopularCategoryResponse> result = categoryService.getPopularCategories(2);
@@ -125,21 +133,22 @@ class CategoryServiceTest {
                 .extracting(PopularCategoryResponse::name)
                 .containsExactly("Programming", "Technology");
 
-        verify(categoryRepository).findCategoriesWithBookCount();
+        verify(categoryStatsRepository).findAllByOrderByBookCountDescNameAsc(PageRequest.ofSize(2));
     }
 
     @Test
     @DisplayName("인기 카테고리 조회 - 빈 결과 테스트")
     void getPopularCategories_EmptyResult() {
         // Given
-        given(categoryRepository.findCategoriesWithBookCount()).willReturn(List.of());
+        given(categoryStatsRepository.findAllByOrderByBookCountDescNameAsc(PageRequest.ofSize(10)))
+                .willReturn(List.of());
 
         // When
         List<PopularCategoryResponse> result = categoryService.getPopularCategories(10);
 
         // Then
         assertThat(result).isEmpty();
-        verify(categoryRepository).findCategoriesWithBookCount();
+        verify(categoryStatsRepository).findAllByOrderByBookCountDescNameAsc(PageRequest.ofSize(10));
     }
 
     @Test
@@ -164,26 +173,14 @@ class CategoryServiceTest {
     }
 
     @Test
-    @DisplayName("인기 카테고리 Number 타입 변환 테스트")
-    void testPopularCategoryNumberConversion() {
-        // Given - 다양한 Number 타입 테스트
-        List<Object[]> mixedNumberTypes = Arrays.asList(
-                new Object[]{1, "Category1", 100}, // Integer
-                new Object[]{2L, "Category2", 200L}, // Long
-                new Object[]{3, "Category3", 300L}  // Mixed
-        );
-        
-        given(categoryRepository.findCategoriesWithBookCount()).willReturn(mixedNumberTypes);
-
-        // When
-        List<PopularCategoryResponse> result = categoryService.getPopularCategories(3);
+    @DisplayName("카테고리 집계 재계산 - 실패해도 예외를 전파하지 않고 기존 집계 유지")
+    void reconcileCategoryStats_FailureIsSwallowed() {
+        // Given
+        willThrow(new RuntimeException("Database error")).given(categoryStatsRepository).reconcile();
 
-        // Then
-        assertThat(result).hasSize(3);
-        assertThat(result.get(0).id()).isEqualTo(1L);
-        assertThat(result.get(0).bookCount()).isEqualTo(100L);
-        assertThat(result.get(1).id()).isEqualTo(2L);
-        assertThat(result.get(1).bookCount()).isEqualTo(200L);
+        // When & Then
+        assertThatCode(() -> categoryService.reconcileCategoryStats()).doesNotThrowAnyException();
+        verify(categoryStatsRepository).reconcile();
     }
 
     @Test
@@ -204,7 +201,7 @@ class CategoryServiceTest {
     @DisplayName("인기 카테고리 Repository 예외 발생 시 처리 테스트")
     void testPopularCategoriesRepositoryException() {
         // Given
-        given(categoryRepository.findCategoriesWithBookCount())
+        given(categoryStatsRepository.findAllByOrderByBookCountDescNameAsc(PageRequest.ofSize(10)))
                 .willThrow(new RuntimeException("Database connection failed"));
 
         // When & Then
@@ -212,34 +209,32 @@ class CategoryServiceTest {
                 .isInstanceOf(RuntimeException.class)
                 .hasMessage("Database connection failed");
 
-        verify(categoryRepository).findCategoriesWithBookCount();
+        verify(categoryStatsRepository).findAllByOrderByBookCountDescNameAsc(PageRequest.ofSize(10));
     }
 
     @Test
     @DisplayName("인기 카테고리 제한 수 0 테스트")
     void testPopularCategoriesWithZeroLimit() {
-        // Given
-        given(categoryRepository.findCategoriesWithBookCount()).willReturn(testPopularCategories);
-
         // When
         List<PopularCategoryResponse> result = categoryService.getPopularCategories(0);
 
         // Then
         assertThat(result).isEmpty();
-        verify(categoryRepository).findCategoriesWithBookCount();
+        verifyNoInteractions(categoryStatsRepository);
     }
 
     @Test
     @DisplayName("인기 카테고리 제한 수가 데이터보다 클 때 테스트")
     void testPopularCategoriesWithLargeLimit() {
         // Given
-        given(categoryRepository.findCategoriesWithBookCount()).willReturn(testPopularCategories);
+        given(categoryStatsRepository.findAllByOrderByBookCountDescNameAsc(PageRequest.ofSize(100)))
+                .willReturn(testPopularCategories);
 
         // When
         List<PopularCategoryResponse> result = categoryService.getPopularCategories(100);
 
         // Then
         assertThat(result).hasSize(3); // 실제 데이터 수만큼만 반환
-        verify(categoryRepository).findCategoriesWithBookCount();
+        verify(categoryStatsRepository).findAllByOrderByBookCountDescNameAsc(PageRequest.ofSize(100));
     }
 }
\ No newline at end of file
@@ -0,0 +1,68 @@
+package com.trevari.book.application;
+
+import com.trevari.book.domain.search.Facet;
+import com.trevari.book.domain.search.RangeFilter;
+import com.trevari.book.domain.search.SortOrder;
+import com.trevari.book.dto.request.BookSearchOptions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("SearchCacheKeys 테스트")
+class SearchCacheKeysTest {
+
+    @Test
+    @DisplayName("기본 옵션 - 검색 캐시 키에는 정규화 표현과 페이지 정보만 포함")
+    void defaultSearchKey() {
+        // given
+        BookSearchOptions options = BookSearchOptions.of("Test", PageRequest.of(0, 10));
+
+        // when & then
+        assertThat(SearchCacheKeys.search(options, "test")).isEqualTo("bookSearch:search:test:page:0:size:10");
+    }
+
+    @Test
+    @DisplayName("옵션 지정 - 결과가 달라지는 옵션은 모두 검색 캐시 키에 반영되고 패싯은 요청 순서와 무관")
+    void searchKeyWithOptions() {
+        // given
+        BookSearchOptions options = BookSearchOptions.of("Java", PageRequest.of(1, 20, SortOrder.NEWEST.toSort()))
+                .withFuzzy(true)
+                .withCount(false)
+                .withFacets(EnumSet.of(Facet.PUBLISHER, Facet.CATEGORY))
+                .withHighlight(true);
+
+        // when & then
+        assertThat(SearchCacheKeys.search(options, "java"))
+                .isEqualTo("bookSearch:search:java:fuzzy:nocount:facets:category,publisher:highlight:sort:newest:page:1:size:20");
+        assertThat(SearchCacheKeys.search(options.withFacets(Set.of(Facet.CATEGORY, Facet.PUBLISHER)), "java"))
+                .isEqualTo(SearchCacheKeys.search(options, "java"));
+    }
+
+    @Test
+    @DisplayName("카테고리 캐시 키 - 검색 키와 같은 정렬·페이지 접미사를 사용하고 필터가 있을 때만 필터 포함")
+    void categoryKey() {
+        // given
+        PageRequest pageable = PageRequest.of(2, 20, SortOrder.PRICE_ASC.toSort());
+        RangeFilter filter = new RangeFilter(null, 30000, "krw", null, null);
+
+        // when & then
+        assertThat(SearchCacheKeys.category("Java", RangeFilter.none(), PageRequest.of(0, 20)))
+                .isEqualTo("bookSearch:category:Java:page:0:size:20");
+        assertThat(SearchCacheKeys.category("Java", filter, pageable))
+                .isEqualTo("bookSearch:category:Java:{" + filter.canonicalForm() + "}:sort:price_asc:page:2:size:20");
+    }
+
+    @Test
+    @DisplayName("도서 상세 캐시 키 - 하이픈·ISBN-10 입력은 정규화 ISBN-13으로, ISBN이 아닌 식별자는 그대로 사용")
+    void bookDetailKey() {
+        // when & then
+        assertThat(SearchCacheKeys.bookDetail("978-1-61729-739-7")).isEqualTo("bookView:9781617297397");
+        assertThat(SearchCacheKeys.bookDetail("1617297399")).isEqualTo("bookView:9781617297397");
+        assertThat(SearchCacheKeys.bookDetail("zyTCAlFPjgYC")).isEqualTo("bookView:zyTCAlFPjgYC");
+    }
+}
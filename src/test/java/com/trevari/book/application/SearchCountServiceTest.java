@@ -0,0 +1,93 @@
+package com.trevari.book.application;
+
+import com.trevari.book.domain.BookRepository;
+import com.trevari.book.domain.search.SearchQuery;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SearchCountService 단위 테스트")
+class SearchCountServiceTest {
+
+    @Mock
+    private BookRepository bookRepository;
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    private SearchCountService searchCountService;
+
+    @BeforeEach
+    void setUp() {
+        SearchCountProperties properties = new SearchCountProperties();
+        properties.setExactLimit(100L);
+        searchCountService = new SearchCountService(bookRepository, stringRedisTemplate, properties);
+        given(stringRedisTemplate.opsForValue()).willReturn(valueOperations);
+    }
+
+    @Test
+    @DisplayName("상한 이하 - 정확한 건수를 세고 정규화 검색어 키로 캐시")
+    void count_Exact() {
+        // given
+        SearchQuery query = SearchQuery.simple("Java");
+        given(bookRepository.countBooks(query, 101L)).willReturn(42L);
+
+        // when
+        SearchCountService.SearchCount count = searchCountService.count(query);
+
+        // then
+        assertThat(count.total()).isEqualTo(42L);
+        assertThat(count.approximate()).isFalse();
+        verify(valueOperations).set(eq("bookSearch:count:java"), eq("42"), any(Duration.class));
+    }
+
+    @Test
+    @DisplayName("상한 초과 - 상한을 최소 건수로 한 근사치")
+    void count_Approximate() {
+        // given
+        SearchQuery query = SearchQuery.simple("java");
+        given(bookRepository.countBooks(query, 101L)).willReturn(101L);
+
+        // when
+        SearchCountService.SearchCount count = searchCountService.count(query);
+
+        // then
+        assertThat(count.total()).isEqualTo(100L);
+        assertThat(count.approximate()).isTrue();
+        verify(valueOperations).set(eq("bookSearch:count:java"), eq("~100"), any(Duration.class));
+    }
+
+    @Test
+    @DisplayName("캐시된 건수가 있으면 COUNT 쿼리를 실행하지 않음")
+    void count_Cached() {
+        // given
+        given(valueOperations.get("bookSearch:count:java:fuzzy")).willReturn("~100");
+
+        // when
+        SearchCountService.SearchCount count = searchCountService.count(SearchQuery.simple("java").withFuzzy(true));
+
+        // then
+        assertThat(count.total()).isEqualTo(100L);
+        assertThat(count.approximate()).isTrue();
+        verify(bookRepository, never()).countBooks(any(), anyLong());
+    }
+}
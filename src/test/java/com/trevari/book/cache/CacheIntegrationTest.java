@@ -3,8 +3,10 @@ package com.trevari.book.cache;
 import com.trevari.book.application.BookService;
 import com.trevari.book.application.SearchKeywordService;
 import com.trevari.book.domain.Book;
+import com.trevari.book.domain.BookView;
 import com.trevari.book.domain.PublicationInfo;
 import com.trevari.book.domain.SearchKeyword;
+import com.trevari.book.dto.request.BookSearchOptions;
 import com.trevari.book.dto.response.BookSearchResponse;
 import com.trevari.book.persistence.BookJpaRepository;
 import com.trevari.book.persistence.SearchKeywordJpaRepository;
@@ -73,19 +75,19 @@ class CacheIntegrationTest {
         String isbn = testBook.getIsbn();
 
         // 첫 번째 호출 - 캐시 미스
-        Book book1 = bookService.getBookByIsbn(isbn);
+        BookView book1 = bookService.getBookByIsbn(isbn);
         assertThat(book1).isNotNull();
-        assertThat(book1.getIsbn()).isEqualTo(isbn);
+        assertThat(book1.isbn()).isEqualTo(isbn);
 
         // Redis 캐시 확인
-        String cacheKey = "bookDetail:" + isbn;
+        String cacheKey = "bookView:" + isbn;
         String cachedValue = stringRedisTemplate.opsForValue().get(cacheKey);
         assertThat(cachedValue).isNotNull();
 
         // 두 번째 호출 - 캐시 히트 (같은 객체 반환되어야 함)
-        Book book2 = bookService.getBookByIsbn(isbn);
+        BookView book2 = bookService.getBookByIsbn(isbn);
         assertThat(book2).isNotNull();
-        assertThat(book2.getIsbn()).isEqualTo(isbn);
+        assertThat(book2.isbn()).isEqualTo(isbn);
     }
 
     @Test
@@ -95,17 +97,17 @@ class CacheIntegrationTest {
         var pageable = PageRequest.of(0, 10);
 
         // 첫 번째 호출 - 캐시 미스
-        BookSearchResponse response1 = bookService.searchBooks(keyword, pageable);
+        BookSearchResponse response1 = bookService.searchBooks(BookSearchOptions.of(keyword, pageable));
         assertThat(response1).isNotNull();
         assertThat(response1.searchQuery()).isEqualTo(keyword);
 
-        // Redis 캐시 확인
-        String cacheKey = "bookSearch:search:" + keyword + ":page:0:size:10";
+        // Redis 캐시 확인 (키는 정규화된 검색어 기준)
+        String cacheKey = "bookSearch:search:test:page:0:size:10";
         String cachedValue = stringRedisTemplate.opsForValue().get(cacheKey);
         assertThat(cachedValue).isNotNull();
 
         // 두 번째 호출 - 캐시 히트
-        BookSearchResponse response2 = bookService.searchBooks(keyword, pageable);
+        BookSearchResponse response2 = bookService.searchBooks(BookSearchOptions.of(keyword, pageable));
         assertThat(response2).isNotNull();
         assertThat(response2.searchQuery()).isEqualTo(keyword);
     }
@@ -0,0 +1,38 @@
+package com.trevari.book.domain;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("AuthorCursor 도메인 테스트")
+class AuthorCursorTest {
+
+    @Test
+    @DisplayName("커서 인코딩 - 구분자가 들어간 이름도 그대로 복원하고, 빈 커서는 첫 페이지")
+    void encode_RoundTrip() {
+        // given
+        AuthorCursor cursor = AuthorCursor.after("Kent\nBeck 켄트 벡", 42L);
+
+        // when
+        AuthorCursor decoded = AuthorCursor.decode(cursor.encode());
+
+        // then
+        assertThat(decoded).isEqualTo(cursor);
+        assertThat(AuthorCursor.decode("").isStart()).isTrue();
+        assertThat(AuthorCursor.start().encode()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("잘못된 커서 - 예외 발생 (도서 목록 커서도 거부)")
+    void decode_Invalid() {
+        // when & then
+        assertThatThrownBy(() -> AuthorCursor.decode("not a cursor!"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Invalid author cursor");
+        assertThatThrownBy(() -> AuthorCursor.decode(PageCursor.afterTitle("Spring in Action", "9781617294945").encode()))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Invalid author cursor");
+    }
+}
@@ -0,0 +1,39 @@
+package com.trevari.book.domain;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Isbn 도메인 테스트")
+class IsbnTest {
+
+    @Test
+    @DisplayName("정규화 - 하이픈을 제거하고 ISBN-10은 같은 도서의 ISBN-13으로 변환")
+    void toLong_Normalizes() {
+        // when & then
+        assertThat(Isbn.toLong("978-1-61729-739-7")).isEqualTo(9781617297397L);
+        assertThat(Isbn.toLong("0-13-468599-7")).isEqualTo(9780134685991L);
+        assertThat(Isbn.toIsbn10(9780321349606L)).isEqualTo("0321349601");
+        assertThat(Isbn.toIsbn10(9791162249611L)).isNull();
+    }
+
+    @Test
+    @DisplayName("정규화 - 체크 숫자가 틀리거나 ISBN 형식이 아니면 INVALID")
+    void toLong_Invalid() {
+        // when & then
+        assertThat(Isbn.toLong("9781617297398")).isEqualTo(Isbn.INVALID);
+        assertThat(Isbn.toLong("032134960X")).isEqualTo(Isbn.INVALID);
+        assertThat(Isbn.toLong("zyTCAlFPjgYC")).isEqualTo(Isbn.INVALID);
+    }
+
+    @Test
+    @DisplayName("접두어 - ISBN-13 접두어는 그대로, ISBN-10 접두어는 978을 붙인 long 구간으로 변환")
+    void prefixRange() {
+        // when & then
+        assertThat(Isbn.prefixRange("978-89-6626")).containsExactly(9788966260000L, 9788966270000L);
+        assertThat(Isbn.prefixRange("89")).containsExactly(9788900000000L, 9789000000000L);
+        assertThat(Isbn.prefixRange("isbn")).isNull();
+        assertThat(Isbn.storedPrefixes("978-89")).containsExactly("97889", "89");
+    }
+}
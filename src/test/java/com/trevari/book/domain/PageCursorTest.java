@@ -0,0 +1,50 @@
+package com.trevari.book.domain;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("PageCursor 도메인 테스트")
+class PageCursorTest {
+
+    @Test
+    @DisplayName("커서 인코딩 - 점수와 구분자가 들어간 제목도 그대로 복원")
+    void encode_RoundTrip() {
+        // given
+        PageCursor scoreCursor = PageCursor.afterScore(3.1415927f, "Java\n모던 자바 in Action", "9791162242025");
+        PageCursor titleCursor = PageCursor.afterTitle("Spring in Action", "9781617294945");
+
+        // when
+        PageCursor decodedScore = PageCursor.decode(scoreCursor.encode());
+        PageCursor decodedTitle = PageCursor.decode(titleCursor.encode());
+
+        // then
+        assertThat(decodedScore).isEqualTo(scoreCursor);
+        assertThat(decodedScore.hasScore()).isTrue();
+        assertThat(decodedTitle).isEqualTo(titleCursor);
+        assertThat(decodedTitle.hasScore()).isFalse();
+    }
+
+    @Test
+    @DisplayName("빈 커서는 첫 페이지")
+    void decode_Blank() {
+        // when & then
+        assertThat(PageCursor.decode("").isStart()).isTrue();
+        assertThat(PageCursor.decode(null).isStart()).isTrue();
+        assertThat(PageCursor.start().encode()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("잘못된 커서 - 예외 발생")
+    void decode_Invalid() {
+        // when & then
+        assertThatThrownBy(() -> PageCursor.decode("not a cursor!"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Invalid page cursor");
+        assertThatThrownBy(() -> PageCursor.decode("djIKCg"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Invalid page cursor");
+    }
+}
@@ -0,0 +1,52 @@
+package com.trevari.book.domain.search;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("RangeFilter 도메인 테스트")
+class RangeFilterTest {
+
+    @Test
+    @DisplayName("정규화 표현 - 통화는 대문자로, 열린 구간은 빈 값으로 표시하고 검색 쿼리 캐시 키에 포함")
+    void canonicalForm() {
+        // given
+        RangeFilter filter = new RangeFilter(null, 30000, " krw ", LocalDate.of(2020, 1, 1), null);
+
+        // when
+        String canonical = filter.canonicalForm();
+
+        // then
+        assertThat(canonical).isEqualTo("price:..30000 currency:KRW published:2020-01-01..");
+        assertThat(SearchQuery.simple("Java").withFilter(filter).canonicalForm())
+                .isEqualTo("java {price:..30000 currency:KRW published:2020-01-01..}");
+        assertThat(SearchQuery.simple("Java").withFilter(RangeFilter.none()).canonicalForm()).isEqualTo("java");
+    }
+
+    @Test
+    @DisplayName("빈 통화만 지정하면 필터 없음")
+    void isEmpty() {
+        // when & then
+        assertThat(new RangeFilter(null, null, " ", null, null).isEmpty()).isTrue();
+        assertThat(new RangeFilter(0, null, null, null, null).isEmpty()).isFalse();
+    }
+
+    @Test
+    @DisplayName("잘못된 범위 - 예외 발생")
+    void invalidRange() {
+        // when & then
+        assertThatThrownBy(() -> new RangeFilter(30000, 10000, null, null, null))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("minPrice cannot be greater than maxPrice");
+        assertThatThrownBy(() -> new RangeFilter(-1, null, null, null, null))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Price cannot be negative");
+        assertThatThrownBy(() -> new RangeFilter(null, null, null, LocalDate.of(2024, 1, 2), LocalDate.of(2024, 1, 1)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("publishedFrom cannot be after publishedTo");
+    }
+}
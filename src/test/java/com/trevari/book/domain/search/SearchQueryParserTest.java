@@ -0,0 +1,102 @@
+package com.trevari.book.domain.search;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("SearchQueryParser 단위 테스트")
+class SearchQueryParserTest {
+
+    private final SearchQueryParser parser = new SearchQueryParser();
+
+    @Test
+    @DisplayName("기존 형식 - 단순/OR/NOT 검색은 기존 전략으로 파싱")
+    void parse_LegacyForms() {
+        // when
+        SearchQuery simple = parser.parse("  Spring Boot ");
+        SearchQuery or = parser.parse("Java | Data");
+        SearchQuery not = parser.parse("Java -Modern");
+
+        // then
+        assertThat(simple.strategy()).isEqualTo(SearchQuery.SearchStrategy.SIMPLE);
+        assertThat(simple.keywords()).containsExactly("Spring Boot");
+        assertThat(or.strategy()).isEqualTo(SearchQuery.SearchStrategy.OR_OPERATION);
+        assertThat(or.keywords()).containsExactly("Java", "Data");
+        assertThat(not.strategy()).isEqualTo(SearchQuery.SearchStrategy.NOT_OPERATION);
+        assertThat(not.getIncludeKeyword()).isEqualTo("Java");
+        assertThat(not.getExcludeKeyword()).isEqualTo("Modern");
+    }
+
+    @Test
+    @DisplayName("불리언 검색 - 괄호, 구문, 연산자 우선순위(NOT > AND > OR)를 구문 트리로 파싱")
+    void parse_BooleanQuery() {
+        // when
+        SearchQuery query = parser.parse("(java | kotlin) AND \"in action\" -android OR python");
+
+        // then
+        assertThat(query.strategy()).isEqualTo(SearchQuery.SearchStrategy.BOOLEAN);
+        assertThat(query.root()).isEqualTo(new QueryNode.Or(List.of(
+                new QueryNode.And(List.of(
+                        new QueryNode.Or(List.of(new QueryNode.Term("java"), new QueryNode.Term("kotlin"))),
+                        new QueryNode.Phrase("in action"),
+                        new QueryNode.Not(new QueryNode.Term("android")))),
+                new QueryNode.Term("python"))));
+        assertThat(query.keywords()).containsExactly("java", "kotlin", "in action", "python");
+    }
+
+    @Test
+    @DisplayName("플래너 - And는 선택도 낮은 절부터, 제외 절은 마지막에 배치하고 중첩은 평탄화")
+    void plan_OrdersClausesBySelectivity() {
+        // given
+        QueryNode root = parser.parse("common AND (rare AND -excluded) AND medium").root();
+
+        // when
+        QueryNode plan = QueryPlanner.plan(root, leaf -> switch (leaf.text()) {
+            case "rare" -> 0.01;
+            case "medium" -> 0.2;
+            default -> 0.9;
+        });
+
+        // then
+        assertThat(plan).isEqualTo(new QueryNode.And(List.of(
+                new QueryNode.Term("rare"),
+                new QueryNode.Term("medium"),
+                new QueryNode.Term("common"),
+                new QueryNode.Not(new QueryNode.Term("excluded")))));
+    }
+
+    @Test
+    @DisplayName("정규화 표현 - 대소문자, 공백, OR 피연산자 순서가 달라도 같은 검색은 같은 캐시 키")
+    void canonicalForm_IgnoresCaseSpacingAndOperandOrder() {
+        // when
+        String first = parser.parse("Java | Spring").canonicalForm();
+        String second = parser.parse("spring|java").canonicalForm();
+        String third = parser.parse("JAVA | spring ").canonicalForm();
+        String nested = parser.parse("(Kotlin | \"In  Action\") AND -Android AND  java").canonicalForm();
+        String reordered = parser.parse("java -android (\"in action\" | kotlin)").canonicalForm();
+
+        // then
+        assertThat(first).isEqualTo("java | spring").isEqualTo(second).isEqualTo(third);
+        assertThat(nested).isEqualTo("(\"in action\" | kotlin) AND -android AND java").isEqualTo(reordered);
+        assertThat(parser.parse("Spring  Boot").canonicalForm()).isNotEqualTo(parser.parse("Boot Spring").canonicalForm());
+    }
+
+    @Test
+    @DisplayName("잘못된 쿼리 - 제외어만 있거나 괄호·따옴표가 닫히지 않으면 예외")
+    void parse_InvalidQueries() {
+        assertThatThrownBy(() -> parser.parse("-java"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> parser.parse("(java | spring"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> parser.parse("\"spring boot"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> parser.parse("java | java"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> parser.parse("java; drop"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
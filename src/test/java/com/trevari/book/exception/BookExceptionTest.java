@@ -65,7 +65,7 @@ class BookExceptionTest {
         BookExceptionCode[] codes = BookExceptionCode.values();
 
         // When & Then
-        assertThat(codes).hasSize(3); // 현재 정의된 예외 코드 수
+        assertThat(codes).hasSize(4); // 현재 정의된 예외 코드 수
 
         // 모든 코드에 대해 name과 message가 null이 아님을 확인
         for (BookExceptionCode code : codes) {
@@ -0,0 +1,73 @@
+package com.trevari.book.index;
+
+import com.trevari.book.domain.AuthorCursor;
+import com.trevari.book.domain.AuthorPage;
+import com.trevari.book.domain.AuthorSummary;
+import com.trevari.book.domain.PageCursor;
+import com.trevari.book.index.analysis.BookAnalyzer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("AuthorLookup 단위 테스트")
+class AuthorLookupTest {
+
+    @Test
+    @DisplayName("저자 - 저자별 도서는 (제목, ISBN) 순 커서로 이어지고, 이름 접두어 목록은 대소문자 무시 (이름, id) 순에 도서 수 포함")
+    void authors() {
+        // given
+        BookIndex authorIndex = index(List.of(
+                BookDocument.builder()
+                        .isbn("9780134685991")
+                        .title("Effective Java")
+                        .authorNames(List.of("Joshua Bloch"))
+                        .authorIds(List.of(1L))
+                        .build(),
+                BookDocument.builder()
+                        .isbn("9780321336781")
+                        .title("Java Puzzlers")
+                        .authorNames(List.of("Joshua Bloch", "Neal Gafter"))
+                        .authorIds(List.of(1L, 3L))
+                        .build(),
+                BookDocument.builder()
+                        .isbn("9780321349606")
+                        .title("Java Concurrency in Practice")
+                        .authorNames(List.of("Brian Goetz", "Joshua Bloch"))
+                        .authorIds(List.of(2L, 1L))
+                        .build(),
+                BookDocument.builder()
+                        .isbn("9780132350884")
+                        .title("Clean Code")
+                        .authorNames(List.of("Robert C. Martin", "Jon Bentley"))
+                        .authorIds(List.of(4L, 5L))
+                        .build()
+        ));
+        AuthorLookup lookup = new AuthorLookup(authorIndex);
+
+        // when
+        IndexSearchResult first = lookup.booksAfter(1L, PageCursor.start(), 2);
+        IndexSearchResult second = lookup.booksAfter(1L, first.nextCursor(), 2);
+        AuthorPage authorsFirst = lookup.authorsAfter("JO", AuthorCursor.start(), 1);
+        AuthorPage authorsSecond = lookup.authorsAfter("JO", authorsFirst.nextCursor(), 1);
+
+        // then
+        assertThat(first.isbns()).containsExactly("9780134685991", "9780321349606");
+        assertThat(first.totalHits()).isEqualTo(3);
+        assertThat(second.isbns()).containsExactly("9780321336781");
+        assertThat(second.nextCursor()).isNull();
+        assertThat(authorsFirst.content()).containsExactly(new AuthorSummary(5L, "Jon Bentley", 1));
+        assertThat(authorsFirst.totalElements()).isEqualTo(2);
+        assertThat(authorsSecond.content()).containsExactly(new AuthorSummary(1L, "Joshua Bloch", 3));
+        assertThat(authorsSecond.hasNext()).isFalse();
+        assertThat(lookup.authorsAfter("", AuthorCursor.start(), 10).totalElements()).isEqualTo(5);
+        assertThat(authorIndex.containsAuthor(99L)).isFalse();
+        assertThat(lookup.booksAfter(99L, PageCursor.start(), 2).isbns()).isEmpty();
+    }
+
+    private static BookIndex index(List<BookDocument> documents) {
+        return BookIndexBuilder.build(documents, Bm25fScorer.defaults(), BookAnalyzer.stemming());
+    }
+}
@@ -0,0 +1,585 @@
+package com.trevari.book.index;
+
+import com.trevari.book.domain.PageCursor;
+import com.trevari.book.domain.search.BookHighlight;
+import com.trevari.book.domain.search.Facet;
+import com.trevari.book.domain.search.FacetCount;
+import com.trevari.book.domain.search.RangeFilter;
+import com.trevari.book.domain.search.SearchQuery;
+import com.trevari.book.domain.search.SearchQueryParser;
+import com.trevari.book.domain.search.SortOrder;
+import com.trevari.book.index.analysis.BookAnalyzer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("BookIndexSearcher 단위 테스트")
+class BookIndexSearcherTest {
+
+    private BookIndexSearcher searcher;
+
+    @BeforeEach
+    void setUp() {
+        BookIndex index = index(List.of(
+                BookDocument.builder()
+                        .isbn("9781617297397")
+                        .title("Java in Action")
+                        .subtitle("Lambdas, streams, functional and reactive programming")
+                        .authorNames(List.of("Raoul-Gabriel Urma", "Mario Fusco"))
+                        .build(),
+                BookDocument.builder()
+                        .isbn("9781617294945")
+                        .title("Spring in Action")
+                        .subtitle("Fifth Edition")
+                        .authorNames(List.of("Craig Walls"))
+                        .build(),
+                BookDocument.builder()
+                        .isbn("9781491950401")
+                        .title("Learning Python")
+                        .subtitle("Powerful Object-Oriented Programming")
+                        .authorNames(List.of("Mark Lutz"))
+                        .build(),
+                BookDocument.builder()
+                        .isbn("9791162249611")
+                        .title("Java 9 모듈 프로그래밍")
+                        .authorNames(List.of("코시크 코타갈"))
+                        .build()
+        ));
+        searcher = new BookIndexSearcher(index);
+    }
+
+    @Test
+    @DisplayName("단순 검색 - 제목, 부제목, 저자명을 모두 대상으로 검색")
+    void search_Simple() {
+        // when
+        IndexSearchResult byTitle = searcher.search(SearchQuery.simple("java"), 0, 20, Set.of(), SortOrder.RELEVANCE);
+        IndexSearchResult byAuthor = searcher.search(SearchQuery.simple("Lutz"), 0, 20, Set.of(), SortOrder.RELEVANCE);
+
+        // then - 제목이 짧을수록 길이 정규화 점수가 높음
+        assertThat(byTitle.totalHits()).isEqualTo(2);
+        assertThat(byTitle.isbns()).containsExactly("9781617297397", "9791162249611");
+        assertThat(byAuthor.isbns()).containsExactly("9781491950401");
+    }
+
+    @Test
+    @DisplayName("단순 검색 - 여러 단어는 모든 단어가 있는 도서만 매칭")
+    void search_SimpleMultiWordMatchesAllWords() {
+        // when
+        IndexSearchResult result = searcher.search(SearchQuery.simple("java action"),
+                0, 20, Set.of(), SortOrder.RELEVANCE);
+        IndexSearchResult korean = searcher.search(SearchQuery.simple("모듈 프로그래밍"),
+                0, 20, Set.of(), SortOrder.RELEVANCE);
+
+        // then - 한 단어만 포함한 도서(Spring in Action, Java 9 모듈 프로그래밍)는 제외
+        assertThat(result.totalHits()).isEqualTo(1);
+        assertThat(result.isbns()).containsExactly("9781617297397");
+        assertThat(korean.isbns()).containsExactly("9791162249611");
+    }
+
+    @Test
+    @DisplayName("단순 검색 - 여러 단어는 제목에서 단어가 가까이 나온 도서를 먼저 노출")
+    void search_SimpleMultiWordRanksByProximity() {
+        // given - 필드 길이와 텀 빈도가 같고 두 단어 사이 거리만 다른 도서
+        BookIndexSearcher proximitySearcher = new BookIndexSearcher(index(List.of(
+                BookDocument.builder().isbn("9780000000001").title("Code Guide Team Book Clean").build(),
+                BookDocument.builder().isbn("9780000000002").title("Guide Team Clean Code Book").build(),
+                BookDocument.builder().isbn("9780000000003").title("Clean Guide Code Team Book").build(),
+                BookDocument.builder().isbn("9780000000004").title("Clean Architecture").build()
+        )));
+
+        // when
+        IndexSearchResult result = proximitySearcher.search(SearchQuery.simple("clean code"),
+                0, 20, Set.of(), SortOrder.RELEVANCE);
+
+        // then
+        assertThat(result.totalHits()).isEqualTo(3);
+        assertThat(result.isbns()).containsExactly("9780000000002", "9780000000003", "9780000000001");
+    }
+
+    @Test
+    @DisplayName("OR 검색 - 두 키워드 중 하나라도 포함하면 매칭")
+    void search_Or() {
+        // when
+        IndexSearchResult result = searcher.search(SearchQuery.or("python | spring", "python", "spring"),
+                0, 20, Set.of(), SortOrder.RELEVANCE);
+
+        // then
+        assertThat(result.totalHits()).isEqualTo(2);
+        assertThat(result.isbns()).containsExactlyInAnyOrder("9781491950401", "9781617294945");
+    }
+
+    @Test
+    @DisplayName("NOT 검색 - 제외 키워드를 포함한 도서는 결과에서 제외")
+    void search_Not() {
+        // when
+        IndexSearchResult result = searcher.search(SearchQuery.not("action -spring", "action", "spring"),
+                0, 20, Set.of(), SortOrder.RELEVANCE);
+
+        // then
+        assertThat(result.totalHits()).isEqualTo(1);
+        assertThat(result.isbns()).containsExactly("9781617297397");
+    }
+
+    @Test
+    @DisplayName("페이징 - offset과 limit 구간만 반환하고 전체 건수는 유지")
+    void search_Paging() {
+        // when
+        IndexSearchResult result = searcher.search(SearchQuery.simple("action"), 1, 1, Set.of(), SortOrder.RELEVANCE);
+
+        // then
+        assertThat(result.totalHits()).isEqualTo(2);
+        assertThat(result.isbns()).containsExactly("9781617294945");
+    }
+
+    @Test
+    @DisplayName("BM25F - 같은 텀이라도 제목 일치가 부제목 일치보다 먼저 노출")
+    void search_TitleMatchOutranksSubtitleMatch() {
+        // given - ordinal(제목) 순으로는 부제목 일치 도서가 앞섬
+        BookIndexSearcher fieldSearcher = new BookIndexSearcher(index(List.of(
+                BookDocument.builder()
+                        .isbn("9791160508796")
+                        .title("Clean Code")
+                        .subtitle("Kotlin examples")
+                        .authorNames(List.of("Robert Martin"))
+                        .build(),
+                BookDocument.builder()
+                        .isbn("9788966262335")
+                        .title("Kotlin in Action")
+                        .authorNames(List.of("Dmitry Jemerov"))
+                        .build()
+        )));
+
+        // when
+        IndexSearchResult result = fieldSearcher.search(SearchQuery.simple("kotlin"),
+                0, 20, Set.of(), SortOrder.RELEVANCE);
+
+        // then
+        assertThat(result.isbns()).containsExactly("9788966262335", "9791160508796");
+    }
+
+    @Test
+    @DisplayName("BM25F - 필드 boost 설정에 따라 순위가 바뀜")
+    void search_FieldBoostsAreConfigurable() {
+        // given
+        List<BookDocument> documents = List.of(
+                BookDocument.builder()
+                        .isbn("9788966262335")
+                        .title("Kotlin in Action")
+                        .authorNames(List.of("Dmitry Jemerov"))
+                        .build(),
+                BookDocument.builder()
+                        .isbn("9791162241820")
+                        .title("Programming Languages")
+                        .authorNames(List.of("Kotlin Team"))
+                        .build()
+        );
+        Bm25fScorer authorFirst = new Bm25fScorer(1.2f, 0.75f, 1.0f, 1.0f, 10.0f);
+
+        // when
+        IndexSearchResult byDefault = new BookIndexSearcher(index(documents))
+                .search(SearchQuery.simple("kotlin"), 0, 20, Set.of(), SortOrder.RELEVANCE);
+        IndexSearchResult byAuthorBoost = new BookIndexSearcher(
+                BookIndexBuilder.build(documents, authorFirst, BookAnalyzer.stemming()))
+                .search(SearchQuery.simple("kotlin"), 0, 20, Set.of(), SortOrder.RELEVANCE);
+
+        // then
+        assertThat(byDefault.isbns()).containsExactly("9788966262335", "9791162241820");
+        assertThat(byAuthorBoost.isbns()).containsExactly("9791162241820", "9788966262335");
+    }
+
+    @Test
+    @DisplayName("상위 k개 평가 - 건너뛰기를 해도 각 페이지는 전체 순위의 같은 구간과 일치")
+    void search_TopKPagesMatchFullRanking() {
+        // given - 흔한 텀(java)이 여러 블록에 걸쳐 나오는 색인
+        List<BookDocument> documents = new ArrayList<>();
+        for (int i = 0; i < 1_000; i++) {
+            String title = "Java " + "Book ".repeat(i % 7) + (i % 3 == 0 ? "Spring" : "Guide");
+            documents.add(BookDocument.builder()
+                    .isbn(String.format("97800000%05d", i))
+                    .title(title)
+                    .subtitle(i % 5 == 0 ? "java programming" : null)
+                    .authorNames(List.of("Author " + (i % 11)))
+                    .build());
+        }
+        BookIndexSearcher largeSearcher = new BookIndexSearcher(index(documents));
+        SearchQuery query = SearchQuery.simple("java spring");
+        List<String> fullRanking = largeSearcher.search(query, 0, 1_000, Set.of(), SortOrder.RELEVANCE).isbns();
+
+        // when & then
+        for (int offset : new int[]{0, 20, 160, 314}) {
+            IndexSearchResult page = largeSearcher.search(query, offset, 20, Set.of(), SortOrder.RELEVANCE);
+            assertThat(page.totalHits()).isEqualTo(334);
+            assertThat(page.isbns()).containsExactlyElementsOf(fullRanking.subList(offset, offset + 20));
+        }
+    }
+
+    @Test
+    @DisplayName("키셋 검색 - 커서를 이어 받은 페이지들이 전체 순위와 같고, 목록 커서는 (제목, ISBN) 순으로 이어짐")
+    void searchAfter_PagesMatchFullRanking() {
+        // given - 점수가 같은 도서가 많아 동점 구간에서 커서가 이어져야 하는 색인
+        List<BookDocument> documents = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            String title = "Java " + "Book ".repeat(i % 4) + (i % 3 == 0 ? "Spring" : "Guide");
+            documents.add(BookDocument.builder()
+                    .isbn(String.format("97800000%05d", i))
+                    .title(title)
+                    .authorNames(List.of("Author " + (i % 5)))
+                    .build());
+        }
+        BookIndex index = index(documents);
+        BookIndexSearcher largeSearcher = new BookIndexSearcher(index);
+        SearchQuery query = SearchQuery.simple("java spring");
+        List<String> fullRanking = largeSearcher.search(query, 0, 300, Set.of(), SortOrder.RELEVANCE).isbns();
+
+        // when
+        List<String> searched = new ArrayList<>();
+        List<String> listed = new ArrayList<>();
+        PageCursor searchCursor = PageCursor.start();
+        PageCursor listCursor = PageCursor.start();
+        do {
+            IndexSearchResult page = largeSearcher.searchAfter(query, PageCursor.decode(searchCursor.encode()), 32);
+            assertThat(page.totalHits()).isEqualTo(100);
+            searched.addAll(page.isbns());
+            searchCursor = page.nextCursor();
+        } while (searchCursor != null);
+        do {
+            IndexSearchResult page = largeSearcher.listAfter(listCursor, 32);
+            listed.addAll(page.isbns());
+            listCursor = page.nextCursor();
+        } while (listCursor != null);
+
+        // then
+        assertThat(searched).containsExactlyElementsOf(fullRanking);
+        assertThat(listed).hasSize(300);
+        for (int ordinal = 0; ordinal < 300; ordinal++) {
+            assertThat(listed.get(ordinal)).isEqualTo(index.isbn(ordinal));
+        }
+    }
+
+    @Test
+    @DisplayName("한글 검색 - 복합어 일부로도 검색되고, 단어의 bigram이 모두 있어야 매칭")
+    void search_KoreanBigrams() {
+        // when
+        IndexSearchResult whole = searcher.search(SearchQuery.simple("프로그래밍"), 0, 20, Set.of(), SortOrder.RELEVANCE);
+        IndexSearchResult partial = searcher.search(SearchQuery.simple("그래밍"), 0, 20, Set.of(), SortOrder.RELEVANCE);
+        IndexSearchResult unrelated = searcher.search(SearchQuery.simple("프로젝트"), 0, 20, Set.of(), SortOrder.RELEVANCE);
+
+        // then
+        assertThat(whole.isbns()).containsExactly("9791162249611");
+        assertThat(partial.isbns()).containsExactly("9791162249611");
+        assertThat(unrelated.totalHits()).isZero();
+    }
+
+    @Test
+    @DisplayName("불리언 검색 - 괄호와 제외 절을 조합하고, 구문은 단어가 연속한 도서만 매칭")
+    void search_BooleanQueryWithPhrase() {
+        // given
+        SearchQuery grouped = new SearchQueryParser().parse("(java | python) AND programming -모듈");
+        SearchQuery phrase = new SearchQueryParser().parse("\"in action\" -spring");
+        SearchQuery brokenPhrase = new SearchQueryParser().parse("\"action in\" | \"object oriented programming\"");
+
+        // when
+        IndexSearchResult groupedResult = searcher.search(grouped, 0, 20, Set.of(), SortOrder.RELEVANCE);
+        IndexSearchResult phraseResult = searcher.search(phrase, 0, 20, Set.of(), SortOrder.RELEVANCE);
+        IndexSearchResult brokenPhraseResult = searcher.search(brokenPhrase, 0, 20, Set.of(), SortOrder.RELEVANCE);
+
+        // then
+        assertThat(groupedResult.isbns()).containsExactlyInAnyOrder("9781617297397", "9781491950401");
+        assertThat(phraseResult.isbns()).containsExactly("9781617297397");
+        assertThat(brokenPhraseResult.isbns()).containsExactly("9781491950401");
+    }
+
+    @Test
+    @DisplayName("구문 검색 - 저자명 안에서 연속한 단어는 매칭하고, 서로 다른 저자명에 걸친 단어는 매칭하지 않음")
+    void search_PhraseDoesNotCrossAuthorNames() {
+        // given
+        BookIndexSearcher authorSearcher = new BookIndexSearcher(index(List.of(
+                BookDocument.builder()
+                        .isbn("9780134757599")
+                        .title("Refactoring")
+                        .authorNames(List.of("Kent Beck", "Martin Fowler"))
+                        .build()
+        )));
+
+        // when
+        IndexSearchResult fullName = authorSearcher.search(new SearchQueryParser().parse("\"martin fowler\""),
+                0, 20, Set.of(), SortOrder.RELEVANCE);
+        IndexSearchResult acrossAuthors = authorSearcher.search(new SearchQueryParser().parse("\"beck martin\""),
+                0, 20, Set.of(), SortOrder.RELEVANCE);
+
+        // then
+        assertThat(fullName.isbns()).containsExactly("9780134757599");
+        assertThat(acrossAuthors.totalHits()).isZero();
+    }
+
+    @Test
+    @DisplayName("오타 허용 검색 - 편집 거리 이내 텀으로 확장하고, 정확 일치 도서를 먼저 노출")
+    void search_Fuzzy() {
+        // when
+        IndexSearchResult exact = searcher.search(SearchQuery.simple("pyhton"), 0, 20, Set.of(), SortOrder.RELEVANCE);
+        IndexSearchResult transposed = searcher.search(SearchQuery.simple("pyhton").withFuzzy(true),
+                0, 20, Set.of(), SortOrder.RELEVANCE);
+        IndexSearchResult mixed = searcher.search(SearchQuery.simple("sprng action").withFuzzy(true),
+                0, 20, Set.of(), SortOrder.RELEVANCE);
+
+        // then
+        assertThat(exact.totalHits()).isZero();
+        assertThat(transposed.isbns()).containsExactly("9781491950401");
+        assertThat(mixed.isbns()).containsExactly("9781617294945");
+    }
+
+    @Test
+    @DisplayName("패싯 검색 - 매칭 도서 중 값별 건수를 건수 내림차순으로 집계하고, 한 도서의 중복 값은 한 번만 셈")
+    void search_Facets() {
+        // given - 조밀한 값(압축 비트맵)과 드문 값(정렬 배열)이 섞인 색인
+        List<BookDocument> documents = new ArrayList<>();
+        for (int i = 0; i < 1_000; i++) {
+            List<String> categories = i % 100 == 0 ? List.of("Java", "Rare", "Java") : List.of("Java");
+            documents.add(BookDocument.builder()
+                    .isbn(String.format("97800000%05d", i))
+                    .title(i % 3 == 0 ? "Spring Guide " + i : "Python Guide " + i)
+                    .facetValues(Map.of(Facet.CATEGORY, categories, Facet.FORMAT, List.of(i % 2 == 0 ? "PAPERBACK" : "EBOOK")))
+                    .build());
+        }
+        BookIndexSearcher facetSearcher = new BookIndexSearcher(index(documents));
+
+        // when
+        IndexSearchResult result = facetSearcher.search(SearchQuery.simple("spring"), 0, 10,
+                EnumSet.of(Facet.CATEGORY, Facet.FORMAT, Facet.YEAR), SortOrder.RELEVANCE);
+
+        // then - spring은 i % 3 == 0인 334권
+        assertThat(result.totalHits()).isEqualTo(334);
+        assertThat(result.isbns()).hasSize(10);
+        assertThat(result.facets().get(Facet.CATEGORY))
+                .containsExactly(new FacetCount("Java", 334), new FacetCount("Rare", 4));
+        assertThat(result.facets().get(Facet.FORMAT))
+                .containsExactly(new FacetCount("EBOOK", 167), new FacetCount("PAPERBACK", 167));
+        assertThat(result.facets().get(Facet.YEAR)).isEmpty();
+        assertThat(facetSearcher.search(SearchQuery.simple("spring"),
+                0, 10, Set.of(), SortOrder.RELEVANCE).facets()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("범위 필터 - 가격·통화·출판일 범위를 매칭 결과에 교집합으로 적용하고, 값이 없는 도서는 제외")
+    void search_RangeFilter() {
+        // given
+        BookIndexSearcher filterSearcher = new BookIndexSearcher(index(List.of(
+                BookDocument.builder()
+                        .isbn("9780000000001")
+                        .title("Java Basics")
+                        .facetValues(Map.of(Facet.CATEGORY, List.of("Programming")))
+                        .priceAmount(15000)
+                        .currency("KRW")
+                        .publishedDate(LocalDate.of(2019, 3, 1))
+                        .build(),
+                BookDocument.builder()
+                        .isbn("9780000000002")
+                        .title("Java Advanced")
+                        .facetValues(Map.of(Facet.CATEGORY, List.of("Programming")))
+                        .priceAmount(32000)
+                        .currency("KRW")
+                        .publishedDate(LocalDate.of(2022, 7, 15))
+                        .build(),
+                BookDocument.builder()
+                        .isbn("9780000000003")
+                        .title("Java Pocket")
+                        .facetValues(Map.of(Facet.CATEGORY, List.of("Programming")))
+                        .priceAmount(25)
+                        .currency("usd")
+                        .publishedDate(LocalDate.of(1965, 1, 1))
+                        .build(),
+                BookDocument.builder()
+                        .isbn("9780000000004")
+                        .title("Java Notes")
+                        .facetValues(Map.of(Facet.CATEGORY, List.of("Essay")))
+                        .build()
+        )));
+
+        // when
+        IndexSearchResult byPrice = filterSearcher.search(
+                SearchQuery.simple("java").withFilter(new RangeFilter(10000, 30000, "krw", null, null)),
+                0, 20, Set.of(), SortOrder.RELEVANCE);
+        IndexSearchResult byDate = filterSearcher.search(
+                SearchQuery.simple("java").withFilter(new RangeFilter(null, null, null, null, LocalDate.of(2019, 3, 1))),
+                0, 20, Set.of(), SortOrder.RELEVANCE);
+        IndexSearchResult byCategory = filterSearcher.browse("program",
+                new RangeFilter(null, null, null, LocalDate.of(2000, 1, 1), null), 0, 20, SortOrder.RELEVANCE);
+
+        // then
+        assertThat(byPrice.isbns()).containsExactly("9780000000001");
+        assertThat(byDate.isbns()).containsExactlyInAnyOrder("9780000000001", "9780000000003");
+        assertThat(byCategory.totalHits()).isEqualTo(2);
+        assertThat(byCategory.isbns()).containsExactly("9780000000002", "9780000000001");
+        assertThat(filterSearcher.count(SearchQuery.simple("java").withFilter(new RangeFilter(null, null, "EUR", null, null))))
+                .isZero();
+    }
+
+    @Test
+    @DisplayName("속성 정렬 - 값 순, 같으면 제목 순이며 값이 없는 도서는 방향과 관계없이 맨 뒤")
+    void search_SortOrder() {
+        // given
+        BookIndexSearcher sortSearcher = new BookIndexSearcher(index(List.of(
+                BookDocument.builder()
+                        .isbn("9780000000001")
+                        .title("Java Basics")
+                        .facetValues(Map.of(Facet.CATEGORY, List.of("Programming")))
+                        .priceAmount(15000)
+                        .currency("KRW")
+                        .publishedDate(LocalDate.of(2019, 3, 1))
+                        .pageCount(320)
+                        .popularity(5)
+                        .build(),
+                BookDocument.builder()
+                        .isbn("9780000000002")
+                        .title("Java Advanced")
+                        .facetValues(Map.of(Facet.CATEGORY, List.of("Programming")))
+                        .priceAmount(32000)
+                        .currency("KRW")
+                        .publishedDate(LocalDate.of(2022, 7, 15))
+                        .pageCount(640)
+                        .popularity(12)
+                        .build(),
+                BookDocument.builder()
+                        .isbn("9780000000003")
+                        .title("Java Pocket")
+                        .facetValues(Map.of(Facet.CATEGORY, List.of("Programming")))
+                        .priceAmount(15000)
+                        .currency("KRW")
+                        .build(),
+                BookDocument.builder()
+                        .isbn("9780000000004")
+                        .title("Java Notes")
+                        .facetValues(Map.of(Facet.CATEGORY, List.of("Essay")))
+                        .publishedDate(LocalDate.of(2010, 1, 1))
+                        .pageCount(120)
+                        .popularity(12)
+                        .build()
+        )));
+        SearchQuery query = SearchQuery.simple("java");
+
+        // when & then
+        assertThat(sortSearcher.search(query, 0, 20, Set.of(), SortOrder.PRICE_ASC).isbns())
+                .containsExactly("9780000000001", "9780000000003", "9780000000002", "9780000000004");
+        assertThat(sortSearcher.search(query, 0, 20, Set.of(), SortOrder.PRICE_DESC).isbns())
+                .containsExactly("9780000000002", "9780000000001", "9780000000003", "9780000000004");
+        assertThat(sortSearcher.search(query, 0, 20, Set.of(), SortOrder.NEWEST).isbns())
+                .containsExactly("9780000000002", "9780000000001", "9780000000004", "9780000000003");
+        assertThat(sortSearcher.search(query, 1, 2, Set.of(), SortOrder.PAGES_ASC).isbns())
+                .containsExactly("9780000000001", "9780000000002");
+        assertThat(sortSearcher.search(query, 0, 20, Set.of(), SortOrder.POPULAR).isbns())
+                .containsExactly("9780000000002", "9780000000004", "9780000000001", "9780000000003");
+        assertThat(sortSearcher.browse("program", RangeFilter.none(), 0, 20, SortOrder.PRICE_DESC).isbns())
+                .containsExactly("9780000000002", "9780000000001", "9780000000003");
+    }
+
+    @Test
+    @DisplayName("속성 정렬 - 조밀한 매칭(순위 순 훑기)과 희소한 매칭(힙)이 전체 정렬 결과와 같은 페이지를 반환")
+    void search_SortOrderPaging() {
+        // given - 가격이 겹치고 일부는 가격이 없는 색인
+        List<BookDocument> documents = new ArrayList<>();
+        for (int i = 0; i < 1_000; i++) {
+            documents.add(BookDocument.builder()
+                    .isbn(String.format("97800000%05d", i))
+                    .title((i % 50 == 0 ? "Rare Guide " : "Common Guide ") + i)
+                    .priceAmount(i % 7 == 0 ? null : (i * 37) % 101)
+                    .currency("KRW")
+                    .build());
+        }
+        BookIndexSearcher sortSearcher = new BookIndexSearcher(index(documents));
+
+        for (String keyword : List.of("guide", "rare")) {
+            SearchQuery query = SearchQuery.simple(keyword);
+            List<String> expected = documents.stream()
+                    .filter(doc -> doc.title().toLowerCase().contains(keyword))
+                    .sorted(Comparator.comparing((BookDocument doc) -> doc.priceAmount() == null)
+                            .thenComparing(doc -> doc.priceAmount() != null ? -doc.priceAmount() : 0)
+                            .thenComparing(BookDocument::title))
+                    .map(BookDocument::isbn)
+                    .toList();
+
+            // when
+            List<String> paged = new ArrayList<>();
+            for (int offset = 0; offset < expected.size(); offset += 7) {
+                paged.addAll(sortSearcher.search(query, offset, 7, Set.of(), SortOrder.PRICE_DESC).isbns());
+            }
+
+            // then
+            assertThat(paged).containsExactlyElementsOf(expected);
+        }
+    }
+
+    @Test
+    @DisplayName("하이라이트 - 제목·부제목은 일치한 텀이 있을 때만 전체를, 설명은 일치 구간 주변 조각을 강조하고 제외 검색어는 강조하지 않음")
+    void highlight() {
+        // given
+        String description = "This book is a practical guide for developers. ".repeat(5)
+                + "It covers lambdas, streams and modern Java <features> in depth. "
+                + "Readers also learn functional programming idioms. ".repeat(5);
+        BookIndexSearcher highlightSearcher = new BookIndexSearcher(index(List.of(
+                BookDocument.builder()
+                        .isbn("9781617297397")
+                        .title("Modern Java in Action")
+                        .subtitle("Lambdas, streams and functional programming")
+                        .authorNames(List.of("Raoul-Gabriel Urma"))
+                        .description(description)
+                        .build(),
+                BookDocument.builder()
+                        .isbn("9791162249611")
+                        .title("자바 프로그래밍 입문")
+                        .authorNames(List.of("코시크 코타갈"))
+                        .description("처음 배우는 사람을 위한 자바 입문서")
+                        .build()
+        )));
+
+        // when
+        Map<String, BookHighlight> highlights = highlightSearcher.highlight(
+                SearchQuery.not("streams -kotlin", "streams java", "programming"),
+                List.of("9781617297397", "9791162249611", "9780000000000"));
+        Map<String, BookHighlight> korean = highlightSearcher.highlight(SearchQuery.simple("프로그래밍"),
+                List.of("9791162249611"));
+
+        // then - 제외 검색어(programming)와 색인에 없는 ISBN은 하이라이트하지 않음
+        assertThat(highlights).containsOnlyKeys("9781617297397", "9791162249611");
+        BookHighlight english = highlights.get("9781617297397");
+        assertThat(english.title()).isEqualTo("Modern <em>Java</em> in Action");
+        assertThat(english.subtitle()).isEqualTo("Lambdas, <em>streams</em> and functional programming");
+        assertThat(english.description())
+                .startsWith("…")
+                .endsWith("…")
+                .contains("<em>streams</em> and modern <em>Java</em> &lt;features&gt;")
+                .doesNotContain("<em>programming</em>");
+        assertThat(english.description().length()).isLessThan(200);
+
+        // 일치한 텀이 없으면 제목은 빼고 설명은 앞부분을 그대로, 한글 bigram 구간은 하나로 합쳐 강조
+        BookHighlight unmatched = highlights.get("9791162249611");
+        assertThat(unmatched.title()).isNull();
+        assertThat(unmatched.description()).isEqualTo("처음 배우는 사람을 위한 자바 입문서");
+        assertThat(korean.get("9791162249611").title()).isEqualTo("자바 <em>프로그래밍</em> 입문");
+    }
+
+    @Test
+    @DisplayName("색인에 없는 텀은 빈 결과 반환")
+    void search_NoMatch() {
+        // when
+        IndexSearchResult result = searcher.search(SearchQuery.simple("kubernetes"),
+                0, 20, Set.of(), SortOrder.RELEVANCE);
+
+        // then
+        assertThat(result.totalHits()).isZero();
+        assertThat(result.isbns()).isEmpty();
+    }
+
+    private static BookIndex index(List<BookDocument> documents) {
+        return BookIndexBuilder.build(documents, Bm25fScorer.defaults(), BookAnalyzer.stemming());
+    }
+}
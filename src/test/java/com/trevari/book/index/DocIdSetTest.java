@@ -0,0 +1,59 @@
+package com.trevari.book.index;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("DocIdSet 압축 posting 단위 테스트")
+class DocIdSetTest {
+
+    @Test
+    @DisplayName("희소한 텀은 배열, 조밀한 텀은 비트맵 표현을 선택")
+    void of_ChoosesRepresentationByDensity() {
+        // given
+        int maxDoc = 1_000;
+
+        // when
+        DocIdSet sparse = DocIdSet.of(new int[]{1, 500, 999}, maxDoc);
+        DocIdSet dense = DocIdSet.of(range(0, 100), maxDoc);
+
+        // then
+        assertThat(sparse).isInstanceOf(ArrayDocIdSet.class);
+        assertThat(dense).isInstanceOf(BitmapDocIdSet.class);
+        assertThat(sparse.contains(500)).isTrue();
+        assertThat(sparse.contains(501)).isFalse();
+        assertThat(dense.cardinality()).isEqualTo(100);
+        assertThat(dense.contains(99)).isTrue();
+        assertThat(dense.contains(100)).isFalse();
+    }
+
+    @Test
+    @DisplayName("배열/비트맵 혼합 합집합과 차집합 - 건수는 비트셋 cardinality")
+    void orAndNot_MixedRepresentations() {
+        // given
+        int maxDoc = 200;
+        DocIdSet dense = DocIdSet.of(range(0, 150), maxDoc);
+        DocIdSet sparse = DocIdSet.of(new int[]{160, 199}, maxDoc);
+        DocIdSet excluded = DocIdSet.of(range(100, 170), maxDoc);
+
+        // when
+        DocIdBitSet result = new DocIdBitSet(maxDoc).or(dense).or(sparse).andNot(excluded);
+
+        // then
+        assertThat(result.cardinality()).isEqualTo(101);
+        assertThat(result.get(99)).isTrue();
+        assertThat(result.get(160)).isFalse();
+        assertThat(result.get(199)).isTrue();
+        assertThat(result.nextSetBit(100)).isEqualTo(199);
+        assertThat(result.nextSetBit(200)).isEqualTo(-1);
+    }
+
+    private static int[] range(int from, int to) {
+        int[] docs = new int[to - from];
+        for (int i = 0; i < docs.length; i++) {
+            docs[i] = from + i;
+        }
+        return docs;
+    }
+}
@@ -0,0 +1,46 @@
+package com.trevari.book.index;
+
+import com.trevari.book.index.FuzzyTermExpander.FuzzyTerm;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("FuzzyTermExpander 오타 확장 단위 테스트")
+class FuzzyTermExpanderTest {
+
+    private final FuzzyTermExpander expander = FuzzyTermExpander.build(
+            List.of("kubernetes", "python", "spring", "string", "java", "db", "프로"));
+
+    @Test
+    @DisplayName("삽입/삭제/치환/인접 전치를 각각 한 번의 편집으로 계산")
+    void expand_SingleEdits() {
+        // when & then
+        assertThat(expander.expand("kubernets")).containsExactly(new FuzzyTerm("kubernetes", 1));
+        assertThat(expander.expand("pyhton")).containsExactly(new FuzzyTerm("python", 1));
+        assertThat(expander.expand("jvaa")).containsExactly(new FuzzyTerm("java", 1));
+    }
+
+    @Test
+    @DisplayName("6글자 이상은 편집 거리 2까지 허용하고 거리 오름차순으로 반환")
+    void expand_TwoEditsForLongTerms() {
+        // when
+        List<FuzzyTerm> result = expander.expand("sptring");
+
+        // then
+        assertThat(result).containsExactly(new FuzzyTerm("spring", 1), new FuzzyTerm("string", 1));
+        assertThat(expander.expand("kubrenetse")).containsExactly(new FuzzyTerm("kubernetes", 2));
+        assertThat(expander.expand("jbvb")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("짧은 텀과 한글 bigram은 확장하지 않음")
+    void expand_SkipsShortAndHangulTerms() {
+        // when & then
+        assertThat(FuzzyTermExpander.maxDistanceFor("db")).isZero();
+        assertThat(expander.expand("dc")).isEmpty();
+        assertThat(expander.expand("프루")).isEmpty();
+    }
+}
@@ -0,0 +1,63 @@
+package com.trevari.book.index;
+
+import com.trevari.book.index.analysis.BookAnalyzer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("IsbnLookup 단위 테스트")
+class IsbnLookupTest {
+
+    @Test
+    @DisplayName("ISBN - 하이픈·ISBN-10 입력도 저장된 ISBN으로 해석하고, 접두어 조회는 정규화 ISBN 순으로 구간을 반환")
+    void isbn() {
+        // given - ISBN-10으로 저장된 도서와 ISBN이 아닌 식별자가 섞인 색인
+        IsbnLookup lookup = new IsbnLookup(index(List.of(
+                BookDocument.builder()
+                        .isbn("0134685997")
+                        .title("Effective Java")
+                        .authorNames(List.of("Joshua Bloch"))
+                        .build(),
+                BookDocument.builder()
+                        .isbn("9788966262335")
+                        .title("Kotlin in Action")
+                        .authorNames(List.of("Dmitry Jemerov"))
+                        .build(),
+                BookDocument.builder()
+                        .isbn("9788966261208")
+                        .title("Clean Code")
+                        .authorNames(List.of("Robert Martin"))
+                        .build(),
+                BookDocument.builder()
+                        .isbn("9791162249611")
+                        .title("Java 9 모듈 프로그래밍")
+                        .authorNames(List.of("코시크 코타갈"))
+                        .build(),
+                BookDocument.builder()
+                        .isbn("zyTCAlFPjgYC")
+                        .title("Google Books Only")
+                        .authorNames(List.of("Unknown"))
+                        .build()
+        )));
+
+        // when
+        IndexSearchResult publisher = lookup.prefix("978-89-6626", 0, 10);
+
+        // then
+        assertThat(lookup.resolve("978-0-13-468599-1")).isEqualTo("0134685997");
+        assertThat(lookup.resolve("978-89-6626-233-5")).isEqualTo("9788966262335");
+        assertThat(lookup.resolve("zyTCAlFPjgYC")).isEqualTo("zyTCAlFPjgYC");
+        assertThat(lookup.resolve("9780000000002")).isNull();
+        assertThat(publisher.isbns()).containsExactly("9788966261208", "9788966262335");
+        assertThat(publisher.totalHits()).isEqualTo(2);
+        assertThat(lookup.prefix("978", 1, 1).isbns()).containsExactly("9788966261208");
+        assertThat(lookup.prefix("978", 1, 1).totalHits()).isEqualTo(3);
+    }
+
+    private static BookIndex index(List<BookDocument> documents) {
+        return BookIndexBuilder.build(documents, Bm25fScorer.defaults(), BookAnalyzer.stemming());
+    }
+}
@@ -0,0 +1,55 @@
+package com.trevari.book.index;
+
+import com.trevari.book.domain.search.SearchQuery;
+import com.trevari.book.index.analysis.BookAnalyzer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("PageRanker DB 검색 결과 페이지 재정렬 테스트")
+class PageRankerTest {
+
+    private final PageRanker ranker = new PageRanker(Bm25fScorer.defaults(), BookAnalyzer.standard());
+
+    @Test
+    @DisplayName("제목 일치가 부제목·저자 일치보다 앞서고, 일치하지 않는 도서는 기존 순서대로 뒤에 배치")
+    void rank_OrdersByFieldBoost() {
+        // given
+        List<BookDocument> page = List.of(
+                document("001", "Effective Programming", "Spring patterns", List.of()),
+                document("002", "Cooking at Home", null, List.of()),
+                document("003", "Spring in Action", null, List.of()),
+                document("004", "Gardening", null, List.of("Spring Walls")));
+
+        // when
+        List<String> ranked = ranker.rank(SearchQuery.simple("spring"), page);
+
+        // then
+        assertThat(ranked).containsExactly("003", "004", "001", "002");
+    }
+
+    @Test
+    @DisplayName("같은 도서의 점수는 함께 평가한 페이지 구성과 관계없이 같음")
+    void rank_IsIndependentOfPageContents() {
+        // given
+        BookDocument title = document("001", "Spring Boot", null, List.of());
+        BookDocument subtitle = document("002", "Java", "Spring Boot", List.of());
+        BookDocument other = document("003", "Spring Spring Spring", null, List.of());
+
+        // when
+        List<String> alone = ranker.rank(SearchQuery.simple("spring"), List.of(subtitle, title));
+        List<String> withOther = ranker.rank(SearchQuery.simple("spring"), List.of(subtitle, other, title));
+
+        // then
+        assertThat(alone).containsExactly("001", "002");
+        assertThat(withOther).containsSubsequence("001", "002");
+    }
+
+    private static BookDocument document(String isbn, String title, String subtitle, List<String> authors) {
+        return BookDocument.builder().isbn(isbn).title(title).subtitle(subtitle).authorNames(authors).build();
+    }
+}
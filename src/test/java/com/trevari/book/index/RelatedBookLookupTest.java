@@ -0,0 +1,71 @@
+package com.trevari.book.index;
+
+import com.trevari.book.domain.search.Facet;
+import com.trevari.book.index.analysis.BookAnalyzer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("RelatedBookLookup 단위 테스트")
+class RelatedBookLookupTest {
+
+    @Test
+    @DisplayName("관련 도서 - 저자 공유, 카테고리 겹침, 본문 유사도 합산 순이며 관련 신호가 없는 도서와 자기 자신은 제외")
+    void related() {
+        // given
+        RelatedBookLookup lookup = new RelatedBookLookup(index(List.of(
+                BookDocument.builder()
+                        .isbn("9780134685991")
+                        .title("Effective Java")
+                        .authorNames(List.of("Joshua Bloch"))
+                        .facetValues(Map.of(Facet.CATEGORY, List.of("Programming")))
+                        .description("Best practices for the Java platform")
+                        .build(),
+                BookDocument.builder()
+                        .isbn("9780321336781")
+                        .title("Java Puzzlers")
+                        .subtitle("Traps, Pitfalls, and Corner Cases")
+                        .authorNames(List.of("Joshua Bloch", "Neal Gafter"))
+                        .facetValues(Map.of(Facet.CATEGORY, List.of("Programming")))
+                        .build(),
+                BookDocument.builder()
+                        .isbn("9780321349606")
+                        .title("Java Concurrency in Practice")
+                        .authorNames(List.of("Brian Goetz"))
+                        .facetValues(Map.of(Facet.CATEGORY, List.of("Programming")))
+                        .description("Concurrency practices for the Java platform")
+                        .build(),
+                BookDocument.builder()
+                        .isbn("9780132350884")
+                        .title("Clean Code")
+                        .authorNames(List.of("Robert C. Martin"))
+                        .facetValues(Map.of(Facet.CATEGORY, List.of("Programming", "Software Engineering")))
+                        .build(),
+                BookDocument.builder()
+                        .isbn("9781529109412")
+                        .title("Salt Fat Acid Heat")
+                        .authorNames(List.of("Samin Nosrat"))
+                        .facetValues(Map.of(Facet.CATEGORY, List.of("Cooking")))
+                        .build()
+        )));
+
+        // when
+        List<RelatedBook> related = lookup.related("9780134685991", 10);
+
+        // then
+        assertThat(related).extracting(RelatedBook::isbn)
+                .containsExactly("9780321336781", "9780321349606", "9780132350884");
+        assertThat(related.get(0).authorNames()).containsExactly("Joshua Bloch", "Neal Gafter");
+        assertThat(related.get(2).score()).isEqualTo(RelatedBooks.CATEGORY_WEIGHT * 0.5f);
+        assertThat(lookup.related("9780134685991", 1)).hasSize(1);
+        assertThat(lookup.related("9780000000000", 10)).isEmpty();
+    }
+
+    private static BookIndex index(List<BookDocument> documents) {
+        return BookIndexBuilder.build(documents, Bm25fScorer.defaults(), BookAnalyzer.stemming());
+    }
+}
@@ -0,0 +1,59 @@
+package com.trevari.book.index.analysis;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("BookAnalyzer 분석 파이프라인 단위 테스트")
+class BookAnalyzerTest {
+
+    @Test
+    @DisplayName("한글 구간은 bigram, 영문 구간은 소문자 단어로 분리")
+    void analyze_MixedScript() {
+        // when
+        List<Token> tokens = BookAnalyzer.standard().analyze("Java 9 모듈 프로그래밍");
+
+        // then
+        assertThat(tokens).extracting(Token::term)
+                .containsExactly("java", "9", "모듈", "프로", "로그", "그래", "래밍");
+        assertThat(tokens).extracting(Token::position).containsExactly(0, 1, 2, 3, 4, 5, 6);
+        assertThat(tokens.get(3).startOffset()).isEqualTo(10);
+        assertThat(tokens.get(3).endOffset()).isEqualTo(12);
+    }
+
+    @Test
+    @DisplayName("공백 없이 붙은 한글과 영문은 서로 다른 구간으로 분리")
+    void analyze_AdjacentScripts() {
+        // when
+        List<String> terms = BookAnalyzer.standard().terms("Spring부트 입문");
+
+        // then
+        assertThat(terms).containsExactly("spring", "부트", "입문");
+    }
+
+    @Test
+    @DisplayName("검색어는 구간별 텀 묶음으로 반환 - 한 단어의 bigram은 같은 묶음")
+    void termGroups_GroupsBigramsByRun() {
+        // when
+        List<List<String>> groups = BookAnalyzer.standard().termGroups("자바 프로그래밍 java");
+
+        // then
+        assertThat(groups).containsExactly(
+                List.of("자바"),
+                List.of("프로", "로그", "그래", "래밍"),
+                List.of("java"));
+    }
+
+    @Test
+    @DisplayName("스테머 - 영문 복수형만 단수형으로 정규화")
+    void stemming_NormalizesPlurals() {
+        // when
+        List<String> terms = BookAnalyzer.stemming().terms("Lambdas, Streams and Libraries of Classes in 자바스");
+
+        // then
+        assertThat(terms).containsExactly("lambda", "stream", "and", "library", "of", "classe", "in", "자바", "바스");
+    }
+}
@@ -0,0 +1,71 @@
+package com.trevari.book.index.suggest;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("PrefixSuggester 자동완성 단위 테스트")
+class PrefixSuggesterTest {
+
+    private PrefixSuggester suggester;
+
+    @BeforeEach
+    void setUp() {
+        suggester = PrefixSuggester.build(List.of(
+                new Suggestion("Java in Action", SuggestionType.TITLE, 1L),
+                new Suggestion("Modern Java in Action", SuggestionType.TITLE, 1L),
+                new Suggestion("JavaScript 완벽 가이드", SuggestionType.TITLE, 1L),
+                new Suggestion("자바 프로그래밍 입문", SuggestionType.TITLE, 1L),
+                new Suggestion("Joshua Bloch", SuggestionType.AUTHOR, 3L),
+                new Suggestion("java", SuggestionType.KEYWORD, 120L),
+                new Suggestion("Java", SuggestionType.KEYWORD, 30L),
+                new Suggestion("jpa", SuggestionType.KEYWORD, 50L)
+        ));
+    }
+
+    @Test
+    @DisplayName("가중치 내림차순, 동점이면 처음부터 일치하는 후보가 먼저")
+    void suggest_OrdersByWeight() {
+        // when
+        List<Suggestion> suggestions = suggester.suggest("Ja", 10);
+
+        // then
+        assertThat(suggestions).extracting(Suggestion::text)
+                .containsExactly("java", "Java in Action", "Modern Java in Action", "JavaScript 완벽 가이드");
+    }
+
+    @Test
+    @DisplayName("같은 출처의 중복 후보는 가중치가 큰 하나만 남김")
+    void build_DeduplicatesByNormalizedText() {
+        // when
+        List<Suggestion> suggestions = suggester.suggest("java", 1);
+
+        // then
+        assertThat(suggestions).containsExactly(new Suggestion("java", SuggestionType.KEYWORD, 120L));
+        assertThat(suggester.size()).isEqualTo(7);
+    }
+
+    @Test
+    @DisplayName("중간 단어의 접두어로도 일치하고 limit만큼만 반환")
+    void suggest_MatchesWordStartsWithLimit() {
+        // when
+        List<Suggestion> korean = suggester.suggest("프로", 10);
+        List<Suggestion> limited = suggester.suggest("j", 2);
+
+        // then
+        assertThat(korean).extracting(Suggestion::text).containsExactly("자바 프로그래밍 입문");
+        assertThat(limited).extracting(Suggestion::text).containsExactly("java", "jpa");
+    }
+
+    @Test
+    @DisplayName("일치하는 후보가 없거나 접두어가 비어 있으면 빈 목록")
+    void suggest_NoMatch() {
+        assertThat(suggester.suggest("kotlin", 10)).isEmpty();
+        assertThat(suggester.suggest("   ", 10)).isEmpty();
+        assertThat(PrefixSuggester.empty().suggest("java", 10)).isEmpty();
+    }
+}
@@ -0,0 +1,137 @@
+package com.trevari.book.index.vector;
+
+import com.trevari.book.index.BookDocument;
+import com.trevari.book.index.analysis.BookAnalyzer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("BookVectorIndex 유사 도서 벡터 검색 단위 테스트")
+class BookVectorIndexTest {
+
+    private static final List<BookDocument> DOCUMENTS = List.of(
+            BookDocument.builder()
+                    .isbn("9780134685991")
+                    .title("Effective Java")
+                    .authorNames(List.of("Joshua Bloch"))
+                    .build(),
+            BookDocument.builder()
+                    .isbn("9780321349606")
+                    .title("Java Concurrency in Practice")
+                    .authorNames(List.of("Brian Goetz"))
+                    .build(),
+            BookDocument.builder()
+                    .isbn("9781529109412")
+                    .title("Salt Fat Acid Heat")
+                    .subtitle("Mastering the Elements of Good Cooking")
+                    .authorNames(List.of("Samin Nosrat"))
+                    .build(),
+            BookDocument.builder()
+                    .isbn("9780393081084")
+                    .title("The Food Lab")
+                    .subtitle("Better Home Cooking Through Science")
+                    .authorNames(List.of("J. Kenji Lopez-Alt"))
+                    .build(),
+            BookDocument.builder().isbn("9791162249611").title("파이썬 프로그래밍 입문").authorNames(List.of("홍길동")).build()
+    );
+
+    @Test
+    @DisplayName("질의와 단어를 공유하는 도서가 유사도 순으로 먼저 나오고, 색인된 단어가 없는 질의는 빈 결과")
+    void search_RanksBySimilarity() {
+        // given
+        BookVectorIndex index = BookVectorIndex.build(DOCUMENTS, BookAnalyzer.stemming(), 256, 8, 32);
+
+        // when
+        List<SimilarBook> concurrency = index.search("java concurrency", 2, 16);
+        List<SimilarBook> cooking = index.search("home cooking", 2, 16);
+
+        // then
+        assertThat(concurrency).extracting(SimilarBook::isbn).containsExactly("9780321349606", "9780134685991");
+        assertThat(cooking).extracting(SimilarBook::isbn)
+                .containsExactlyInAnyOrder("9781529109412", "9780393081084");
+        assertThat(index.search("프로그래밍", 1, 16)).extracting(SimilarBook::isbn).containsExactly("9791162249611");
+        assertThat(index.search("kubernetes", 5, 16)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("증분 반영 - 새 도서는 삽입, 빠진 도서는 결과에서 제외, 바뀌지 않은 도서는 그대로")
+    void sync_InsertsAndDeletesIncrementally() {
+        // given
+        BookVectorIndex index = BookVectorIndex.build(DOCUMENTS, BookAnalyzer.stemming(), 256, 8, 32);
+        List<BookDocument> updated = new ArrayList<>(DOCUMENTS.subList(1, DOCUMENTS.size()));
+        updated.add(BookDocument.builder()
+                .isbn("9780321336781")
+                .title("Java Puzzlers")
+                .authorNames(List.of("Joshua Bloch"))
+                .build());
+
+        // when
+        int changes = index.sync(updated);
+
+        // then
+        assertThat(changes).isEqualTo(2);
+        assertThat(index.size()).isEqualTo(5);
+        assertThat(index.search("java", 5, 16)).extracting(SimilarBook::isbn)
+                .contains("9780321336781", "9780321349606")
+                .doesNotContain("9780134685991");
+        assertThat(index.sync(updated)).isZero();
+    }
+
+    @Test
+    @DisplayName("HNSW 근사 탐색이 전수 비교 상위 10개의 대부분을 찾음")
+    void hnsw_RecallAgainstBruteForce() {
+        // given
+        int dimension = 32;
+        Random random = new Random(7);
+        float[][] vectors = new float[2_000][];
+        HnswGraph graph = new HnswGraph(dimension, 16, 100, 1L);
+        for (int i = 0; i < vectors.length; i++) {
+            vectors[i] = unitVector(random, dimension);
+            graph.add(vectors[i]);
+        }
+
+        // when
+        int found = 0;
+        for (int q = 0; q < 50; q++) {
+            float[] query = unitVector(random, dimension);
+            List<Integer> exact = IntStream.range(0, vectors.length).boxed()
+                    .sorted(Comparator.comparingDouble(i -> -dot(query, vectors[i])))
+                    .limit(10)
+                    .toList();
+            int[] approximate = graph.search(query, 10, 64).nodes();
+            found += (int) Arrays.stream(approximate).filter(exact::contains).count();
+        }
+
+        // then
+        assertThat(found / 500.0).isGreaterThan(0.9);
+    }
+
+    private static float[] unitVector(Random random, int dimension) {
+        float[] vector = new float[dimension];
+        double norm = 0;
+        for (int i = 0; i < dimension; i++) {
+            vector[i] = (float) random.nextGaussian();
+            norm += vector[i] * vector[i];
+        }
+        for (int i = 0; i < dimension; i++) {
+            vector[i] /= (float) Math.sqrt(norm);
+        }
+        return vector;
+    }
+
+    private static double dot(float[] a, float[] b) {
+        double sum = 0;
+        for (int i = 0; i < a.length; i++) {
+            sum += a[i] * b[i];
+        }
+        return sum;
+    }
+}
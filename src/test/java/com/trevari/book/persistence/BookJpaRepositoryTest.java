@@ -1,7 +1,10 @@
 package com.trevari.book.persistence;
 
 import com.trevari.book.domain.Book;
+import com.trevari.book.domain.BookView;
 import com.trevari.book.domain.PublicationInfo;
+import com.trevari.book.domain.search.QueryNode;
+import com.trevari.book.domain.search.RangeFilter;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -22,7 +25,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 @DataJpaTest
 @ActiveProfiles("test")
-@Import(com.trevari.global.config.QueryDslConfig.class)
+@Import({com.trevari.global.config.QueryDslConfig.class, BookPageLoader.class})
 @DisplayName("BookJpaRepository 데이터 액세스 테스트")
 class BookJpaRepositoryTest {
     
@@ -107,12 +110,12 @@ class BookJpaRepositoryTest {
         Pageable pageable = PageRequest.of(0, 10);
         
         // When
-        Page<Book> result = bookRepository.findByKeyword("Java", pageable);
+        Page<BookView> result = bookRepository.findByKeyword("Java", pageable);
         
         // Then
         assertThat(result).isNotEmpty();
         assertThat(result.getContent()).hasSize(1);
-        assertThat(result.getContent().get(0).getTitle()).isEqualTo("Java in Action");
+        assertThat(result.getContent().get(0).title()).isEqualTo("Java in Action");
     }
     
     @Test
@@ -122,12 +125,12 @@ class BookJpaRepositoryTest {
         Pageable pageable = PageRequest.of(0, 10);
         
         // When
-        Page<Book> result = bookRepository.findByKeyword("functional", pageable);
+        Page<BookView> result = bookRepository.findByKeyword("functional", pageable);
         
         // Then
         assertThat(result).isNotEmpty();
         assertThat(result.getContent()).hasSize(1);
-        assertThat(result.getContent().get(0).getSubtitle()).contains("functional");
+        assertThat(result.getContent().get(0).subtitle()).contains("functional");
     }
     
     @Test
@@ -137,16 +140,29 @@ class BookJpaRepositoryTest {
         Pageable pageable = PageRequest.of(0, 10);
         
         // When - "Action"으로 제목에서 부분 검색
-        Page<Book> result = bookRepository.findByKeyword("Action", pageable);
+        Page<BookView> result = bookRepository.findByKeyword("Action", pageable);
         
         // Then
         assertThat(result).isNotEmpty();
         assertThat(result.getContent()).hasSize(2); // Java와 Spring 책
         assertThat(result.getContent())
-                .extracting(Book::getTitle)
+                .extracting(BookView::title)
                 .containsExactlyInAnyOrder("Java in Action", "Spring in Action");
     }
     
+    @Test
+    @DisplayName("키워드로 도서 검색 - 페이지별로 (제목, ISBN) 순서의 해당 구간만 반환하고 전체 건수는 유지")
+    void findByKeyword_PagesInTitleOrder() {
+        // When
+        Page<BookView> first = bookRepository.findByKeyword("Action", PageRequest.of(0, 1));
+        Page<BookView> second = bookRepository.findByKeyword("Action", PageRequest.of(1, 1));
+
+        // Then
+        assertThat(first.getTotalElements()).isEqualTo(2);
+        assertThat(first.getContent()).extracting(BookView::title).containsExactly("Java in Action");
+        assertThat(second.getContent()).extracting(BookView::title).containsExactly("Spring in Action");
+    }
+
     @Test
     @DisplayName("키워드로 도서 검색 - 대소문자 무관")
     void findByKeyword_CaseInsensitive() {
@@ -154,12 +170,12 @@ class BookJpaRepositoryTest {
         Pageable pageable = PageRequest.of(0, 10);
         
         // When
-        Page<Book> result = bookRepository.findByKeyword("JAVA", pageable);
+        Page<BookView> result = bookRepository.findByKeyword("JAVA", pageable);
         
         // Then
         assertThat(result).isNotEmpty();
         assertThat(result.getContent()).hasSize(1);
-        assertThat(result.getContent().get(0).getTitle()).isEqualTo("Java in Action");
+        assertThat(result.getContent().get(0).title()).isEqualTo("Java in Action");
     }
     
     @Test
@@ -169,13 +185,13 @@ class BookJpaRepositoryTest {
         Pageable pageable = PageRequest.of(0, 10);
         
         // When
-        Page<Book> result = bookRepository.findByOrKeywords("Java", "Python", pageable);
+        Page<BookView> result = bookRepository.findByOrKeywords("Java", "Python", pageable);
         
         // Then
         assertThat(result).isNotEmpty();
         assertThat(result.getContent()).hasSize(2);
         assertThat(result.getContent())
-                .extracting(Book::getTitle)
+                .extracting(BookView::title)
                 .containsExactlyInAnyOrder("Java in Action", "Learning Python");
     }
     
@@ -186,12 +202,30 @@ class BookJpaRepositoryTest {
         Pageable pageable = PageRequest.of(0, 10);
         
         // When - "Action" 키워드가 있지만 "Java"는 없는 도서
-        Page<Book> result = bookRepository.findByNotKeywords("Action", "Java", pageable);
+        Page<BookView> result = bookRepository.findByNotKeywords("Action", "Java", pageable);
         
         // Then
         assertThat(result).isNotEmpty();
         assertThat(result.getContent()).hasSize(1);
-        assertThat(result.getContent().get(0).getTitle()).isEqualTo("Spring in Action");
+        assertThat(result.getContent().get(0).title()).isEqualTo("Spring in Action");
+    }
+    
+    @Test
+    @DisplayName("불리언 검색 - 빈 단어는 어떤 도서와도 일치하지 않고, 빈 단어를 제외하는 절은 결과를 줄이지 않음")
+    void findByQuery_BlankTerm() {
+        // Given
+        Pageable pageable = PageRequest.of(0, 10);
+        QueryNode excludeBlank = new QueryNode.And(List.of(
+                new QueryNode.Term("Action"), new QueryNode.Not(new QueryNode.Term(" "))));
+        
+        // When
+        Page<BookView> blank = bookRepository.findByQuery(new QueryNode.Term(" "), RangeFilter.none(), pageable);
+        Page<BookView> excluded = bookRepository.findByQuery(excludeBlank, RangeFilter.none(), pageable);
+        
+        // Then
+        assertThat(blank).isEmpty();
+        assertThat(excluded.getContent()).extracting(BookView::title)
+                .containsExactlyInAnyOrder("Java in Action", "Spring in Action");
     }
     
     @Test
@@ -201,7 +235,7 @@ class BookJpaRepositoryTest {
         Pageable pageable = PageRequest.of(0, 10);
         
         // When
-        Page<Book> result = bookRepository.findByKeyword("NonexistentKeyword", pageable);
+        Page<BookView> result = bookRepository.findByKeyword("NonexistentKeyword", pageable);
         
         // Then
         assertThat(result).isEmpty();
@@ -216,8 +250,8 @@ class BookJpaRepositoryTest {
         Pageable secondPage = PageRequest.of(1, 2);
         
         // When
-        Page<Book> firstResult = bookRepository.findByKeyword("in", firstPage);
-        Page<Book> secondResult = bookRepository.findByKeyword("in", secondPage);
+        Page<BookView> firstResult = bookRepository.findByKeyword("in", firstPage);
+        Page<BookView> secondResult = bookRepository.findByKeyword("in", secondPage);
         
         // Then
         assertThat(firstResult.getContent()).hasSize(2);
@@ -0,0 +1,78 @@
+package com.trevari.book.persistence;
+
+import com.trevari.book.domain.Author;
+import com.trevari.book.domain.Book;
+import com.trevari.book.domain.BookAuthor;
+import com.trevari.book.domain.BookView;
+import com.trevari.book.domain.Category;
+import com.trevari.book.domain.Price;
+import com.trevari.book.domain.PublicationInfo;
+import com.trevari.book.dto.response.BookResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({com.trevari.global.config.QueryDslConfig.class, BookPageLoader.class})
+@DisplayName("BookPageLoader 데이터 액세스 테스트")
+class BookPageLoaderTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private BookPageLoader bookPageLoader;
+
+    @BeforeEach
+    void setUp() {
+        Category programming = entityManager.persist(Category.builder().name("프로그래밍").build());
+        Category java = entityManager.persist(Category.builder().name("Java").build());
+        Author urma = entityManager.persist(Author.builder().name("Raoul-Gabriel Urma").build());
+        Author fusco = entityManager.persist(Author.builder().name("Mario Fusco").build());
+
+        Book javaBook = entityManager.persist(Book.builder()
+                .isbn("9781617297397")
+                .title("Java in Action")
+                .subtitle("Lambdas, streams, functional and reactive programming")
+                .price(new Price(35000, "KRW"))
+                .publicationInfo(new PublicationInfo("Manning Publications", LocalDate.of(2020, 1, 1)))
+                .categories(new HashSet<>(List.of(programming, java)))
+                .build());
+        entityManager.persist(Book.builder()
+                .isbn("9781617294945")
+                .title("Spring in Action")
+                .build());
+        entityManager.persist(BookAuthor.builder().book(javaBook).author(urma).role("대표 저자").build());
+        entityManager.persist(BookAuthor.builder().book(javaBook).author(fusco).role("공동 저자").build());
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("페이지 조회 - 요청 순서를 유지하고, 없는 ISBN은 건너뛰며 저자·카테고리를 함께 조립")
+    void loadInOrder() {
+        // when
+        List<BookView> books = bookPageLoader.loadInOrder(List.of("9781617294945", "0000000000000", "9781617297397"));
+
+        // then
+        assertThat(books).extracting(BookView::isbn).containsExactly("9781617294945", "9781617297397");
+        BookResponse response = BookResponse.from(books.get(1));
+        assertThat(response.authors()).containsExactly("Raoul-Gabriel Urma", "Mario Fusco");
+        assertThat(response.categories()).extracting(c -> c.name()).containsExactly("프로그래밍", "Java");
+        assertThat(response.price().amount()).isEqualTo(35000);
+        assertThat(response.publisher()).isEqualTo("Manning Publications");
+        assertThat(BookResponse.from(books.get(0)).authors()).isEmpty();
+    }
+}
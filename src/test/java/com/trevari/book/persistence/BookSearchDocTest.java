@@ -0,0 +1,148 @@
+package com.trevari.book.persistence;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+import org.testcontainers.utility.MountableFile;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Testcontainers(disabledWithoutDocker = true)
+@Tag("integration")
+@DisplayName("book_search_doc 검색 문서 테이블 유지 및 풀텍스트 쿼리 테스트")
+class BookSearchDocTest {
+
+    /**
+     * 운영과 같은 초기화 스크립트로 스키마·인덱스·트리거만 만들고 대량 데이터(02_data.sql)는 제외
+     */
+    @Container
+    private static final MySQLContainer<?> MY_SQL_CONTAINER = new MySQLContainer<>(DockerImageName.parse("mysql:8.0.32"))
+            .withCopyFileToContainer(initScript("01_schema.sql"), "/docker-entrypoint-initdb.d/01_schema.sql")
+            .withCopyFileToContainer(initScript("03_indexes.sql"), "/docker-entrypoint-initdb.d/03_indexes.sql")
+            .withCopyFileToContainer(initScript("04_book_search_doc.sql"), "/docker-entrypoint-initdb.d/04_book_search_doc.sql");
+
+    private static final String JAVA_ISBN = "9781617297397";
+    private static final String SPRING_ISBN = "9781617294945";
+    private static final String EFFECTIVE_ISBN = "9780134685991";
+
+    private static HikariDataSource dataSource;
+    private static JdbcTemplate jdbcTemplate;
+    private static NamedParameterJdbcTemplate namedJdbcTemplate;
+
+    @BeforeAll
+    static void setUp() {
+        dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl(MY_SQL_CONTAINER.getJdbcUrl());
+        dataSource.setUsername(MY_SQL_CONTAINER.getUsername());
+        dataSource.setPassword(MY_SQL_CONTAINER.getPassword());
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        namedJdbcTemplate = new NamedParameterJdbcTemplate(dataSource);
+    }
+
+    @AfterAll
+    static void tearDown() {
+        dataSource.close();
+    }
+
+    @Test
+    @DisplayName("도서·저자·카테고리 변경이 검색 문서에 반영되고, 저자명 검색도 단일 테이블 MATCH로 찾음")
+    void maintainsSearchDocIncrementally() {
+        // given
+        insertBook(JAVA_ISBN, "Java in Action", "Lambdas, streams, functional and reactive programming");
+        insertBook(SPRING_ISBN, "Spring in Action", "Fifth Edition");
+        // 'Java'만 있고 'Action'은 없는 도서 (여러 단어 검색어는 모든 단어가 있어야 매칭)
+        insertBook(EFFECTIVE_ISBN, "Effective Java", null);
+        long urma = insertAuthor("Raoul-Gabriel Urma");
+        long walls = insertAuthor("Craig Walls");
+        jdbcTemplate.update("INSERT INTO book_author (book_isbn, author_id, role) VALUES (?, ?, '저자')", JAVA_ISBN, urma);
+        jdbcTemplate.update("INSERT INTO book_author (book_isbn, author_id, role) VALUES (?, ?, '저자')", SPRING_ISBN, walls);
+        jdbcTemplate.update("INSERT INTO category (name) VALUES ('Java')");
+        long category = jdbcTemplate.queryForObject("SELECT id FROM category WHERE name = 'Java'", Long.class);
+        jdbcTemplate.update("INSERT INTO book_category (book_isbn, category_id) VALUES (?, ?)", JAVA_ISBN, category);
+
+        // then - 저자·카테고리가 비정규화되고, 저자명만으로도 검색됨
+        Map<String, Object> doc = jdbcTemplate.queryForMap("SELECT * FROM book_search_doc WHERE isbn = ?", JAVA_ISBN);
+        assertThat(doc.get("authors")).isEqualTo("Raoul-Gabriel Urma");
+        assertThat(doc.get("category_ids")).isEqualTo(String.valueOf(category));
+        assertThat(search("Urma")).containsExactly(JAVA_ISBN);
+        assertThat(searchOr("Urma", "Walls")).containsExactlyInAnyOrder(JAVA_ISBN, SPRING_ISBN);
+        assertThat(searchNot("Action", "Walls")).containsExactly(JAVA_ISBN);
+        assertThat(search("Action")).containsExactlyInAnyOrder(JAVA_ISBN, SPRING_ISBN);
+        assertThat(search("Java Action")).containsExactly(JAVA_ISBN);
+        assertThat(search("Spring in Action")).containsExactly(SPRING_ISBN);
+        assertThat(searchOr("Effective Java", "Craig Walls")).containsExactlyInAnyOrder(EFFECTIVE_ISBN, SPRING_ISBN);
+        assertThat(searchNot("Java", "Java Action")).containsExactly(EFFECTIVE_ISBN);
+        assertThat(count("Action", 1)).isEqualTo(1);
+
+        // when - 저자명 변경, 도서 제목 변경
+        jdbcTemplate.update("UPDATE author SET name = 'Mario Fusco' WHERE id = ?", urma);
+        jdbcTemplate.update("UPDATE book SET title = 'Modern Java in Action' WHERE isbn = ?", JAVA_ISBN);
+
+        // then
+        assertThat(search("Urma")).isEmpty();
+        assertThat(search("Fusco")).containsExactly(JAVA_ISBN);
+        assertThat(search("Modern")).containsExactly(JAVA_ISBN);
+
+        // when - 저자·카테고리 삭제 (FK CASCADE로 지워지는 연결 행도 반영), 도서 삭제
+        jdbcTemplate.update("DELETE FROM author WHERE id = ?", urma);
+        jdbcTemplate.update("DELETE FROM category WHERE id = ?", category);
+        jdbcTemplate.update("DELETE FROM book WHERE isbn = ?", SPRING_ISBN);
+
+        // then
+        doc = jdbcTemplate.queryForMap("SELECT * FROM book_search_doc WHERE isbn = ?", JAVA_ISBN);
+        assertThat(doc.get("authors")).isNull();
+        assertThat(doc.get("category_ids")).isNull();
+        assertThat(search("Fusco")).isEmpty();
+        assertThat(jdbcTemplate.queryForList("SELECT isbn FROM book_search_doc", String.class))
+                .containsExactlyInAnyOrder(JAVA_ISBN, EFFECTIVE_ISBN);
+    }
+
+    private List<String> search(String keyword) {
+        return namedJdbcTemplate.queryForList(OptimizedBookRepository.FULL_TEXT_QUERY,
+                Map.of("keyword", FullTextTerms.requireAll(keyword)), String.class);
+    }
+
+    private List<String> searchOr(String keyword1, String keyword2) {
+        return namedJdbcTemplate.queryForList(OptimizedBookRepository.OR_FULL_TEXT_QUERY,
+                Map.of("keyword1", FullTextTerms.requireAll(keyword1),
+                        "keyword2", FullTextTerms.requireAll(keyword2)), String.class);
+    }
+
+    private List<String> searchNot(String includeKeyword, String excludeKeyword) {
+        return namedJdbcTemplate.queryForList(OptimizedBookRepository.NOT_FULL_TEXT_QUERY,
+                Map.of("includeKeyword", FullTextTerms.requireAll(includeKeyword),
+                        "excludeKeyword", FullTextTerms.requireAll(excludeKeyword)), String.class);
+    }
+
+    private long count(String keyword, long limit) {
+        return namedJdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM (SELECT d.isbn " + OptimizedBookRepository.FULL_TEXT_MATCH + " LIMIT :limit) capped",
+                Map.of("keyword", FullTextTerms.requireAll(keyword), "limit", limit), Long.class);
+    }
+
+    private void insertBook(String isbn, String title, String subtitle) {
+        jdbcTemplate.update("INSERT INTO book (isbn, title, subtitle, publisher, published_date) VALUES (?, ?, ?, 'Manning', '2020-01-01')",
+                isbn, title, subtitle);
+    }
+
+    private long insertAuthor(String name) {
+        jdbcTemplate.update("INSERT INTO author (name) VALUES (?)", name);
+        return jdbcTemplate.queryForObject("SELECT id FROM author WHERE name = ?", Long.class, name);
+    }
+
+    private static MountableFile initScript(String name) {
+        return MountableFile.forHostPath("database/mysql/init/" + name);
+    }
+}
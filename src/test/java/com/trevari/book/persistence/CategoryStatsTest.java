@@ -0,0 +1,111 @@
+package com.trevari.book.persistence;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+import org.testcontainers.utility.MountableFile;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Testcontainers(disabledWithoutDocker = true)
+@Tag("integration")
+@DisplayName("category_stats 집계 테이블 증분 유지 및 재계산 테스트")
+class CategoryStatsTest {
+
+    /**
+     * 운영과 같은 초기화 스크립트로 스키마·인덱스·트리거만 만들고 대량 데이터(02_data.sql)는 제외
+     */
+    @Container
+    private static final MySQLContainer<?> MY_SQL_CONTAINER = new MySQLContainer<>(DockerImageName.parse("mysql:8.0.32"))
+            .withCopyFileToContainer(initScript("01_schema.sql"), "/docker-entrypoint-initdb.d/01_schema.sql")
+            .withCopyFileToContainer(initScript("03_indexes.sql"), "/docker-entrypoint-initdb.d/03_indexes.sql")
+            .withCopyFileToContainer(initScript("04_book_search_doc.sql"), "/docker-entrypoint-initdb.d/04_book_search_doc.sql")
+            .withCopyFileToContainer(initScript("05_category_stats.sql"), "/docker-entrypoint-initdb.d/05_category_stats.sql");
+
+    private static HikariDataSource dataSource;
+    private static JdbcTemplate jdbcTemplate;
+
+    @BeforeAll
+    static void setUp() {
+        dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl(MY_SQL_CONTAINER.getJdbcUrl());
+        dataSource.setUsername(MY_SQL_CONTAINER.getUsername());
+        dataSource.setPassword(MY_SQL_CONTAINER.getPassword());
+        jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    @AfterAll
+    static void tearDown() {
+        dataSource.close();
+    }
+
+    @Test
+    @DisplayName("카테고리 연결·도서 삭제·이름 변경이 집계에 반영되고, 어긋난 집계는 재계산으로 보정")
+    void maintainsCategoryStatsIncrementally() {
+        // given
+        long java = insertCategory("Java");
+        long spring = insertCategory("Spring");
+        insertBook("9781617297397", "Java in Action");
+        insertBook("9781617294945", "Spring in Action");
+        linkCategory("9781617297397", java);
+        linkCategory("9781617294945", java);
+        linkCategory("9781617294945", spring);
+
+        // then
+        assertThat(popular()).containsExactly("Java:2", "Spring:1");
+
+        // when - 도서 삭제 (FK CASCADE로 지워지는 연결 행도 차감), 카테고리 이름 변경
+        jdbcTemplate.update("DELETE FROM book WHERE isbn = ?", "9781617294945");
+        jdbcTemplate.update("UPDATE category SET name = 'Modern Java' WHERE id = ?", java);
+
+        // then
+        assertThat(popular()).containsExactly("Modern Java:1", "Spring:0");
+
+        // when - 트리거 밖에서 어긋난 집계를 재계산
+        jdbcTemplate.update("UPDATE category_stats SET book_count = 99");
+        jdbcTemplate.update(CategoryStatsJpaRepository.RECONCILE_QUERY);
+
+        // then
+        assertThat(popular()).containsExactly("Modern Java:1", "Spring:0");
+
+        // when - 카테고리 삭제
+        jdbcTemplate.update("DELETE FROM category WHERE id = ?", java);
+
+        // then
+        assertThat(popular()).containsExactly("Spring:0");
+    }
+
+    private List<String> popular() {
+        return jdbcTemplate.queryForList(
+                "SELECT CONCAT(name, ':', book_count) FROM category_stats ORDER BY book_count DESC, name LIMIT 10",
+                String.class);
+    }
+
+    private long insertCategory(String name) {
+        jdbcTemplate.update("INSERT INTO category (name) VALUES (?)", name);
+        return jdbcTemplate.queryForObject("SELECT id FROM category WHERE name = ?", Long.class, name);
+    }
+
+    private void insertBook(String isbn, String title) {
+        jdbcTemplate.update("INSERT INTO book (isbn, title, publisher, published_date) VALUES (?, ?, 'Manning', '2020-01-01')",
+                isbn, title);
+    }
+
+    private void linkCategory(String isbn, long categoryId) {
+        jdbcTemplate.update("INSERT INTO book_category (book_isbn, category_id) VALUES (?, ?)", isbn, categoryId);
+    }
+
+    private static MountableFile initScript(String name) {
+        return MountableFile.forHostPath("database/mysql/init/" + name);
+    }
+}
@@ -0,0 +1,36 @@
+package com.trevari.book.persistence;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("FullTextTerms 테스트")
+class FullTextTermsTest {
+
+    @Test
+    @DisplayName("여러 단어 검색어 - 단어마다 +를 붙여 모든 단어가 있어야 매칭")
+    void requireAll() {
+        // when & then
+        assertThat(FullTextTerms.requireAll("Java Action")).isEqualTo("+Java +Action");
+        assertThat(FullTextTerms.requireAll("  자바스크립트   입문서 ")).isEqualTo("+자바스크립트 +입문서");
+    }
+
+    @Test
+    @DisplayName("불리언 연산자 문자는 단어 구분자로 취급해 검색식에 섞이지 않음")
+    void stripsOperators() {
+        // when & then
+        assertThat(FullTextTerms.requireAll("spring-boot \"reactive\" (kotlin)* ~java"))
+                .isEqualTo("+spring +boot +reactive +kotlin +java");
+    }
+
+    @Test
+    @DisplayName("색인되지 않는 불용어·짧은 단어는 필수 단어에서 제외 (+가 붙으면 아무 도서도 매칭하지 않음)")
+    void skipsUnindexedTerms() {
+        // when & then
+        assertThat(FullTextTerms.requireAll("Spring in Action")).isEqualTo("+Spring +Action");
+        assertThat(FullTextTerms.requireAll("The Art of Go")).isEqualTo("+Art");
+        assertThat(FullTextTerms.requireAll("C++")).isEmpty();
+        assertThat(FullTextTerms.requireAll(null)).isEmpty();
+    }
+}
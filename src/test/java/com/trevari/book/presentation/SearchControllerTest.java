@@ -3,8 +3,12 @@ package com.trevari.book.presentation;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.trevari.book.application.BookService;
 import com.trevari.book.application.SearchKeywordService;
+import com.trevari.book.application.SuggestionService;
 import com.trevari.book.domain.SearchKeyword;
 import com.trevari.book.dto.PopularKeywordDto;
+import com.trevari.book.dto.response.SuggestResponse;
+import com.trevari.book.index.suggest.Suggestion;
+import com.trevari.book.index.suggest.SuggestionType;
 import com.trevari.global.exception.GlobalExceptionHandler;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -35,6 +39,9 @@ class SearchControllerTest {
     @Mock
     private SearchKeywordService searchKeywordService;
 
+    @Mock
+    private SuggestionService suggestionService;
+
     @InjectMocks
     private SearchController searchController;
 
@@ -92,4 +99,28 @@ class SearchControllerTest {
                 .andExpect(jsonPath("$.data.keywords").isArray())
                 .andExpect(jsonPath("$.data.keywords").isEmpty());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("접두어로 자동완성 후보를 조회할 수 있다")
+    void suggest_ShouldReturnSuggestions() throws Exception {
+        // Given
+        SuggestResponse response = SuggestResponse.of("jav", List.of(
+                new Suggestion("java", SuggestionType.KEYWORD, 120L),
+                new Suggestion("Java in Action", SuggestionType.TITLE, 1L)
+        ));
+        given(suggestionService.suggest("jav", 5)).willReturn(response);
+
+        // When & Then
+        mockMvc.perform(get("/api/search/suggest")
+                        .param("prefix", "jav")
+                        .param("limit", "5")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.success").value(true))
+                .andExpect(jsonPath("$.message").value("Suggestions retrieved successfully"))
+                .andExpect(jsonPath("$.data.prefix").value("jav"))
+                .andExpect(jsonPath("$.data.suggestions[0].text").value("java"))
+                .andExpect(jsonPath("$.data.suggestions[0].type").value("KEYWORD"))
+                .andExpect(jsonPath("$.data.suggestions[1].text").value("Java in Action"));
+    }
+}
@@ -0,0 +1,133 @@
+package com.trevari.global.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Testcontainers(disabledWithoutDocker = true)
+@Tag("integration")
+@DisplayName("ReadWriteRoutingDataSource 라우팅 테스트")
+class ReadWriteRoutingDataSourceTest {
+
+    @Container
+    private static final MySQLContainer<?> PRIMARY = new MySQLContainer<>(DockerImageName.parse("mysql:8.0.32"));
+
+    @Container
+    private static final MySQLContainer<?> REPLICA = new MySQLContainer<>(DockerImageName.parse("mysql:8.0.32"));
+
+    private static HikariDataSource primaryPool;
+    private static HikariDataSource replicaPool;
+
+    private SimpleMeterRegistry meterRegistry;
+    private ReplicaLagMonitor lagMonitor;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate readTransaction;
+    private TransactionTemplate writeTransaction;
+
+    @BeforeAll
+    static void setUpPools() {
+        primaryPool = pool(PRIMARY, "primary");
+        replicaPool = pool(REPLICA, "replica");
+        new JdbcTemplate(primaryPool).execute("CREATE TABLE node (name VARCHAR(20))");
+        new JdbcTemplate(primaryPool).execute("INSERT INTO node VALUES ('primary')");
+        new JdbcTemplate(replicaPool).execute("CREATE TABLE node (name VARCHAR(20))");
+        new JdbcTemplate(replicaPool).execute("INSERT INTO node VALUES ('replica')");
+    }
+
+    @AfterAll
+    static void closePools() {
+        primaryPool.close();
+        replicaPool.close();
+    }
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        lagMonitor = new ReplicaLagMonitor(replicaPool, 5, meterRegistry);
+        DataSource dataSource = new LazyConnectionDataSourceProxy(
+                new ReadWriteRoutingDataSource(primaryPool, replicaPool, lagMonitor, meterRegistry));
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        readTransaction = new TransactionTemplate(transactionManager);
+        readTransaction.setReadOnly(true);
+        writeTransaction = new TransactionTemplate(transactionManager);
+    }
+
+    @Test
+    @DisplayName("복제 지연이 허용치 이내면 읽기 전용 트랜잭션은 레플리카, 쓰기 트랜잭션은 프라이머리로 라우팅")
+    void routesByTransactionReadOnly() {
+        // given
+        lagMonitor.update(0L);
+
+        // when & then
+        assertThat(nodeIn(readTransaction)).isEqualTo("replica");
+        assertThat(nodeIn(writeTransaction)).isEqualTo("primary");
+        assertThat(meterRegistry.get("datasource.routing").tag("target", "replica").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("datasource.replica.available").gauge().value()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("복제 지연이 허용치를 넘거나 알 수 없으면 읽기 전용 트랜잭션도 프라이머리로 라우팅")
+    void fallsBackToPrimaryWhenReplicaLags() {
+        // given
+        lagMonitor.update(30L);
+
+        // when & then
+        assertThat(nodeIn(readTransaction)).isEqualTo("primary");
+
+        lagMonitor.update(null);
+        assertThat(nodeIn(readTransaction)).isEqualTo("primary");
+        assertThat(meterRegistry.get("datasource.routing").tag("target", "primary_fallback").counter().count())
+                .isEqualTo(2);
+        assertThat(meterRegistry.get("datasource.replica.lag").gauge().value()).isNaN();
+    }
+
+    @Test
+    @DisplayName("복제 설정이 없는 서버는 지연 확인 후 사용 불가로 판단")
+    void checkMarksStandaloneServerUnavailable() {
+        // given
+        lagMonitor.update(0L);
+
+        // when
+        lagMonitor.check();
+
+        // then
+        assertThat(lagMonitor.isAvailable()).isFalse();
+        assertThat(nodeIn(readTransaction)).isEqualTo("primary");
+    }
+
+    private String nodeIn(TransactionTemplate transaction) {
+        return transaction.execute(status -> currentNode());
+    }
+
+    private String currentNode() {
+        return jdbcTemplate.queryForObject("SELECT name FROM node", String.class);
+    }
+
+    private static HikariDataSource pool(MySQLContainer<?> container, String poolName) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName(poolName);
+        dataSource.setJdbcUrl(container.getJdbcUrl());
+        dataSource.setUsername(container.getUsername());
+        dataSource.setPassword(container.getPassword());
+        dataSource.setMaximumPoolSize(2);
+        return dataSource;
+    }
+}